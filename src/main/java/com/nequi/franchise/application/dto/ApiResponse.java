@@ -32,6 +32,14 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    public static <T> ApiResponse<T> accepted(T data, String message) {
+        return ApiResponse.<T>builder()
+                .statusCode(202)
+                .message(message)
+                .data(data)
+                .build();
+    }
+
     public static <T> ApiResponse<T> error(Integer statusCode, String message) {
         return ApiResponse.<T>builder()
                 .statusCode(statusCode)
@@ -0,0 +1,20 @@
+package com.nequi.franchise.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeleteFranchisesRequest {
+    @NotEmpty(message = "Franchise ids are required")
+    @Size(max = 10000, message = "At most 10000 franchises can be deleted per job")
+    private List<String> franchiseIds;
+}
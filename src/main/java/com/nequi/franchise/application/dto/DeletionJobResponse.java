@@ -0,0 +1,26 @@
+package com.nequi.franchise.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeletionJobResponse {
+    private String id;
+    private String status;
+    private Long total;
+    private Long processed;
+    private Long deleted;
+    private Long notFound;
+    private Long failed;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
@@ -0,0 +1,17 @@
+package com.nequi.franchise.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FranchiseSummaryResponse {
+    private String id;
+    private String name;
+    private Integer branchCount;
+    private Integer productCount;
+}
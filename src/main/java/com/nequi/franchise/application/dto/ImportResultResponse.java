@@ -0,0 +1,22 @@
+package com.nequi.franchise.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportResultResponse {
+    private Long recordNumber;
+    private String franchiseId;
+    private String name;
+    private String status;
+    private Integer branchCount;
+    private Integer productCount;
+    private String error;
+}
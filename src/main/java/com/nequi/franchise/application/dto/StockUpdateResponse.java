@@ -0,0 +1,18 @@
+package com.nequi.franchise.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockUpdateResponse {
+    private String franchiseId;
+    private String branchId;
+    private String productId;
+    private Integer stock;
+    private Long version;
+}
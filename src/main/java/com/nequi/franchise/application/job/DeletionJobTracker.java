@@ -0,0 +1,98 @@
+package com.nequi.franchise.application.job;
+
+import com.nequi.franchise.domain.model.DeletionJob;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the progress of bulk deletions running on this instance. Counters are updated by the
+ * deleting workers and read as {@link DeletionJob} snapshots, so polling never waits on the job.
+ * Only the most recent finished jobs are retained; running jobs are never evicted.
+ */
+@Component
+public class DeletionJobTracker {
+
+    private static final int MAX_FINISHED_JOBS = 100;
+
+    private final Map<String, Progress> jobs = new ConcurrentHashMap<>();
+    private final Queue<String> finished = new ConcurrentLinkedQueue<>();
+
+    public Progress start(long total) {
+        Progress progress = new Progress(UUID.randomUUID().toString(), total);
+        jobs.put(progress.id, progress);
+        return progress;
+    }
+
+    public Optional<DeletionJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Progress::snapshot);
+    }
+
+    private void finish(Progress progress) {
+        finished.add(progress.id);
+        while (finished.size() > MAX_FINISHED_JOBS) {
+            String evicted = finished.poll();
+            if (evicted != null) {
+                jobs.remove(evicted);
+            }
+        }
+    }
+
+    public final class Progress {
+        private final String id;
+        private final long total;
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong deleted = new AtomicLong();
+        private final AtomicLong notFound = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private volatile DeletionJob.Status status = DeletionJob.Status.RUNNING;
+        private volatile Instant finishedAt;
+
+        private Progress(String id, long total) {
+            this.id = id;
+            this.total = total;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void recordDeleted() {
+            deleted.incrementAndGet();
+        }
+
+        public void recordNotFound() {
+            notFound.incrementAndGet();
+        }
+
+        public void recordFailed() {
+            failed.incrementAndGet();
+        }
+
+        public void complete(DeletionJob.Status finalStatus) {
+            finishedAt = Instant.now();
+            status = finalStatus;
+            finish(this);
+        }
+
+        public DeletionJob snapshot() {
+            return DeletionJob.builder()
+                    .id(id)
+                    .status(status)
+                    .total(total)
+                    .deleted(deleted.get())
+                    .notFound(notFound.get())
+                    .failed(failed.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.nequi.franchise.application.mapper;
+
+import com.nequi.franchise.application.dto.DeletionJobResponse;
+import com.nequi.franchise.domain.model.DeletionJob;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface DeletionJobResponseMapper {
+    DeletionJobResponse toResponse(DeletionJob deletionJob);
+}
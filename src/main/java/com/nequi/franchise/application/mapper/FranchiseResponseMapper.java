@@ -3,8 +3,15 @@ package com.nequi.franchise.application.mapper;
 import com.nequi.franchise.application.dto.FranchiseResponse;
 import com.nequi.franchise.domain.model.Franchise;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring", uses = {BranchResponseMapper.class})
 public interface FranchiseResponseMapper {
     FranchiseResponse toResponse(Franchise franchise);
+
+    /**
+     * Id and name only, for answers built from a header projection that holds no branches.
+     */
+    @Mapping(target = "branches", ignore = true)
+    FranchiseResponse toHeaderResponse(Franchise franchise);
 }
@@ -0,0 +1,10 @@
+package com.nequi.franchise.application.mapper;
+
+import com.nequi.franchise.application.dto.FranchiseSummaryResponse;
+import com.nequi.franchise.domain.model.FranchiseSummary;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface FranchiseSummaryResponseMapper {
+    FranchiseSummaryResponse toResponse(FranchiseSummary franchiseSummary);
+}
@@ -0,0 +1,10 @@
+package com.nequi.franchise.application.mapper;
+
+import com.nequi.franchise.application.dto.ImportResultResponse;
+import com.nequi.franchise.domain.model.ImportResult;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ImportResultResponseMapper {
+    ImportResultResponse toResponse(ImportResult importResult);
+}
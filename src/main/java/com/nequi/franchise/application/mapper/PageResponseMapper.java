@@ -1,8 +1,8 @@
 package com.nequi.franchise.application.mapper;
 
-import com.nequi.franchise.application.dto.FranchiseResponse;
+import com.nequi.franchise.application.dto.FranchiseSummaryResponse;
 import com.nequi.franchise.application.dto.PageResponse;
-import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseSummary;
 import com.nequi.franchise.domain.model.Page;
 import org.springframework.stereotype.Component;
 
@@ -11,16 +11,16 @@ import java.util.stream.Collectors;
 @Component
 public class PageResponseMapper {
 
-    private final FranchiseResponseMapper franchiseResponseMapper;
+    private final FranchiseSummaryResponseMapper franchiseSummaryResponseMapper;
 
-    public PageResponseMapper(FranchiseResponseMapper franchiseResponseMapper) {
-        this.franchiseResponseMapper = franchiseResponseMapper;
+    public PageResponseMapper(FranchiseSummaryResponseMapper franchiseSummaryResponseMapper) {
+        this.franchiseSummaryResponseMapper = franchiseSummaryResponseMapper;
     }
 
-    public PageResponse<FranchiseResponse> toPageResponse(Page<Franchise> page) {
-        return PageResponse.<FranchiseResponse>builder()
+    public PageResponse<FranchiseSummaryResponse> toPageResponse(Page<FranchiseSummary> page) {
+        return PageResponse.<FranchiseSummaryResponse>builder()
                 .items(page.getItems().stream()
-                        .map(franchiseResponseMapper::toResponse)
+                        .map(franchiseSummaryResponseMapper::toResponse)
                         .collect(Collectors.toList()))
                 .pageSize(page.getPageSize())
                 .nextCursor(page.getNextCursor())
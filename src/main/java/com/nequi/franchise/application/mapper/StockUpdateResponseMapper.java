@@ -0,0 +1,10 @@
+package com.nequi.franchise.application.mapper;
+
+import com.nequi.franchise.application.dto.StockUpdateResponse;
+import com.nequi.franchise.domain.model.StockUpdate;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface StockUpdateResponseMapper {
+    StockUpdateResponse toResponse(StockUpdate stockUpdate);
+}
@@ -2,16 +2,14 @@ package com.nequi.franchise.application.service;
 
 import com.nequi.franchise.domain.exception.FranchiseNotFoundException;
 import com.nequi.franchise.domain.model.Branch;
-import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
 import com.nequi.franchise.domain.port.input.AddBranchToFranchiseUseCase;
-import com.nequi.franchise.domain.port.output.CachePort;
 import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.UUID;
 
@@ -19,41 +17,30 @@ import java.util.UUID;
 public class AddBranchToFranchiseService implements AddBranchToFranchiseUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(AddBranchToFranchiseService.class);
-    private static final Duration CACHE_TTL = Duration.ofMinutes(30);
 
     private final FranchiseRepositoryPort franchiseRepository;
-    private final CachePort cachePort;
 
-    public AddBranchToFranchiseService(FranchiseRepositoryPort franchiseRepository, CachePort cachePort) {
+    public AddBranchToFranchiseService(FranchiseRepositoryPort franchiseRepository) {
         this.franchiseRepository = franchiseRepository;
-        this.cachePort = cachePort;
     }
 
     @Override
-    public Mono<Franchise> execute(String franchiseId, String branchName) {
+    public Mono<Branch> execute(String franchiseId, String branchName) {
         logger.info("Adding branch '{}' to franchise '{}'", branchName, franchiseId);
 
-        return cachePort.delete("franchise:" + franchiseId)
-                .doOnSuccess(deleted -> logger.debug("Cache invalidated for franchise: {}", franchiseId))
-                .then(franchiseRepository.findById(franchiseId))
-                .switchIfEmpty(Mono.error(new FranchiseNotFoundException("Franchise not found with id: " + franchiseId)))
-                .flatMap(franchise -> {
+        String branchId = UUID.randomUUID().toString();
+
+        return franchiseRepository.update(franchiseId, FranchiseProjection.branchHeaders(), franchise -> {
                     Branch newBranch = Branch.builder()
-                            .id(UUID.randomUUID().toString())
+                            .id(branchId)
                             .name(branchName)
                             .build();
 
                     franchise.addBranch(newBranch);
-                    franchise.incrementVersion();
-                    return franchiseRepository.save(franchise);
                 })
-                .flatMap(updatedFranchise ->
-                        cachePort.set("franchise:" + updatedFranchise.getId(), updatedFranchise, CACHE_TTL)
-                                .doOnSuccess(cached -> logger.debug("Franchise re-cached after branch addition"))
-                                .doOnError(error -> logger.warn("Failed to cache franchise: {}", error.getMessage()))
-                                .onErrorReturn(false)
-                                .thenReturn(updatedFranchise))
-                .doOnSuccess(franchise -> logger.info("Branch added successfully to franchise: {}", franchiseId))
+                .map(franchise -> franchise.findBranch(branchId))
+                .switchIfEmpty(Mono.error(new FranchiseNotFoundException("Franchise not found with id: " + franchiseId)))
+                .doOnSuccess(branch -> logger.info("Branch added successfully to franchise: {}", franchiseId))
                 .doOnError(error -> logger.error("Error adding branch to franchise: {}", error.getMessage()));
     }
 }
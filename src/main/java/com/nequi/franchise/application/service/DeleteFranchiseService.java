@@ -0,0 +1,42 @@
+package com.nequi.franchise.application.service;
+
+import com.nequi.franchise.domain.exception.FranchiseNotFoundException;
+import com.nequi.franchise.domain.exception.OptimisticLockException;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.domain.port.input.DeleteFranchiseUseCase;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+public class DeleteFranchiseService implements DeleteFranchiseUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeleteFranchiseService.class);
+
+    private final FranchiseRepositoryPort franchiseRepository;
+
+    public DeleteFranchiseService(FranchiseRepositoryPort franchiseRepository) {
+        this.franchiseRepository = franchiseRepository;
+    }
+
+    @Override
+    public Mono<Void> execute(String franchiseId, Long expectedVersion) {
+        logger.info("Deleting franchise '{}' at version {}", franchiseId, expectedVersion);
+
+        // Without an expected version the current one is read first, so a write racing the delete
+        // still fails it instead of being silently dropped.
+        return franchiseRepository.findById(franchiseId, FranchiseProjection.header())
+                .switchIfEmpty(Mono.error(new FranchiseNotFoundException("Franchise not found with id: " + franchiseId)))
+                .flatMap(franchise -> {
+                    if (expectedVersion != null && !expectedVersion.equals(franchise.getVersion())) {
+                        return Mono.error(new OptimisticLockException(
+                            "Franchise " + franchiseId + " was modified by another request"));
+                    }
+                    return franchiseRepository.delete(franchiseId, franchise.getVersion());
+                })
+                .doOnSuccess(ignored -> logger.info("Franchise deleted successfully: {}", franchiseId))
+                .doOnError(error -> logger.error("Error deleting franchise: {}", error.getMessage()));
+    }
+}
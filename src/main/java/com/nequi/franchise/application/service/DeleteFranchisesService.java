@@ -0,0 +1,81 @@
+package com.nequi.franchise.application.service;
+
+import com.nequi.franchise.application.job.DeletionJobTracker;
+import com.nequi.franchise.domain.model.DeletionJob;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.domain.port.input.DeleteFranchisesUseCase;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+@Service
+public class DeleteFranchisesService implements DeleteFranchisesUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeleteFranchisesService.class);
+    private static final int DELETE_CONCURRENCY = 8;
+
+    private final FranchiseRepositoryPort franchiseRepository;
+    private final DeletionJobTracker jobTracker;
+
+    public DeleteFranchisesService(FranchiseRepositoryPort franchiseRepository, DeletionJobTracker jobTracker) {
+        this.franchiseRepository = franchiseRepository;
+        this.jobTracker = jobTracker;
+    }
+
+    /**
+     * Registers the job and returns right away; the deletes run detached from the request, carrying
+     * its context so capacity and logs are still attributed to this use case.
+     */
+    @Override
+    public Mono<DeletionJob> execute(List<String> franchiseIds) {
+        List<String> ids = List.copyOf(new LinkedHashSet<>(franchiseIds));
+        return Mono.deferContextual(context -> {
+            DeletionJobTracker.Progress progress = jobTracker.start(ids.size());
+            logger.info("Starting deletion job {} for {} franchises", progress.getId(), ids.size());
+
+            run(ids, progress)
+                    .contextWrite(context)
+                    .subscribe();
+            return Mono.just(progress.snapshot());
+        });
+    }
+
+    // At most DELETE_CONCURRENCY deletes are in flight so the job never starves request traffic.
+    private Mono<Void> run(List<String> ids, DeletionJobTracker.Progress progress) {
+        return Flux.fromIterable(ids)
+                .flatMap(id -> deleteOne(id, progress), DELETE_CONCURRENCY)
+                .then()
+                .doOnSuccess(ignored -> {
+                    progress.complete(DeletionJob.Status.COMPLETED);
+                    DeletionJob job = progress.snapshot();
+                    logger.info("Deletion job {} finished: {} deleted, {} not found, {} failed",
+                        job.getId(), job.getDeleted(), job.getNotFound(), job.getFailed());
+                })
+                .doOnError(error -> {
+                    progress.complete(DeletionJob.Status.FAILED);
+                    logger.error("Deletion job {} aborted: {}", progress.getId(), error.getMessage());
+                })
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    private Mono<String> deleteOne(String franchiseId, DeletionJobTracker.Progress progress) {
+        return franchiseRepository.findById(franchiseId, FranchiseProjection.header())
+                .flatMap(franchise -> franchiseRepository.delete(franchiseId, franchise.getVersion())
+                        .then(Mono.fromCallable(() -> {
+                            progress.recordDeleted();
+                            return franchiseId;
+                        })))
+                .switchIfEmpty(Mono.fromRunnable(progress::recordNotFound))
+                .onErrorResume(error -> {
+                    logger.warn("Failed to delete franchise {} in job {}: {}", franchiseId, progress.getId(), error.getMessage());
+                    progress.recordFailed();
+                    return Mono.empty();
+                });
+    }
+}
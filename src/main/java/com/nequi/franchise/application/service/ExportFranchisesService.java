@@ -0,0 +1,39 @@
+package com.nequi.franchise.application.service;
+
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.port.input.ExportFranchisesUseCase;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class ExportFranchisesService implements ExportFranchisesUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportFranchisesService.class);
+
+    private final FranchiseRepositoryPort franchiseRepository;
+
+    public ExportFranchisesService(FranchiseRepositoryPort franchiseRepository) {
+        this.franchiseRepository = franchiseRepository;
+    }
+
+    @Override
+    public Flux<Franchise> execute() {
+        return Flux.defer(() -> {
+            logger.info("Exporting all franchises");
+            AtomicLong exported = new AtomicLong();
+            long start = System.currentTimeMillis();
+
+            return franchiseRepository.streamAll()
+                    .doOnNext(franchise -> exported.incrementAndGet())
+                    .doOnComplete(() -> logger.info("Exported {} franchises in {} ms",
+                        exported.get(), System.currentTimeMillis() - start))
+                    .doOnCancel(() -> logger.warn("Franchise export cancelled after {} franchises", exported.get()))
+                    .doOnError(error -> logger.error("Error exporting franchises: {}", error.getMessage()));
+        });
+    }
+}
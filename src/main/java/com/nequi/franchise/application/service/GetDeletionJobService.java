@@ -0,0 +1,24 @@
+package com.nequi.franchise.application.service;
+
+import com.nequi.franchise.application.job.DeletionJobTracker;
+import com.nequi.franchise.domain.exception.DeletionJobNotFoundException;
+import com.nequi.franchise.domain.model.DeletionJob;
+import com.nequi.franchise.domain.port.input.GetDeletionJobUseCase;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+public class GetDeletionJobService implements GetDeletionJobUseCase {
+
+    private final DeletionJobTracker jobTracker;
+
+    public GetDeletionJobService(DeletionJobTracker jobTracker) {
+        this.jobTracker = jobTracker;
+    }
+
+    @Override
+    public Mono<DeletionJob> execute(String jobId) {
+        return Mono.justOrEmpty(jobTracker.find(jobId))
+                .switchIfEmpty(Mono.error(() -> new DeletionJobNotFoundException("Deletion job not found with id: " + jobId)));
+    }
+}
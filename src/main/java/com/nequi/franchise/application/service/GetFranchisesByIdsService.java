@@ -0,0 +1,49 @@
+package com.nequi.franchise.application.service;
+
+import com.nequi.franchise.domain.exception.InvalidDomainException;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.port.input.GetFranchisesByIdsUseCase;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class GetFranchisesByIdsService implements GetFranchisesByIdsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetFranchisesByIdsService.class);
+    private static final int MAX_IDS = 500;
+
+    private final FranchiseRepositoryPort franchiseRepository;
+
+    public GetFranchisesByIdsService(FranchiseRepositoryPort franchiseRepository) {
+        this.franchiseRepository = franchiseRepository;
+    }
+
+    @Override
+    public Flux<Franchise> execute(List<String> franchiseIds) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (String id : franchiseIds) {
+            if (id != null && !id.isBlank()) {
+                ids.add(id.trim());
+            }
+        }
+        if (ids.isEmpty()) {
+            return Flux.error(new InvalidDomainException("At least one franchise id is required"));
+        }
+        if (ids.size() > MAX_IDS) {
+            return Flux.error(new InvalidDomainException("Cannot request more than " + MAX_IDS + " franchises at once"));
+        }
+
+        logger.info("Getting {} franchises by id", ids.size());
+
+        return franchiseRepository.findAllByIds(ids)
+                .doOnComplete(() -> logger.info("Retrieved franchises for {} requested ids", ids.size()))
+                .doOnError(error -> logger.error("Error getting franchises by id: {}", error.getMessage()));
+    }
+}
@@ -0,0 +1,127 @@
+package com.nequi.franchise.application.service;
+
+import com.nequi.franchise.domain.exception.DuplicateEntityException;
+import com.nequi.franchise.domain.exception.InvalidDomainException;
+import com.nequi.franchise.domain.model.Branch;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseImportRecord;
+import com.nequi.franchise.domain.model.ImportResult;
+import com.nequi.franchise.domain.model.Product;
+import com.nequi.franchise.domain.port.input.ImportFranchisesUseCase;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class ImportFranchisesService implements ImportFranchisesUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportFranchisesService.class);
+    private static final int IMPORT_BATCH_SIZE = 25;
+    private static final int WRITE_CONCURRENCY = 4;
+
+    private final FranchiseRepositoryPort franchiseRepository;
+
+    public ImportFranchisesService(FranchiseRepositoryPort franchiseRepository) {
+        this.franchiseRepository = franchiseRepository;
+    }
+
+    @Override
+    public Flux<ImportResult> execute(Flux<FranchiseImportRecord> records) {
+        AtomicLong rows = new AtomicLong();
+        AtomicLong started = new AtomicLong();
+
+        // flatMapSequential only requests WRITE_CONCURRENCY batches ahead, so the request body is
+        // pulled no faster than DynamoDB accepts the writes, and results keep the input order.
+        return records
+                .doOnSubscribe(subscription -> started.set(System.nanoTime()))
+                .doOnNext(record -> rows.addAndGet(record.getRows()))
+                .map(PreparedRecord::prepare)
+                .buffer(IMPORT_BATCH_SIZE)
+                .flatMapSequential(this::writeBatch, WRITE_CONCURRENCY)
+                .doOnComplete(() -> {
+                    double seconds = Math.max(System.nanoTime() - started.get(), 1) / 1_000_000_000.0;
+                    logger.info("Franchise import finished: {} rows in {} s ({} rows/s)",
+                        rows.get(), String.format("%.2f", seconds), Math.round(rows.get() / seconds));
+                })
+                .doOnError(error -> logger.error("Franchise import aborted after {} rows: {}", rows.get(), error.getMessage()));
+    }
+
+    private Flux<ImportResult> writeBatch(List<PreparedRecord> batch) {
+        List<Franchise> franchises = batch.stream()
+                .filter(prepared -> prepared.franchise() != null)
+                .map(PreparedRecord::franchise)
+                .toList();
+        if (franchises.isEmpty()) {
+            return Flux.fromIterable(batch).map(prepared -> prepared.toResult(null));
+        }
+
+        return franchiseRepository.saveAll(franchises)
+                .then(Mono.fromCallable(() -> batch.stream()
+                        .map(prepared -> prepared.toResult(null))
+                        .toList()))
+                .onErrorResume(error -> {
+                    logger.error("Failed to write import batch of {} franchises: {}", franchises.size(), error.getMessage());
+                    return Mono.just(batch.stream()
+                            .map(prepared -> prepared.toResult("Write failed: " + error.getMessage()))
+                            .toList());
+                })
+                .flatMapIterable(results -> results);
+    }
+
+    private record PreparedRecord(FranchiseImportRecord record, Franchise franchise, String error) {
+
+        static PreparedRecord prepare(FranchiseImportRecord record) {
+            if (record.isRejected()) {
+                return new PreparedRecord(record, null, record.getError());
+            }
+            try {
+                return new PreparedRecord(record, toFranchise(record), null);
+            } catch (InvalidDomainException | DuplicateEntityException e) {
+                return new PreparedRecord(record, null, e.getMessage());
+            }
+        }
+
+        ImportResult toResult(String writeError) {
+            if (franchise == null) {
+                return ImportResult.failed(record, error);
+            }
+            if (writeError != null) {
+                return ImportResult.failed(record, writeError);
+            }
+            return ImportResult.imported(record, franchise);
+        }
+
+        private static Franchise toFranchise(FranchiseImportRecord record) {
+            Franchise franchise = Franchise.builder()
+                    .id(UUID.randomUUID().toString())
+                    .name(record.getName())
+                    .branches(new ArrayList<>())
+                    .build();
+
+            for (FranchiseImportRecord.ImportedBranch importedBranch : record.getBranches()) {
+                Branch branch = Branch.builder()
+                        .id(UUID.randomUUID().toString())
+                        .name(importedBranch.getName())
+                        .products(new ArrayList<>())
+                        .build();
+                for (FranchiseImportRecord.ImportedProduct importedProduct : importedBranch.getProducts()) {
+                    branch.addProduct(Product.builder()
+                            .id(UUID.randomUUID().toString())
+                            .name(importedProduct.getName())
+                            .stock(importedProduct.getStock())
+                            .build());
+                }
+                franchise.addBranch(branch);
+            }
+            return franchise;
+        }
+    }
+}
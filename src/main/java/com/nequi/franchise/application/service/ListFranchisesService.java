@@ -1,6 +1,6 @@
 package com.nequi.franchise.application.service;
 
-import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseSummary;
 import com.nequi.franchise.domain.model.Page;
 import com.nequi.franchise.domain.port.input.ListFranchisesUseCase;
 import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
@@ -23,12 +23,12 @@ public class ListFranchisesService implements ListFranchisesUseCase {
     }
 
     @Override
-    public Mono<Page<Franchise>> execute(Integer pageSize, String cursor) {
+    public Mono<Page<FranchiseSummary>> execute(Integer pageSize, String cursor) {
         int validatedPageSize = validatePageSize(pageSize);
         
         logger.info("Listing franchises with pageSize: {} and cursor: {}", validatedPageSize, cursor);
 
-        return franchiseRepository.findAll(validatedPageSize, cursor)
+        return franchiseRepository.findSummaries(validatedPageSize, cursor)
                 .doOnSuccess(page -> logger.info("Retrieved {} franchises, hasMore: {}", 
                     page.getPageSize(), page.getHasMore()))
                 .doOnError(error -> logger.error("Error listing franchises: {}", error.getMessage()));
@@ -0,0 +1,7 @@
+package com.nequi.franchise.domain.exception;
+
+public class DeletionJobNotFoundException extends RuntimeException {
+    public DeletionJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.nequi.franchise.domain.exception;
+
+public class FranchiseTooLargeException extends RuntimeException {
+    public FranchiseTooLargeException(String message) {
+        super(message);
+    }
+}
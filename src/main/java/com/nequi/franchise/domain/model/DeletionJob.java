@@ -0,0 +1,34 @@
+package com.nequi.franchise.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Progress of a bulk franchise deletion at one point in time.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class DeletionJob {
+    private final String id;
+    private final Status status;
+    private final long total;
+    private final long deleted;
+    private final long notFound;
+    private final long failed;
+    private final Instant startedAt;
+    private final Instant finishedAt;
+
+    public long getProcessed() {
+        return deleted + notFound + failed;
+    }
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
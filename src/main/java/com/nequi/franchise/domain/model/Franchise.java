@@ -84,6 +84,12 @@ public class Franchise {
         return this.branches.size();
     }
 
+    public int getProductCount() {
+        return this.branches.stream()
+                .mapToInt(Branch::getProductCount)
+                .sum();
+    }
+
     public boolean hasBranches() {
         return !this.branches.isEmpty();
     }
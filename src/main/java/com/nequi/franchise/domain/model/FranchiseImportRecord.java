@@ -0,0 +1,45 @@
+package com.nequi.franchise.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FranchiseImportRecord {
+    private final long recordNumber;
+    private final int rows;
+    private final String name;
+    @Builder.Default
+    private final List<ImportedBranch> branches = List.of();
+    private final String error;
+
+    public static FranchiseImportRecord rejected(long recordNumber, int rows, String error) {
+        return FranchiseImportRecord.builder()
+                .recordNumber(recordNumber)
+                .rows(rows)
+                .error(error)
+                .build();
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ImportedBranch {
+        private final String name;
+        private final List<ImportedProduct> products;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ImportedProduct {
+        private final String name;
+        private final Integer stock;
+    }
+}
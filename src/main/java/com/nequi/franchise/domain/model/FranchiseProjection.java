@@ -0,0 +1,69 @@
+package com.nequi.franchise.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * The part of a franchise aggregate a use case needs to read or mutate. A repository may load more
+ * than requested, never less: the franchise it returns always holds at least the projected part, with
+ * every branch or product inside that part complete so domain invariants can still be checked.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FranchiseProjection {
+
+    public enum Scope {
+        /** The whole aggregate. */
+        FULL,
+        /** Id, name and version only, without branches. */
+        HEADER,
+        /** The header plus one branch with all of its products. */
+        BRANCH,
+        /** The header plus every branch, without products. */
+        BRANCH_HEADERS
+    }
+
+    private static final FranchiseProjection FULL = new FranchiseProjection(Scope.FULL, null);
+    private static final FranchiseProjection HEADER = new FranchiseProjection(Scope.HEADER, null);
+    private static final FranchiseProjection BRANCH_HEADERS = new FranchiseProjection(Scope.BRANCH_HEADERS, null);
+
+    private final Scope scope;
+    private final String branchId;
+
+    public static FranchiseProjection full() {
+        return FULL;
+    }
+
+    public static FranchiseProjection header() {
+        return HEADER;
+    }
+
+    public static FranchiseProjection branch(String branchId) {
+        return new FranchiseProjection(Scope.BRANCH, branchId);
+    }
+
+    public static FranchiseProjection branchHeaders() {
+        return BRANCH_HEADERS;
+    }
+
+    public boolean isFull() {
+        return scope == Scope.FULL;
+    }
+
+    /**
+     * The narrowest projection covering both this one and {@code other}. Every projection includes the
+     * header; any other combination of distinct scopes needs the whole aggregate.
+     */
+    public FranchiseProjection union(FranchiseProjection other) {
+        if (equals(other) || other.scope == Scope.HEADER) {
+            return this;
+        }
+        if (scope == Scope.HEADER) {
+            return other;
+        }
+        return FULL;
+    }
+}
@@ -0,0 +1,24 @@
+package com.nequi.franchise.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FranchiseSummary {
+    private final String id;
+    private final String name;
+    private final int branchCount;
+    private final int productCount;
+
+    public static FranchiseSummary of(Franchise franchise) {
+        return FranchiseSummary.builder()
+                .id(franchise.getId())
+                .name(franchise.getName())
+                .branchCount(franchise.getBranchCount())
+                .productCount(franchise.getProductCount())
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.nequi.franchise.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ImportResult {
+    private final long recordNumber;
+    private final String franchiseId;
+    private final String name;
+    private final Status status;
+    private final int branchCount;
+    private final int productCount;
+    private final int rows;
+    private final String error;
+
+    public static ImportResult imported(FranchiseImportRecord record, Franchise franchise) {
+        return ImportResult.builder()
+                .recordNumber(record.getRecordNumber())
+                .franchiseId(franchise.getId())
+                .name(franchise.getName())
+                .status(Status.IMPORTED)
+                .branchCount(franchise.getBranchCount())
+                .productCount(franchise.getProductCount())
+                .rows(record.getRows())
+                .build();
+    }
+
+    public static ImportResult failed(FranchiseImportRecord record, String error) {
+        return ImportResult.builder()
+                .recordNumber(record.getRecordNumber())
+                .name(record.getName())
+                .status(Status.FAILED)
+                .rows(record.getRows())
+                .error(error)
+                .build();
+    }
+
+    public enum Status {
+        IMPORTED,
+        FAILED
+    }
+}
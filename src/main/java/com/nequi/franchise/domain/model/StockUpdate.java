@@ -0,0 +1,16 @@
+package com.nequi.franchise.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class StockUpdate {
+    private final String franchiseId;
+    private final String branchId;
+    private final String productId;
+    private final Integer stock;
+    private final Long version;
+}
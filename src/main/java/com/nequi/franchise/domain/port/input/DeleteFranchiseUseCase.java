@@ -0,0 +1,11 @@
+package com.nequi.franchise.domain.port.input;
+
+import reactor.core.publisher.Mono;
+
+public interface DeleteFranchiseUseCase {
+    /**
+     * @param expectedVersion the version the caller last saw, or {@code null} to delete whatever
+     *                        version is current
+     */
+    Mono<Void> execute(String franchiseId, Long expectedVersion);
+}
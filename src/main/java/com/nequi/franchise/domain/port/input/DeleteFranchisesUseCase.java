@@ -0,0 +1,13 @@
+package com.nequi.franchise.domain.port.input;
+
+import com.nequi.franchise.domain.model.DeletionJob;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface DeleteFranchisesUseCase {
+    /**
+     * Starts deleting the franchises in the background and returns the job as it starts.
+     */
+    Mono<DeletionJob> execute(List<String> franchiseIds);
+}
@@ -0,0 +1,8 @@
+package com.nequi.franchise.domain.port.input;
+
+import com.nequi.franchise.domain.model.Franchise;
+import reactor.core.publisher.Flux;
+
+public interface ExportFranchisesUseCase {
+    Flux<Franchise> execute();
+}
@@ -0,0 +1,8 @@
+package com.nequi.franchise.domain.port.input;
+
+import com.nequi.franchise.domain.model.DeletionJob;
+import reactor.core.publisher.Mono;
+
+public interface GetDeletionJobUseCase {
+    Mono<DeletionJob> execute(String jobId);
+}
@@ -0,0 +1,10 @@
+package com.nequi.franchise.domain.port.input;
+
+import com.nequi.franchise.domain.model.Franchise;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+public interface GetFranchisesByIdsUseCase {
+    Flux<Franchise> execute(List<String> franchiseIds);
+}
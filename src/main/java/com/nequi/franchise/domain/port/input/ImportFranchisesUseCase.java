@@ -0,0 +1,9 @@
+package com.nequi.franchise.domain.port.input;
+
+import com.nequi.franchise.domain.model.FranchiseImportRecord;
+import com.nequi.franchise.domain.model.ImportResult;
+import reactor.core.publisher.Flux;
+
+public interface ImportFranchisesUseCase {
+    Flux<ImportResult> execute(Flux<FranchiseImportRecord> records);
+}
@@ -1,9 +1,9 @@
 package com.nequi.franchise.domain.port.input;
 
-import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseSummary;
 import com.nequi.franchise.domain.model.Page;
 import reactor.core.publisher.Mono;
 
 public interface ListFranchisesUseCase {
-    Mono<Page<Franchise>> execute(Integer pageSize, String cursor);
+    Mono<Page<FranchiseSummary>> execute(Integer pageSize, String cursor);
 }
@@ -1,8 +1,8 @@
 package com.nequi.franchise.domain.port.input;
 
-import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.Branch;
 import reactor.core.publisher.Mono;
 
 public interface UpdateProductNameUseCase {
-    Mono<Franchise> execute(String franchiseId, String branchId, String productId, String newName);
+    Mono<Branch> execute(String franchiseId, String branchId, String productId, String newName);
 }
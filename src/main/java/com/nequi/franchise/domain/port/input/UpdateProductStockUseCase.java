@@ -1,8 +1,8 @@
 package com.nequi.franchise.domain.port.input;
 
-import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.StockUpdate;
 import reactor.core.publisher.Mono;
 
 public interface UpdateProductStockUseCase {
-    Mono<Franchise> execute(String franchiseId, String branchId, String productId, Integer newStock);
+    Mono<StockUpdate> execute(String franchiseId, String branchId, String productId, Integer newStock);
 }
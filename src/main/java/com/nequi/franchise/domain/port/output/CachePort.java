@@ -2,10 +2,22 @@ package com.nequi.franchise.domain.port.output;
 
 import reactor.core.publisher.Mono;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 public interface CachePort {
     <T> Mono<T> get(String key, Class<T> type);
+    <T> Mono<Map<String, T>> getAll(List<String> keys, Class<T> type);
     <T> Mono<Boolean> set(String key, T value, Duration ttl);
     Mono<Boolean> delete(String key);
+    Mono<Long> deleteAll(List<String> keys);
     Mono<Long> deleteByPattern(String pattern);
+
+    /**
+     * Increments a counter and (re)sets its expiration. A missing counter starts from the current time
+     * in milliseconds rather than from zero, so a counter that expired and is created again does not
+     * return values it returned before. Unlike the other operations this fails when the cache does,
+     * since callers rely on the counter having moved.
+     */
+    Mono<Long> increment(String key, Duration ttl);
 }
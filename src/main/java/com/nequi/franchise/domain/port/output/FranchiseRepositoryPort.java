@@ -1,12 +1,105 @@
 package com.nequi.franchise.domain.port.output;
 
+import com.nequi.franchise.domain.exception.OptimisticLockException;
 import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.domain.model.FranchiseSummary;
 import com.nequi.franchise.domain.model.Page;
+import com.nequi.franchise.domain.model.StockUpdate;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface FranchiseRepositoryPort {
     Mono<Franchise> save(Franchise franchise);
+    Mono<Franchise> update(String id, Consumer<Franchise> mutation);
     Mono<Franchise> findById(String id);
     Mono<Void> delete(String id);
     Mono<Page<Franchise>> findAll(Integer pageSize, String cursor);
+
+    /**
+     * Deletes a franchise only while it is still at {@code expectedVersion}, failing with
+     * {@link OptimisticLockException} otherwise. The default checks the version before deleting, so a
+     * write landing in between is not detected.
+     */
+    default Mono<Void> delete(String id, long expectedVersion) {
+        return findById(id, FranchiseProjection.header())
+                .filter(franchise -> franchise.getVersion() != null && franchise.getVersion() == expectedVersion)
+                .switchIfEmpty(Mono.error(() -> new OptimisticLockException(
+                        "Franchise " + id + " was modified by another request")))
+                .then(delete(id));
+    }
+
+    /**
+     * Loads only the projected part of a franchise. The result may be partial, so it must never be
+     * passed to {@link #save(Franchise)}; mutate it through {@link #update(String, FranchiseProjection, Consumer)}.
+     * The default loads the whole aggregate.
+     */
+    default Mono<Franchise> findById(String id, FranchiseProjection projection) {
+        return findById(id);
+    }
+
+    /**
+     * Applies a mutation that only touches the projected part of a franchise. Rows or attributes outside
+     * the projection are neither read nor written, and the returned franchise may be partial, so callers
+     * answer with the projected part only.
+     * The default loads and rewrites the whole aggregate.
+     */
+    default Mono<Franchise> update(String id, FranchiseProjection projection, Consumer<Franchise> mutation) {
+        return update(id, mutation);
+    }
+
+    /**
+     * Writes freshly created franchises in bulk. Unlike {@link #save(Franchise)} no version condition is
+     * checked, so it must only be used for ids that cannot exist yet.
+     */
+    default Mono<Void> saveAll(List<Franchise> franchises) {
+        return Flux.fromIterable(franchises)
+                .concatMap(this::save)
+                .then();
+    }
+
+    /**
+     * Lists franchises ordered by name without loading their branches. The default derives the
+     * summaries from {@link #findAll(Integer, String)}, which gives no ordering guarantee.
+     */
+    default Mono<Page<FranchiseSummary>> findSummaries(Integer pageSize, String cursor) {
+        return findAll(pageSize, cursor)
+                .map(page -> Page.<FranchiseSummary>builder()
+                        .items(page.getItems().stream().map(FranchiseSummary::of).toList())
+                        .nextCursor(page.getNextCursor())
+                        .pageSize(page.getPageSize())
+                        .hasMore(page.getHasMore())
+                        .build());
+    }
+
+    /**
+     * Streams every franchise in the store, in no particular order. The default walks the
+     * cursor-paginated {@link #findAll(Integer, String)} one page at a time.
+     */
+    default Flux<Franchise> streamAll() {
+        return findAll(100, null)
+                .expand(page -> page.getNextCursor() == null ? Mono.empty() : findAll(100, page.getNextCursor()))
+                .concatMapIterable(Page::getItems);
+    }
+
+    default Flux<Franchise> findAllByIds(Collection<String> ids) {
+        return Flux.fromIterable(ids)
+                .distinct()
+                .flatMap(this::findById, 16);
+    }
+
+    default Mono<StockUpdate> updateProductStock(String franchiseId, String branchId, String productId, Integer newStock) {
+        return update(franchiseId, franchise -> franchise.findBranch(branchId).findProduct(productId).updateStock(newStock))
+                .map(franchise -> StockUpdate.builder()
+                        .franchiseId(franchiseId)
+                        .branchId(branchId)
+                        .productId(productId)
+                        .stock(newStock)
+                        .version(franchise.getVersion())
+                        .build());
+    }
 }
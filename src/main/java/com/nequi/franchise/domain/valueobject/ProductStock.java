@@ -7,8 +7,8 @@ import lombok.Getter;
 @Getter
 @EqualsAndHashCode
 public class ProductStock {
-    private static final int MIN_STOCK = 0;
-    private static final int MAX_STOCK = 1_000_000;
+    public static final int MIN_STOCK = 0;
+    public static final int MAX_STOCK = 1_000_000;
     
     private final Integer value;
 
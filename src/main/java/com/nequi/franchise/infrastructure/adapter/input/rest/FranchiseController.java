@@ -1,32 +1,55 @@
 package com.nequi.franchise.infrastructure.adapter.input.rest;
 
 import com.nequi.franchise.application.dto.ApiResponse;
+import com.nequi.franchise.application.dto.BranchResponse;
 import com.nequi.franchise.application.dto.CreateBranchRequest;
 import com.nequi.franchise.application.dto.CreateFranchiseRequest;
 import com.nequi.franchise.application.dto.CreateProductRequest;
+import com.nequi.franchise.application.dto.DeleteFranchisesRequest;
+import com.nequi.franchise.application.dto.DeletionJobResponse;
 import com.nequi.franchise.application.dto.FranchiseResponse;
+import com.nequi.franchise.application.dto.FranchiseSummaryResponse;
+import com.nequi.franchise.application.dto.ImportResultResponse;
 import com.nequi.franchise.application.dto.PageResponse;
+import com.nequi.franchise.application.dto.StockUpdateResponse;
 import com.nequi.franchise.application.dto.UpdateNameRequest;
 import com.nequi.franchise.application.dto.UpdateStockRequest;
+import com.nequi.franchise.application.mapper.BranchResponseMapper;
+import com.nequi.franchise.application.mapper.DeletionJobResponseMapper;
 import com.nequi.franchise.application.mapper.FranchiseResponseMapper;
+import com.nequi.franchise.application.mapper.ImportResultResponseMapper;
 import com.nequi.franchise.application.mapper.PageResponseMapper;
+import com.nequi.franchise.application.mapper.StockUpdateResponseMapper;
 import com.nequi.franchise.domain.port.input.AddBranchToFranchiseUseCase;
 import com.nequi.franchise.domain.port.input.AddProductToBranchUseCase;
 import com.nequi.franchise.domain.port.input.CreateFranchiseUseCase;
+import com.nequi.franchise.domain.port.input.DeleteFranchiseUseCase;
+import com.nequi.franchise.domain.port.input.DeleteFranchisesUseCase;
 import com.nequi.franchise.domain.port.input.DeleteProductFromBranchUseCase;
+import com.nequi.franchise.domain.port.input.ExportFranchisesUseCase;
+import com.nequi.franchise.domain.port.input.GetFranchisesByIdsUseCase;
+import com.nequi.franchise.domain.port.input.GetDeletionJobUseCase;
 import com.nequi.franchise.domain.port.input.GetMaxStockProductsUseCase;
+import com.nequi.franchise.domain.port.input.ImportFranchisesUseCase;
 import com.nequi.franchise.domain.port.input.ListFranchisesUseCase;
 import com.nequi.franchise.domain.port.input.UpdateBranchNameUseCase;
 import com.nequi.franchise.domain.port.input.UpdateFranchiseNameUseCase;
 import com.nequi.franchise.domain.port.input.UpdateProductNameUseCase;
 import com.nequi.franchise.domain.port.input.UpdateProductStockUseCase;
+import com.nequi.franchise.infrastructure.adapter.input.rest.imports.FranchiseImportParser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/franchises")
 @Tag(name = "Franchises", description = "Franchise management endpoints")
@@ -39,11 +62,22 @@ public class FranchiseController {
     private final UpdateProductStockUseCase updateProductStockUseCase;
     private final GetMaxStockProductsUseCase getMaxStockProductsUseCase;
     private final ListFranchisesUseCase listFranchisesUseCase;
+    private final GetFranchisesByIdsUseCase getFranchisesByIdsUseCase;
     private final UpdateFranchiseNameUseCase updateFranchiseNameUseCase;
     private final UpdateBranchNameUseCase updateBranchNameUseCase;
     private final UpdateProductNameUseCase updateProductNameUseCase;
+    private final ImportFranchisesUseCase importFranchisesUseCase;
+    private final ExportFranchisesUseCase exportFranchisesUseCase;
+    private final DeleteFranchiseUseCase deleteFranchiseUseCase;
+    private final DeleteFranchisesUseCase deleteFranchisesUseCase;
+    private final GetDeletionJobUseCase getDeletionJobUseCase;
+    private final FranchiseImportParser franchiseImportParser;
     private final FranchiseResponseMapper franchiseResponseMapper;
+    private final BranchResponseMapper branchResponseMapper;
     private final PageResponseMapper pageResponseMapper;
+    private final StockUpdateResponseMapper stockUpdateResponseMapper;
+    private final ImportResultResponseMapper importResultResponseMapper;
+    private final DeletionJobResponseMapper deletionJobResponseMapper;
 
     public FranchiseController(
             CreateFranchiseUseCase createFranchiseUseCase,
@@ -53,11 +87,22 @@ public class FranchiseController {
             UpdateProductStockUseCase updateProductStockUseCase,
             GetMaxStockProductsUseCase getMaxStockProductsUseCase,
             ListFranchisesUseCase listFranchisesUseCase,
+            GetFranchisesByIdsUseCase getFranchisesByIdsUseCase,
             UpdateFranchiseNameUseCase updateFranchiseNameUseCase,
             UpdateBranchNameUseCase updateBranchNameUseCase,
             UpdateProductNameUseCase updateProductNameUseCase,
+            ImportFranchisesUseCase importFranchisesUseCase,
+            ExportFranchisesUseCase exportFranchisesUseCase,
+            DeleteFranchiseUseCase deleteFranchiseUseCase,
+            DeleteFranchisesUseCase deleteFranchisesUseCase,
+            GetDeletionJobUseCase getDeletionJobUseCase,
+            FranchiseImportParser franchiseImportParser,
             FranchiseResponseMapper franchiseResponseMapper,
-            PageResponseMapper pageResponseMapper) {
+            BranchResponseMapper branchResponseMapper,
+            PageResponseMapper pageResponseMapper,
+            StockUpdateResponseMapper stockUpdateResponseMapper,
+            ImportResultResponseMapper importResultResponseMapper,
+            DeletionJobResponseMapper deletionJobResponseMapper) {
         this.createFranchiseUseCase = createFranchiseUseCase;
         this.addBranchToFranchiseUseCase = addBranchToFranchiseUseCase;
         this.addProductToBranchUseCase = addProductToBranchUseCase;
@@ -65,17 +110,28 @@ public class FranchiseController {
         this.updateProductStockUseCase = updateProductStockUseCase;
         this.getMaxStockProductsUseCase = getMaxStockProductsUseCase;
         this.listFranchisesUseCase = listFranchisesUseCase;
+        this.getFranchisesByIdsUseCase = getFranchisesByIdsUseCase;
         this.updateFranchiseNameUseCase = updateFranchiseNameUseCase;
         this.updateBranchNameUseCase = updateBranchNameUseCase;
         this.updateProductNameUseCase = updateProductNameUseCase;
+        this.importFranchisesUseCase = importFranchisesUseCase;
+        this.exportFranchisesUseCase = exportFranchisesUseCase;
+        this.deleteFranchiseUseCase = deleteFranchiseUseCase;
+        this.deleteFranchisesUseCase = deleteFranchisesUseCase;
+        this.getDeletionJobUseCase = getDeletionJobUseCase;
+        this.franchiseImportParser = franchiseImportParser;
         this.franchiseResponseMapper = franchiseResponseMapper;
+        this.branchResponseMapper = branchResponseMapper;
         this.pageResponseMapper = pageResponseMapper;
+        this.stockUpdateResponseMapper = stockUpdateResponseMapper;
+        this.importResultResponseMapper = importResultResponseMapper;
+        this.deletionJobResponseMapper = deletionJobResponseMapper;
     }
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    @Operation(summary = "List all franchises with pagination", description = "Returns a paginated list of franchises with cursor-based navigation")
-    public Mono<ApiResponse<PageResponse<FranchiseResponse>>> listFranchises(
+    @Operation(summary = "List all franchises with pagination", description = "Returns franchise summaries ordered by name, with cursor-based navigation")
+    public Mono<ApiResponse<PageResponse<FranchiseSummaryResponse>>> listFranchises(
             @RequestParam(required = false, defaultValue = "20") Integer pageSize,
             @RequestParam(required = false) String cursor) {
         return listFranchisesUseCase.execute(pageSize, cursor)
@@ -83,6 +139,22 @@ public class FranchiseController {
                 .map(response -> ApiResponse.success(response, "Franchises retrieved successfully"));
     }
 
+    @GetMapping(params = "ids", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get several franchises by id", description = "Streams the requested franchises as they are read from cache or DynamoDB; unknown ids are skipped")
+    public Flux<FranchiseResponse> getFranchisesByIds(@RequestParam List<String> ids) {
+        return getFranchisesByIdsUseCase.execute(ids)
+                .map(franchiseResponseMapper::toResponse);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Export all franchises", description = "Streams every franchise as NDJSON using a parallel segmented table scan")
+    public Flux<FranchiseResponse> exportFranchises() {
+        return exportFranchisesUseCase.execute()
+                .map(franchiseResponseMapper::toResponse);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "Create a new franchise", description = "Creates a new franchise with the given name")
@@ -92,48 +164,88 @@ public class FranchiseController {
                 .map(response -> ApiResponse.created(response, "Franchise created successfully"));
     }
 
+    @PostMapping(value = "/import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, FranchiseImportParser.TEXT_CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Bulk import franchises", description = "Streams NDJSON (one franchise per line) or CSV (franchise,branch,product,stock rows) and streams back one result per franchise")
+    public Flux<ImportResultResponse> importFranchises(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestBody Flux<DataBuffer> body) {
+        return importFranchisesUseCase.execute(franchiseImportParser.parse(body, contentType))
+                .map(importResultResponseMapper::toResponse);
+    }
+
+    @DeleteMapping("/{franchiseId}")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Delete a franchise", description = "Deletes a franchise with its branches and products; when a version is given the delete fails with 409 if the franchise changed since")
+    public Mono<ApiResponse<Void>> deleteFranchise(
+            @PathVariable String franchiseId,
+            @RequestParam(required = false) Long version) {
+        return deleteFranchiseUseCase.execute(franchiseId, version)
+                .then(Mono.fromCallable(() -> ApiResponse.<Void>success(null, "Franchise deleted successfully")));
+    }
+
+    @PostMapping("/deletions")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(summary = "Bulk delete franchises", description = "Starts a background job deleting the given franchises and returns it; poll the job for progress")
+    public Mono<ApiResponse<DeletionJobResponse>> deleteFranchises(@Valid @RequestBody DeleteFranchisesRequest request) {
+        return deleteFranchisesUseCase.execute(request.getFranchiseIds())
+                .map(deletionJobResponseMapper::toResponse)
+                .map(response -> ApiResponse.accepted(response, "Deletion job started"));
+    }
+
+    @GetMapping("/deletions/{jobId}")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get bulk deletion progress", description = "Returns the counters of a bulk deletion job started on this instance")
+    public Mono<ApiResponse<DeletionJobResponse>> getDeletionJob(@PathVariable String jobId) {
+        return getDeletionJobUseCase.execute(jobId)
+                .map(deletionJobResponseMapper::toResponse)
+                .map(response -> ApiResponse.success(response, "Deletion job retrieved successfully"));
+    }
+
     @PostMapping("/branches")
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "Add a new branch to a franchise", description = "Adds a new branch to an existing franchise")
-    public Mono<ApiResponse<FranchiseResponse>> addBranchToFranchise(
+    public Mono<ApiResponse<BranchResponse>> addBranchToFranchise(
             @Valid @RequestBody CreateBranchRequest request) {
         return addBranchToFranchiseUseCase.execute(request.getFranchiseId(), request.getName())
-                .map(franchiseResponseMapper::toResponse)
+                .map(branchResponseMapper::toResponse)
                 .map(response -> ApiResponse.created(response, "Branch added successfully to franchise"));
     }
 
     @PostMapping("/branches/products")
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "Add a new product to a branch", description = "Adds a new product to an existing branch")
-    public Mono<ApiResponse<FranchiseResponse>> addProductToBranch(
+    public Mono<ApiResponse<BranchResponse>> addProductToBranch(
             @Valid @RequestBody CreateProductRequest request) {
         return addProductToBranchUseCase.execute(request.getFranchiseId(), request.getBranchId(), request.getName(), request.getStock())
-                .map(franchiseResponseMapper::toResponse)
+                .map(branchResponseMapper::toResponse)
                 .map(response -> ApiResponse.created(response, "Product added successfully to branch"));
     }
 
     @DeleteMapping("/{franchiseId}/branches/{branchId}/products/{productId}")
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Delete a product from a branch", description = "Removes a product from an existing branch")
-    public Mono<ApiResponse<FranchiseResponse>> deleteProductFromBranch(
+    public Mono<ApiResponse<BranchResponse>> deleteProductFromBranch(
             @PathVariable String franchiseId,
             @PathVariable String branchId,
             @PathVariable String productId) {
         return deleteProductFromBranchUseCase.execute(franchiseId, branchId, productId)
-                .map(franchiseResponseMapper::toResponse)
+                .map(branchResponseMapper::toResponse)
                 .map(response -> ApiResponse.success(response, "Product deleted successfully from branch"));
     }
 
     @PatchMapping("/{franchiseId}/branches/{branchId}/products/{productId}/stock")
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Update product stock", description = "Updates the stock quantity of a product in a branch")
-    public Mono<ApiResponse<FranchiseResponse>> updateProductStock(
+    public Mono<ApiResponse<StockUpdateResponse>> updateProductStock(
             @PathVariable String franchiseId,
             @PathVariable String branchId,
             @PathVariable String productId,
             @Valid @RequestBody UpdateStockRequest request) {
         return updateProductStockUseCase.execute(franchiseId, branchId, productId, request.getStock())
-                .map(franchiseResponseMapper::toResponse)
+                .map(stockUpdateResponseMapper::toResponse)
                 .map(response -> ApiResponse.success(response, "Product stock updated successfully"));
     }
 
@@ -153,32 +265,32 @@ public class FranchiseController {
             @PathVariable String franchiseId,
             @Valid @RequestBody UpdateNameRequest request) {
         return updateFranchiseNameUseCase.execute(franchiseId, request.getName())
-                .map(franchiseResponseMapper::toResponse)
+                .map(franchiseResponseMapper::toHeaderResponse)
                 .map(response -> ApiResponse.success(response, "Franchise name updated successfully"));
     }
 
     @PatchMapping("/{franchiseId}/branches/{branchId}/name")
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Update branch name", description = "Updates the name of a branch")
-    public Mono<ApiResponse<FranchiseResponse>> updateBranchName(
+    public Mono<ApiResponse<BranchResponse>> updateBranchName(
             @PathVariable String franchiseId,
             @PathVariable String branchId,
             @Valid @RequestBody UpdateNameRequest request) {
         return updateBranchNameUseCase.execute(franchiseId, branchId, request.getName())
-                .map(franchiseResponseMapper::toResponse)
+                .map(branchResponseMapper::toResponse)
                 .map(response -> ApiResponse.success(response, "Branch name updated successfully"));
     }
 
     @PatchMapping("/{franchiseId}/branches/{branchId}/products/{productId}/name")
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Update product name", description = "Updates the name of a product")
-    public Mono<ApiResponse<FranchiseResponse>> updateProductName(
+    public Mono<ApiResponse<BranchResponse>> updateProductName(
             @PathVariable String franchiseId,
             @PathVariable String branchId,
             @PathVariable String productId,
             @Valid @RequestBody UpdateNameRequest request) {
         return updateProductNameUseCase.execute(franchiseId, branchId, productId, request.getName())
-                .map(franchiseResponseMapper::toResponse)
+                .map(branchResponseMapper::toResponse)
                 .map(response -> ApiResponse.success(response, "Product name updated successfully"));
     }
 }
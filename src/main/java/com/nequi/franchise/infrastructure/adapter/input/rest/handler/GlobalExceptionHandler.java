@@ -2,8 +2,10 @@ package com.nequi.franchise.infrastructure.adapter.input.rest.handler;
 
 import com.nequi.franchise.application.dto.ApiResponse;
 import com.nequi.franchise.domain.exception.BranchNotFoundException;
+import com.nequi.franchise.domain.exception.DeletionJobNotFoundException;
 import com.nequi.franchise.domain.exception.DuplicateEntityException;
 import com.nequi.franchise.domain.exception.FranchiseNotFoundException;
+import com.nequi.franchise.domain.exception.FranchiseTooLargeException;
 import com.nequi.franchise.domain.exception.InvalidDomainException;
 import com.nequi.franchise.domain.exception.OptimisticLockException;
 import com.nequi.franchise.domain.exception.ProductNotFoundException;
@@ -29,6 +31,14 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(404, ex.getMessage()));
     }
 
+    @ExceptionHandler(DeletionJobNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDeletionJobNotFound(DeletionJobNotFoundException ex) {
+        logger.error("Deletion job not found: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(404, ex.getMessage()));
+    }
+
     @ExceptionHandler(BranchNotFoundException.class)
     public ResponseEntity<ApiResponse<Void>> handleBranchNotFound(BranchNotFoundException ex) {
         logger.error("Branch not found: {}", ex.getMessage());
@@ -61,6 +71,14 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), ex.getMessage())));
     }
 
+    @ExceptionHandler(FranchiseTooLargeException.class)
+    public Mono<ResponseEntity<ApiResponse<Void>>> handleFranchiseTooLargeException(FranchiseTooLargeException ex) {
+        logger.warn("Franchise too large: {}", ex.getMessage());
+        return Mono.just(ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(ApiResponse.error(HttpStatus.UNPROCESSABLE_ENTITY.value(), ex.getMessage())));
+    }
+
     @ExceptionHandler(OptimisticLockException.class)
     public Mono<ResponseEntity<ApiResponse<Void>>> handleOptimisticLockException(OptimisticLockException ex) {
         logger.warn("Optimistic lock error: {}", ex.getMessage());
@@ -0,0 +1,195 @@
+package com.nequi.franchise.infrastructure.adapter.input.rest.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nequi.franchise.domain.exception.InvalidDomainException;
+import com.nequi.franchise.domain.model.FranchiseImportRecord;
+import com.nequi.franchise.domain.model.FranchiseImportRecord.ImportedBranch;
+import com.nequi.franchise.domain.model.FranchiseImportRecord.ImportedProduct;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns an import request body into franchise records while it is still being received.
+ * NDJSON carries one franchise per line; CSV carries one product per row
+ * ({@code franchise,branch,product,stock}) with the rows of a franchise kept together.
+ */
+@Component
+public class FranchiseImportParser {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    private static final String CSV_HEADER = "franchise,branch,product,stock";
+    private static final int CSV_COLUMNS = 4;
+    private static final int MAX_LINE_BYTES = 1024 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final StringDecoder lineDecoder;
+
+    public FranchiseImportParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.lineDecoder = StringDecoder.textPlainOnly(List.of("\n"), true);
+        this.lineDecoder.setMaxInMemorySize(MAX_LINE_BYTES);
+    }
+
+    public Flux<FranchiseImportRecord> parse(Flux<DataBuffer> body, MediaType contentType) {
+        if (contentType != null && TEXT_CSV.isCompatibleWith(contentType)) {
+            return parseCsv(lines(body));
+        }
+        if (contentType != null && MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return parseNdjson(lines(body));
+        }
+        return Flux.error(new InvalidDomainException("Unsupported import content type: " + contentType));
+    }
+
+    private Flux<Tuple2<Long, String>> lines(Flux<DataBuffer> body) {
+        return lineDecoder.decode(body, ResolvableType.forClass(String.class), null, Map.of())
+                .map(line -> line.endsWith("\r") ? line.substring(0, line.length() - 1) : line)
+                .index((index, line) -> Tuples.of(index + 1, line))
+                .filter(line -> !line.getT2().isBlank());
+    }
+
+    private Flux<FranchiseImportRecord> parseNdjson(Flux<Tuple2<Long, String>> lines) {
+        return lines.map(line -> parseJsonLine(line.getT1(), line.getT2()));
+    }
+
+    private FranchiseImportRecord parseJsonLine(long lineNumber, String line) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return FranchiseImportRecord.rejected(lineNumber, 1, "Line " + lineNumber + ": malformed JSON");
+        }
+        if (!node.isObject()) {
+            return FranchiseImportRecord.rejected(lineNumber, 1, "Line " + lineNumber + ": expected a JSON object");
+        }
+
+        List<ImportedBranch> branches = new ArrayList<>();
+        for (JsonNode branchNode : node.path("branches")) {
+            List<ImportedProduct> products = new ArrayList<>();
+            for (JsonNode productNode : branchNode.path("products")) {
+                JsonNode stock = productNode.path("stock");
+                if (!stock.isIntegralNumber() || !stock.canConvertToInt()) {
+                    return FranchiseImportRecord.rejected(lineNumber, 1,
+                        "Line " + lineNumber + ": product stock must be an integer");
+                }
+                products.add(new ImportedProduct(textOrNull(productNode.path("name")), stock.intValue()));
+            }
+            branches.add(new ImportedBranch(textOrNull(branchNode.path("name")), products));
+        }
+
+        return FranchiseImportRecord.builder()
+                .recordNumber(lineNumber)
+                .rows(1)
+                .name(textOrNull(node.path("name")))
+                .branches(branches)
+                .build();
+    }
+
+    private Flux<FranchiseImportRecord> parseCsv(Flux<Tuple2<Long, String>> lines) {
+        return lines
+                .filter(line -> !(line.getT1() == 1 && CSV_HEADER.equalsIgnoreCase(line.getT2().replace(" ", ""))))
+                .map(line -> CsvRow.parse(line.getT1(), line.getT2()))
+                .bufferUntilChanged(CsvRow::franchise)
+                .map(this::toCsvRecord);
+    }
+
+    private FranchiseImportRecord toCsvRecord(List<CsvRow> rows) {
+        long recordNumber = rows.get(0).lineNumber();
+        for (CsvRow row : rows) {
+            if (row.error() != null) {
+                return FranchiseImportRecord.rejected(recordNumber, rows.size(), "Line " + row.lineNumber() + ": " + row.error());
+            }
+        }
+
+        Map<String, List<ImportedProduct>> products = new LinkedHashMap<>();
+        for (CsvRow row : rows) {
+            if (row.branch().isEmpty()) {
+                continue;
+            }
+            List<ImportedProduct> branchProducts = products.computeIfAbsent(row.branch(), name -> new ArrayList<>());
+            if (!row.product().isEmpty()) {
+                branchProducts.add(new ImportedProduct(row.product(), row.stock()));
+            }
+        }
+
+        List<ImportedBranch> branches = new ArrayList<>();
+        products.forEach((name, branchProducts) -> branches.add(new ImportedBranch(name, branchProducts)));
+
+        return FranchiseImportRecord.builder()
+                .recordNumber(recordNumber)
+                .rows(rows.size())
+                .name(rows.get(0).franchise())
+                .branches(branches)
+                .build();
+    }
+
+    private static String textOrNull(JsonNode node) {
+        return node.isTextual() ? node.asText() : null;
+    }
+
+    private record CsvRow(long lineNumber, String franchise, String branch, String product, Integer stock, String error) {
+
+        static CsvRow parse(long lineNumber, String line) {
+            List<String> columns = splitCsv(line);
+            if (columns.size() != CSV_COLUMNS) {
+                return new CsvRow(lineNumber, columns.isEmpty() ? "" : columns.get(0), "", "", null,
+                    "expected " + CSV_COLUMNS + " columns but found " + columns.size());
+            }
+            String franchise = columns.get(0);
+            String branch = columns.get(1);
+            String product = columns.get(2);
+            String stock = columns.get(3);
+
+            if (product.isEmpty()) {
+                return new CsvRow(lineNumber, franchise, branch, product, null, null);
+            }
+            try {
+                return new CsvRow(lineNumber, franchise, branch, product, Integer.parseInt(stock), null);
+            } catch (NumberFormatException e) {
+                return new CsvRow(lineNumber, franchise, branch, product, null, "stock '" + stock + "' is not an integer");
+            }
+        }
+
+        private static List<String> splitCsv(String line) {
+            List<String> columns = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    columns.add(current.toString().trim());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            columns.add(current.toString().trim());
+            return columns;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.nequi.franchise.infrastructure.adapter.output.cache;
+
+/**
+ * A value read from Redis and the size of its encoded form, or {@code -1} when the size is unknown.
+ */
+public record CacheEntry<T>(T value, int size) {
+}
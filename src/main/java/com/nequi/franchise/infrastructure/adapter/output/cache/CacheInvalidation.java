@@ -0,0 +1,32 @@
+package com.nequi.franchise.infrastructure.adapter.output.cache;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Message published on the invalidation channel when an instance writes or deletes cache keys, so the
+ * other instances drop them from their near cache. No keys means every key.
+ *
+ * <pre>
+ * origin\nkey\nkey...
+ * </pre>
+ */
+public record CacheInvalidation(String origin, List<String> keys) {
+
+    public static CacheInvalidation all(String origin) {
+        return new CacheInvalidation(origin, List.of());
+    }
+
+    public boolean isAll() {
+        return keys.isEmpty();
+    }
+
+    public String encode() {
+        return keys.isEmpty() ? origin : origin + "\n" + String.join("\n", keys);
+    }
+
+    public static CacheInvalidation parse(String message) {
+        String[] lines = message.split("\n");
+        return new CacheInvalidation(lines[0], List.of(Arrays.copyOfRange(lines, 1, lines.length)));
+    }
+}
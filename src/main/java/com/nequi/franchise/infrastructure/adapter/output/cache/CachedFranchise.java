@@ -0,0 +1,66 @@
+package com.nequi.franchise.infrastructure.adapter.output.cache;
+
+import com.nequi.franchise.domain.model.Branch;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cached form of a franchise aggregate. The domain model exposes derived getters and has no setters,
+ * so it does not round-trip through JSON; this snapshot holds only the stored state and carries the
+ * version it was read or written at.
+ */
+public record CachedFranchise(String id, String name, Long version, List<CachedBranch> branches) {
+
+    public record CachedBranch(String id, String name, List<CachedProduct> products) {
+    }
+
+    public record CachedProduct(String id, String name, Integer stock) {
+    }
+
+    public static CachedFranchise of(Franchise franchise) {
+        List<CachedBranch> branches = new ArrayList<>(franchise.getBranches().size());
+        for (Branch branch : franchise.getBranches()) {
+            List<CachedProduct> products = new ArrayList<>(branch.getProducts().size());
+            for (Product product : branch.getProducts()) {
+                products.add(new CachedProduct(product.getId(), product.getName(), product.getStock()));
+            }
+            branches.add(new CachedBranch(branch.getId(), branch.getName(), products));
+        }
+        return new CachedFranchise(franchise.getId(), franchise.getName(), franchise.getVersion(), branches);
+    }
+
+    /**
+     * Builds a fresh aggregate on every call, so callers may mutate what they get.
+     */
+    public Franchise toDomain() {
+        List<Branch> domainBranches = new ArrayList<>(branches == null ? 0 : branches.size());
+        if (branches != null) {
+            for (CachedBranch branch : branches) {
+                List<Product> products = new ArrayList<>(branch.products() == null ? 0 : branch.products().size());
+                if (branch.products() != null) {
+                    for (CachedProduct product : branch.products()) {
+                        products.add(Product.builder()
+                                .id(product.id())
+                                .name(product.name())
+                                .stock(product.stock())
+                                .build());
+                    }
+                }
+                domainBranches.add(Branch.builder()
+                        .id(branch.id())
+                        .name(branch.name())
+                        .products(products)
+                        .build());
+            }
+        }
+        return Franchise.builder()
+                .id(id)
+                .name(name)
+                .branches(domainBranches)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.nequi.franchise.infrastructure.adapter.output.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process cache bounded by total weight, backed by Caffeine: W-TinyLFU eviction, so a scan of
+ * one-off keys does not flush the hot set, and lock-free buffered reads, so hot keys read from many
+ * event loops do not contend.
+ *
+ * <p>Fills that race an invalidation are refused: callers take a {@link #stamp()} before reading the
+ * value from the slower tier and pass it to {@link #putIfNotInvalidatedSince}, which drops the value
+ * when the key (or the whole cache) was invalidated after the stamp. A fill and an invalidation of
+ * the same key are serialized by the map. Invalidated keys are remembered in a bounded cache; once
+ * one is forgotten, fills stamped before it are refused for every key.
+ */
+public class NearCache {
+
+    private static final long REMEMBERED_INVALIDATIONS = 16_384;
+
+    private record Entry(Object value, int weight) {
+    }
+
+    private final Duration ttl;
+    private final Cache<String, Entry> cache;
+    private final Cache<String, Long> invalidations;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong forgottenInvalidation = new AtomicLong();
+    private volatile long clearedAt;
+
+    public NearCache(long maximumWeight, Duration ttl) {
+        this(maximumWeight, ttl, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    NearCache(long maximumWeight, Duration ttl, Ticker ticker, Executor executor) {
+        this.ttl = ttl;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(Math.max(0, maximumWeight))
+                .weigher((String key, Entry entry) -> entry.weight())
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .executor(executor)
+                .recordStats()
+                .build();
+        // An invalidation only has to outlive the slower-tier reads in flight when it happened.
+        this.invalidations = Caffeine.newBuilder()
+                .maximumSize(REMEMBERED_INVALIDATIONS)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .executor(executor)
+                .evictionListener((String key, Long invalidatedAt, RemovalCause cause) ->
+                        forgottenInvalidation.accumulateAndGet(invalidatedAt, Math::max))
+                .build();
+    }
+
+    public Object get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        return entry == null ? null : entry.value();
+    }
+
+    /**
+     * Returns the value to pass to {@link #putIfNotInvalidatedSince} for a value about to be read.
+     */
+    public long stamp() {
+        return sequence.get();
+    }
+
+    /**
+     * Stores a value just written to the slower tier, replacing whatever a concurrent fill may store.
+     * A value the slower tier keeps for less than this cache's TTL is not stored.
+     */
+    public void replace(String key, Object value, long weight, Duration ttl) {
+        Entry entry = ttl.compareTo(this.ttl) < 0 ? null : new Entry(value, clamp(weight));
+        cache.asMap().compute(key, (k, current) -> {
+            invalidations.put(k, sequence.incrementAndGet());
+            return entry;
+        });
+    }
+
+    /**
+     * Stores a value read from the slower tier, unless the key was invalidated after {@code stamp}.
+     *
+     * @return whether the value was stored
+     */
+    public boolean putIfNotInvalidatedSince(String key, Object value, long weight, long stamp) {
+        if (isStale(stamp)) {
+            return false;
+        }
+        Entry entry = new Entry(value, clamp(weight));
+        Entry stored = cache.asMap().compute(key, (k, current) -> {
+            Long invalidatedAt = invalidations.getIfPresent(k);
+            return invalidatedAt != null && invalidatedAt > stamp ? current : entry;
+        });
+        if (stored != entry) {
+            return false;
+        }
+        // invalidateAll moves the watermark before clearing, so a fill it may have missed is caught here.
+        if (isStale(stamp)) {
+            cache.asMap().remove(key, entry);
+            return false;
+        }
+        return true;
+    }
+
+    public void invalidate(String key) {
+        cache.asMap().compute(key, (k, current) -> {
+            invalidations.put(k, sequence.incrementAndGet());
+            return null;
+        });
+    }
+
+    public void invalidateAll() {
+        clearedAt = sequence.incrementAndGet();
+        cache.invalidateAll();
+        invalidations.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public long weight() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    public long evictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    void cleanUp() {
+        cache.cleanUp();
+        invalidations.cleanUp();
+    }
+
+    private boolean isStale(long stamp) {
+        return stamp < clearedAt || stamp < forgottenInvalidation.get();
+    }
+
+    private static int clamp(long weight) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, weight));
+    }
+}
@@ -1,38 +1,73 @@
 package com.nequi.franchise.infrastructure.adapter.output.cache;
 
 import com.nequi.franchise.domain.port.output.CachePort;
+import com.nequi.franchise.infrastructure.adapter.output.cache.codec.EncodedValue;
 import com.nequi.franchise.infrastructure.config.CacheMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 public class RedisCacheAdapter implements CachePort {
 
     private static final Logger logger = LoggerFactory.getLogger(RedisCacheAdapter.class);
+    // Types without a registered codec are stored as untyped JSON and come back as maps, so they are converted.
+    private static final ObjectMapper objectMapper = new ObjectMapper();
 
     private final ReactiveRedisTemplate<String, Object> redisTemplate;
     private final CircuitBreaker circuitBreaker;
     private final CacheMetrics cacheMetrics;
+    private final long scanCount;
+    private final int unlinkBatchSize;
+    private final int unlinkConcurrency;
 
     public RedisCacheAdapter(
             ReactiveRedisTemplate<String, Object> redisTemplate,
             CircuitBreaker cacheCircuitBreaker,
-            CacheMetrics cacheMetrics) {
+            CacheMetrics cacheMetrics,
+            @Value("${cache.invalidation.scan-count:1000}") long scanCount,
+            @Value("${cache.invalidation.unlink-batch-size:500}") int unlinkBatchSize,
+            @Value("${cache.invalidation.unlink-concurrency:4}") int unlinkConcurrency) {
         this.redisTemplate = redisTemplate;
         this.circuitBreaker = cacheCircuitBreaker;
         this.cacheMetrics = cacheMetrics;
+        this.scanCount = scanCount;
+        this.unlinkBatchSize = unlinkBatchSize;
+        this.unlinkConcurrency = unlinkConcurrency;
     }
 
     @Override
     public <T> Mono<T> get(String key, Class<T> type) {
+        return getEntry(key, type).map(CacheEntry::value);
+    }
+
+    @Override
+    public <T> Mono<Map<String, T>> getAll(List<String> keys, Class<T> type) {
+        return getEntries(keys, type).map(entries -> {
+            Map<String, T> values = new LinkedHashMap<>();
+            entries.forEach((key, entry) -> values.put(key, entry.value()));
+            return values;
+        });
+    }
+
+    /**
+     * Like {@link #get(String, Class)}, also returning the encoded size of the value as Redis stores it.
+     */
+    public <T> Mono<CacheEntry<T>> getEntry(String key, Class<T> type) {
         Timer.Sample sample = cacheMetrics.startTimer();
         
         return redisTemplate.opsForValue()
@@ -42,7 +77,7 @@ public class RedisCacheAdapter implements CachePort {
                     logger.debug("Cache HIT for key: {}", key);
                     cacheMetrics.recordCacheHit();
                 })
-                .map(type::cast)
+                .map(value -> entry(value, type))
                 .doOnError(error -> {
                     logger.error("Cache GET error for key: {}. Error: {} - {}", 
                         key, error.getClass().getSimpleName(), error.getMessage());
@@ -61,6 +96,45 @@ public class RedisCacheAdapter implements CachePort {
                 .doFinally(signalType -> cacheMetrics.recordGetDuration(sample));
     }
 
+    /**
+     * Like {@link #getAll(List, Class)}, also returning the encoded size of each value.
+     */
+    public <T> Mono<Map<String, CacheEntry<T>>> getEntries(List<String> keys, Class<T> type) {
+        if (keys.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        Timer.Sample sample = cacheMetrics.startTimer();
+
+        return redisTemplate.opsForValue()
+                .multiGet(keys)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .map(values -> {
+                    Map<String, CacheEntry<T>> hits = new LinkedHashMap<>();
+                    for (int i = 0; i < keys.size(); i++) {
+                        Object value = i < values.size() ? values.get(i) : null;
+                        if (value != null) {
+                            hits.put(keys.get(i), entry(value, type));
+                            cacheMetrics.recordCacheHit();
+                        } else {
+                            cacheMetrics.recordCacheMiss();
+                        }
+                    }
+                    logger.debug("Cache MGET for {} keys: {} hits", keys.size(), hits.size());
+                    return hits;
+                })
+                .doOnError(error -> {
+                    logger.error("Cache MGET error for {} keys. Error: {} - {}",
+                        keys.size(), error.getClass().getSimpleName(), error.getMessage());
+                    cacheMetrics.recordCacheError();
+                })
+                .onErrorResume(error -> {
+                    logger.warn("Falling back to empty result for MGET of {} keys due to: {}",
+                        keys.size(), error.getMessage());
+                    return Mono.just(Map.of());
+                })
+                .doFinally(signalType -> cacheMetrics.recordGetDuration(sample));
+    }
+
     @Override
     public <T> Mono<Boolean> set(String key, T value, Duration ttl) {
         Timer.Sample sample = cacheMetrics.startTimer();
@@ -121,24 +195,62 @@ public class RedisCacheAdapter implements CachePort {
                 .doFinally(signalType -> cacheMetrics.recordDeleteDuration(sample));
     }
 
+    @Override
+    public Mono<Long> deleteAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Mono.just(0L);
+        }
+        Timer.Sample sample = cacheMetrics.startTimer();
+
+        return redisTemplate.delete(keys.toArray(String[]::new))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .doOnSuccess(count -> {
+                    logger.debug("Cache DEL for {} keys: {} deleted", keys.size(), count);
+                    if (count > 0) {
+                        cacheMetrics.recordCacheDeleteSuccess();
+                    }
+                })
+                .doOnError(error -> {
+                    logger.error("Cache DEL error for {} keys. Error: {} - {}",
+                        keys.size(), error.getClass().getSimpleName(), error.getMessage());
+                    cacheMetrics.recordCacheDeleteFailure();
+                    cacheMetrics.recordCacheError();
+                })
+                .onErrorResume(error -> {
+                    logger.warn("Falling back to 0 for DEL of {} keys due to: {}",
+                        keys.size(), error.getMessage());
+                    return Mono.just(0L);
+                })
+                .doFinally(signalType -> cacheMetrics.recordDeleteDuration(sample));
+    }
+
+    /**
+     * Walks the keyspace with cursor-based SCAN instead of KEYS, which would block Redis for the whole
+     * walk, and removes matches with UNLINK, which frees memory off the main thread. Keys are unlinked
+     * in batches of {@code unlinkBatchSize}, with up to {@code unlinkConcurrency} batches in flight,
+     * which the shared connection pipelines. A failed batch is logged and skipped, so the count
+     * returned only covers keys actually removed.
+     */
     @Override
     public Mono<Long> deleteByPattern(String pattern) {
         Timer.Sample sample = cacheMetrics.startTimer();
-        
-        return redisTemplate.keys(pattern)
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(scanCount).build();
+
+        return redisTemplate.scan(options)
                 .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
-                .flatMap(key -> redisTemplate.delete(key)
+                .buffer(unlinkBatchSize)
+                .doOnNext(batch -> cacheMetrics.recordInvalidationKeysScanned(batch.size()))
+                .flatMap(batch -> redisTemplate.unlink(batch.toArray(String[]::new))
                         .doOnNext(count -> {
-                            if (count > 0) {
-                                logger.debug("Deleted key: {} (pattern: {})", key, pattern);
-                            }
+                            cacheMetrics.recordInvalidationKeysUnlinked(count);
+                            logger.debug("Unlinked {} of {} keys (pattern: {})", count, batch.size(), pattern);
                         })
                         .onErrorResume(error -> {
-                            logger.error("Error deleting key: {} (pattern: {}). Error: {}", 
-                                key, pattern, error.getMessage());
+                            logger.error("Error unlinking {} keys (pattern: {}). Error: {}",
+                                batch.size(), pattern, error.getMessage());
+                            cacheMetrics.recordCacheDeleteFailure();
                             return Mono.just(0L);
-                        })
-                )
+                        }), unlinkConcurrency)
                 .reduce(0L, Long::sum)
                 .doOnSuccess(count -> {
                     logger.info("Cache DELETE by pattern: {} - Deleted {} keys", pattern, count);
@@ -157,6 +269,48 @@ public class RedisCacheAdapter implements CachePort {
                         pattern, error.getMessage());
                     return Mono.just(0L);
                 })
-                .doFinally(signalType -> cacheMetrics.recordDeleteDuration(sample));
+                .doFinally(signalType -> cacheMetrics.recordInvalidationDuration(sample));
+    }
+
+    /**
+     * Seeds a missing counter with SET NX before the INCR. The seed is written as bare decimal digits,
+     * which INCR requires, instead of through the codec. A counter that expires between the two
+     * commands is still recreated from zero by the INCR.
+     */
+    @Override
+    public Mono<Long> increment(String key, Duration ttl) {
+        Timer.Sample sample = cacheMetrics.startTimer();
+
+        return redisTemplate.opsForValue()
+                .setIfAbsent(key, counter(System.currentTimeMillis()), ttl)
+                .then(Mono.defer(() -> redisTemplate.opsForValue().increment(key)))
+                .flatMap(value -> redisTemplate.expire(key, ttl).thenReturn(value))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .doOnSuccess(value -> logger.debug("Cache INCR for key: {} -> {}", key, value))
+                .doOnError(error -> {
+                    logger.error("Cache INCR error for key: {}. Error: {} - {}",
+                        key, error.getClass().getSimpleName(), error.getMessage());
+                    cacheMetrics.recordCacheError();
+                })
+                .doFinally(signalType -> cacheMetrics.recordSetDuration(sample));
+    }
+
+    private static EncodedValue counter(long value) {
+        return new EncodedValue(value, Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static <T> CacheEntry<T> entry(Object value, Class<T> type) {
+        if (value instanceof EncodedValue encoded) {
+            return new CacheEntry<>(convert(encoded.value(), type), encoded.size());
+        }
+        // Counters written by INCR are stored as their decimal digits, so their size is known too.
+        if (value instanceof Long || value instanceof Integer) {
+            return new CacheEntry<>(convert(value, type), value.toString().length());
+        }
+        return new CacheEntry<>(convert(value, type), -1);
+    }
+
+    private static <T> T convert(Object value, Class<T> type) {
+        return type.isInstance(value) ? type.cast(value) : objectMapper.convertValue(value, type);
     }
 }
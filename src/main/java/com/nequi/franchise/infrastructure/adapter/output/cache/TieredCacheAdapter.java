@@ -0,0 +1,203 @@
+package com.nequi.franchise.infrastructure.adapter.output.cache;
+
+import com.nequi.franchise.domain.port.output.CachePort;
+import com.nequi.franchise.infrastructure.adapter.output.cache.codec.CacheCodecRegistry;
+import com.nequi.franchise.infrastructure.adapter.output.cache.codec.EncodedValue;
+import com.nequi.franchise.infrastructure.config.CacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Puts a {@link NearCache} in front of the Redis cache. Reads are served from process memory when
+ * possible and fill it from Redis otherwise; writes and deletes go to Redis first, then update this
+ * instance's near cache and publish a {@link CacheInvalidation} so every other instance drops the keys
+ * from theirs. Entries are weighed by their encoded size, taken from the Redis read or from the single
+ * encoding a write does.
+ *
+ * <p>Redis pub/sub does not queue messages for disconnected subscribers, and the client reconnects
+ * silently, so the near cache is cleared on every connection event the client reports, as well as
+ * when the subscription itself fails. Entries also expire after a short TTL that bounds how stale a
+ * value can get if a message is lost anyway.
+ */
+public class TieredCacheAdapter implements CachePort, InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(TieredCacheAdapter.class);
+
+    private final RedisCacheAdapter delegate;
+    private final NearCache nearCache;
+    private final CacheCodecRegistry codecRegistry;
+    private final ReactiveStringRedisTemplate pubSubTemplate;
+    private final Flux<?> connectionEvents;
+    private final String channel;
+    private final CacheMetrics cacheMetrics;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    /**
+     * @param connectionEvents emits whenever a Redis connection is lost or re-established
+     */
+    public TieredCacheAdapter(RedisCacheAdapter delegate, NearCache nearCache, CacheCodecRegistry codecRegistry,
+                              ReactiveStringRedisTemplate pubSubTemplate, Flux<?> connectionEvents, String channel,
+                              CacheMetrics cacheMetrics) {
+        this.delegate = delegate;
+        this.nearCache = nearCache;
+        this.codecRegistry = codecRegistry;
+        this.pubSubTemplate = pubSubTemplate;
+        this.connectionEvents = connectionEvents;
+        this.channel = channel;
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        subscriptions.add(pubSubTemplate.listenToChannel(channel)
+                .doOnSubscribe(s -> logger.info("Listening for cache invalidations on channel: {}", channel))
+                .doOnError(error -> {
+                    logger.warn("Cache invalidation subscription failed, clearing near cache: {}", error.getMessage());
+                    nearCache.invalidateAll();
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(message -> apply(CacheInvalidation.parse(message.getMessage()))));
+        subscriptions.add(connectionEvents.subscribe(event -> {
+            logger.info("Redis connection event {}, clearing near cache", event.getClass().getSimpleName());
+            nearCache.invalidateAll();
+        }));
+    }
+
+    @Override
+    public void destroy() {
+        subscriptions.dispose();
+    }
+
+    void apply(CacheInvalidation invalidation) {
+        if (instanceId.equals(invalidation.origin())) {
+            return;
+        }
+        if (invalidation.isAll()) {
+            nearCache.invalidateAll();
+        } else {
+            invalidation.keys().forEach(nearCache::invalidate);
+        }
+    }
+
+    @Override
+    public <T> Mono<T> get(String key, Class<T> type) {
+        Object cached = nearCache.get(key);
+        if (type.isInstance(cached)) {
+            cacheMetrics.recordNearCacheHit();
+            return Mono.just(type.cast(cached));
+        }
+        cacheMetrics.recordNearCacheMiss();
+        long stamp = nearCache.stamp();
+        return delegate.getEntry(key, type)
+                .doOnNext(entry -> fill(key, entry, stamp))
+                .map(CacheEntry::value);
+    }
+
+    @Override
+    public <T> Mono<Map<String, T>> getAll(List<String> keys, Class<T> type) {
+        Map<String, T> hits = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String key : keys) {
+            Object cached = nearCache.get(key);
+            if (type.isInstance(cached)) {
+                hits.put(key, type.cast(cached));
+            } else {
+                missing.add(key);
+            }
+        }
+        cacheMetrics.recordNearCacheLookups(hits.size(), missing.size());
+        if (missing.isEmpty()) {
+            return Mono.just(hits);
+        }
+        long stamp = nearCache.stamp();
+        return delegate.getEntries(missing, type)
+                .map(found -> {
+                    found.forEach((key, entry) -> fill(key, entry, stamp));
+                    // Keep the caller's key order, as the Redis adapter does.
+                    Map<String, T> merged = new LinkedHashMap<>();
+                    for (String key : keys) {
+                        T value = hits.containsKey(key) ? hits.get(key)
+                                : found.containsKey(key) ? found.get(key).value() : null;
+                        if (value != null) {
+                            merged.put(key, value);
+                        }
+                    }
+                    return merged;
+                });
+    }
+
+    @Override
+    public <T> Mono<Boolean> set(String key, T value, Duration ttl) {
+        EncodedValue encoded = new EncodedValue(value, codecRegistry.encode(value));
+        return delegate.set(key, encoded, ttl)
+                .doOnNext(stored -> {
+                    if (stored) {
+                        nearCache.replace(key, value, encoded.size(), ttl);
+                    } else {
+                        nearCache.invalidate(key);
+                    }
+                })
+                .flatMap(stored -> publish(List.of(key)).thenReturn(stored));
+    }
+
+    @Override
+    public Mono<Boolean> delete(String key) {
+        return delegate.delete(key)
+                .doOnNext(deleted -> nearCache.invalidate(key))
+                .flatMap(deleted -> publish(List.of(key)).thenReturn(deleted));
+    }
+
+    @Override
+    public Mono<Long> deleteAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return delegate.deleteAll(keys)
+                .doOnNext(count -> keys.forEach(nearCache::invalidate))
+                .flatMap(count -> publish(keys).thenReturn(count));
+    }
+
+    @Override
+    public Mono<Long> deleteByPattern(String pattern) {
+        return delegate.deleteByPattern(pattern)
+                .doOnNext(count -> nearCache.invalidateAll())
+                .flatMap(count -> publish(List.of()).thenReturn(count));
+    }
+
+    @Override
+    public Mono<Long> increment(String key, Duration ttl) {
+        return delegate.increment(key, ttl)
+                .doOnNext(value -> nearCache.invalidate(key))
+                .flatMap(value -> publish(List.of(key)).thenReturn(value));
+    }
+
+    private void fill(String key, CacheEntry<?> entry, long stamp) {
+        if (entry.size() >= 0) {
+            nearCache.putIfNotInvalidatedSince(key, entry.value(), entry.size(), stamp);
+        }
+    }
+
+    private Mono<Void> publish(List<String> keys) {
+        return pubSubTemplate.convertAndSend(channel, new CacheInvalidation(instanceId, keys).encode())
+                .doOnError(error -> logger.warn("Failed to publish invalidation of {} cache keys: {}",
+                        keys.isEmpty() ? "all" : keys.size(), error.getMessage()))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+}
@@ -0,0 +1,32 @@
+package com.nequi.franchise.infrastructure.adapter.output.cache.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary encoding of one cached type. The registry frames every payload with the codec's type id and
+ * the schema version it was written with, so a codec can keep reading older versions after its format
+ * changes, and a value is never decoded as the wrong type.
+ *
+ * @param <T> the cached type
+ */
+public interface CacheCodec<T> {
+
+    Class<T> type();
+
+    /**
+     * Identifies the type on the wire. Must be unique, positive and never reused for another type.
+     */
+    byte typeId();
+
+    /**
+     * Version written with every new payload.
+     */
+    byte schemaVersion();
+
+    byte[] encode(T value);
+
+    /**
+     * @throws IllegalStateException when the payload is malformed or {@code schemaVersion} is unknown
+     */
+    T decode(ByteBuffer payload, byte schemaVersion);
+}
@@ -0,0 +1,123 @@
+package com.nequi.franchise.infrastructure.adapter.output.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes cache values with the codec registered for their type and frames them so they can be
+ * decoded without knowing the type up front:
+ *
+ * <pre>
+ * byte  magic (0xC1)
+ * byte  type id           -- 0 for values without a codec, written as JSON
+ * byte  schema version
+ * ...   payload
+ * </pre>
+ *
+ * <p>Values written before the envelope existed are plain JSON, which never starts with the magic
+ * byte, and are still read as JSON. Values without a codec come back untyped, as the JSON serializer
+ * returned them. An unknown type id or schema version fails the read, which the cache adapter treats
+ * as a miss, so entries written by a newer release are reloaded and overwritten rather than misread.
+ */
+@Component
+public class CacheCodecRegistry {
+
+    static final byte MAGIC = (byte) 0xC1;
+    static final byte JSON_TYPE_ID = 0;
+    static final byte JSON_SCHEMA_VERSION = 1;
+    private static final int HEADER_SIZE = 3;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final Map<Class<?>, CacheCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Byte, CacheCodec<?>> codecsById = new HashMap<>();
+
+    public CacheCodecRegistry(List<CacheCodec<?>> codecs) {
+        for (CacheCodec<?> codec : codecs) {
+            if (codec.typeId() <= JSON_TYPE_ID) {
+                throw new IllegalArgumentException("Cache codec type ids must be positive: " + codec.type().getName());
+            }
+            CacheCodec<?> previous = codecsById.putIfAbsent(codec.typeId(), codec);
+            if (previous != null) {
+                throw new IllegalArgumentException("Cache codec type id " + codec.typeId() + " is used by both "
+                        + previous.type().getName() + " and " + codec.type().getName());
+            }
+            if (codecsByType.putIfAbsent(codec.type(), codec) != null) {
+                throw new IllegalArgumentException("More than one cache codec for " + codec.type().getName());
+            }
+        }
+    }
+
+    public byte[] encode(Object value) {
+        CacheCodec<?> codec = codecsByType.get(value.getClass());
+        if (codec == null) {
+            return frame(JSON_TYPE_ID, JSON_SCHEMA_VERSION, writeJson(value));
+        }
+        return frame(codec.typeId(), codec.schemaVersion(), encodeWith(codec, value));
+    }
+
+    public Object decode(byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] != MAGIC) {
+            return readJson(bytes, 0);
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new IllegalStateException("Truncated cache value");
+        }
+        byte typeId = bytes[1];
+        byte schemaVersion = bytes[2];
+        if (typeId == JSON_TYPE_ID) {
+            if (schemaVersion != JSON_SCHEMA_VERSION) {
+                throw new IllegalStateException("Unsupported JSON cache schema version: " + schemaVersion);
+            }
+            return readJson(bytes, HEADER_SIZE);
+        }
+        CacheCodec<?> codec = codecsById.get(typeId);
+        if (codec == null) {
+            throw new IllegalStateException("Unknown cache type id: " + typeId);
+        }
+        ByteBuffer payload = ByteBuffer.wrap(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+        try {
+            return codec.decode(payload, schemaVersion);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalStateException("Malformed cached " + codec.type().getSimpleName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> byte[] encodeWith(CacheCodec<T> codec, Object value) {
+        return codec.encode((T) value);
+    }
+
+    private static byte[] frame(byte typeId, byte schemaVersion, byte[] payload) {
+        byte[] framed = new byte[HEADER_SIZE + payload.length];
+        framed[0] = MAGIC;
+        framed[1] = typeId;
+        framed[2] = schemaVersion;
+        System.arraycopy(payload, 0, framed, HEADER_SIZE, payload.length);
+        return framed;
+    }
+
+    private static byte[] writeJson(Object value) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write cache value as JSON", e);
+        }
+    }
+
+    private static Object readJson(byte[] bytes, int offset) {
+        try {
+            return OBJECT_MAPPER.readValue(bytes, offset, bytes.length - offset, Object.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read cache value as JSON", e);
+        }
+    }
+}
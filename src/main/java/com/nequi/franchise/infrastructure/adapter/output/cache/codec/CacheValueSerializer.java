@@ -0,0 +1,44 @@
+package com.nequi.franchise.infrastructure.adapter.output.cache.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Redis value serializer backed by the {@link CacheCodecRegistry}. Values are read back wrapped in an
+ * {@link EncodedValue}, and an {@link EncodedValue} is written without encoding it again.
+ */
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+    private final CacheCodecRegistry registry;
+
+    public CacheValueSerializer(CacheCodecRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (value instanceof EncodedValue encoded) {
+            return encoded.bytes();
+        }
+        try {
+            return registry.encode(value);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not encode cache value of type " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return new EncodedValue(registry.decode(bytes), bytes);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not decode cache value", e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.nequi.franchise.infrastructure.adapter.output.cache.codec;
+
+import com.nequi.franchise.infrastructure.adapter.output.cache.CachedFranchise;
+import com.nequi.franchise.infrastructure.adapter.output.cache.CachedFranchise.CachedBranch;
+import com.nequi.franchise.infrastructure.adapter.output.cache.CachedFranchise.CachedProduct;
+import com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.NameDictionary;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.readId;
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.readNames;
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.readStock;
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.readString;
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.readVarint;
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.readVarlong;
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.writeId;
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.writeStock;
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.writeString;
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.writeVarint;
+
+/**
+ * Schema 1 of a cached franchise. Not compressed: entries are read on every cache hit, and the name
+ * dictionary and packed ids already remove most of what deflate would.
+ *
+ * <pre>
+ * id, string name, varint (version + 1), 0 meaning no version
+ * varint nameCount, nameCount x string          -- every distinct branch/product name once
+ * varint branchCount
+ * per branch:  id, varint nameIndex, varint productCount
+ * per product: id, varint nameIndex, varint (stock + 1), 0 meaning no stock
+ * </pre>
+ */
+@Component
+public class CachedFranchiseCodec implements CacheCodec<CachedFranchise> {
+
+    public static final byte TYPE_ID = 1;
+    public static final byte SCHEMA_VERSION = 1;
+
+    @Override
+    public Class<CachedFranchise> type() {
+        return CachedFranchise.class;
+    }
+
+    @Override
+    public byte typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public byte schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public byte[] encode(CachedFranchise franchise) {
+        List<CachedBranch> branches = franchise.branches() == null ? List.of() : franchise.branches();
+        NameDictionary dictionary = new NameDictionary();
+        for (CachedBranch branch : branches) {
+            dictionary.add(branch.name());
+            for (CachedProduct product : productsOf(branch)) {
+                dictionary.add(product.name());
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + 32 * branches.size());
+        writeId(out, franchise.id());
+        writeString(out, nullToEmpty(franchise.name()));
+        writeVarint(out, franchise.version() == null ? 0 : franchise.version() + 1);
+        dictionary.writeTo(out);
+        writeVarint(out, branches.size());
+        for (CachedBranch branch : branches) {
+            writeId(out, branch.id());
+            dictionary.writeIndex(out, branch.name());
+            List<CachedProduct> products = productsOf(branch);
+            writeVarint(out, products.size());
+            for (CachedProduct product : products) {
+                writeId(out, product.id());
+                dictionary.writeIndex(out, product.name());
+                writeStock(out, product.stock());
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public CachedFranchise decode(ByteBuffer in, byte schemaVersion) {
+        if (schemaVersion != SCHEMA_VERSION) {
+            throw new IllegalStateException("Unsupported cached franchise schema version: " + schemaVersion);
+        }
+        String id = readId(in);
+        String name = readString(in);
+        long version = readVarlong(in);
+        List<String> names = readNames(in);
+
+        int branchCount = readVarint(in);
+        List<CachedBranch> branches = new ArrayList<>(branchCount);
+        for (int b = 0; b < branchCount; b++) {
+            String branchId = readId(in);
+            String branchName = names.get(readVarint(in));
+            int productCount = readVarint(in);
+            List<CachedProduct> products = new ArrayList<>(productCount);
+            for (int p = 0; p < productCount; p++) {
+                String productId = readId(in);
+                String productName = names.get(readVarint(in));
+                products.add(new CachedProduct(productId, productName, readStock(in)));
+            }
+            branches.add(new CachedBranch(branchId, branchName, products));
+        }
+        return new CachedFranchise(id, name, version == 0 ? null : version - 1, branches);
+    }
+
+    private static List<CachedProduct> productsOf(CachedBranch branch) {
+        return branch.products() == null ? List.of() : branch.products();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,13 @@
+package com.nequi.franchise.infrastructure.adapter.output.cache.codec;
+
+/**
+ * A cache value together with its encoded bytes. {@link CacheValueSerializer} writes the bytes as they
+ * are, so a caller that already encoded a value does not pay for it twice, and wraps every value it
+ * reads in one, so callers can tell how large the stored value is without encoding it again.
+ */
+public record EncodedValue(Object value, byte[] bytes) {
+
+    public int size() {
+        return bytes.length;
+    }
+}
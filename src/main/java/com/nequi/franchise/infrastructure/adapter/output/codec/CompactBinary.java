@@ -0,0 +1,165 @@
+package com.nequi.franchise.infrastructure.adapter.output.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Primitives shared by the branches attribute encoding and the cache codecs, so both write the same
+ * wire form:
+ *
+ * <pre>
+ * varint: 7 bits per byte, least significant group first
+ * string: varint byte length + UTF-8 bytes
+ * id:     tag 1 + 16 bytes for canonical UUIDs, tag 0 + string otherwise
+ * names:  varint nameCount, nameCount x string  -- see {@link NameDictionary}
+ * stock:  varint (stock + 1), 0 meaning no stock
+ * </pre>
+ */
+public final class CompactBinary {
+
+    public static final Pattern CANONICAL_UUID =
+            Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+    private static final int ID_STRING = 0;
+    private static final int ID_UUID = 1;
+
+    private CompactBinary() {
+    }
+
+    public static void writeId(ByteArrayOutputStream out, String id) {
+        if (id != null && CANONICAL_UUID.matcher(id).matches()) {
+            UUID uuid = UUID.fromString(id);
+            out.write(ID_UUID);
+            writeLong(out, uuid.getMostSignificantBits());
+            writeLong(out, uuid.getLeastSignificantBits());
+        } else {
+            out.write(ID_STRING);
+            writeString(out, id == null ? "" : id);
+        }
+    }
+
+    public static String readId(ByteBuffer in) {
+        int tag = in.get();
+        if (tag == ID_UUID) {
+            return new UUID(in.getLong(), in.getLong()).toString();
+        }
+        if (tag != ID_STRING) {
+            throw new IllegalStateException("Unknown id tag in compact encoding: " + tag);
+        }
+        return readString(in);
+    }
+
+    public static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    public static String readString(ByteBuffer in) {
+        int length = readVarint(in);
+        if (!in.hasArray()) {
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    /**
+     * Writes a stock count. Widened before adding one, so {@link Integer#MAX_VALUE} does not wrap.
+     */
+    public static void writeStock(ByteArrayOutputStream out, Integer stock) {
+        writeVarint(out, stock == null ? 0 : (long) stock + 1);
+    }
+
+    public static Integer readStock(ByteBuffer in) {
+        long stock = readVarlong(in);
+        // Negative stocks were written as 32-bit varints before the encoding was shared; the cast
+        // restores them as well as the 64-bit form.
+        return stock == 0 ? null : (int) (stock - 1);
+    }
+
+    public static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    public static int readVarint(ByteBuffer in) {
+        long value = readVarlong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Varint out of range in compact encoding");
+        }
+        return (int) value;
+    }
+
+    public static long readVarlong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in compact encoding");
+    }
+
+    public static List<String> readNames(ByteBuffer in) {
+        int nameCount = readVarint(in);
+        List<String> names = new ArrayList<>(nameCount);
+        for (int i = 0; i < nameCount; i++) {
+            names.add(readString(in));
+        }
+        return names;
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    /**
+     * Every distinct branch and product name once, in first-seen order; rows then refer to a name by
+     * its index. A null name is stored as the empty string.
+     */
+    public static final class NameDictionary {
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+
+        public void add(String name) {
+            indexes.computeIfAbsent(nullToEmpty(name), key -> {
+                names.add(key);
+                return names.size() - 1;
+            });
+        }
+
+        public void writeTo(ByteArrayOutputStream out) {
+            writeVarint(out, names.size());
+            for (String name : names) {
+                writeString(out, name);
+            }
+        }
+
+        public void writeIndex(ByteArrayOutputStream out, String name) {
+            writeVarint(out, indexes.get(nullToEmpty(name)));
+        }
+
+        private static String nullToEmpty(String value) {
+            return value == null ? "" : value;
+        }
+    }
+}
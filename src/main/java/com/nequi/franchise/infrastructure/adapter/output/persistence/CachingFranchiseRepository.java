@@ -0,0 +1,244 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence;
+
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.domain.model.FranchiseSummary;
+import com.nequi.franchise.domain.model.Page;
+import com.nequi.franchise.domain.model.StockUpdate;
+import com.nequi.franchise.domain.port.output.CachePort;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import com.nequi.franchise.infrastructure.adapter.output.cache.CachedFranchise;
+import com.nequi.franchise.infrastructure.config.CacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Keeps whole franchise aggregates in the cache, under keys that embed a per-franchise generation:
+ * {@code franchise:<id>:generation} holds a counter, and the aggregate read at generation {@code g}
+ * is stored under {@code franchise:<id>:g<g>}. Every write bumps the counter after it reaches the
+ * delegate, which makes whatever was cached for the franchise unreachable in one increment, without
+ * deleting anything. Writes never store what they wrote: two writers can bump the counter in a
+ * different order than they committed, so only a read, which takes the generation before loading
+ * from the delegate, knows which generation its aggregate belongs to. A fill that raced a write
+ * lands under a generation nobody reads any more instead of serving the older version until it
+ * expires. Anything else derived from a franchise and cached should embed the generation the same way.
+ * Listings and scans always go to the delegate.
+ *
+ * <p>The cache is best effort: a failing cache call is logged and the operation carries on with the
+ * delegate's result. Unreachable entries expire after {@code ttl} and counters after twice that, but
+ * an entry filled just before its counter expired can outlive it. A counter created again therefore
+ * starts from the current time in milliseconds, past every generation it handed out before, rather
+ * than from zero, so it cannot make such an entry reachable again.
+ */
+public class CachingFranchiseRepository implements FranchiseRepositoryPort {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingFranchiseRepository.class);
+    private static final String KEY_PREFIX = "franchise:";
+
+    private final FranchiseRepositoryPort delegate;
+    private final CachePort cachePort;
+    private final CacheMetrics metrics;
+    private final Duration ttl;
+    private final Duration generationTtl;
+
+    public CachingFranchiseRepository(FranchiseRepositoryPort delegate, CachePort cachePort, CacheMetrics metrics,
+                                      Duration ttl) {
+        this.delegate = delegate;
+        this.cachePort = cachePort;
+        this.metrics = metrics;
+        this.ttl = ttl;
+        this.generationTtl = ttl.multipliedBy(2);
+    }
+
+    public static String generationKey(String franchiseId) {
+        return KEY_PREFIX + franchiseId + ":generation";
+    }
+
+    public static String key(String franchiseId, long generation) {
+        return KEY_PREFIX + franchiseId + ":g" + generation;
+    }
+
+    @Override
+    public Mono<Franchise> findById(String id) {
+        return generation(id)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(generation -> generation.isPresent()
+                        ? findCached(id, generation.get())
+                        : delegate.findById(id));
+    }
+
+    @Override
+    public Mono<Franchise> findById(String id, FranchiseProjection projection) {
+        return projection.isFull() ? findById(id) : delegate.findById(id, projection);
+    }
+
+    @Override
+    public Flux<Franchise> findAllByIds(Collection<String> ids) {
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinctIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return generations(distinctIds)
+                .flatMapMany(generations -> {
+                    List<String> keys = generations.entrySet().stream()
+                            .map(entry -> key(entry.getKey(), entry.getValue()))
+                            .toList();
+                    return cachePort.getAll(keys, CachedFranchise.class)
+                            .onErrorResume(error -> {
+                                LOGGER.warn("Failed to read {} cached franchises: {}", keys.size(), error.getMessage());
+                                return Mono.just(Map.of());
+                            })
+                            .flatMapMany(hits -> {
+                                // Ids whose generation could not be read or created are loaded without caching them.
+                                List<String> missingIds = distinctIds.stream()
+                                        .filter(id -> !generations.containsKey(id)
+                                                || !hits.containsKey(key(id, generations.get(id))))
+                                        .toList();
+                                metrics.recordFranchiseLookups(hits.size(), missingIds.size());
+
+                                Flux<Franchise> cached = Flux.fromIterable(hits.values()).map(CachedFranchise::toDomain);
+                                if (missingIds.isEmpty()) {
+                                    return cached;
+                                }
+                                return cached.concatWith(delegate.findAllByIds(missingIds)
+                                        .flatMap(franchise -> {
+                                            Long generation = generations.get(franchise.getId());
+                                            return generation == null ? Mono.just(franchise) : put(franchise, generation);
+                                        }));
+                            });
+                });
+    }
+
+    @Override
+    public Mono<Franchise> save(Franchise franchise) {
+        return delegate.save(franchise)
+                .flatMap(saved -> bump(saved.getId()).thenReturn(saved));
+    }
+
+    @Override
+    public Mono<Void> saveAll(List<Franchise> franchises) {
+        return delegate.saveAll(franchises)
+                .then(Mono.defer(() -> Flux.fromIterable(franchises)
+                        .flatMap(franchise -> bump(franchise.getId()))
+                        .then()));
+    }
+
+    @Override
+    public Mono<Franchise> update(String id, Consumer<Franchise> mutation) {
+        return delegate.update(id, mutation)
+                .flatMap(franchise -> bump(id).thenReturn(franchise));
+    }
+
+    @Override
+    public Mono<Franchise> update(String id, FranchiseProjection projection, Consumer<Franchise> mutation) {
+        if (projection.isFull()) {
+            return update(id, mutation);
+        }
+        return delegate.update(id, projection, mutation)
+                .flatMap(franchise -> bump(id).thenReturn(franchise));
+    }
+
+    @Override
+    public Mono<StockUpdate> updateProductStock(String franchiseId, String branchId, String productId, Integer newStock) {
+        return delegate.updateProductStock(franchiseId, branchId, productId, newStock)
+                .flatMap(stockUpdate -> bump(franchiseId).thenReturn(stockUpdate));
+    }
+
+    @Override
+    public Mono<Void> delete(String id) {
+        return delegate.delete(id)
+                .then(Mono.defer(() -> bump(id).then()));
+    }
+
+    @Override
+    public Mono<Void> delete(String id, long expectedVersion) {
+        return delegate.delete(id, expectedVersion)
+                .then(Mono.defer(() -> bump(id).then()));
+    }
+
+    @Override
+    public Mono<Page<Franchise>> findAll(Integer pageSize, String cursor) {
+        return delegate.findAll(pageSize, cursor);
+    }
+
+    @Override
+    public Mono<Page<FranchiseSummary>> findSummaries(Integer pageSize, String cursor) {
+        return delegate.findSummaries(pageSize, cursor);
+    }
+
+    @Override
+    public Flux<Franchise> streamAll() {
+        return delegate.streamAll();
+    }
+
+    private Mono<Franchise> findCached(String id, long generation) {
+        return cachePort.get(key(id, generation), CachedFranchise.class)
+                .onErrorResume(error -> {
+                    LOGGER.warn("Failed to read cached franchise {}: {}", id, error.getMessage());
+                    return Mono.empty();
+                })
+                .map(cached -> {
+                    metrics.recordFranchiseLookup(true);
+                    return cached.toDomain();
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    metrics.recordFranchiseLookup(false);
+                    return delegate.findById(id).flatMap(franchise -> put(franchise, generation));
+                }));
+    }
+
+    /**
+     * Returns the franchise's current generation, creating the counter when there is none, seeded as
+     * {@link CachePort#increment} describes. Empty when the cache cannot provide one, in which case the
+     * caller must not read or fill the cache.
+     */
+    private Mono<Long> generation(String id) {
+        return cachePort.get(generationKey(id), Long.class)
+                .onErrorResume(error -> Mono.empty())
+                .switchIfEmpty(Mono.defer(() -> bump(id)));
+    }
+
+    private Mono<Map<String, Long>> generations(List<String> ids) {
+        List<String> keys = ids.stream().map(CachingFranchiseRepository::generationKey).toList();
+        return cachePort.getAll(keys, Long.class)
+                .onErrorResume(error -> Mono.just(Map.of()))
+                .flatMap(found -> Flux.fromIterable(ids)
+                        .flatMap(id -> {
+                            Long generation = found.get(generationKey(id));
+                            return (generation != null ? Mono.just(generation) : bump(id))
+                                    .map(value -> Map.entry(id, value));
+                        })
+                        .collectMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private Mono<Franchise> put(Franchise franchise, long generation) {
+        return cachePort.set(key(franchise.getId(), generation), CachedFranchise.of(franchise), ttl)
+                .doOnError(error -> LOGGER.warn("Failed to cache franchise {}: {}", franchise.getId(), error.getMessage()))
+                .onErrorReturn(false)
+                .thenReturn(franchise);
+    }
+
+    /**
+     * Makes everything cached for the franchise unreachable. Empty when the counter could not be moved,
+     * which leaves the previous entry readable until it expires.
+     */
+    private Mono<Long> bump(String id) {
+        return cachePort.increment(generationKey(id), generationTtl)
+                .onErrorResume(error -> {
+                    LOGGER.warn("Failed to bump cache generation of franchise {}: {}", id, error.getMessage());
+                    return Mono.empty();
+                });
+    }
+}
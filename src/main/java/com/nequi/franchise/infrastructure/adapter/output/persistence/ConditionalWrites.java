@@ -0,0 +1,45 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence;
+
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+import java.util.Map;
+
+public final class ConditionalWrites {
+
+    public static final String VERSION_ATTRIBUTE = "version";
+    private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+
+    private ConditionalWrites() {
+    }
+
+    public static Expression versionCondition(long expectedVersion) {
+        String expression = expectedVersion == 0L
+                ? "attribute_not_exists(#version) OR #version = :expectedVersion"
+                : "#version = :expectedVersion";
+
+        return Expression.builder()
+                .expression(expression)
+                .expressionNames(Map.of("#version", VERSION_ATTRIBUTE))
+                .expressionValues(Map.of(":expectedVersion",
+                        AttributeValue.builder().n(String.valueOf(expectedVersion)).build()))
+                .build();
+    }
+
+    public static boolean isConditionFailure(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof ConditionalCheckFailedException) {
+                return true;
+            }
+            if (current instanceof TransactionCanceledException canceled && canceled.hasCancellationReasons()) {
+                return canceled.cancellationReasons().stream()
+                        .anyMatch(reason -> CONDITIONAL_CHECK_FAILED.equals(reason.code()));
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return false;
+    }
+}
@@ -1,103 +1,328 @@
 package com.nequi.franchise.infrastructure.adapter.output.persistence;
 
+import com.nequi.franchise.domain.exception.FranchiseTooLargeException;
 import com.nequi.franchise.domain.exception.OptimisticLockException;
 import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.domain.model.FranchiseSummary;
 import com.nequi.franchise.domain.model.Page;
 import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.batch.BatchReader;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.batch.BatchWriter;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.capacity.CapacityAttribution;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.codec.BranchesCodec;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.EntitySchemas;
 import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
 import com.nequi.franchise.infrastructure.adapter.output.persistence.mapper.FranchiseMapper;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.overflow.FranchiseOverflow;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.overflow.ItemSizeEstimator;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.overflow.OverflowStore;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.retry.DynamoDBRetryPolicy;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.scan.ParallelScanner;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.scan.ScanSettings;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
 import com.nequi.franchise.infrastructure.util.CursorUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
-import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
+/**
+ * Stores each franchise as one item keyed by id. Every write estimates the item size first; above
+ * {@code aws.dynamodb.overflow.threshold-bytes} the largest branches are spilled into linked overflow
+ * items (see {@link FranchiseOverflow}) and reassembled on read, so a franchise keeps accepting writes
+ * past DynamoDB's 400 KB item limit.
+ */
 @Component
+@ConditionalOnProperty(name = "aws.dynamodb.layout", havingValue = "aggregate", matchIfMissing = true)
+@Profile("!in-memory")
 public class DynamoDBFranchiseAdapter implements FranchiseRepositoryPort {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DynamoDBFranchiseAdapter.class);
-    private static final int MAX_RETRY_ATTEMPTS = 3;
-    private static final long RETRY_DELAY_MS = 100;
+    private static final int BATCH_GET_CONCURRENCY = 4;
+    private static final List<String> HEADER_ATTRIBUTES = List.of("id", "name", "version");
 
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final String tableName;
     private final DynamoDbAsyncTable<FranchiseEntity> franchiseTable;
     private final FranchiseMapper franchiseMapper;
+    private final BatchReader<FranchiseEntity> batchReader;
+    private final BatchWriter<FranchiseEntity> batchWriter;
+    private final DynamoDBRetryPolicy retryPolicy;
+    private final ParallelScanner<FranchiseEntity> scanner;
+    private final boolean compressBranches;
+    private final DynamoDBMetrics metrics;
+    private final OverflowStore overflowStore;
+    private final boolean overflowEnabled;
+    private final long overflowThreshold;
 
     public DynamoDBFranchiseAdapter(
+            DynamoDbAsyncClient dynamoDbAsyncClient,
             DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient,
             FranchiseMapper franchiseMapper,
-            @Value("${aws.dynamodb.table-name}") String tableName) {
-        this.franchiseTable = dynamoDbEnhancedAsyncClient.table(tableName, TableSchema.fromBean(FranchiseEntity.class));
+            DynamoDBMetrics dynamoDBMetrics,
+            ScanSettings scanSettings,
+            DynamoDBRetryPolicy retryPolicy,
+            @Value("${aws.dynamodb.table-name}") String tableName,
+            @Value("${aws.dynamodb.compress-branches:false}") boolean compressBranches,
+            @Value("${aws.dynamodb.overflow.enabled:true}") boolean overflowEnabled,
+            @Value("${aws.dynamodb.overflow.threshold-bytes:358400}") long overflowThreshold) {
+        this.dynamoDbClient = dynamoDbAsyncClient;
+        this.tableName = tableName;
+        this.franchiseTable = dynamoDbEnhancedAsyncClient.table(tableName, EntitySchemas.FRANCHISE);
         this.franchiseMapper = franchiseMapper;
+        this.batchReader = new BatchReader<>(dynamoDbEnhancedAsyncClient, franchiseTable, FranchiseEntity.class, dynamoDBMetrics);
+        this.batchWriter = new BatchWriter<>(dynamoDbEnhancedAsyncClient, franchiseTable, FranchiseEntity.class, dynamoDBMetrics);
+        this.scanner = new ParallelScanner<>(franchiseTable, dynamoDBMetrics, scanSettings);
+        this.retryPolicy = retryPolicy;
+        this.compressBranches = compressBranches;
+        this.metrics = dynamoDBMetrics;
+        this.overflowStore = new OverflowStore(franchiseTable, batchReader, batchWriter);
+        this.overflowEnabled = overflowEnabled;
+        this.overflowThreshold = Math.min(overflowThreshold, ItemSizeEstimator.MAX_ITEM_SIZE);
     }
 
     @Override
     public Mono<Franchise> save(Franchise franchise) {
-        return saveWithRetry(franchise, 0);
+        // Only creation goes through save, so there is no previous item whose overflow items to replace.
+        return putIfVersionMatches(franchise, null)
+                .onErrorMap(ConditionalWrites::isConditionFailure, throwable -> {
+                    LOGGER.warn("Optimistic lock conflict detected for franchise: {}", franchise.getId());
+                    return new OptimisticLockException(
+                        "Franchise " + franchise.getId() + " was modified by another request"
+                    );
+                });
     }
 
-    private Mono<Franchise> saveWithRetry(Franchise franchise, int attemptNumber) {
-        if (attemptNumber >= MAX_RETRY_ATTEMPTS) {
-            LOGGER.error("Max retry attempts reached for franchise: {}", franchise.getId());
-            return Mono.error(new OptimisticLockException(
-                "Failed to save franchise after " + MAX_RETRY_ATTEMPTS + " attempts due to concurrent modifications"
-            ));
+    /**
+     * Writes every overflow item before any franchise item, as {@link #putIfVersionMatches} does, so a
+     * franchise item never points at parts that are not stored yet.
+     */
+    @Override
+    public Mono<Void> saveAll(List<Franchise> franchises) {
+        List<FranchiseEntity> franchiseItems = new ArrayList<>(franchises.size());
+        List<FranchiseEntity> parts = new ArrayList<>();
+        for (Franchise franchise : franchises) {
+            FranchiseOverflow.Items items = toItems(franchise, (franchise.getVersion() == null ? 0L : franchise.getVersion()) + 1);
+            franchiseItems.add(items.franchise());
+            parts.addAll(items.parts());
         }
+        return batchWriter.putAll(parts)
+                .then(Mono.defer(() -> batchWriter.putAll(franchiseItems)))
+                .doOnNext(resent -> franchises.forEach(Franchise::incrementVersion))
+                .then();
+    }
 
-        FranchiseEntity entity = franchiseMapper.toEntity(franchise);
-        
-        return Mono.fromFuture(franchiseTable.putItem(entity))
-                .thenReturn(franchise)
-                .onErrorResume(throwable -> {
-                    if (isOptimisticLockError(throwable)) {
-                        LOGGER.warn("Optimistic lock conflict detected for franchise: {}, attempt: {}", 
-                            franchise.getId(), attemptNumber + 1);
-                        
-                        return Mono.delay(java.time.Duration.ofMillis(RETRY_DELAY_MS * (attemptNumber + 1)))
-                                .flatMap(delay -> findById(franchise.getId()))
-                                .flatMap(latestFranchise -> {
-                                    franchise.getBranches().clear();
-                                    franchise.getBranches().addAll(latestFranchise.getBranches());
-                                    return saveWithRetry(franchise, attemptNumber + 1);
-                                });
-                    }
-                    return Mono.error(throwable);
-                });
+    @Override
+    public Mono<Franchise> update(String id, Consumer<Franchise> mutation) {
+        return updateWithRetry(id, FranchiseProjection.full(), mutation);
+    }
+
+    @Override
+    public Mono<Franchise> update(String id, FranchiseProjection projection, Consumer<Franchise> mutation) {
+        return updateWithRetry(id, projection, mutation);
+    }
+
+    private Mono<Franchise> updateWithRetry(String id, FranchiseProjection projection, Consumer<Franchise> mutation) {
+        if (isHeaderOnly(projection)) {
+            return Mono.defer(() -> findById(id, projection))
+                    .flatMap(franchise -> {
+                        mutation.accept(franchise);
+                        return updateHeaderIfVersionMatches(franchise);
+                    })
+                    .retryWhen(retryPolicy.onConflict(id));
+        }
+        return Mono.defer(() -> loadEntity(id))
+                .flatMap(entity -> {
+                    Franchise franchise = franchiseMapper.toDomain(entity);
+                    mutation.accept(franchise);
+                    return putIfVersionMatches(franchise, entity);
+                })
+                .retryWhen(retryPolicy.onConflict(id));
+    }
+
+    /**
+     * Writes the overflow items first and the franchise item last, conditioned on the version, so the
+     * franchise item is never written before its overflow items. Eventually consistent readers can
+     * still miss them; {@link OverflowStore#assemble} falls back to consistent reads for that.
+     *
+     * @param previous the item being replaced, whose overflow items are retired once the write succeeds
+     */
+    private Mono<Franchise> putIfVersionMatches(Franchise franchise, FranchiseEntity previous) {
+        long expectedVersion = franchise.getVersion() == null ? 0L : franchise.getVersion();
+
+        FranchiseOverflow.Items items = toItems(franchise, expectedVersion + 1);
+
+        PutItemEnhancedRequest<FranchiseEntity> request = PutItemEnhancedRequest.builder(FranchiseEntity.class)
+                .item(items.franchise())
+                .conditionExpression(ConditionalWrites.versionCondition(expectedVersion))
+                .build();
+
+        return overflowStore.write(items.parts())
+                .then(CapacityAttribution.call(franchise.getId(), () -> franchiseTable.putItem(request)))
+                .onErrorResume(ConditionalWrites::isConditionFailure, error -> overflowStore.delete(items.parts())
+                        .then(Mono.error(error)))
+                .then(Mono.defer(() -> overflowStore.retireReferencedBy(previous)))
+                .then(Mono.fromCallable(() -> {
+                    franchise.incrementVersion();
+                    return franchise;
+                }));
+    }
+
+    /**
+     * Rewrites only the header attributes, leaving the branches attribute untouched. The write still
+     * consumes capacity for the whole item, but nothing below the header is read or sent.
+     */
+    private Mono<Franchise> updateHeaderIfVersionMatches(Franchise franchise) {
+        if (franchise.hasBranches()) {
+            return Mono.error(new IllegalStateException("A header projection cannot carry branch changes"));
+        }
+        long expectedVersion = franchise.getVersion() == null ? 0L : franchise.getVersion();
+        Expression versionCondition = ConditionalWrites.versionCondition(expectedVersion);
+
+        Map<String, String> names = new HashMap<>(versionCondition.expressionNames());
+        names.put("#id", "id");
+        names.put("#name", "name");
+        names.put("#listSortKey", "listSortKey");
+
+        Map<String, AttributeValue> values = new HashMap<>(versionCondition.expressionValues());
+        values.put(":name", AttributeValue.builder().s(franchise.getName()).build());
+        values.put(":listSortKey", AttributeValue.builder().s(FranchiseListing.sortKey(franchise)).build());
+        values.put(":nextVersion", AttributeValue.builder().n(String.valueOf(expectedVersion + 1)).build());
+
+        UpdateItemRequest request = UpdateItemRequest.builder()
+                .tableName(tableName)
+                .key(Map.of("id", AttributeValue.builder().s(franchise.getId()).build()))
+                .updateExpression("SET #name = :name, #listSortKey = :listSortKey, #version = :nextVersion")
+                .conditionExpression("attribute_exists(#id) AND (" + versionCondition.expression() + ")")
+                .expressionAttributeNames(names)
+                .expressionAttributeValues(values)
+                .build();
+
+        return CapacityAttribution.call(franchise.getId(), () -> dynamoDbClient.updateItem(request))
+                .then(Mono.fromCallable(() -> {
+                    franchise.incrementVersion();
+                    return franchise;
+                }));
     }
 
-    private boolean isOptimisticLockError(Throwable throwable) {
-        if (throwable instanceof ConditionalCheckFailedException) {
-            return true;
+    @Override
+    public Mono<Franchise> findById(String id, FranchiseProjection projection) {
+        if (!isHeaderOnly(projection)) {
+            // Branches are one list attribute that cannot be projected per element, so anything
+            // below the header needs the whole item.
+            return findById(id);
         }
-        Throwable cause = throwable.getCause();
-        return cause instanceof ConditionalCheckFailedException;
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(id).build()))
+                .attributesToProject(HEADER_ATTRIBUTES)
+                .build();
+        return CapacityAttribution.pages(id, () -> franchiseTable.query(request).items())
+                .next()
+                .map(franchiseMapper::toDomain);
+    }
+
+    private static boolean isHeaderOnly(FranchiseProjection projection) {
+        return projection.getScope() == FranchiseProjection.Scope.HEADER;
     }
 
     @Override
     public Mono<Franchise> findById(String id) {
-        Key key = Key.builder().partitionValue(id).build();
-        return Mono.fromFuture(franchiseTable.getItem(key))
+        return loadEntity(id)
                 .map(franchiseMapper::toDomain);
     }
 
+    private Mono<FranchiseEntity> loadEntity(String id) {
+        Key key = Key.builder().partitionValue(id).build();
+        return CapacityAttribution.call(id, () -> franchiseTable.getItem(key))
+                .flatMap(overflowStore::assemble);
+    }
+
+    @Override
+    public Flux<Franchise> findAllByIds(Collection<String> ids) {
+        List<Key> keys = ids.stream()
+                .distinct()
+                .map(id -> Key.builder().partitionValue(id).build())
+                .toList();
+        return batchReader.getAll(keys, BATCH_GET_CONCURRENCY)
+                .flatMap(this::toDomain);
+    }
+
     @Override
     public Mono<Void> delete(String id) {
         Key key = Key.builder().partitionValue(id).build();
-        return Mono.fromFuture(franchiseTable.deleteItem(key))
-                .then();
+        return CapacityAttribution.call(id, () -> franchiseTable.deleteItem(key))
+                .flatMap(overflowStore::retireReferencedBy);
+    }
+
+    @Override
+    public Mono<Void> delete(String id, long expectedVersion) {
+        DeleteItemEnhancedRequest request = DeleteItemEnhancedRequest.builder()
+                .key(Key.builder().partitionValue(id).build())
+                .conditionExpression(ConditionalWrites.versionCondition(expectedVersion))
+                .build();
+        return CapacityAttribution.call(id, () -> franchiseTable.deleteItem(request))
+                .onErrorMap(ConditionalWrites::isConditionFailure, throwable -> {
+                    LOGGER.warn("Optimistic lock conflict detected deleting franchise: {}", id);
+                    return new OptimisticLockException("Franchise " + id + " was modified by another request");
+                })
+                .flatMap(overflowStore::retireReferencedBy);
+    }
+
+    @Override
+    public Flux<Franchise> streamAll() {
+        return scanner.scan(FranchiseOverflow.excludeParts())
+                .flatMap(this::toDomain);
+    }
+
+    @Override
+    public Mono<Page<FranchiseSummary>> findSummaries(Integer pageSize, String cursor) {
+        LOGGER.debug("Listing franchise summaries with pageSize: {} and cursor: {}", pageSize, cursor);
+
+        QueryEnhancedRequest.Builder requestBuilder = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(FranchiseListing.BUCKET).build()))
+                .limit(pageSize);
+        Map<String, AttributeValue> exclusiveStartKey = FranchiseListing.decodeCursor(cursor);
+        if (exclusiveStartKey != null) {
+            requestBuilder.exclusiveStartKey(exclusiveStartKey);
+        }
+
+        QueryEnhancedRequest request = requestBuilder.build();
+        return CapacityAttribution.pages(null, () -> franchiseTable.index(FranchiseListing.INDEX_NAME).query(request))
+                .next()
+                .map(page -> {
+                    List<FranchiseSummary> summaries = page.items().stream()
+                            .map(franchiseMapper::toSummary)
+                            .toList();
+                    String nextCursor = FranchiseListing.encodeCursor(page.lastEvaluatedKey());
+                    LOGGER.debug("Found {} franchise summaries, hasMore: {}", summaries.size(), nextCursor != null);
+                    return Page.of(summaries, nextCursor, pageSize);
+                })
+                .defaultIfEmpty(Page.empty());
     }
 
     @Override
@@ -114,31 +339,73 @@ public class DynamoDBFranchiseAdapter implements FranchiseRepositoryPort {
         }
 
         ScanEnhancedRequest.Builder requestBuilder = ScanEnhancedRequest.builder()
+                .filterExpression(FranchiseOverflow.excludeParts())
                 .limit(pageSize);
         
         if (exclusiveStartKey != null) {
             requestBuilder.exclusiveStartKey(exclusiveStartKey);
         }
 
-        return Flux.from(franchiseTable.scan(requestBuilder.build()))
+        ScanEnhancedRequest request = requestBuilder.build();
+        return CapacityAttribution.pages(null, () -> franchiseTable.scan(request))
                 .next()
-                .flatMap(page -> {
-                    List<Franchise> franchises = new ArrayList<>();
-                    page.items().forEach(entity -> franchises.add(franchiseMapper.toDomain(entity)));
-
-                    String nextCursor = null;
-                    if (page.lastEvaluatedKey() != null && !page.lastEvaluatedKey().isEmpty()) {
-                        AttributeValue lastKeyValue = page.lastEvaluatedKey().get("id");
-                        if (lastKeyValue != null) {
-                            Map<String, String> cursorData = new HashMap<>();
-                            cursorData.put("id", lastKeyValue.s());
-                            nextCursor = CursorUtil.encodeCursor(cursorData);
-                        }
-                    }
-
-                    LOGGER.debug("Found {} franchises, hasMore: {}", franchises.size(), nextCursor != null);
-                    return Mono.just(Page.of(franchises, nextCursor, pageSize));
-                })
+                .flatMap(page -> Flux.fromIterable(page.items())
+                        .concatMap(this::toDomain)
+                        .collectList()
+                        .map(franchises -> {
+                            String nextCursor = null;
+                            if (page.lastEvaluatedKey() != null && !page.lastEvaluatedKey().isEmpty()) {
+                                AttributeValue lastKeyValue = page.lastEvaluatedKey().get("id");
+                                if (lastKeyValue != null) {
+                                    Map<String, String> cursorData = new HashMap<>();
+                                    cursorData.put("id", lastKeyValue.s());
+                                    nextCursor = CursorUtil.encodeCursor(cursorData);
+                                }
+                            }
+                            LOGGER.debug("Found {} franchises, hasMore: {}", franchises.size(), nextCursor != null);
+                            return Page.of(franchises, nextCursor, pageSize);
+                        }))
                 .defaultIfEmpty(Page.empty());
     }
+
+    /**
+     * Maps a franchise to the items to write at {@code version}, recording the estimated size. With
+     * compression on, the packed item is tried first and only split when even that is too large; the
+     * split itself is planned on the nested map form, which is never smaller than the packed one.
+     */
+    private FranchiseOverflow.Items toItems(Franchise franchise, long version) {
+        FranchiseEntity entity = franchiseMapper.toEntity(franchise);
+        entity.setVersion(version);
+        List<BranchEntity> branches = entity.getBranches();
+        if (compressBranches) {
+            BranchesCodec.pack(entity);
+        }
+        long size = ItemSizeEstimator.estimate(entity);
+        metrics.recordItemSize(tableName, size);
+        if (size <= overflowThreshold) {
+            return new FranchiseOverflow.Items(entity, List.of());
+        }
+        if (!overflowEnabled) {
+            if (size <= ItemSizeEstimator.MAX_ITEM_SIZE) {
+                return new FranchiseOverflow.Items(entity, List.of());
+            }
+            throw new FranchiseTooLargeException("Franchise " + franchise.getId() + " exceeds the maximum item size");
+        }
+
+        entity.setBranchesBin(null);
+        entity.setBranches(branches);
+        FranchiseOverflow.Items items = FranchiseOverflow.split(entity, overflowThreshold);
+        LOGGER.info("Franchise {} of ~{} bytes spilled into {} overflow items", franchise.getId(), size, items.parts().size());
+        metrics.recordOverflowParts(tableName, items.parts().size());
+        if (compressBranches) {
+            BranchesCodec.pack(items.franchise());
+            items.parts().forEach(BranchesCodec::pack);
+        }
+        return items;
+    }
+
+    private Mono<Franchise> toDomain(FranchiseEntity entity) {
+        return overflowStore.assemble(entity)
+                .map(franchiseMapper::toDomain);
+    }
 }
@@ -0,0 +1,355 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence;
+
+import com.nequi.franchise.domain.exception.OptimisticLockException;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.Page;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.batch.BatchWriter;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.capacity.CapacityAttribution;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.codec.BranchesCodec;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.EntitySchemas;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseChangeEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEventEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.eventlog.FranchiseChanges;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.mapper.FranchiseMapper;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.retry.DynamoDBRetryPolicy;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import com.nequi.franchise.infrastructure.util.CursorUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Event-sourced layout. Every write appends one event row holding only the changes it made, so a
+ * stock update costs the same whatever the size of the franchise, and the partition keeps the full
+ * history of the aggregate. A franchise is rebuilt from its snapshot row plus the events after it;
+ * once {@code snapshotEvery} events have accumulated past the snapshot, the writer that crossed the
+ * threshold replaces it. Events are never removed by compaction, only by {@link #delete(String)}.
+ */
+@Component
+@ConditionalOnProperty(name = "aws.dynamodb.layout", havingValue = "event-sourced")
+@Profile("!in-memory")
+public class EventSourcedFranchiseAdapter implements FranchiseRepositoryPort {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventSourcedFranchiseAdapter.class);
+
+    private final DynamoDbAsyncTable<FranchiseEventEntity> eventsTable;
+    private final FranchiseMapper franchiseMapper;
+    private final BatchWriter<FranchiseEventEntity> batchWriter;
+    private final DynamoDBRetryPolicy retryPolicy;
+    private final int snapshotEvery;
+
+    public EventSourcedFranchiseAdapter(
+            DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient,
+            FranchiseMapper franchiseMapper,
+            DynamoDBMetrics dynamoDBMetrics,
+            DynamoDBRetryPolicy retryPolicy,
+            @Value("${aws.dynamodb.events-table-name}") String tableName,
+            @Value("${aws.dynamodb.event-sourced.snapshot-every:50}") int snapshotEvery) {
+        if (snapshotEvery < 1) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.eventsTable = dynamoDbEnhancedAsyncClient.table(tableName, EntitySchemas.FRANCHISE_EVENT);
+        this.franchiseMapper = franchiseMapper;
+        this.batchWriter = new BatchWriter<>(dynamoDbEnhancedAsyncClient, eventsTable, FranchiseEventEntity.class, dynamoDBMetrics);
+        this.retryPolicy = retryPolicy;
+        this.snapshotEvery = snapshotEvery;
+    }
+
+    @Override
+    public Mono<Franchise> save(Franchise franchise) {
+        long expectedVersion = franchise.getVersion() == null ? 0L : franchise.getVersion();
+        Mono<State> current = expectedVersion == 0L
+                ? Mono.just(State.empty(franchise.getId()))
+                : load(franchise.getId())
+                        .filter(state -> state.franchise().getVersion() == expectedVersion)
+                        .switchIfEmpty(Mono.error(() -> conflict(franchise.getId())));
+
+        return current
+                .flatMap(state -> append(state, franchise))
+                .onErrorMap(ConditionalWrites::isConditionFailure, throwable -> conflict(franchise.getId()));
+    }
+
+    @Override
+    public Mono<Void> saveAll(List<Franchise> franchises) {
+        List<FranchiseEventEntity> events = new ArrayList<>(franchises.size());
+        for (Franchise franchise : franchises) {
+            long version = (franchise.getVersion() == null ? 0L : franchise.getVersion()) + 1;
+            List<FranchiseChangeEntity> changes = FranchiseChanges.diff(
+                    State.empty(franchise.getId()).franchise(), franchiseMapper.toEntity(franchise));
+            events.add(event(franchise.getId(), version, changes));
+        }
+        return batchWriter.putAll(events)
+                .doOnNext(resent -> franchises.forEach(Franchise::incrementVersion))
+                .then();
+    }
+
+    @Override
+    public Mono<Franchise> update(String id, Consumer<Franchise> mutation) {
+        return Mono.defer(() -> load(id))
+                .flatMap(state -> {
+                    Franchise franchise = franchiseMapper.toDomain(state.franchise());
+                    mutation.accept(franchise);
+                    return append(state, franchise);
+                })
+                .retryWhen(retryPolicy.onConflict(id));
+    }
+
+    /**
+     * Appends the changes from {@code state} to {@code franchise} as the next event. The event key is
+     * the new version, so of two writers starting from the same version only the first one succeeds.
+     * A mutation that changed nothing writes nothing and keeps its version.
+     */
+    private Mono<Franchise> append(State state, Franchise franchise) {
+        FranchiseEntity next = franchiseMapper.toEntity(franchise);
+        List<FranchiseChangeEntity> changes = FranchiseChanges.diff(state.franchise(), next);
+        if (changes.isEmpty()) {
+            return Mono.just(franchise);
+        }
+        long version = state.franchise().getVersion() + 1;
+
+        PutItemEnhancedRequest<FranchiseEventEntity> request = PutItemEnhancedRequest.builder(FranchiseEventEntity.class)
+                .item(event(franchise.getId(), version, changes))
+                .conditionExpression(Expression.builder()
+                        .expression("attribute_not_exists(#sk)")
+                        .putExpressionName("#sk", "sk")
+                        .build())
+                .build();
+
+        LOGGER.debug("Appending event {} with {} changes to franchise: {}", version, changes.size(), franchise.getId());
+        return CapacityAttribution.call(franchise.getId(), () -> eventsTable.putItem(request))
+                .then(Mono.defer(() -> version - state.snapshotVersion() >= snapshotEvery
+                        ? snapshot(franchise.getId(), version, next)
+                        : Mono.<Void>empty()))
+                .then(Mono.fromCallable(() -> {
+                    franchise.incrementVersion();
+                    return franchise;
+                }));
+    }
+
+    /**
+     * Replaces the snapshot unless a newer one is already there. A failed snapshot only means the
+     * next reads replay a longer tail, so it never fails the write that triggered it.
+     */
+    private Mono<Void> snapshot(String id, long version, FranchiseEntity franchise) {
+        FranchiseEventEntity snapshot = FranchiseEventEntity.builder()
+                .pk(id)
+                .sk(FranchiseEventEntity.SNAPSHOT_SORT_KEY)
+                .type(FranchiseEventEntity.TYPE_SNAPSHOT)
+                .version(version)
+                .changes(null)
+                .name(franchise.getName())
+                .branchesBin(SdkBytes.fromByteArray(BranchesCodec.encode(franchise.getBranches())))
+                .recordedAt(Instant.now().toString())
+                .build();
+
+        PutItemEnhancedRequest<FranchiseEventEntity> request = PutItemEnhancedRequest.builder(FranchiseEventEntity.class)
+                .item(snapshot)
+                .conditionExpression(Expression.builder()
+                        .expression("attribute_not_exists(#version) OR #version < :version")
+                        .putExpressionName("#version", ConditionalWrites.VERSION_ATTRIBUTE)
+                        .putExpressionValue(":version", AttributeValue.builder().n(String.valueOf(version)).build())
+                        .build())
+                .build();
+
+        LOGGER.debug("Snapshotting franchise: {} at version {}", id, version);
+        return CapacityAttribution.call(id, () -> eventsTable.putItem(request))
+                .onErrorResume(error -> {
+                    if (!ConditionalWrites.isConditionFailure(error)) {
+                        LOGGER.warn("Could not snapshot franchise: {} at version {}: {}", id, version, error.getMessage());
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<Franchise> findById(String id) {
+        return load(id)
+                .map(state -> franchiseMapper.toDomain(state.franchise()));
+    }
+
+    @Override
+    public Mono<Void> delete(String id) {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(id).build()))
+                .attributesToProject("pk", "sk")
+                .build();
+        return CapacityAttribution.pages(id, () -> eventsTable.query(request).items())
+                .map(row -> Key.builder().partitionValue(row.getPk()).sortValue(row.getSk()).build())
+                .collectList()
+                .flatMap(batchWriter::deleteAll)
+                .then()
+                .contextWrite(CapacityAttribution.franchise(id));
+    }
+
+    /**
+     * Pages over the first event of every franchise. The scan still reads the whole history, so this
+     * layout suits workloads that rarely list everything.
+     */
+    @Override
+    public Mono<Page<Franchise>> findAll(Integer pageSize, String cursor) {
+        LOGGER.debug("Finding all franchises with pageSize: {} and cursor: {}", pageSize, cursor);
+
+        ScanEnhancedRequest.Builder requestBuilder = ScanEnhancedRequest.builder()
+                .attributesToProject("pk", "sk")
+                .filterExpression(Expression.builder()
+                        .expression("#sk = :first")
+                        .putExpressionName("#sk", "sk")
+                        .putExpressionValue(":first", AttributeValue.builder().s(FranchiseEventEntity.eventSortKey(1L)).build())
+                        .build());
+
+        if (cursor != null) {
+            Map<String, String> decodedCursor = CursorUtil.decodeCursor(cursor);
+            if (decodedCursor != null && decodedCursor.containsKey("pk") && decodedCursor.containsKey("sk")) {
+                Map<String, AttributeValue> exclusiveStartKey = new HashMap<>();
+                exclusiveStartKey.put("pk", AttributeValue.builder().s(decodedCursor.get("pk")).build());
+                exclusiveStartKey.put("sk", AttributeValue.builder().s(decodedCursor.get("sk")).build());
+                requestBuilder.exclusiveStartKey(exclusiveStartKey);
+            }
+        }
+
+        ScanEnhancedRequest request = requestBuilder.build();
+        return CapacityAttribution.pages(null, () -> eventsTable.scan(request))
+                .concatMapIterable(page -> page.items())
+                .take(pageSize + 1L)
+                .collectList()
+                .flatMap(firstEvents -> {
+                    boolean hasMore = firstEvents.size() > pageSize;
+                    List<FranchiseEventEntity> pageEvents = hasMore ? firstEvents.subList(0, pageSize) : firstEvents;
+
+                    String nextCursor = null;
+                    if (hasMore) {
+                        FranchiseEventEntity last = pageEvents.get(pageEvents.size() - 1);
+                        Map<String, String> cursorData = new HashMap<>();
+                        cursorData.put("pk", last.getPk());
+                        cursorData.put("sk", last.getSk());
+                        nextCursor = CursorUtil.encodeCursor(cursorData);
+                    }
+
+                    String finalCursor = nextCursor;
+                    return Flux.fromIterable(pageEvents)
+                            .flatMapSequential(event -> findById(event.getPk()))
+                            .collectList()
+                            .map(franchises -> {
+                                LOGGER.debug("Found {} franchises, hasMore: {}", franchises.size(), finalCursor != null);
+                                return franchises.isEmpty() ? Page.<Franchise>empty() : Page.of(franchises, finalCursor, pageSize);
+                            });
+                });
+    }
+
+    /**
+     * Reads the partition newest first: the snapshot sorts after every event, so it arrives first,
+     * followed by the events written after it. Reading stops at the first event the snapshot covers.
+     * A page holds the snapshot, the {@code snapshotEvery} events a tail reaches before it is folded
+     * in, and that first covered event, so a load takes one request instead of a page sized by the
+     * whole history. A longer tail, left by snapshots that failed, is read over further pages.
+     */
+    private Mono<State> load(String id) {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(id).build()))
+                .scanIndexForward(false)
+                .limit(snapshotEvery + 2)
+                .build();
+        return Mono.defer(() -> {
+            Replay replay = new Replay(id);
+            return CapacityAttribution.pages(id, () -> eventsTable.query(request).items())
+                    .takeWhile(replay::accept)
+                    .then(Mono.fromCallable(replay::state));
+        });
+    }
+
+    private static FranchiseEventEntity event(String id, long version, List<FranchiseChangeEntity> changes) {
+        return FranchiseEventEntity.builder()
+                .pk(id)
+                .sk(FranchiseEventEntity.eventSortKey(version))
+                .type(FranchiseEventEntity.TYPE_EVENT)
+                .version(version)
+                .changes(changes)
+                .recordedAt(Instant.now().toString())
+                .build();
+    }
+
+    private static OptimisticLockException conflict(String id) {
+        LOGGER.warn("Optimistic lock conflict detected for franchise: {}", id);
+        return new OptimisticLockException("Franchise " + id + " was modified by another request");
+    }
+
+    /**
+     * A rebuilt franchise, with its version set to the last event applied, and the version of the
+     * snapshot it started from.
+     */
+    private record State(FranchiseEntity franchise, long snapshotVersion) {
+
+        static State empty(String id) {
+            return new State(FranchiseEntity.builder()
+                    .id(id)
+                    .branches(new ArrayList<>())
+                    .version(0L)
+                    .build(), 0L);
+        }
+    }
+
+    private static final class Replay {
+        private final String id;
+        private final Deque<FranchiseEventEntity> tail = new ArrayDeque<>();
+        private FranchiseEventEntity snapshot;
+
+        private Replay(String id) {
+            this.id = id;
+        }
+
+        private boolean accept(FranchiseEventEntity row) {
+            if (FranchiseEventEntity.TYPE_SNAPSHOT.equals(row.getType())) {
+                snapshot = row;
+                return true;
+            }
+            if (snapshot != null && row.getVersion() <= snapshot.getVersion()) {
+                return false;
+            }
+            tail.addFirst(row);
+            return true;
+        }
+
+        private State state() {
+            if (snapshot == null && tail.isEmpty()) {
+                return null;
+            }
+            State state = snapshot == null ? State.empty(id) : new State(FranchiseEntity.builder()
+                    .id(id)
+                    .name(snapshot.getName())
+                    .branches(BranchesCodec.decode(snapshot.getBranchesBin().asByteArrayUnsafe()))
+                    .version(snapshot.getVersion())
+                    .build(), snapshot.getVersion());
+            for (FranchiseEventEntity event : tail) {
+                FranchiseChanges.apply(state.franchise(), event.getChanges());
+                state.franchise().setVersion(event.getVersion());
+            }
+            return state;
+        }
+    }
+}
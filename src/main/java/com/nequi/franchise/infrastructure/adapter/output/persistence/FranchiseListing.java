@@ -0,0 +1,48 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence;
+
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.infrastructure.util.CursorUtil;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Keys of the sparse listing GSI. Only franchise rows carry {@code listBucket}, so the index holds one
+ * small entry per franchise (id, name and counts) sorted by name, whatever the size of the aggregate.
+ */
+public final class FranchiseListing {
+
+    public static final String INDEX_NAME = "franchise-listing-index";
+    public static final String BUCKET = "FRANCHISE";
+
+    private FranchiseListing() {
+    }
+
+    public static String sortKey(Franchise franchise) {
+        return franchise.getName().toLowerCase(Locale.ROOT) + "#" + franchise.getId();
+    }
+
+    public static String encodeCursor(Map<String, AttributeValue> lastEvaluatedKey) {
+        if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+            return null;
+        }
+        Map<String, String> cursorData = new HashMap<>();
+        lastEvaluatedKey.forEach((name, value) -> cursorData.put(name, value.s()));
+        return CursorUtil.encodeCursor(cursorData);
+    }
+
+    public static Map<String, AttributeValue> decodeCursor(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        Map<String, String> decodedCursor = CursorUtil.decodeCursor(cursor);
+        if (decodedCursor == null || !decodedCursor.containsKey("listSortKey")) {
+            return null;
+        }
+        Map<String, AttributeValue> exclusiveStartKey = new HashMap<>();
+        decodedCursor.forEach((name, value) -> exclusiveStartKey.put(name, AttributeValue.builder().s(value).build()));
+        return exclusiveStartKey;
+    }
+}
@@ -0,0 +1,245 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence;
+
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.domain.model.FranchiseSummary;
+import com.nequi.franchise.domain.model.Page;
+import com.nequi.franchise.domain.model.StockUpdate;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Serializes mutations per franchise and commits them in groups. While a write for a franchise is in
+ * flight, further mutations queue in its mailbox; when the write finishes, everything queued (up to
+ * {@code maxBatchSize}) is applied in arrival order to one loaded aggregate and persisted with a single
+ * conditional write. Each caller completes with its own outcome: a mutation that throws fails only
+ * its caller, and the others still commit.
+ *
+ * <p>A throwing mutation is assumed to leave the aggregate untouched, which holds for the domain
+ * methods because they validate before changing state. Callers whose mutation succeeded all receive
+ * the same written franchise, which includes the other mutations of the group.
+ */
+public class GroupCommitFranchiseRepository implements FranchiseRepositoryPort {
+
+    private final FranchiseRepositoryPort delegate;
+    private final DynamoDBMetrics metrics;
+    private final int maxBatchSize;
+    private final boolean groupStockUpdates;
+    // A mailbox exists exactly while a writer drains it; all access goes through compute on its key.
+    private final Map<String, ArrayDeque<PendingMutation>> mailboxes = new ConcurrentHashMap<>();
+
+    /**
+     * @param groupStockUpdates whether {@link #updateProductStock} goes through the mailbox. Layouts that
+     *                          update stock with a single-row write of their own should leave it to the delegate.
+     */
+    public GroupCommitFranchiseRepository(FranchiseRepositoryPort delegate, DynamoDBMetrics metrics,
+                                          int maxBatchSize, boolean groupStockUpdates) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.maxBatchSize = maxBatchSize;
+        this.groupStockUpdates = groupStockUpdates;
+    }
+
+    @Override
+    public Mono<Franchise> update(String id, Consumer<Franchise> mutation) {
+        return submit(id, FranchiseProjection.full(), mutation);
+    }
+
+    @Override
+    public Mono<Franchise> update(String id, FranchiseProjection projection, Consumer<Franchise> mutation) {
+        return submit(id, projection, mutation);
+    }
+
+    @Override
+    public Mono<StockUpdate> updateProductStock(String franchiseId, String branchId, String productId, Integer newStock) {
+        if (!groupStockUpdates) {
+            return delegate.updateProductStock(franchiseId, branchId, productId, newStock);
+        }
+        return submit(franchiseId, FranchiseProjection.branch(branchId),
+                franchise -> franchise.findBranch(branchId).findProduct(productId).updateStock(newStock))
+                .map(franchise -> StockUpdate.builder()
+                        .franchiseId(franchiseId)
+                        .branchId(branchId)
+                        .productId(productId)
+                        .stock(newStock)
+                        .version(franchise.getVersion())
+                        .build());
+    }
+
+    private Mono<Franchise> submit(String id, FranchiseProjection projection, Consumer<Franchise> mutation) {
+        return Mono.create(sink -> {
+            PendingMutation pending = new PendingMutation(projection, mutation, sink);
+            sink.onCancel(() -> pending.cancelled = true);
+
+            boolean[] startWriter = {false};
+            mailboxes.compute(id, (key, mailbox) -> {
+                if (mailbox == null) {
+                    startWriter[0] = true;
+                    mailbox = new ArrayDeque<>();
+                }
+                mailbox.add(pending);
+                return mailbox;
+            });
+            if (startWriter[0]) {
+                drain(id);
+            }
+        });
+    }
+
+    private void drain(String id) {
+        List<PendingMutation> batch = new ArrayList<>();
+        mailboxes.computeIfPresent(id, (key, mailbox) -> {
+            while (batch.size() < maxBatchSize && !mailbox.isEmpty()) {
+                PendingMutation next = mailbox.poll();
+                if (!next.cancelled) {
+                    batch.add(next);
+                }
+            }
+            // Dropping the empty mailbox hands the writer role to the next submit.
+            return batch.isEmpty() ? null : mailbox;
+        });
+        if (!batch.isEmpty()) {
+            // The write runs detached from its callers, so it borrows the context of the oldest one.
+            commit(id, batch)
+                    .contextWrite(batch.get(0).sink.contextView())
+                    .doFinally(signal -> drain(id))
+                    .subscribe();
+        }
+    }
+
+    private Mono<Void> commit(String id, List<PendingMutation> batch) {
+        FranchiseProjection projection = batch.stream()
+                .map(pending -> pending.projection)
+                .reduce(FranchiseProjection::union)
+                .orElseThrow();
+        metrics.recordGroupCommit(batch.size());
+
+        return delegate.update(id, projection, franchise -> applyAll(franchise, batch))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .doOnNext(written -> batch.forEach(pending -> pending.complete(written.orElse(null))))
+                .onErrorResume(error -> {
+                    batch.forEach(pending -> pending.fail(error));
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Runs on every attempt of the delegate's load-modify-write, so per-caller outcomes are reset each time.
+     */
+    private static void applyAll(Franchise franchise, List<PendingMutation> batch) {
+        boolean anyApplied = false;
+        for (PendingMutation pending : batch) {
+            pending.failure = null;
+            try {
+                pending.mutation.accept(franchise);
+                anyApplied = true;
+            } catch (RuntimeException e) {
+                pending.failure = e;
+            }
+        }
+        if (!anyApplied) {
+            throw new NothingToCommitException();
+        }
+    }
+
+    private static final class PendingMutation {
+        private final FranchiseProjection projection;
+        private final Consumer<Franchise> mutation;
+        private final MonoSink<Franchise> sink;
+        private volatile boolean cancelled;
+        private RuntimeException failure;
+
+        private PendingMutation(FranchiseProjection projection, Consumer<Franchise> mutation, MonoSink<Franchise> sink) {
+            this.projection = projection;
+            this.mutation = mutation;
+            this.sink = sink;
+        }
+
+        private void complete(Franchise written) {
+            if (failure != null) {
+                sink.error(failure);
+            } else if (written == null) {
+                sink.success();
+            } else {
+                sink.success(written);
+            }
+        }
+
+        private void fail(Throwable error) {
+            sink.error(failure != null ? failure : error);
+        }
+    }
+
+    /**
+     * Aborts the write when every mutation of a group failed, so an unchanged aggregate is not rewritten.
+     */
+    private static final class NothingToCommitException extends RuntimeException {
+        private NothingToCommitException() {
+            super("No mutation of the group applied", null, false, false);
+        }
+    }
+
+    @Override
+    public Mono<Franchise> save(Franchise franchise) {
+        return delegate.save(franchise);
+    }
+
+    @Override
+    public Mono<Franchise> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Mono<Franchise> findById(String id, FranchiseProjection projection) {
+        return delegate.findById(id, projection);
+    }
+
+    @Override
+    public Mono<Void> delete(String id) {
+        return delegate.delete(id);
+    }
+
+    @Override
+    public Mono<Void> delete(String id, long expectedVersion) {
+        return delegate.delete(id, expectedVersion);
+    }
+
+    @Override
+    public Mono<Page<Franchise>> findAll(Integer pageSize, String cursor) {
+        return delegate.findAll(pageSize, cursor);
+    }
+
+    @Override
+    public Mono<Void> saveAll(List<Franchise> franchises) {
+        return delegate.saveAll(franchises);
+    }
+
+    @Override
+    public Mono<Page<FranchiseSummary>> findSummaries(Integer pageSize, String cursor) {
+        return delegate.findSummaries(pageSize, cursor);
+    }
+
+    @Override
+    public Flux<Franchise> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Flux<Franchise> findAllByIds(Collection<String> ids) {
+        return delegate.findAllByIds(ids);
+    }
+}
@@ -0,0 +1,243 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence;
+
+import com.nequi.franchise.domain.exception.OptimisticLockException;
+import com.nequi.franchise.domain.model.Branch;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseSummary;
+import com.nequi.franchise.domain.model.Page;
+import com.nequi.franchise.domain.model.Product;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import com.nequi.franchise.infrastructure.util.CursorUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+/**
+ * Keeps franchises in process memory, for embedded deployments and for load tests that measure the
+ * service layer without a database. Stored aggregates are private snapshots that are never handed
+ * out: every write stores a fresh copy and every read returns one, so callers can mutate what they get
+ * exactly as they would a franchise loaded from DynamoDB. Versions are checked like the conditional
+ * puts of the DynamoDB adapters, and both listings use the same cursor keys, ordered by id for
+ * {@link #findAll(Integer, String)} and by name for {@link #findSummaries(Integer, String)}.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryFranchiseAdapter implements FranchiseRepositoryPort {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryFranchiseAdapter.class);
+
+    private final Map<String, Franchise> franchises = new ConcurrentHashMap<>();
+    // Both indexes are only written inside a compute on the franchise's entry, so they follow its writes in order.
+    private final ConcurrentNavigableMap<String, String> idIndex = new ConcurrentSkipListMap<>();
+    private final ConcurrentNavigableMap<String, String> nameIndex = new ConcurrentSkipListMap<>();
+
+    @Override
+    public Mono<Franchise> save(Franchise franchise) {
+        return Mono.fromCallable(() -> {
+            long expectedVersion = franchise.getVersion() == null ? 0L : franchise.getVersion();
+            Franchise snapshot = copyWithVersion(franchise, expectedVersion + 1);
+            franchises.compute(franchise.getId(), (id, current) -> {
+                long currentVersion = current == null ? 0L : current.getVersion();
+                if (currentVersion != expectedVersion) {
+                    LOGGER.warn("Optimistic lock conflict detected for franchise: {}", id);
+                    throw new OptimisticLockException("Franchise " + id + " was modified by another request");
+                }
+                reindex(current, snapshot);
+                return snapshot;
+            });
+            franchise.incrementVersion();
+            return franchise;
+        });
+    }
+
+    @Override
+    public Mono<Void> saveAll(List<Franchise> franchises) {
+        return Mono.fromRunnable(() -> franchises.forEach(franchise -> {
+            long version = franchise.getVersion() == null ? 0L : franchise.getVersion();
+            Franchise snapshot = copyWithVersion(franchise, version + 1);
+            this.franchises.compute(franchise.getId(), (id, current) -> {
+                reindex(current, snapshot);
+                return snapshot;
+            });
+            franchise.incrementVersion();
+        }));
+    }
+
+    /**
+     * Applies the mutation to a copy while holding the franchise's entry, so concurrent updates are
+     * serialized instead of conflicting and never need to be replayed. An exception thrown by the
+     * mutation leaves the stored franchise untouched.
+     */
+    @Override
+    public Mono<Franchise> update(String id, Consumer<Franchise> mutation) {
+        return Mono.fromCallable(() -> franchises.computeIfPresent(id, (key, current) -> {
+                    Franchise working = copyWithVersion(current, current.getVersion());
+                    mutation.accept(working);
+                    Franchise snapshot = copyWithVersion(working, current.getVersion() + 1);
+                    reindex(current, snapshot);
+                    return snapshot;
+                }))
+                .map(InMemoryFranchiseAdapter::copy);
+    }
+
+    @Override
+    public Mono<Franchise> findById(String id) {
+        return Mono.fromCallable(() -> franchises.get(id))
+                .map(InMemoryFranchiseAdapter::copy);
+    }
+
+    @Override
+    public Flux<Franchise> findAllByIds(Collection<String> ids) {
+        return Flux.fromIterable(ids)
+                .distinct()
+                .mapNotNull(franchises::get)
+                .map(InMemoryFranchiseAdapter::copy);
+    }
+
+    @Override
+    public Mono<Void> delete(String id) {
+        return Mono.fromRunnable(() -> franchises.computeIfPresent(id, (key, current) -> {
+            reindex(current, null);
+            return null;
+        }));
+    }
+
+    @Override
+    public Mono<Void> delete(String id, long expectedVersion) {
+        return Mono.fromRunnable(() -> franchises.compute(id, (key, current) -> {
+            long currentVersion = current == null ? 0L : current.getVersion();
+            if (currentVersion != expectedVersion) {
+                LOGGER.warn("Optimistic lock conflict detected deleting franchise: {}", key);
+                throw new OptimisticLockException("Franchise " + key + " was modified by another request");
+            }
+            if (current != null) {
+                reindex(current, null);
+            }
+            return null;
+        }));
+    }
+
+    @Override
+    public Flux<Franchise> streamAll() {
+        return Flux.fromIterable(idIndex.keySet())
+                .mapNotNull(franchises::get)
+                .map(InMemoryFranchiseAdapter::copy);
+    }
+
+    @Override
+    public Mono<Page<Franchise>> findAll(Integer pageSize, String cursor) {
+        LOGGER.debug("Finding all franchises with pageSize: {} and cursor: {}", pageSize, cursor);
+        return Mono.fromCallable(() -> {
+            NavigableMap<String, String> remaining = after(idIndex, cursor, "id");
+            List<Franchise> items = new ArrayList<>();
+            String nextCursor = fill(remaining, pageSize, id -> {
+                Franchise franchise = franchises.get(id);
+                if (franchise != null) {
+                    items.add(copy(franchise));
+                }
+            }, "id");
+            return Page.of(items, nextCursor, pageSize);
+        });
+    }
+
+    @Override
+    public Mono<Page<FranchiseSummary>> findSummaries(Integer pageSize, String cursor) {
+        LOGGER.debug("Listing franchise summaries with pageSize: {} and cursor: {}", pageSize, cursor);
+        return Mono.fromCallable(() -> {
+            NavigableMap<String, String> remaining = after(nameIndex, cursor, "listSortKey");
+            List<FranchiseSummary> items = new ArrayList<>();
+            String nextCursor = fill(remaining, pageSize, id -> {
+                Franchise franchise = franchises.get(id);
+                if (franchise != null) {
+                    items.add(FranchiseSummary.of(franchise));
+                }
+            }, "listSortKey");
+            return Page.of(items, nextCursor, pageSize);
+        });
+    }
+
+    private static NavigableMap<String, String> after(ConcurrentNavigableMap<String, String> index, String cursor,
+                                                      String cursorKey) {
+        Map<String, String> decodedCursor = CursorUtil.decodeCursor(cursor);
+        if (decodedCursor == null || !decodedCursor.containsKey(cursorKey)) {
+            return index;
+        }
+        return index.tailMap(decodedCursor.get(cursorKey), false);
+    }
+
+    /**
+     * Walks the index up to {@code pageSize} entries and returns the cursor of the last one when more
+     * entries follow. Like a DynamoDB page, a franchise deleted between two pages is simply skipped.
+     */
+    private static String fill(NavigableMap<String, String> remaining, Integer pageSize, Consumer<String> consumer,
+                               String cursorKey) {
+        Iterator<Map.Entry<String, String>> entries = remaining.entrySet().iterator();
+        String lastKey = null;
+        int taken = 0;
+        while (entries.hasNext() && (pageSize == null || taken < pageSize)) {
+            Map.Entry<String, String> entry = entries.next();
+            consumer.accept(entry.getValue());
+            lastKey = entry.getKey();
+            taken++;
+        }
+        if (lastKey == null || !entries.hasNext()) {
+            return null;
+        }
+        return CursorUtil.encodeCursor(Map.of(cursorKey, lastKey));
+    }
+
+    private void reindex(Franchise previous, Franchise next) {
+        String previousSortKey = previous == null ? null : FranchiseListing.sortKey(previous);
+        if (next == null) {
+            nameIndex.remove(previousSortKey);
+            idIndex.remove(previous.getId());
+            return;
+        }
+        // The new entry is added before the old one goes, so a concurrent listing never misses a rename.
+        String nextSortKey = FranchiseListing.sortKey(next);
+        idIndex.put(next.getId(), next.getId());
+        nameIndex.put(nextSortKey, next.getId());
+        if (previousSortKey != null && !previousSortKey.equals(nextSortKey)) {
+            nameIndex.remove(previousSortKey);
+        }
+    }
+
+    private static Franchise copy(Franchise franchise) {
+        return copyWithVersion(franchise, franchise.getVersion());
+    }
+
+    private static Franchise copyWithVersion(Franchise franchise, Long version) {
+        List<Branch> branches = new ArrayList<>(franchise.getBranches().size());
+        for (Branch branch : franchise.getBranches()) {
+            List<Product> products = new ArrayList<>(branch.getProducts().size());
+            for (Product product : branch.getProducts()) {
+                products.add(product.toBuilder().build());
+            }
+            branches.add(Branch.builder()
+                    .id(branch.getId())
+                    .name(branch.getName())
+                    .products(products)
+                    .build());
+        }
+        return Franchise.builder()
+                .id(franchise.getId())
+                .name(franchise.getName())
+                .branches(branches)
+                .version(version)
+                .build();
+    }
+}
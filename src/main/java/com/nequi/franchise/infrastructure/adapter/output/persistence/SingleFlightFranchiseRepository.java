@@ -0,0 +1,118 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence;
+
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.domain.model.FranchiseSummary;
+import com.nequi.franchise.domain.model.Page;
+import com.nequi.franchise.domain.model.StockUpdate;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces concurrent {@link #findById(String)} calls for the same franchise into one load. Callers
+ * arriving while a load is in flight share its result; once it completes the entry is dropped, so
+ * nothing is cached past the round trip. Every other operation goes straight to the delegate.
+ *
+ * <p>Coalesced callers receive the same {@link Franchise} instance and must treat it as read-only;
+ * mutations go through {@code update}, which always loads its own copy.
+ */
+public class SingleFlightFranchiseRepository implements FranchiseRepositoryPort {
+
+    private final FranchiseRepositoryPort delegate;
+    private final DynamoDBMetrics metrics;
+    private final Map<String, Mono<Franchise>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlightFranchiseRepository(FranchiseRepositoryPort delegate, DynamoDBMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Mono<Franchise> findById(String id) {
+        return Mono.defer(() -> {
+            boolean[] leader = {false};
+            Mono<Franchise> load = inFlight.computeIfAbsent(id, key -> {
+                leader[0] = true;
+                return load(key);
+            });
+            metrics.recordFindById(!leader[0]);
+            return load;
+        });
+    }
+
+    private Mono<Franchise> load(String id) {
+        // share() keeps the load running if the first caller cancels, so followers still get a result.
+        // The entry is only inserted while absent and only removed here, so remove(id) cannot drop a newer load.
+        return delegate.findById(id)
+                .doFinally(signal -> inFlight.remove(id))
+                .share();
+    }
+
+    @Override
+    public Mono<Franchise> findById(String id, FranchiseProjection projection) {
+        return projection.isFull() ? findById(id) : delegate.findById(id, projection);
+    }
+
+    @Override
+    public Mono<Franchise> save(Franchise franchise) {
+        return delegate.save(franchise);
+    }
+
+    @Override
+    public Mono<Franchise> update(String id, Consumer<Franchise> mutation) {
+        return delegate.update(id, mutation);
+    }
+
+    @Override
+    public Mono<Franchise> update(String id, FranchiseProjection projection, Consumer<Franchise> mutation) {
+        return delegate.update(id, projection, mutation);
+    }
+
+    @Override
+    public Mono<Void> delete(String id) {
+        return delegate.delete(id);
+    }
+
+    @Override
+    public Mono<Void> delete(String id, long expectedVersion) {
+        return delegate.delete(id, expectedVersion);
+    }
+
+    @Override
+    public Mono<Page<Franchise>> findAll(Integer pageSize, String cursor) {
+        return delegate.findAll(pageSize, cursor);
+    }
+
+    @Override
+    public Mono<Void> saveAll(List<Franchise> franchises) {
+        return delegate.saveAll(franchises);
+    }
+
+    @Override
+    public Mono<Page<FranchiseSummary>> findSummaries(Integer pageSize, String cursor) {
+        return delegate.findSummaries(pageSize, cursor);
+    }
+
+    @Override
+    public Flux<Franchise> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Flux<Franchise> findAllByIds(Collection<String> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Mono<StockUpdate> updateProductStock(String franchiseId, String branchId, String productId, Integer newStock) {
+        return delegate.updateProductStock(franchiseId, branchId, productId, newStock);
+    }
+}
@@ -0,0 +1,507 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence;
+
+import com.nequi.franchise.domain.exception.FranchiseNotFoundException;
+import com.nequi.franchise.domain.exception.FranchiseTooLargeException;
+import com.nequi.franchise.domain.exception.OptimisticLockException;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.domain.model.FranchiseSummary;
+import com.nequi.franchise.domain.model.Page;
+import com.nequi.franchise.domain.model.StockUpdate;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.batch.BatchWriter;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.capacity.CapacityAttribution;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.EntitySchemas;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseItemEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.mapper.FranchiseItemMapper;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.retry.DynamoDBRetryPolicy;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.scan.ParallelScanner;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.scan.ScanSettings;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import com.nequi.franchise.infrastructure.util.CursorUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactDeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactPutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Stores each franchise as one item collection: a {@code #META} row carrying name and version,
+ * plus one row per branch and per product under hierarchical sort keys. Writes only send the rows
+ * that changed, guarded by a version condition on the meta row. Product rows carry their own
+ * version, so stock can be updated in place with a single UpdateItem. The franchise version covers
+ * the meta row and the structure; writes that rename or remove a product are conditioned on the
+ * product row's version, so they notice a concurrent stock change.
+ */
+@Component
+@ConditionalOnProperty(name = "aws.dynamodb.layout", havingValue = "single-table")
+@Profile("!in-memory")
+public class SingleTableFranchiseAdapter implements FranchiseRepositoryPort {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SingleTableFranchiseAdapter.class);
+    private static final int MAX_TRANSACTION_ITEMS = 100;
+
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final DynamoDbEnhancedAsyncClient enhancedClient;
+    private final String tableName;
+    private final DynamoDbAsyncTable<FranchiseItemEntity> itemsTable;
+    private final FranchiseItemMapper itemMapper;
+    private final BatchWriter<FranchiseItemEntity> batchWriter;
+    private final DynamoDBRetryPolicy retryPolicy;
+    private final ParallelScanner<FranchiseItemEntity> scanner;
+
+    public SingleTableFranchiseAdapter(
+            DynamoDbAsyncClient dynamoDbAsyncClient,
+            DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient,
+            FranchiseItemMapper itemMapper,
+            DynamoDBMetrics dynamoDBMetrics,
+            ScanSettings scanSettings,
+            DynamoDBRetryPolicy retryPolicy,
+            @Value("${aws.dynamodb.items-table-name}") String tableName) {
+        this.dynamoDbClient = dynamoDbAsyncClient;
+        this.enhancedClient = dynamoDbEnhancedAsyncClient;
+        this.tableName = tableName;
+        this.itemsTable = dynamoDbEnhancedAsyncClient.table(tableName, EntitySchemas.FRANCHISE_ITEM);
+        this.itemMapper = itemMapper;
+        this.batchWriter = new BatchWriter<>(dynamoDbEnhancedAsyncClient, itemsTable, FranchiseItemEntity.class, dynamoDBMetrics);
+        this.scanner = new ParallelScanner<>(itemsTable, dynamoDBMetrics, scanSettings);
+        this.retryPolicy = retryPolicy;
+    }
+
+    @Override
+    public Mono<Franchise> save(Franchise franchise) {
+        return loadItems(franchise.getId())
+                .collectList()
+                .flatMap(existing -> write(franchise, existing, false))
+                .onErrorMap(ConditionalWrites::isConditionFailure, throwable -> {
+                    LOGGER.warn("Optimistic lock conflict detected for franchise: {}", franchise.getId());
+                    return new OptimisticLockException(
+                        "Franchise " + franchise.getId() + " was modified by another request"
+                    );
+                });
+    }
+
+    @Override
+    public Mono<Void> saveAll(List<Franchise> franchises) {
+        List<FranchiseItemEntity> items = new ArrayList<>();
+        for (Franchise franchise : franchises) {
+            List<FranchiseItemEntity> franchiseItems = itemMapper.toItems(franchise);
+            franchiseItems.get(0).setVersion((franchise.getVersion() == null ? 0L : franchise.getVersion()) + 1);
+            items.addAll(franchiseItems);
+        }
+        return batchWriter.putAll(items)
+                .doOnNext(resent -> franchises.forEach(Franchise::incrementVersion))
+                .then();
+    }
+
+    @Override
+    public Mono<Franchise> update(String id, Consumer<Franchise> mutation) {
+        return updateWithRetry(id, FranchiseProjection.full(), mutation);
+    }
+
+    @Override
+    public Mono<Franchise> update(String id, FranchiseProjection projection, Consumer<Franchise> mutation) {
+        return updateWithRetry(id, projection, mutation);
+    }
+
+    private Mono<Franchise> updateWithRetry(String id, FranchiseProjection projection, Consumer<Franchise> mutation) {
+        return Mono.defer(() -> loadItems(id, projection))
+                .flatMap(existing -> {
+                    Franchise franchise = itemMapper.toDomain(existing);
+                    if (franchise == null) {
+                        return Mono.empty();
+                    }
+                    mutation.accept(franchise);
+                    return write(franchise, existing, !projection.isFull());
+                })
+                .retryWhen(retryPolicy.onConflict(id));
+    }
+
+    /**
+     * Writes the difference between the loaded rows and the franchise. When only part of the partition
+     * was loaded, rows outside it are left alone and the meta row counters are adjusted by the change
+     * instead of being recounted.
+     */
+    private Mono<Franchise> write(Franchise franchise, List<FranchiseItemEntity> existing, boolean partial) {
+        long expectedVersion = franchise.getVersion() == null ? 0L : franchise.getVersion();
+
+        Map<String, FranchiseItemEntity> existingBySortKey = existing.stream()
+                .collect(Collectors.toMap(FranchiseItemEntity::getSk, Function.identity()));
+
+        List<FranchiseItemEntity> desired = itemMapper.toItems(franchise);
+        FranchiseItemEntity meta = desired.get(0);
+        meta.setVersion(expectedVersion + 1);
+
+        FranchiseItemEntity loadedMeta = existingBySortKey.get(meta.getSk());
+        if (partial && hasCounters(loadedMeta)) {
+            meta.setBranchCount(loadedMeta.getBranchCount()
+                    + countRows(desired, FranchiseItemEntity.TYPE_BRANCH) - countRows(existing, FranchiseItemEntity.TYPE_BRANCH));
+            meta.setProductCount(loadedMeta.getProductCount()
+                    + countRows(desired, FranchiseItemEntity.TYPE_PRODUCT) - countRows(existing, FranchiseItemEntity.TYPE_PRODUCT));
+        }
+
+        int nextPosition = existing.stream()
+                .map(FranchiseItemEntity::getPosition)
+                .filter(Objects::nonNull)
+                .max(Integer::compare)
+                .orElse(-1) + 1;
+
+        List<FranchiseItemEntity> puts = new ArrayList<>();
+        for (FranchiseItemEntity item : desired.subList(1, desired.size())) {
+            FranchiseItemEntity current = existingBySortKey.remove(item.getSk());
+            item.setPosition(current != null && current.getPosition() != null ? current.getPosition() : nextPosition++);
+            if (current != null) {
+                item.setVersion(current.getVersion());
+            }
+            if (!item.equals(current)) {
+                puts.add(item);
+            }
+        }
+        existingBySortKey.remove(meta.getSk());
+        List<FranchiseItemEntity> deletes = new ArrayList<>(existingBySortKey.values());
+
+        LOGGER.debug("Writing franchise: {} with {} changed rows and {} removed rows",
+            franchise.getId(), puts.size(), deletes.size());
+
+        Mono<Void> writes = writeTransactionally(meta, expectedVersion, puts, deletes);
+
+        return writes.then(Mono.fromCallable(() -> {
+            franchise.incrementVersion();
+            return franchise;
+        }));
+    }
+
+    private static boolean hasCounters(FranchiseItemEntity meta) {
+        return meta != null && meta.getBranchCount() != null && meta.getProductCount() != null;
+    }
+
+    private static long countRows(List<FranchiseItemEntity> items, String type) {
+        return items.stream().filter(item -> type.equals(item.getType())).count();
+    }
+
+    /**
+     * Writes the change set and the meta row in one transaction, so the new state is either fully in
+     * place or not at all. Product rows are conditioned on their own version and the meta row on the
+     * franchise version. DynamoDB caps a transaction at {@value #MAX_TRANSACTION_ITEMS} items, and a
+     * change set split over several of them could commit in part, so larger change sets are rejected
+     * before anything is written.
+     */
+    private Mono<Void> writeTransactionally(FranchiseItemEntity meta, long expectedVersion,
+                                            List<FranchiseItemEntity> puts, List<FranchiseItemEntity> deletes) {
+        int rows = puts.size() + deletes.size();
+        if (rows > MAX_TRANSACTION_ITEMS - 1) {
+            return Mono.error(new FranchiseTooLargeException("Franchise " + meta.getId() + " change of " + rows
+                    + " rows exceeds the " + (MAX_TRANSACTION_ITEMS - 1) + " rows a single write can change"));
+        }
+
+        TransactWriteItemsEnhancedRequest.Builder request = TransactWriteItemsEnhancedRequest.builder()
+                .addPutItem(itemsTable, TransactPutItemEnhancedRequest.builder(FranchiseItemEntity.class)
+                        .item(meta)
+                        .conditionExpression(ConditionalWrites.versionCondition(expectedVersion))
+                        .build());
+        puts.forEach(item -> addPut(request, item));
+        deletes.forEach(item -> addDelete(request, item));
+        TransactWriteItemsEnhancedRequest transaction = request.build();
+        return CapacityAttribution.call(meta.getId(), () -> enhancedClient.transactWriteItems(transaction))
+                .then();
+    }
+
+    private void addPut(TransactWriteItemsEnhancedRequest.Builder request, FranchiseItemEntity item) {
+        if (FranchiseItemEntity.TYPE_PRODUCT.equals(item.getType())) {
+            request.addPutItem(itemsTable, TransactPutItemEnhancedRequest.builder(FranchiseItemEntity.class)
+                    .item(item)
+                    .conditionExpression(ConditionalWrites.versionCondition(versionOf(item)))
+                    .build());
+        } else {
+            request.addPutItem(itemsTable, item);
+        }
+    }
+
+    private void addDelete(TransactWriteItemsEnhancedRequest.Builder request, FranchiseItemEntity item) {
+        Key key = Key.builder().partitionValue(item.getPk()).sortValue(item.getSk()).build();
+        if (FranchiseItemEntity.TYPE_PRODUCT.equals(item.getType())) {
+            request.addDeleteItem(itemsTable, TransactDeleteItemEnhancedRequest.builder()
+                    .key(key)
+                    .conditionExpression(ConditionalWrites.versionCondition(versionOf(item)))
+                    .build());
+        } else {
+            request.addDeleteItem(itemsTable, key);
+        }
+    }
+
+    private static long versionOf(FranchiseItemEntity item) {
+        return item.getVersion() == null ? 0L : item.getVersion();
+    }
+
+    /**
+     * Sets the stock on the product row with one UpdateItem and returns the row's new version. The
+     * meta row is not touched, so stock changes to different products of one franchise never conflict;
+     * writes that replace or remove a product row check its version instead.
+     */
+    @Override
+    public Mono<StockUpdate> updateProductStock(String franchiseId, String branchId, String productId, Integer newStock) {
+        UpdateItemRequest request = UpdateItemRequest.builder()
+                .tableName(tableName)
+                .key(Map.of(
+                    "pk", AttributeValue.builder().s(FranchiseItemMapper.partitionKey(franchiseId)).build(),
+                    "sk", AttributeValue.builder().s(FranchiseItemMapper.productSortKey(branchId, productId)).build()))
+                .updateExpression("SET #stock = :stock ADD #version :one")
+                .conditionExpression("attribute_exists(sk)")
+                .expressionAttributeNames(Map.of("#stock", "stock", "#version", ConditionalWrites.VERSION_ATTRIBUTE))
+                .expressionAttributeValues(Map.of(
+                    ":stock", AttributeValue.builder().n(String.valueOf(newStock)).build(),
+                    ":one", AttributeValue.builder().n("1").build()))
+                .returnValues(ReturnValue.UPDATED_NEW)
+                .build();
+
+        return CapacityAttribution.call(franchiseId, () -> dynamoDbClient.updateItem(request))
+                .map(response -> StockUpdate.builder()
+                        .franchiseId(franchiseId)
+                        .branchId(branchId)
+                        .productId(productId)
+                        .stock(Integer.valueOf(response.attributes().get("stock").n()))
+                        .version(Long.valueOf(response.attributes().get(ConditionalWrites.VERSION_ATTRIBUTE).n()))
+                        .build())
+                .onErrorResume(ConditionalWrites::isConditionFailure, throwable ->
+                        explainMissingProduct(franchiseId, branchId, productId));
+    }
+
+    /**
+     * Turns a failed product row condition into the not-found error for whatever is missing. A product
+     * found on the re-read was recreated concurrently, which is reported as a conflict.
+     */
+    private Mono<StockUpdate> explainMissingProduct(String franchiseId, String branchId, String productId) {
+        return findById(franchiseId)
+                .switchIfEmpty(Mono.error(new FranchiseNotFoundException("Franchise not found with id: " + franchiseId)))
+                .flatMap(franchise -> {
+                    franchise.findBranch(branchId).findProduct(productId);
+                    return Mono.<StockUpdate>error(new OptimisticLockException(
+                        "Franchise " + franchiseId + " was modified by another request"));
+                });
+    }
+
+    private static Key metaKey(String franchiseId) {
+        return Key.builder()
+                .partitionValue(FranchiseItemMapper.partitionKey(franchiseId))
+                .sortValue(FranchiseItemMapper.metaSortKey())
+                .build();
+    }
+
+    @Override
+    public Mono<Franchise> findById(String id) {
+        return loadItems(id)
+                .collectList()
+                .flatMap(items -> Mono.justOrEmpty(itemMapper.toDomain(items)));
+    }
+
+    @Override
+    public Mono<Franchise> findById(String id, FranchiseProjection projection) {
+        return loadItems(id, projection)
+                .flatMap(items -> Mono.justOrEmpty(itemMapper.toDomain(items)));
+    }
+
+    @Override
+    public Mono<Void> delete(String id) {
+        return loadItems(id)
+                .map(item -> Key.builder().partitionValue(item.getPk()).sortValue(item.getSk()).build())
+                .collectList()
+                .flatMap(batchWriter::deleteAll)
+                .then()
+                .contextWrite(CapacityAttribution.franchise(id));
+    }
+
+    /**
+     * Deletes the meta row under the version condition first, so a concurrent writer either lands
+     * before it and fails the delete, or fails its own condition afterwards. The branch and product
+     * rows left behind are then removed in batches.
+     */
+    @Override
+    public Mono<Void> delete(String id, long expectedVersion) {
+        DeleteItemEnhancedRequest request = DeleteItemEnhancedRequest.builder()
+                .key(metaKey(id))
+                .conditionExpression(ConditionalWrites.versionCondition(expectedVersion))
+                .build();
+        return CapacityAttribution.call(id, () -> itemsTable.deleteItem(request))
+                .onErrorMap(ConditionalWrites::isConditionFailure, throwable -> {
+                    LOGGER.warn("Optimistic lock conflict detected deleting franchise: {}", id);
+                    return new OptimisticLockException("Franchise " + id + " was modified by another request");
+                })
+                .then(delete(id));
+    }
+
+    @Override
+    public Flux<Franchise> streamAll() {
+        // A partition never spans segments and its rows arrive together, so each segment can be
+        // regrouped into aggregates without any follow-up query.
+        return scanner.scanSegments(null, items -> items
+                .bufferUntilChanged(FranchiseItemEntity::getPk)
+                .mapNotNull(itemMapper::toDomain));
+    }
+
+    @Override
+    public Mono<Page<FranchiseSummary>> findSummaries(Integer pageSize, String cursor) {
+        LOGGER.debug("Listing franchise summaries with pageSize: {} and cursor: {}", pageSize, cursor);
+
+        QueryEnhancedRequest.Builder requestBuilder = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(FranchiseListing.BUCKET).build()))
+                .limit(pageSize);
+        Map<String, AttributeValue> exclusiveStartKey = FranchiseListing.decodeCursor(cursor);
+        if (exclusiveStartKey != null) {
+            requestBuilder.exclusiveStartKey(exclusiveStartKey);
+        }
+
+        QueryEnhancedRequest request = requestBuilder.build();
+        return CapacityAttribution.pages(null, () -> itemsTable.index(FranchiseListing.INDEX_NAME).query(request))
+                .next()
+                .map(page -> {
+                    List<FranchiseSummary> summaries = page.items().stream()
+                            .map(itemMapper::toSummary)
+                            .toList();
+                    String nextCursor = FranchiseListing.encodeCursor(page.lastEvaluatedKey());
+                    LOGGER.debug("Found {} franchise summaries, hasMore: {}", summaries.size(), nextCursor != null);
+                    return Page.of(summaries, nextCursor, pageSize);
+                })
+                .defaultIfEmpty(Page.empty());
+    }
+
+    @Override
+    public Mono<Page<Franchise>> findAll(Integer pageSize, String cursor) {
+        LOGGER.debug("Finding all franchises with pageSize: {} and cursor: {}", pageSize, cursor);
+
+        ScanEnhancedRequest.Builder requestBuilder = ScanEnhancedRequest.builder()
+                .filterExpression(Expression.builder()
+                        .expression("#type = :franchise")
+                        .putExpressionName("#type", "type")
+                        .putExpressionValue(":franchise", AttributeValue.builder().s(FranchiseItemEntity.TYPE_FRANCHISE).build())
+                        .build());
+
+        if (cursor != null) {
+            Map<String, String> decodedCursor = CursorUtil.decodeCursor(cursor);
+            if (decodedCursor != null && decodedCursor.containsKey("pk") && decodedCursor.containsKey("sk")) {
+                Map<String, AttributeValue> exclusiveStartKey = new HashMap<>();
+                exclusiveStartKey.put("pk", AttributeValue.builder().s(decodedCursor.get("pk")).build());
+                exclusiveStartKey.put("sk", AttributeValue.builder().s(decodedCursor.get("sk")).build());
+                requestBuilder.exclusiveStartKey(exclusiveStartKey);
+            }
+        }
+
+        ScanEnhancedRequest request = requestBuilder.build();
+        return CapacityAttribution.pages(null, () -> itemsTable.scan(request))
+                .concatMapIterable(page -> page.items())
+                .take(pageSize + 1L)
+                .collectList()
+                .flatMap(metas -> {
+                    boolean hasMore = metas.size() > pageSize;
+                    List<FranchiseItemEntity> pageMetas = hasMore ? metas.subList(0, pageSize) : metas;
+
+                    String nextCursor = null;
+                    if (hasMore) {
+                        FranchiseItemEntity last = pageMetas.get(pageMetas.size() - 1);
+                        Map<String, String> cursorData = new HashMap<>();
+                        cursorData.put("pk", last.getPk());
+                        cursorData.put("sk", last.getSk());
+                        nextCursor = CursorUtil.encodeCursor(cursorData);
+                    }
+
+                    String finalCursor = nextCursor;
+                    return Flux.fromIterable(pageMetas)
+                            .flatMapSequential(meta -> findById(meta.getId()))
+                            .collectList()
+                            .map(franchises -> {
+                                LOGGER.debug("Found {} franchises, hasMore: {}", franchises.size(), finalCursor != null);
+                                return franchises.isEmpty() ? Page.<Franchise>empty() : Page.of(franchises, finalCursor, pageSize);
+                            });
+                });
+    }
+
+    /**
+     * Reads the meta row and the rows under the projection in parallel. Meta rows written before the
+     * counters existed fall back to the whole partition, since a partial write could not adjust them.
+     */
+    private Mono<List<FranchiseItemEntity>> loadItems(String franchiseId, FranchiseProjection projection) {
+        if (projection.isFull()) {
+            return loadItems(franchiseId).collectList();
+        }
+        return Mono.zip(CapacityAttribution.call(franchiseId, () -> itemsTable.getItem(metaKey(franchiseId))),
+                        loadProjectedChildren(franchiseId, projection).collectList())
+                .flatMap(loaded -> {
+                    if (!hasCounters(loaded.getT1())) {
+                        return loadItems(franchiseId).collectList();
+                    }
+                    List<FranchiseItemEntity> items = new ArrayList<>(loaded.getT2().size() + 1);
+                    items.add(loaded.getT1());
+                    items.addAll(loaded.getT2());
+                    return Mono.just(items);
+                });
+    }
+
+    private Flux<FranchiseItemEntity> loadProjectedChildren(String franchiseId, FranchiseProjection projection) {
+        String pk = FranchiseItemMapper.partitionKey(franchiseId);
+        return switch (projection.getScope()) {
+            case BRANCH -> {
+                String branchSortKey = FranchiseItemMapper.branchSortKey(projection.getBranchId());
+                String productPrefix = FranchiseItemMapper.productSortKey(projection.getBranchId(), "");
+                QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                        .queryConditional(QueryConditional.sortBeginsWith(Key.builder()
+                                .partitionValue(pk)
+                                .sortValue(branchSortKey)
+                                .build()))
+                        .build();
+                // The prefix also matches branches whose id starts with this one.
+                yield CapacityAttribution.pages(franchiseId, () -> itemsTable.query(request).items())
+                        .filter(item -> item.getSk().equals(branchSortKey) || item.getSk().startsWith(productPrefix));
+            }
+            case BRANCH_HEADERS -> {
+                QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                        .queryConditional(QueryConditional.sortBeginsWith(Key.builder()
+                                .partitionValue(pk)
+                                .sortValue(FranchiseItemMapper.branchSortKey(""))
+                                .build()))
+                        .filterExpression(Expression.builder()
+                                .expression("#type = :branch")
+                                .putExpressionName("#type", "type")
+                                .putExpressionValue(":branch", AttributeValue.builder().s(FranchiseItemEntity.TYPE_BRANCH).build())
+                                .build())
+                        .build();
+                yield CapacityAttribution.pages(franchiseId, () -> itemsTable.query(request).items());
+            }
+            default -> Flux.empty();
+        };
+    }
+
+    private Flux<FranchiseItemEntity> loadItems(String franchiseId) {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder()
+                        .partitionValue(FranchiseItemMapper.partitionKey(franchiseId))
+                        .build()))
+                .build();
+        return CapacityAttribution.pages(franchiseId, () -> itemsTable.query(request).items());
+    }
+}
@@ -0,0 +1,84 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.batch;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.capacity.CapacityAttribution;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.retry.DecorrelatedJitter;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+
+import java.time.Duration;
+import java.util.List;
+
+public class BatchReader<T> {
+
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchReader.class);
+    private static final int MAX_UNPROCESSED_RETRIES = 8;
+    private static final DecorrelatedJitter BACKOFF = new DecorrelatedJitter(Duration.ofMillis(50), Duration.ofSeconds(2));
+
+    private final DynamoDbEnhancedAsyncClient enhancedClient;
+    private final DynamoDbAsyncTable<T> table;
+    private final Class<T> itemClass;
+    private final DynamoDBMetrics metrics;
+
+    public BatchReader(DynamoDbEnhancedAsyncClient enhancedClient, DynamoDbAsyncTable<T> table, Class<T> itemClass,
+                       DynamoDBMetrics metrics) {
+        this.enhancedClient = enhancedClient;
+        this.table = table;
+        this.itemClass = itemClass;
+        this.metrics = metrics;
+    }
+
+    public Flux<T> getAll(List<Key> keys, int concurrency) {
+        return getAll(keys, concurrency, false);
+    }
+
+    public Flux<T> getAll(List<Key> keys, int concurrency, boolean consistentRead) {
+        return Flux.fromIterable(keys)
+                .buffer(MAX_BATCH_SIZE)
+                .flatMap(chunk -> read(chunk, consistentRead, 0, null), concurrency);
+    }
+
+    private Flux<T> read(List<Key> keys, boolean consistentRead, int attempt, Duration previousBackoff) {
+        ReadBatch.Builder<T> batch = ReadBatch.builder(itemClass).mappedTableResource(table);
+        for (Key key : keys) {
+            batch.addGetItem(GetItemEnhancedRequest.builder().key(key).consistentRead(consistentRead).build());
+        }
+        BatchGetItemEnhancedRequest request = BatchGetItemEnhancedRequest.builder()
+                .readBatches(batch.build())
+                .build();
+
+        // Only the first page is consumed: the SDK would otherwise re-request unprocessed keys immediately,
+        // without any backoff, while the table is throttling.
+        return CapacityAttribution.pages(null, () -> enhancedClient.batchGetItem(request)).next()
+                .flatMapMany(page -> {
+                    List<Key> unprocessed = page.unprocessedKeysForTable(table);
+                    Flux<T> found = Flux.fromIterable(page.resultsForTable(table));
+                    if (unprocessed.isEmpty()) {
+                        return found;
+                    }
+                    if (attempt >= MAX_UNPROCESSED_RETRIES) {
+                        return found.concatWith(Mono.error(new IllegalStateException(
+                            unprocessed.size() + " keys still unprocessed after " + MAX_UNPROCESSED_RETRIES + " batch get retries"
+                        )));
+                    }
+
+                    metrics.recordBatchGetRetries(table.tableName(), unprocessed.size());
+                    LOGGER.debug("Retrying {} unprocessed batch keys on table {}, attempt: {}",
+                        unprocessed.size(), table.tableName(), attempt + 1);
+
+                    Duration backoff = BACKOFF.next(previousBackoff);
+                    return found.concatWith(Mono.delay(backoff)
+                            .thenMany(Flux.defer(() -> read(unprocessed, consistentRead, attempt + 1, backoff))));
+                });
+    }
+}
@@ -0,0 +1,93 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.batch;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.capacity.CapacityAttribution;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.retry.DecorrelatedJitter;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+
+import java.time.Duration;
+import java.util.List;
+
+public class BatchWriter<T> {
+
+    public static final int MAX_BATCH_SIZE = 25;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchWriter.class);
+    private static final int MAX_UNPROCESSED_RETRIES = 8;
+    private static final DecorrelatedJitter BACKOFF = new DecorrelatedJitter(Duration.ofMillis(50), Duration.ofSeconds(2));
+
+    private final DynamoDbEnhancedAsyncClient enhancedClient;
+    private final DynamoDbAsyncTable<T> table;
+    private final Class<T> itemClass;
+    private final DynamoDBMetrics metrics;
+
+    public BatchWriter(DynamoDbEnhancedAsyncClient enhancedClient, DynamoDbAsyncTable<T> table, Class<T> itemClass,
+                       DynamoDBMetrics metrics) {
+        this.enhancedClient = enhancedClient;
+        this.table = table;
+        this.itemClass = itemClass;
+        this.metrics = metrics;
+    }
+
+    public Mono<Long> putAll(List<T> items) {
+        return Flux.fromIterable(items)
+                .buffer(MAX_BATCH_SIZE)
+                .concatMap(chunk -> write(chunk, List.of(), 0, null))
+                .reduce(0L, Long::sum);
+    }
+
+    public Mono<Long> deleteAll(List<Key> keys) {
+        return Flux.fromIterable(keys)
+                .buffer(MAX_BATCH_SIZE)
+                .concatMap(chunk -> write(List.of(), chunk, 0, null))
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> write(List<T> puts, List<Key> deletes, int attempt, Duration previousBackoff) {
+        WriteBatch.Builder<T> batch = WriteBatch.builder(itemClass).mappedTableResource(table);
+        for (T item : puts) {
+            batch.addPutItem(item);
+        }
+        for (Key key : deletes) {
+            batch.addDeleteItem(key);
+        }
+        BatchWriteItemEnhancedRequest request = BatchWriteItemEnhancedRequest.builder()
+                .writeBatches(batch.build())
+                .build();
+        if (attempt == 0) {
+            metrics.recordBatchWriteItems(table.tableName(), puts.size() + deletes.size());
+        }
+
+        return CapacityAttribution.call(null, () -> enhancedClient.batchWriteItem(request))
+                .flatMap(result -> {
+                    List<T> unprocessedPuts = result.unprocessedPutItemsForTable(table);
+                    List<Key> unprocessedDeletes = result.unprocessedDeleteItemsForTable(table);
+                    long unprocessed = unprocessedPuts.size() + unprocessedDeletes.size();
+                    if (unprocessed == 0) {
+                        return Mono.just(0L);
+                    }
+                    if (attempt >= MAX_UNPROCESSED_RETRIES) {
+                        return Mono.error(new IllegalStateException(
+                            unprocessed + " items still unprocessed after " + MAX_UNPROCESSED_RETRIES + " batch write retries"
+                        ));
+                    }
+
+                    metrics.recordBatchWriteRetries(table.tableName(), unprocessed);
+                    LOGGER.debug("Retrying {} unprocessed batch items on table {}, attempt: {}",
+                        unprocessed, table.tableName(), attempt + 1);
+
+                    Duration backoff = BACKOFF.next(previousBackoff);
+                    return Mono.delay(backoff)
+                            .then(Mono.defer(() -> write(unprocessedPuts, unprocessedDeletes, attempt + 1, backoff)))
+                            .map(retried -> retried + unprocessed);
+                });
+    }
+}
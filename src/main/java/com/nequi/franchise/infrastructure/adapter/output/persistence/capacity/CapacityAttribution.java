@@ -0,0 +1,87 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.capacity;
+
+import com.nequi.franchise.infrastructure.observability.UseCaseContext;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Carries the use case and franchise of a DynamoDB call from the Reactor context to
+ * {@link ConsumedCapacityInterceptor}. The SDK runs its interceptors' {@code beforeExecution} on the
+ * thread that issues the call, so the attribution only has to sit in a thread local for the moment the
+ * call is made. Calls issued outside these helpers, such as the later pages of a paginated query, are
+ * still accounted but count as unattributed.
+ */
+public final class CapacityAttribution {
+
+    private static final String FRANCHISE_KEY = CapacityAttribution.class.getName() + ".franchise";
+    private static final ThreadLocal<Attribution> CURRENT = new ThreadLocal<>();
+
+    public record Attribution(String useCase, String franchiseId) {
+    }
+
+    private CapacityAttribution() {
+    }
+
+    /**
+     * Attributes the calls below to one franchise, for helpers such as the batch writer that do not know
+     * which franchise their items belong to.
+     */
+    public static Function<Context, Context> franchise(String franchiseId) {
+        return context -> context.put(FRANCHISE_KEY, franchiseId);
+    }
+
+    /**
+     * Issues a single-response call on subscription.
+     *
+     * @param franchiseId the franchise the call reads or writes, or {@code null} to fall back to the one
+     *                    set with {@link #franchise(String)}, if any
+     */
+    public static <T> Mono<T> call(String franchiseId, Supplier<CompletableFuture<T>> call) {
+        return Mono.deferContextual(context -> Mono.fromFuture(within(attribution(context, franchiseId), call)));
+    }
+
+    /**
+     * Subscribes to a paginated publisher. Its first request is sent while subscribing, so that is
+     * the call the attribution reaches.
+     */
+    public static <T> Flux<T> pages(String franchiseId, Supplier<? extends Publisher<T>> pages) {
+        return Flux.deferContextual(context -> {
+            Attribution attribution = attribution(context, franchiseId);
+            Publisher<T> source = pages.get();
+            return Flux.<T>from(subscriber -> within(attribution, () -> {
+                source.subscribe(subscriber);
+                return null;
+            }));
+        });
+    }
+
+    private static Attribution attribution(ContextView context, String franchiseId) {
+        String franchise = franchiseId != null ? franchiseId : context.getOrDefault(FRANCHISE_KEY, null);
+        return new Attribution(UseCaseContext.current(context), franchise);
+    }
+
+    static Attribution current() {
+        return CURRENT.get();
+    }
+
+    private static <T> T within(Attribution attribution, Supplier<T> action) {
+        Attribution previous = CURRENT.get();
+        CURRENT.set(attribution);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
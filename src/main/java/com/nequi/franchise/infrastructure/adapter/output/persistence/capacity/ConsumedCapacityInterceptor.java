@@ -0,0 +1,168 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.capacity;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.capacity.CapacityAttribution.Attribution;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import com.nequi.franchise.infrastructure.observability.UseCaseContext;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+import java.util.List;
+
+/**
+ * Asks DynamoDB for the consumed capacity of every data-plane call and records it per table, operation
+ * and use case, and per franchise in {@link FranchiseCapacityRanking}. Requests that already set
+ * {@code ReturnConsumedCapacity} keep their setting. Calls that fail, including conditional writes
+ * whose condition did not hold, return no capacity and are not counted even though DynamoDB bills them.
+ */
+@Component
+public class ConsumedCapacityInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Attribution> ATTRIBUTION = new ExecutionAttribute<>("ConsumedCapacityAttribution");
+
+    private final DynamoDBMetrics metrics;
+    private final FranchiseCapacityRanking ranking;
+
+    public ConsumedCapacityInterceptor(DynamoDBMetrics metrics, FranchiseCapacityRanking ranking) {
+        this.metrics = metrics;
+        this.ranking = ranking;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        Attribution attribution = CapacityAttribution.current();
+        if (attribution != null) {
+            executionAttributes.putAttribute(ATTRIBUTION, attribution);
+        }
+    }
+
+    @Override
+    public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+        SdkRequest request = context.request();
+        if (request instanceof GetItemRequest get && get.returnConsumedCapacity() == null) {
+            return get.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof PutItemRequest put && put.returnConsumedCapacity() == null) {
+            return put.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof UpdateItemRequest update && update.returnConsumedCapacity() == null) {
+            return update.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof DeleteItemRequest delete && delete.returnConsumedCapacity() == null) {
+            return delete.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof QueryRequest query && query.returnConsumedCapacity() == null) {
+            return query.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof ScanRequest scan && scan.returnConsumedCapacity() == null) {
+            return scan.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof BatchGetItemRequest batchGet && batchGet.returnConsumedCapacity() == null) {
+            return batchGet.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof BatchWriteItemRequest batchWrite && batchWrite.returnConsumedCapacity() == null) {
+            return batchWrite.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof TransactGetItemsRequest transactGet && transactGet.returnConsumedCapacity() == null) {
+            return transactGet.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof TransactWriteItemsRequest transactWrite && transactWrite.returnConsumedCapacity() == null) {
+            return transactWrite.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        return request;
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        List<ConsumedCapacity> consumed = consumedCapacity(context.response());
+        if (consumed.isEmpty()) {
+            return;
+        }
+        String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        boolean read = isRead(context.response());
+        Attribution attribution = executionAttributes.getAttribute(ATTRIBUTION);
+        String useCase = attribution == null ? UseCaseContext.UNATTRIBUTED : attribution.useCase();
+
+        double total = 0;
+        for (ConsumedCapacity capacity : consumed) {
+            double units = capacity.capacityUnits() == null ? 0 : capacity.capacityUnits();
+            String table = capacity.tableName() == null ? "unknown" : capacity.tableName();
+            metrics.recordConsumedCapacity(table, operation, useCase, read, units);
+            total += units;
+        }
+        if (attribution != null && attribution.franchiseId() != null) {
+            ranking.record(attribution.franchiseId(), read ? total : 0, read ? 0 : total);
+        }
+    }
+
+    private static List<ConsumedCapacity> consumedCapacity(SdkResponse response) {
+        if (response instanceof GetItemResponse get) {
+            return single(get.consumedCapacity());
+        }
+        if (response instanceof PutItemResponse put) {
+            return single(put.consumedCapacity());
+        }
+        if (response instanceof UpdateItemResponse update) {
+            return single(update.consumedCapacity());
+        }
+        if (response instanceof DeleteItemResponse delete) {
+            return single(delete.consumedCapacity());
+        }
+        if (response instanceof QueryResponse query) {
+            return single(query.consumedCapacity());
+        }
+        if (response instanceof ScanResponse scan) {
+            return single(scan.consumedCapacity());
+        }
+        if (response instanceof BatchGetItemResponse batchGet) {
+            return batchGet.consumedCapacity();
+        }
+        if (response instanceof BatchWriteItemResponse batchWrite) {
+            return batchWrite.consumedCapacity();
+        }
+        if (response instanceof TransactGetItemsResponse transactGet) {
+            return transactGet.consumedCapacity();
+        }
+        if (response instanceof TransactWriteItemsResponse transactWrite) {
+            return transactWrite.consumedCapacity();
+        }
+        return List.of();
+    }
+
+    private static List<ConsumedCapacity> single(ConsumedCapacity capacity) {
+        return capacity == null ? List.of() : List.of(capacity);
+    }
+
+    private static boolean isRead(SdkResponse response) {
+        return response instanceof GetItemResponse || response instanceof QueryResponse
+                || response instanceof ScanResponse || response instanceof BatchGetItemResponse
+                || response instanceof TransactGetItemsResponse;
+    }
+}
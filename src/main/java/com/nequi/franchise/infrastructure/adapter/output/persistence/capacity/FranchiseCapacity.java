@@ -0,0 +1,8 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.capacity;
+
+/**
+ * Capacity units consumed by calls attributed to one franchise since the service started.
+ */
+public record FranchiseCapacity(String franchiseId, double readCapacityUnits, double writeCapacityUnits,
+                                double totalCapacityUnits, long calls) {
+}
@@ -0,0 +1,79 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.capacity;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running capacity totals per franchise, kept in memory so the most expensive aggregates can be listed
+ * without a metric series per franchise. At most {@code trackedFranchises} are kept: when the map
+ * overflows, the cheapest tenth is dropped, so a franchise that was evicted and comes back starts
+ * from zero. The ranking is therefore exact for the heavy hitters it exists to find and approximate
+ * at the tail.
+ */
+@Component
+public class FranchiseCapacityRanking {
+
+    private final int trackedFranchises;
+    private final Map<String, Usage> usage = new ConcurrentHashMap<>();
+
+    public FranchiseCapacityRanking(@Value("${aws.dynamodb.capacity.tracked-franchises:10000}") int trackedFranchises) {
+        if (trackedFranchises < 1) {
+            throw new IllegalArgumentException("Tracked franchises must be positive");
+        }
+        this.trackedFranchises = trackedFranchises;
+    }
+
+    public void record(String franchiseId, double readUnits, double writeUnits) {
+        Usage entry = usage.computeIfAbsent(franchiseId, id -> new Usage());
+        entry.read.add(readUnits);
+        entry.write.add(writeUnits);
+        entry.calls.increment();
+        if (usage.size() > trackedFranchises) {
+            evictCheapest();
+        }
+    }
+
+    public List<FranchiseCapacity> top(int limit) {
+        return snapshot().stream()
+                .sorted(Comparator.comparingDouble(FranchiseCapacity::totalCapacityUnits).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private synchronized void evictCheapest() {
+        int excess = usage.size() - trackedFranchises;
+        if (excess <= 0) {
+            return;
+        }
+        int toEvict = Math.max(excess, trackedFranchises / 10);
+        snapshot().stream()
+                .sorted(Comparator.comparingDouble(FranchiseCapacity::totalCapacityUnits))
+                .limit(toEvict)
+                .forEach(capacity -> usage.remove(capacity.franchiseId()));
+    }
+
+    private List<FranchiseCapacity> snapshot() {
+        return usage.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .toList();
+    }
+
+    private static final class Usage {
+        private final DoubleAdder read = new DoubleAdder();
+        private final DoubleAdder write = new DoubleAdder();
+        private final LongAdder calls = new LongAdder();
+
+        private FranchiseCapacity snapshot(String franchiseId) {
+            double readUnits = read.sum();
+            double writeUnits = write.sum();
+            return new FranchiseCapacity(franchiseId, readUnits, writeUnits, readUnits + writeUnits, calls.sum());
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.codec;
+
+import com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary;
+import com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.NameDictionary;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import software.amazon.awssdk.core.SdkBytes;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.readId;
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.readNames;
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.readStock;
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.readVarint;
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.writeId;
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.writeStock;
+import static com.nequi.franchise.infrastructure.adapter.output.codec.CompactBinary.writeVarint;
+
+/**
+ * Compact binary form of a franchise's branches, stored in a single {@code B} attribute.
+ *
+ * <pre>
+ * byte     format version (1)
+ * deflate( varint nameCount, nameCount x string          -- every distinct branch/product name once
+ *          varint branchCount
+ *          per branch:  id, varint nameIndex, varint productCount
+ *          per product: id, varint nameIndex, varint (stock + 1), 0 meaning no stock )
+ * </pre>
+ *
+ * <p>Ids, strings and varints follow {@link CompactBinary}.
+ */
+public final class BranchesCodec {
+
+    public static final byte FORMAT_VERSION = 1;
+
+    private BranchesCodec() {
+    }
+
+    /**
+     * Moves the entity's branches into {@code branchesBin}, so that a put drops the nested map form.
+     */
+    public static FranchiseEntity pack(FranchiseEntity entity) {
+        List<BranchEntity> branches = entity.getBranches() == null ? List.of() : entity.getBranches();
+        entity.setBranchesBin(SdkBytes.fromByteArrayUnsafe(encode(branches)));
+        entity.setBranches(null);
+        return entity;
+    }
+
+    /**
+     * Restores {@code branches} from {@code branchesBin} when present. Items in the nested map form are
+     * returned unchanged, so both forms can be read whichever one is being written.
+     */
+    public static FranchiseEntity unpack(FranchiseEntity entity) {
+        if (entity.getBranchesBin() != null) {
+            entity.setBranches(decode(entity.getBranchesBin().asByteArrayUnsafe()));
+            entity.setBranchesBin(null);
+        }
+        return entity;
+    }
+
+    public static byte[] encode(List<BranchEntity> branches) {
+        NameDictionary dictionary = new NameDictionary();
+        for (BranchEntity branch : branches) {
+            dictionary.add(branch.getName());
+            for (ProductEntity product : productsOf(branch)) {
+                dictionary.add(product.getName());
+            }
+        }
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        dictionary.writeTo(payload);
+        writeVarint(payload, branches.size());
+        for (BranchEntity branch : branches) {
+            writeId(payload, branch.getId());
+            dictionary.writeIndex(payload, branch.getName());
+            List<ProductEntity> products = productsOf(branch);
+            writeVarint(payload, products.size());
+            for (ProductEntity product : products) {
+                writeId(payload, product.getId());
+                dictionary.writeIndex(payload, product.getName());
+                writeStock(payload, product.getStock());
+            }
+        }
+
+        return compress(payload.toByteArray());
+    }
+
+    public static List<BranchEntity> decode(byte[] encoded) {
+        if (encoded.length == 0 || encoded[0] != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported branches encoding version: "
+                + (encoded.length == 0 ? "none" : encoded[0]));
+        }
+        ByteBuffer in = ByteBuffer.wrap(decompress(encoded));
+        List<String> names = readNames(in);
+
+        int branchCount = readVarint(in);
+        List<BranchEntity> branches = new ArrayList<>(branchCount);
+        for (int b = 0; b < branchCount; b++) {
+            String branchId = readId(in);
+            String branchName = names.get(readVarint(in));
+            int productCount = readVarint(in);
+            List<ProductEntity> products = new ArrayList<>(productCount);
+            for (int p = 0; p < productCount; p++) {
+                String productId = readId(in);
+                String productName = names.get(readVarint(in));
+                products.add(ProductEntity.builder()
+                        .id(productId)
+                        .name(productName)
+                        .stock(readStock(in))
+                        .build());
+            }
+            branches.add(BranchEntity.builder()
+                    .id(branchId)
+                    .name(branchName)
+                    .products(products)
+                    .build());
+        }
+        return branches;
+    }
+
+    private static List<ProductEntity> productsOf(BranchEntity branch) {
+        return branch.getProducts() == null ? List.of() : branch.getProducts();
+    }
+
+    private static byte[] compress(byte[] payload) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(payload);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2 + 16);
+            out.write(FORMAT_VERSION);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(byte[] encoded) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(encoded, 1, encoded.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length * 4);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated branches encoding");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt branches encoding", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.entity;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.FranchiseListing;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+/**
+ * Hand-built table schemas for the persisted entities. {@code TableSchema.fromBean} introspects each
+ * bean and generates its accessors through {@code LambdaMetafactory} on first use, and nested beans
+ * are marshalled through that generic path for every branch and product; these schemas bind plain
+ * method references instead. Attribute names, keys and index tags mirror the {@code @DynamoDb*}
+ * annotations on the entities, which stay in place for tooling that still reads them.
+ */
+public final class EntitySchemas {
+
+    public static final StaticTableSchema<ProductEntity> PRODUCT = StaticTableSchema.builder(ProductEntity.class)
+            .newItemSupplier(ProductEntity::new)
+            .addAttribute(String.class, a -> a.name("id")
+                    .getter(ProductEntity::getId)
+                    .setter(ProductEntity::setId))
+            .addAttribute(String.class, a -> a.name("name")
+                    .getter(ProductEntity::getName)
+                    .setter(ProductEntity::setName))
+            .addAttribute(Integer.class, a -> a.name("stock")
+                    .getter(ProductEntity::getStock)
+                    .setter(ProductEntity::setStock))
+            .build();
+
+    public static final StaticTableSchema<BranchEntity> BRANCH = StaticTableSchema.builder(BranchEntity.class)
+            .newItemSupplier(BranchEntity::new)
+            .addAttribute(String.class, a -> a.name("id")
+                    .getter(BranchEntity::getId)
+                    .setter(BranchEntity::setId))
+            .addAttribute(String.class, a -> a.name("name")
+                    .getter(BranchEntity::getName)
+                    .setter(BranchEntity::setName))
+            .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(ProductEntity.class, PRODUCT)), a -> a.name("products")
+                    .getter(BranchEntity::getProducts)
+                    .setter(BranchEntity::setProducts))
+            .build();
+
+    public static final StaticTableSchema<FranchiseEntity> FRANCHISE = StaticTableSchema.builder(FranchiseEntity.class)
+            .newItemSupplier(FranchiseEntity::new)
+            .addAttribute(String.class, a -> a.name("id")
+                    .getter(FranchiseEntity::getId)
+                    .setter(FranchiseEntity::setId)
+                    .tags(StaticAttributeTags.primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("name")
+                    .getter(FranchiseEntity::getName)
+                    .setter(FranchiseEntity::setName))
+            .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(BranchEntity.class, BRANCH)), a -> a.name("branches")
+                    .getter(FranchiseEntity::getBranches)
+                    .setter(FranchiseEntity::setBranches))
+            .addAttribute(SdkBytes.class, a -> a.name("branchesBin")
+                    .getter(FranchiseEntity::getBranchesBin)
+                    .setter(FranchiseEntity::setBranchesBin))
+            .addAttribute(Long.class, a -> a.name("version")
+                    .getter(FranchiseEntity::getVersion)
+                    .setter(FranchiseEntity::setVersion))
+            .addAttribute(String.class, a -> a.name("listBucket")
+                    .getter(FranchiseEntity::getListBucket)
+                    .setter(FranchiseEntity::setListBucket)
+                    .tags(StaticAttributeTags.secondaryPartitionKey(FranchiseListing.INDEX_NAME)))
+            .addAttribute(String.class, a -> a.name("listSortKey")
+                    .getter(FranchiseEntity::getListSortKey)
+                    .setter(FranchiseEntity::setListSortKey)
+                    .tags(StaticAttributeTags.secondarySortKey(FranchiseListing.INDEX_NAME)))
+            .addAttribute(Integer.class, a -> a.name("branchCount")
+                    .getter(FranchiseEntity::getBranchCount)
+                    .setter(FranchiseEntity::setBranchCount))
+            .addAttribute(Integer.class, a -> a.name("productCount")
+                    .getter(FranchiseEntity::getProductCount)
+                    .setter(FranchiseEntity::setProductCount))
+            .addAttribute(String.class, a -> a.name("overflowToken")
+                    .getter(FranchiseEntity::getOverflowToken)
+                    .setter(FranchiseEntity::setOverflowToken))
+            .addAttribute(Integer.class, a -> a.name("overflowParts")
+                    .getter(FranchiseEntity::getOverflowParts)
+                    .setter(FranchiseEntity::setOverflowParts))
+            .addAttribute(String.class, a -> a.name("overflowOf")
+                    .getter(FranchiseEntity::getOverflowOf)
+                    .setter(FranchiseEntity::setOverflowOf))
+            .addAttribute(EnhancedType.listOf(Integer.class), a -> a.name("branchPositions")
+                    .getter(FranchiseEntity::getBranchPositions)
+                    .setter(FranchiseEntity::setBranchPositions))
+            .addAttribute(Long.class, a -> a.name("expiresAt")
+                    .getter(FranchiseEntity::getExpiresAt)
+                    .setter(FranchiseEntity::setExpiresAt))
+            .build();
+
+    public static final StaticTableSchema<FranchiseItemEntity> FRANCHISE_ITEM = StaticTableSchema.builder(FranchiseItemEntity.class)
+            .newItemSupplier(FranchiseItemEntity::new)
+            .addAttribute(String.class, a -> a.name("pk")
+                    .getter(FranchiseItemEntity::getPk)
+                    .setter(FranchiseItemEntity::setPk)
+                    .tags(StaticAttributeTags.primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("sk")
+                    .getter(FranchiseItemEntity::getSk)
+                    .setter(FranchiseItemEntity::setSk)
+                    .tags(StaticAttributeTags.primarySortKey()))
+            .addAttribute(String.class, a -> a.name("type")
+                    .getter(FranchiseItemEntity::getType)
+                    .setter(FranchiseItemEntity::setType))
+            .addAttribute(String.class, a -> a.name("id")
+                    .getter(FranchiseItemEntity::getId)
+                    .setter(FranchiseItemEntity::setId))
+            .addAttribute(String.class, a -> a.name("branchId")
+                    .getter(FranchiseItemEntity::getBranchId)
+                    .setter(FranchiseItemEntity::setBranchId))
+            .addAttribute(String.class, a -> a.name("name")
+                    .getter(FranchiseItemEntity::getName)
+                    .setter(FranchiseItemEntity::setName))
+            .addAttribute(Integer.class, a -> a.name("stock")
+                    .getter(FranchiseItemEntity::getStock)
+                    .setter(FranchiseItemEntity::setStock))
+            .addAttribute(Integer.class, a -> a.name("position")
+                    .getter(FranchiseItemEntity::getPosition)
+                    .setter(FranchiseItemEntity::setPosition))
+            .addAttribute(Long.class, a -> a.name("version")
+                    .getter(FranchiseItemEntity::getVersion)
+                    .setter(FranchiseItemEntity::setVersion))
+            .addAttribute(String.class, a -> a.name("listBucket")
+                    .getter(FranchiseItemEntity::getListBucket)
+                    .setter(FranchiseItemEntity::setListBucket)
+                    .tags(StaticAttributeTags.secondaryPartitionKey(FranchiseListing.INDEX_NAME)))
+            .addAttribute(String.class, a -> a.name("listSortKey")
+                    .getter(FranchiseItemEntity::getListSortKey)
+                    .setter(FranchiseItemEntity::setListSortKey)
+                    .tags(StaticAttributeTags.secondarySortKey(FranchiseListing.INDEX_NAME)))
+            .addAttribute(Integer.class, a -> a.name("branchCount")
+                    .getter(FranchiseItemEntity::getBranchCount)
+                    .setter(FranchiseItemEntity::setBranchCount))
+            .addAttribute(Integer.class, a -> a.name("productCount")
+                    .getter(FranchiseItemEntity::getProductCount)
+                    .setter(FranchiseItemEntity::setProductCount))
+            .build();
+
+    public static final StaticTableSchema<FranchiseChangeEntity> FRANCHISE_CHANGE = StaticTableSchema.builder(FranchiseChangeEntity.class)
+            .newItemSupplier(FranchiseChangeEntity::new)
+            .addAttribute(String.class, a -> a.name("type")
+                    .getter(FranchiseChangeEntity::getType)
+                    .setter(FranchiseChangeEntity::setType))
+            .addAttribute(String.class, a -> a.name("branchId")
+                    .getter(FranchiseChangeEntity::getBranchId)
+                    .setter(FranchiseChangeEntity::setBranchId))
+            .addAttribute(String.class, a -> a.name("productId")
+                    .getter(FranchiseChangeEntity::getProductId)
+                    .setter(FranchiseChangeEntity::setProductId))
+            .addAttribute(String.class, a -> a.name("name")
+                    .getter(FranchiseChangeEntity::getName)
+                    .setter(FranchiseChangeEntity::setName))
+            .addAttribute(Integer.class, a -> a.name("stock")
+                    .getter(FranchiseChangeEntity::getStock)
+                    .setter(FranchiseChangeEntity::setStock))
+            .build();
+
+    public static final StaticTableSchema<FranchiseEventEntity> FRANCHISE_EVENT = StaticTableSchema.builder(FranchiseEventEntity.class)
+            .newItemSupplier(FranchiseEventEntity::new)
+            .addAttribute(String.class, a -> a.name("pk")
+                    .getter(FranchiseEventEntity::getPk)
+                    .setter(FranchiseEventEntity::setPk)
+                    .tags(StaticAttributeTags.primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("sk")
+                    .getter(FranchiseEventEntity::getSk)
+                    .setter(FranchiseEventEntity::setSk)
+                    .tags(StaticAttributeTags.primarySortKey()))
+            .addAttribute(String.class, a -> a.name("type")
+                    .getter(FranchiseEventEntity::getType)
+                    .setter(FranchiseEventEntity::setType))
+            .addAttribute(Long.class, a -> a.name("version")
+                    .getter(FranchiseEventEntity::getVersion)
+                    .setter(FranchiseEventEntity::setVersion))
+            .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(FranchiseChangeEntity.class, FRANCHISE_CHANGE)), a -> a.name("changes")
+                    .getter(FranchiseEventEntity::getChanges)
+                    .setter(FranchiseEventEntity::setChanges))
+            .addAttribute(String.class, a -> a.name("name")
+                    .getter(FranchiseEventEntity::getName)
+                    .setter(FranchiseEventEntity::setName))
+            .addAttribute(SdkBytes.class, a -> a.name("branchesBin")
+                    .getter(FranchiseEventEntity::getBranchesBin)
+                    .setter(FranchiseEventEntity::setBranchesBin))
+            .addAttribute(String.class, a -> a.name("recordedAt")
+                    .getter(FranchiseEventEntity::getRecordedAt)
+                    .setter(FranchiseEventEntity::setRecordedAt))
+            .build();
+
+    private EntitySchemas() {
+    }
+}
@@ -0,0 +1,51 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+
+/**
+ * One change recorded in a franchise event. Only the attributes its
+ * {@link com.nequi.franchise.infrastructure.adapter.output.persistence.eventlog.ChangeType} needs are set.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamoDbBean
+public class FranchiseChangeEntity {
+
+    private String type;
+    private String branchId;
+    private String productId;
+    private String name;
+    private Integer stock;
+
+    @DynamoDbAttribute("type")
+    public String getType() {
+        return type;
+    }
+
+    @DynamoDbAttribute("branchId")
+    public String getBranchId() {
+        return branchId;
+    }
+
+    @DynamoDbAttribute("productId")
+    public String getProductId() {
+        return productId;
+    }
+
+    @DynamoDbAttribute("name")
+    public String getName() {
+        return name;
+    }
+
+    @DynamoDbAttribute("stock")
+    public Integer getStock() {
+        return stock;
+    }
+}
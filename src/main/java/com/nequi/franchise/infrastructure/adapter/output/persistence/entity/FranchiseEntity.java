@@ -1,12 +1,16 @@
 package com.nequi.franchise.infrastructure.adapter.output.persistence.entity;
 
+import com.nequi.franchise.infrastructure.adapter.output.persistence.FranchiseListing;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,7 +26,17 @@ public class FranchiseEntity {
     private String name;
     @Builder.Default
     private List<BranchEntity> branches = new ArrayList<>();
+    private SdkBytes branchesBin;
     private Long version;
+    private String listBucket;
+    private String listSortKey;
+    private Integer branchCount;
+    private Integer productCount;
+    private String overflowToken;
+    private Integer overflowParts;
+    private String overflowOf;
+    private List<Integer> branchPositions;
+    private Long expiresAt;
 
     @DynamoDbPartitionKey
     @DynamoDbAttribute("id")
@@ -40,8 +54,78 @@ public class FranchiseEntity {
         return branches;
     }
 
+    /**
+     * {@link com.nequi.franchise.infrastructure.adapter.output.persistence.codec.BranchesCodec} form of
+     * {@link #getBranches()}. An item carries one or the other, never both.
+     */
+    @DynamoDbAttribute("branchesBin")
+    public SdkBytes getBranchesBin() {
+        return branchesBin;
+    }
+
     @DynamoDbAttribute("version")
     public Long getVersion() {
         return version;
     }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = FranchiseListing.INDEX_NAME)
+    @DynamoDbAttribute("listBucket")
+    public String getListBucket() {
+        return listBucket;
+    }
+
+    @DynamoDbSecondarySortKey(indexNames = FranchiseListing.INDEX_NAME)
+    @DynamoDbAttribute("listSortKey")
+    public String getListSortKey() {
+        return listSortKey;
+    }
+
+    @DynamoDbAttribute("branchCount")
+    public Integer getBranchCount() {
+        return branchCount;
+    }
+
+    @DynamoDbAttribute("productCount")
+    public Integer getProductCount() {
+        return productCount;
+    }
+
+    /**
+     * Set on a franchise whose largest branches were spilled into overflow items: the token shared by
+     * the ids of those items, see
+     * {@link com.nequi.franchise.infrastructure.adapter.output.persistence.overflow.FranchiseOverflow}.
+     */
+    @DynamoDbAttribute("overflowToken")
+    public String getOverflowToken() {
+        return overflowToken;
+    }
+
+    @DynamoDbAttribute("overflowParts")
+    public Integer getOverflowParts() {
+        return overflowParts;
+    }
+
+    /**
+     * Set only on overflow items, to the id of the franchise they belong to. Scans skip these items.
+     */
+    @DynamoDbAttribute("overflowOf")
+    public String getOverflowOf() {
+        return overflowOf;
+    }
+
+    /**
+     * On overflow items, the position each of {@link #getBranches()} held in the franchise.
+     */
+    @DynamoDbAttribute("branchPositions")
+    public List<Integer> getBranchPositions() {
+        return branchPositions;
+    }
+
+    /**
+     * Set only on retired overflow items, to the epoch second after which the table's TTL removes them.
+     */
+    @DynamoDbAttribute("expiresAt")
+    public Long getExpiresAt() {
+        return expiresAt;
+    }
 }
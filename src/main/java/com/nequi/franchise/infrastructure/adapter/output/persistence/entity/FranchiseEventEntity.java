@@ -0,0 +1,91 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A row of the event-sourced layout. Each franchise partition holds one event row per version, keyed
+ * so that they sort in version order, and at most one snapshot row, whose key sorts after every event.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamoDbBean
+public class FranchiseEventEntity {
+
+    public static final String TYPE_EVENT = "EVENT";
+    public static final String TYPE_SNAPSHOT = "SNAPSHOT";
+    public static final String SNAPSHOT_SORT_KEY = "SNAPSHOT";
+    private static final String EVENT_PREFIX = "EVENT#";
+
+    private String pk;
+    private String sk;
+    private String type;
+    private Long version;
+    @Builder.Default
+    private List<FranchiseChangeEntity> changes = new ArrayList<>();
+    private String name;
+    private SdkBytes branchesBin;
+    private String recordedAt;
+
+    public static String eventSortKey(long version) {
+        return EVENT_PREFIX + String.format("%019d", version);
+    }
+
+    @DynamoDbPartitionKey
+    @DynamoDbAttribute("pk")
+    public String getPk() {
+        return pk;
+    }
+
+    @DynamoDbSortKey
+    @DynamoDbAttribute("sk")
+    public String getSk() {
+        return sk;
+    }
+
+    @DynamoDbAttribute("type")
+    public String getType() {
+        return type;
+    }
+
+    /** The franchise version the event produced, or the one the snapshot captures. */
+    @DynamoDbAttribute("version")
+    public Long getVersion() {
+        return version;
+    }
+
+    /** Event rows only. */
+    @DynamoDbAttribute("changes")
+    public List<FranchiseChangeEntity> getChanges() {
+        return changes;
+    }
+
+    /** Snapshot rows only. */
+    @DynamoDbAttribute("name")
+    public String getName() {
+        return name;
+    }
+
+    /** Snapshot rows only, in {@link com.nequi.franchise.infrastructure.adapter.output.persistence.codec.BranchesCodec} form. */
+    @DynamoDbAttribute("branchesBin")
+    public SdkBytes getBranchesBin() {
+        return branchesBin;
+    }
+
+    @DynamoDbAttribute("recordedAt")
+    public String getRecordedAt() {
+        return recordedAt;
+    }
+}
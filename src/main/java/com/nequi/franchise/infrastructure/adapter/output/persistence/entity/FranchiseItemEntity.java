@@ -0,0 +1,108 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.entity;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.FranchiseListing;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamoDbBean
+public class FranchiseItemEntity {
+
+    public static final String TYPE_FRANCHISE = "FRANCHISE";
+    public static final String TYPE_BRANCH = "BRANCH";
+    public static final String TYPE_PRODUCT = "PRODUCT";
+
+    private String pk;
+    private String sk;
+    private String type;
+    private String id;
+    private String branchId;
+    private String name;
+    private Integer stock;
+    private Integer position;
+    private Long version;
+    private String listBucket;
+    private String listSortKey;
+    private Integer branchCount;
+    private Integer productCount;
+
+    @DynamoDbPartitionKey
+    @DynamoDbAttribute("pk")
+    public String getPk() {
+        return pk;
+    }
+
+    @DynamoDbSortKey
+    @DynamoDbAttribute("sk")
+    public String getSk() {
+        return sk;
+    }
+
+    @DynamoDbAttribute("type")
+    public String getType() {
+        return type;
+    }
+
+    @DynamoDbAttribute("id")
+    public String getId() {
+        return id;
+    }
+
+    @DynamoDbAttribute("branchId")
+    public String getBranchId() {
+        return branchId;
+    }
+
+    @DynamoDbAttribute("name")
+    public String getName() {
+        return name;
+    }
+
+    @DynamoDbAttribute("stock")
+    public Integer getStock() {
+        return stock;
+    }
+
+    @DynamoDbAttribute("position")
+    public Integer getPosition() {
+        return position;
+    }
+
+    @DynamoDbAttribute("version")
+    public Long getVersion() {
+        return version;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = FranchiseListing.INDEX_NAME)
+    @DynamoDbAttribute("listBucket")
+    public String getListBucket() {
+        return listBucket;
+    }
+
+    @DynamoDbSecondarySortKey(indexNames = FranchiseListing.INDEX_NAME)
+    @DynamoDbAttribute("listSortKey")
+    public String getListSortKey() {
+        return listSortKey;
+    }
+
+    @DynamoDbAttribute("branchCount")
+    public Integer getBranchCount() {
+        return branchCount;
+    }
+
+    @DynamoDbAttribute("productCount")
+    public Integer getProductCount() {
+        return productCount;
+    }
+}
@@ -0,0 +1,15 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.eventlog;
+
+public enum ChangeType {
+    /** Sets the franchise name. */
+    FRANCHISE_RENAMED,
+    /** Appends an empty branch with the given id and name. */
+    BRANCH_ADDED,
+    BRANCH_RENAMED,
+    BRANCH_REMOVED,
+    /** Appends a product with the given id, name and stock to the branch. */
+    PRODUCT_ADDED,
+    PRODUCT_RENAMED,
+    STOCK_CHANGED,
+    PRODUCT_REMOVED
+}
@@ -0,0 +1,164 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.eventlog;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseChangeEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Derives the changes between two states of a franchise and replays them. Replay works on entities and
+ * skips the domain checks: the changes were taken from states the domain already accepted, so
+ * re-validating them could only reject history.
+ */
+public final class FranchiseChanges {
+
+    private FranchiseChanges() {
+    }
+
+    /**
+     * The changes that turn {@code before} into {@code after}. Removals come first and additions last, in
+     * the order of {@code after}, so that replaying them reproduces its branch and product order.
+     */
+    public static List<FranchiseChangeEntity> diff(FranchiseEntity before, FranchiseEntity after) {
+        List<FranchiseChangeEntity> changes = new ArrayList<>();
+        if (!Objects.equals(before.getName(), after.getName())) {
+            changes.add(change(ChangeType.FRANCHISE_RENAMED, null, null).name(after.getName()).build());
+        }
+
+        Map<String, BranchEntity> previousBranches = byId(branchesOf(before));
+        Map<String, BranchEntity> nextBranches = byId(branchesOf(after));
+        for (String branchId : previousBranches.keySet()) {
+            if (!nextBranches.containsKey(branchId)) {
+                changes.add(change(ChangeType.BRANCH_REMOVED, branchId, null).build());
+            }
+        }
+        for (BranchEntity branch : nextBranches.values()) {
+            BranchEntity previous = previousBranches.get(branch.getId());
+            if (previous == null) {
+                changes.add(change(ChangeType.BRANCH_ADDED, branch.getId(), null).name(branch.getName()).build());
+                for (ProductEntity product : productsOf(branch)) {
+                    changes.add(productAdded(branch.getId(), product));
+                }
+                continue;
+            }
+            if (!Objects.equals(previous.getName(), branch.getName())) {
+                changes.add(change(ChangeType.BRANCH_RENAMED, branch.getId(), null).name(branch.getName()).build());
+            }
+            diffProducts(branch.getId(), previous, branch, changes);
+        }
+        return changes;
+    }
+
+    private static void diffProducts(String branchId, BranchEntity before, BranchEntity after,
+                                     List<FranchiseChangeEntity> changes) {
+        Map<String, ProductEntity> previousProducts = productsById(before);
+        Map<String, ProductEntity> nextProducts = productsById(after);
+        for (String productId : previousProducts.keySet()) {
+            if (!nextProducts.containsKey(productId)) {
+                changes.add(change(ChangeType.PRODUCT_REMOVED, branchId, productId).build());
+            }
+        }
+        for (ProductEntity product : nextProducts.values()) {
+            ProductEntity previous = previousProducts.get(product.getId());
+            if (previous == null) {
+                changes.add(productAdded(branchId, product));
+                continue;
+            }
+            if (!Objects.equals(previous.getName(), product.getName())) {
+                changes.add(change(ChangeType.PRODUCT_RENAMED, branchId, product.getId()).name(product.getName()).build());
+            }
+            if (!Objects.equals(previous.getStock(), product.getStock())) {
+                changes.add(change(ChangeType.STOCK_CHANGED, branchId, product.getId()).stock(product.getStock()).build());
+            }
+        }
+    }
+
+    /**
+     * Applies the changes to {@code state} in place. A change addressing a branch or product that is not
+     * there is ignored, so a replay never fails on a log it wrote itself.
+     */
+    public static FranchiseEntity apply(FranchiseEntity state, List<FranchiseChangeEntity> changes) {
+        List<BranchEntity> branches = new ArrayList<>();
+        for (BranchEntity branch : branchesOf(state)) {
+            branch.setProducts(new ArrayList<>(productsOf(branch)));
+            branches.add(branch);
+        }
+        for (FranchiseChangeEntity change : changes) {
+            switch (ChangeType.valueOf(change.getType())) {
+                case FRANCHISE_RENAMED -> state.setName(change.getName());
+                case BRANCH_ADDED -> branches.add(BranchEntity.builder()
+                        .id(change.getBranchId())
+                        .name(change.getName())
+                        .products(new ArrayList<>())
+                        .build());
+                case BRANCH_RENAMED -> findBranch(branches, change).ifPresent(b -> b.setName(change.getName()));
+                case BRANCH_REMOVED -> branches.removeIf(b -> b.getId().equals(change.getBranchId()));
+                case PRODUCT_ADDED -> findBranch(branches, change).ifPresent(b -> b.getProducts().add(ProductEntity.builder()
+                        .id(change.getProductId())
+                        .name(change.getName())
+                        .stock(change.getStock())
+                        .build()));
+                case PRODUCT_RENAMED -> findProduct(branches, change).ifPresent(p -> p.setName(change.getName()));
+                case STOCK_CHANGED -> findProduct(branches, change).ifPresent(p -> p.setStock(change.getStock()));
+                case PRODUCT_REMOVED -> findBranch(branches, change)
+                        .ifPresent(b -> b.getProducts().removeIf(p -> p.getId().equals(change.getProductId())));
+            }
+        }
+        state.setBranches(branches);
+        return state;
+    }
+
+    private static FranchiseChangeEntity productAdded(String branchId, ProductEntity product) {
+        return change(ChangeType.PRODUCT_ADDED, branchId, product.getId())
+                .name(product.getName())
+                .stock(product.getStock())
+                .build();
+    }
+
+    private static FranchiseChangeEntity.FranchiseChangeEntityBuilder change(ChangeType type, String branchId, String productId) {
+        return FranchiseChangeEntity.builder()
+                .type(type.name())
+                .branchId(branchId)
+                .productId(productId);
+    }
+
+    private static Optional<BranchEntity> findBranch(List<BranchEntity> branches, FranchiseChangeEntity change) {
+        return branches.stream()
+                .filter(branch -> branch.getId().equals(change.getBranchId()))
+                .findFirst();
+    }
+
+    private static Optional<ProductEntity> findProduct(List<BranchEntity> branches, FranchiseChangeEntity change) {
+        return findBranch(branches, change)
+                .flatMap(branch -> productsOf(branch).stream()
+                        .filter(product -> product.getId().equals(change.getProductId()))
+                        .findFirst());
+    }
+
+    private static Map<String, BranchEntity> byId(List<BranchEntity> branches) {
+        Map<String, BranchEntity> byId = new LinkedHashMap<>();
+        branches.forEach(branch -> byId.put(branch.getId(), branch));
+        return byId;
+    }
+
+    private static Map<String, ProductEntity> productsById(BranchEntity branch) {
+        Map<String, ProductEntity> byId = new LinkedHashMap<>();
+        productsOf(branch).forEach(product -> byId.put(product.getId(), product));
+        return byId;
+    }
+
+    private static List<BranchEntity> branchesOf(FranchiseEntity franchise) {
+        return franchise.getBranches() == null ? List.of() : franchise.getBranches();
+    }
+
+    private static List<ProductEntity> productsOf(BranchEntity branch) {
+        return branch.getProducts() == null ? List.of() : branch.getProducts();
+    }
+}
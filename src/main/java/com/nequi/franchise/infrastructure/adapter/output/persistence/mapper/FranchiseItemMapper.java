@@ -0,0 +1,151 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.mapper;
+
+import com.nequi.franchise.domain.model.Branch;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseSummary;
+import com.nequi.franchise.domain.model.Product;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.FranchiseListing;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseItemEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+public class FranchiseItemMapper {
+
+    private static final String PARTITION_PREFIX = "FRANCHISE#";
+    private static final String META_SORT_KEY = "#META";
+    private static final String BRANCH_PREFIX = "BRANCH#";
+    private static final String PRODUCT_SEGMENT = "#PRODUCT#";
+    private static final Comparator<FranchiseItemEntity> BY_POSITION = Comparator.comparing(
+            FranchiseItemEntity::getPosition, Comparator.nullsLast(Comparator.<Integer>naturalOrder()));
+
+    public static String partitionKey(String franchiseId) {
+        return PARTITION_PREFIX + franchiseId;
+    }
+
+    public static String metaSortKey() {
+        return META_SORT_KEY;
+    }
+
+    public static String branchSortKey(String branchId) {
+        return BRANCH_PREFIX + branchId;
+    }
+
+    public static String productSortKey(String branchId, String productId) {
+        return BRANCH_PREFIX + branchId + PRODUCT_SEGMENT + productId;
+    }
+
+    public List<FranchiseItemEntity> toItems(Franchise franchise) {
+        String pk = partitionKey(franchise.getId());
+        List<FranchiseItemEntity> items = new ArrayList<>();
+        items.add(toMetaItem(franchise));
+
+        int position = 0;
+        for (Branch branch : franchise.getBranches()) {
+            items.add(FranchiseItemEntity.builder()
+                    .pk(pk)
+                    .sk(branchSortKey(branch.getId()))
+                    .type(FranchiseItemEntity.TYPE_BRANCH)
+                    .id(branch.getId())
+                    .name(branch.getName())
+                    .position(position++)
+                    .build());
+
+            for (Product product : branch.getProducts()) {
+                items.add(FranchiseItemEntity.builder()
+                        .pk(pk)
+                        .sk(productSortKey(branch.getId(), product.getId()))
+                        .type(FranchiseItemEntity.TYPE_PRODUCT)
+                        .id(product.getId())
+                        .branchId(branch.getId())
+                        .name(product.getName())
+                        .stock(product.getStock())
+                        .position(position++)
+                        .build());
+            }
+        }
+        return items;
+    }
+
+    public FranchiseItemEntity toMetaItem(Franchise franchise) {
+        return FranchiseItemEntity.builder()
+                .pk(partitionKey(franchise.getId()))
+                .sk(META_SORT_KEY)
+                .type(FranchiseItemEntity.TYPE_FRANCHISE)
+                .id(franchise.getId())
+                .name(franchise.getName())
+                .version(franchise.getVersion())
+                .listBucket(FranchiseListing.BUCKET)
+                .listSortKey(FranchiseListing.sortKey(franchise))
+                .branchCount(franchise.getBranchCount())
+                .productCount(franchise.getProductCount())
+                .build();
+    }
+
+    /**
+     * Reads a meta row returned by the listing index. Only the table keys and the index projection
+     * are present there, so the id comes from the partition key.
+     */
+    public FranchiseSummary toSummary(FranchiseItemEntity meta) {
+        return FranchiseSummary.builder()
+                .id(meta.getPk().substring(PARTITION_PREFIX.length()))
+                .name(meta.getName())
+                .branchCount(meta.getBranchCount() == null ? 0 : meta.getBranchCount())
+                .productCount(meta.getProductCount() == null ? 0 : meta.getProductCount())
+                .build();
+    }
+
+    public Franchise toDomain(List<FranchiseItemEntity> items) {
+        FranchiseItemEntity meta = null;
+        List<FranchiseItemEntity> branchItems = new ArrayList<>();
+        Map<String, List<FranchiseItemEntity>> productItemsByBranch = new LinkedHashMap<>();
+
+        for (FranchiseItemEntity item : items) {
+            switch (item.getType()) {
+                case FranchiseItemEntity.TYPE_FRANCHISE -> meta = item;
+                case FranchiseItemEntity.TYPE_BRANCH -> branchItems.add(item);
+                case FranchiseItemEntity.TYPE_PRODUCT -> productItemsByBranch
+                        .computeIfAbsent(item.getBranchId(), branchId -> new ArrayList<>())
+                        .add(item);
+                default -> { }
+            }
+        }
+
+        if (meta == null) {
+            return null;
+        }
+
+        branchItems.sort(BY_POSITION);
+        List<Branch> branches = new ArrayList<>(branchItems.size());
+        for (FranchiseItemEntity branchItem : branchItems) {
+            List<FranchiseItemEntity> productItems = productItemsByBranch.getOrDefault(branchItem.getId(), List.of());
+            List<Product> products = productItems.stream()
+                    .sorted(BY_POSITION)
+                    .map(productItem -> Product.builder()
+                            .id(productItem.getId())
+                            .name(productItem.getName())
+                            .stock(productItem.getStock())
+                            .build())
+                    .collect(Collectors.toCollection(ArrayList::new));
+
+            branches.add(Branch.builder()
+                    .id(branchItem.getId())
+                    .name(branchItem.getName())
+                    .products(products)
+                    .build());
+        }
+
+        return Franchise.builder()
+                .id(meta.getId())
+                .name(meta.getName())
+                .branches(branches)
+                .version(meta.getVersion())
+                .build();
+    }
+}
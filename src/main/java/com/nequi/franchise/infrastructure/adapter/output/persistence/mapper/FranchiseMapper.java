@@ -1,11 +1,27 @@
 package com.nequi.franchise.infrastructure.adapter.output.persistence.mapper;
 
 import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseSummary;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.FranchiseListing;
 import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
-@Mapper(componentModel = "spring", uses = {BranchMapper.class})
+@Mapper(componentModel = "spring", uses = {BranchMapper.class}, imports = {FranchiseListing.class})
 public interface FranchiseMapper {
     Franchise toDomain(FranchiseEntity entity);
+
+    @Mapping(target = "branchesBin", ignore = true)
+    @Mapping(target = "overflowToken", ignore = true)
+    @Mapping(target = "overflowParts", ignore = true)
+    @Mapping(target = "overflowOf", ignore = true)
+    @Mapping(target = "branchPositions", ignore = true)
+    @Mapping(target = "expiresAt", ignore = true)
+    @Mapping(target = "listBucket", constant = FranchiseListing.BUCKET)
+    @Mapping(target = "listSortKey", expression = "java(FranchiseListing.sortKey(domain))")
+    @Mapping(target = "branchCount", expression = "java(domain.getBranchCount())")
+    @Mapping(target = "productCount", expression = "java(domain.getProductCount())")
     FranchiseEntity toEntity(Franchise domain);
+
+    FranchiseSummary toSummary(FranchiseEntity entity);
 }
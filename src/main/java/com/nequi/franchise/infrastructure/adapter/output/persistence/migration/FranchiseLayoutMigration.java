@@ -0,0 +1,142 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.migration;
+
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.ConditionalWrites;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.batch.BatchReader;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.batch.BatchWriter;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.EntitySchemas;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseItemEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.mapper.FranchiseItemMapper;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.mapper.FranchiseMapper;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.overflow.FranchiseOverflow;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.overflow.OverflowStore;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.scan.ParallelScanner;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.scan.ScanSettings;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams legacy one-item-per-franchise blobs into the item-per-entity layout. Child rows are
+ * written first and the meta row last, so a franchise only becomes visible once it is complete
+ * and reruns skip franchises whose meta row already exists. Legacy blobs spilled into overflow
+ * items are reassembled before they are migrated. A franchise that fails is logged and counted and
+ * the run carries on; a rerun picks it up again.
+ */
+@Component
+@ConditionalOnProperty(name = "aws.dynamodb.migration.enabled", havingValue = "true")
+public class FranchiseLayoutMigration implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FranchiseLayoutMigration.class);
+    private static final long PROGRESS_LOG_INTERVAL = 100;
+
+    private final DynamoDbAsyncTable<FranchiseEntity> legacyTable;
+    private final DynamoDbAsyncTable<FranchiseItemEntity> itemsTable;
+    private final FranchiseMapper franchiseMapper;
+    private final FranchiseItemMapper itemMapper;
+    private final BatchWriter<FranchiseItemEntity> batchWriter;
+    private final ParallelScanner<FranchiseEntity> legacyScanner;
+    private final OverflowStore overflowStore;
+    private final int concurrency;
+
+    public FranchiseLayoutMigration(
+            DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient,
+            FranchiseMapper franchiseMapper,
+            FranchiseItemMapper itemMapper,
+            DynamoDBMetrics dynamoDBMetrics,
+            ScanSettings scanSettings,
+            @Value("${aws.dynamodb.table-name}") String legacyTableName,
+            @Value("${aws.dynamodb.items-table-name}") String itemsTableName,
+            @Value("${aws.dynamodb.migration.concurrency:4}") int concurrency) {
+        this.legacyTable = dynamoDbEnhancedAsyncClient.table(legacyTableName, EntitySchemas.FRANCHISE);
+        this.itemsTable = dynamoDbEnhancedAsyncClient.table(itemsTableName, EntitySchemas.FRANCHISE_ITEM);
+        this.franchiseMapper = franchiseMapper;
+        this.itemMapper = itemMapper;
+        this.batchWriter = new BatchWriter<>(dynamoDbEnhancedAsyncClient, itemsTable, FranchiseItemEntity.class, dynamoDBMetrics);
+        this.legacyScanner = new ParallelScanner<>(legacyTable, dynamoDBMetrics, scanSettings);
+        this.overflowStore = new OverflowStore(legacyTable,
+            new BatchReader<>(dynamoDbEnhancedAsyncClient, legacyTable, FranchiseEntity.class, dynamoDBMetrics),
+            new BatchWriter<>(dynamoDbEnhancedAsyncClient, legacyTable, FranchiseEntity.class, dynamoDBMetrics));
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrate().block();
+    }
+
+    public Mono<Long> migrate() {
+        AtomicLong migrated = new AtomicLong();
+        AtomicLong skipped = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long start = System.currentTimeMillis();
+
+        LOGGER.info("Starting franchise layout migration from {} to {} with concurrency {}",
+            legacyTable.tableName(), itemsTable.tableName(), concurrency);
+
+        return legacyScanner.scan(FranchiseOverflow.excludeParts())
+                .flatMap(entity -> overflowStore.assemble(entity)
+                        .map(franchiseMapper::toDomain)
+                        .flatMap(this::migrateFranchise)
+                        .map(written -> written ? migrated : skipped)
+                        .onErrorResume(error -> {
+                            LOGGER.error("Failed to migrate franchise: {}", entity.getId(), error);
+                            return Mono.just(failed);
+                        })
+                        .doOnNext(outcome -> {
+                            outcome.incrementAndGet();
+                            if ((migrated.get() + skipped.get() + failed.get()) % PROGRESS_LOG_INTERVAL == 0) {
+                                LOGGER.info("Migration progress: {} migrated, {} skipped, {} failed",
+                                    migrated.get(), skipped.get(), failed.get());
+                            }
+                        }), concurrency)
+                .then(Mono.fromCallable(() -> {
+                    LOGGER.info("Franchise layout migration finished: {} migrated, {} skipped, {} failed in {} ms",
+                        migrated.get(), skipped.get(), failed.get(), System.currentTimeMillis() - start);
+                    if (failed.get() > 0) {
+                        LOGGER.warn("{} franchises failed to migrate; rerun the migration to retry them", failed.get());
+                    }
+                    return migrated.get();
+                }));
+    }
+
+    private Mono<Boolean> migrateFranchise(Franchise franchise) {
+        Key metaKey = Key.builder()
+                .partitionValue(FranchiseItemMapper.partitionKey(franchise.getId()))
+                .sortValue(FranchiseItemMapper.metaSortKey())
+                .build();
+
+        return Mono.defer(() -> Mono.fromFuture(itemsTable.getItem(metaKey)))
+                .map(existing -> false)
+                .switchIfEmpty(Mono.defer(() -> {
+                    List<FranchiseItemEntity> items = itemMapper.toItems(franchise);
+                    FranchiseItemEntity meta = items.get(0);
+                    PutItemEnhancedRequest<FranchiseItemEntity> metaRequest = PutItemEnhancedRequest.builder(FranchiseItemEntity.class)
+                            .item(meta)
+                            .conditionExpression(Expression.builder()
+                                    .expression("attribute_not_exists(pk)")
+                                    .build())
+                            .build();
+
+                    return batchWriter.putAll(items.subList(1, items.size()))
+                            .then(Mono.defer(() -> Mono.fromFuture(itemsTable.putItem(metaRequest))))
+                            .thenReturn(true)
+                            .onErrorResume(ConditionalWrites::isConditionFailure, error -> Mono.just(false));
+                }));
+    }
+}
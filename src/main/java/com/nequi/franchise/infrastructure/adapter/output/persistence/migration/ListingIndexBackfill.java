@@ -0,0 +1,71 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.migration;
+
+import com.nequi.franchise.domain.exception.OptimisticLockException;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rewrites every franchise once so that rows stored before the listing index existed gain the
+ * sparse index attributes. Franchises changed or deleted concurrently are skipped: whoever
+ * changed them already wrote the attributes.
+ */
+@Component
+@ConditionalOnProperty(name = "aws.dynamodb.listing-backfill.enabled", havingValue = "true")
+public class ListingIndexBackfill implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ListingIndexBackfill.class);
+    private static final long PROGRESS_LOG_INTERVAL = 100;
+
+    private final FranchiseRepositoryPort franchiseRepository;
+    private final int concurrency;
+
+    public ListingIndexBackfill(
+            FranchiseRepositoryPort franchiseRepository,
+            @Value("${aws.dynamodb.listing-backfill.concurrency:4}") int concurrency) {
+        this.franchiseRepository = franchiseRepository;
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill().block();
+    }
+
+    public Mono<Long> backfill() {
+        AtomicLong rewritten = new AtomicLong();
+        AtomicLong skipped = new AtomicLong();
+        long start = System.currentTimeMillis();
+
+        LOGGER.info("Starting franchise listing index backfill with concurrency {}", concurrency);
+
+        return franchiseRepository.streamAll()
+                .flatMap(franchise -> franchiseRepository.update(franchise.getId(), unchanged -> { })
+                        .map(updated -> true)
+                        .defaultIfEmpty(false)
+                        .onErrorResume(OptimisticLockException.class, error -> Mono.just(false))
+                        .doOnNext(written -> {
+                            if (written) {
+                                rewritten.incrementAndGet();
+                            } else {
+                                skipped.incrementAndGet();
+                            }
+                            if ((rewritten.get() + skipped.get()) % PROGRESS_LOG_INTERVAL == 0) {
+                                LOGGER.info("Backfill progress: {} rewritten, {} skipped", rewritten.get(), skipped.get());
+                            }
+                        }), concurrency)
+                .then(Mono.fromCallable(() -> {
+                    LOGGER.info("Franchise listing index backfill finished: {} rewritten, {} skipped in {} ms",
+                        rewritten.get(), skipped.get(), System.currentTimeMillis() - start);
+                    return rewritten.get();
+                }));
+    }
+}
@@ -0,0 +1,189 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.overflow;
+
+import com.nequi.franchise.domain.exception.FranchiseTooLargeException;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Splits a franchise too large for one item into the franchise item plus linked overflow items, and
+ * puts it back together on read. The largest branches are moved out first until the franchise item
+ * fits under the threshold, and they are packed first-fit into as few overflow items as possible.
+ * Each overflow item records the positions its branches held, so the original order is restored.
+ *
+ * <p>Overflow items live in the same table under {@code <franchiseId>#OVERFLOW#<token>#<n>}. The token
+ * is fresh for every write, so two writers racing on the same version never overwrite each other's
+ * parts: the loser's parts are deleted when its conditional put fails, and the parts a successful
+ * write replaces are retired after it, to expire once readers holding the previous item are done.
+ */
+public final class FranchiseOverflow {
+
+    private static final String PART_INFIX = "#OVERFLOW#";
+    private static final Expression EXCLUDE_PARTS = Expression.builder()
+            .expression("attribute_not_exists(#overflowOf)")
+            .expressionNames(Map.of("#overflowOf", "overflowOf"))
+            .build();
+
+    private FranchiseOverflow() {
+    }
+
+    public record Items(FranchiseEntity franchise, List<FranchiseEntity> parts) {
+    }
+
+    /**
+     * Scan filter that leaves out overflow items, so scans only return franchise items.
+     */
+    public static Expression excludeParts() {
+        return EXCLUDE_PARTS;
+    }
+
+    public static String partId(String franchiseId, String token, int index) {
+        return franchiseId + PART_INFIX + token + "#" + index;
+    }
+
+    public static List<String> partIds(FranchiseEntity franchise) {
+        int parts = franchise.getOverflowParts() == null ? 0 : franchise.getOverflowParts();
+        List<String> ids = new ArrayList<>(parts);
+        for (int i = 0; i < parts; i++) {
+            ids.add(partId(franchise.getId(), franchise.getOverflowToken(), i));
+        }
+        return ids;
+    }
+
+    /**
+     * Splits an entity in the nested map form when its estimated size exceeds {@code threshold}. The
+     * entity is modified in place and returned as the franchise item.
+     *
+     * @throws FranchiseTooLargeException when a single branch cannot fit in an item on its own
+     */
+    public static Items split(FranchiseEntity entity, long threshold) {
+        if (ItemSizeEstimator.estimate(entity) <= threshold) {
+            return new Items(entity, List.of());
+        }
+        String token = UUID.randomUUID().toString();
+        List<BranchEntity> branches = entity.getBranches();
+        long[] sizes = new long[branches.size()];
+        Integer[] largestFirst = new Integer[branches.size()];
+        for (int i = 0; i < branches.size(); i++) {
+            sizes[i] = ItemSizeEstimator.estimate(branches.get(i));
+            largestFirst[i] = i;
+        }
+        Arrays.sort(largestFirst, Comparator.comparingLong((Integer i) -> sizes[i]).reversed());
+
+        entity.setOverflowToken(token);
+        entity.setOverflowParts(branches.size());
+        long franchiseSize = ItemSizeEstimator.estimate(entity);
+        boolean[] spilled = new boolean[branches.size()];
+        for (int index : largestFirst) {
+            if (franchiseSize <= threshold) {
+                break;
+            }
+            spilled[index] = true;
+            franchiseSize -= sizes[index];
+        }
+        if (franchiseSize > threshold) {
+            throw new FranchiseTooLargeException("Franchise " + entity.getId() + " is too large to store");
+        }
+
+        long partCapacity = threshold - ItemSizeEstimator.estimate(part(entity, token, 0, List.of(), List.of()));
+        List<List<Integer>> bins = new ArrayList<>();
+        List<Long> binSizes = new ArrayList<>();
+        for (int index : largestFirst) {
+            if (!spilled[index]) {
+                continue;
+            }
+            // Each position adds at most one list element of a few bytes.
+            long cost = sizes[index] + 8;
+            if (cost > partCapacity) {
+                throw new FranchiseTooLargeException("Branch " + branches.get(index).getId()
+                    + " of franchise " + entity.getId() + " is too large to store");
+            }
+            int bin = 0;
+            while (bin < bins.size() && binSizes.get(bin) + cost > partCapacity) {
+                bin++;
+            }
+            if (bin == bins.size()) {
+                bins.add(new ArrayList<>());
+                binSizes.add(0L);
+            }
+            bins.get(bin).add(index);
+            binSizes.set(bin, binSizes.get(bin) + cost);
+        }
+
+        List<FranchiseEntity> parts = new ArrayList<>(bins.size());
+        for (int i = 0; i < bins.size(); i++) {
+            List<Integer> positions = new ArrayList<>(bins.get(i));
+            positions.sort(null);
+            List<BranchEntity> partBranches = new ArrayList<>(positions.size());
+            for (int position : positions) {
+                partBranches.add(branches.get(position));
+            }
+            parts.add(part(entity, token, i, partBranches, positions));
+        }
+
+        List<BranchEntity> kept = new ArrayList<>(branches.size());
+        for (int i = 0; i < branches.size(); i++) {
+            if (!spilled[i]) {
+                kept.add(branches.get(i));
+            }
+        }
+        entity.setBranches(kept);
+        entity.setOverflowParts(parts.size());
+        return new Items(entity, parts);
+    }
+
+    /**
+     * Whether {@code parts} holds every overflow item the franchise item points to.
+     */
+    public static boolean isComplete(FranchiseEntity franchise, List<FranchiseEntity> parts) {
+        int expected = franchise.getOverflowParts() == null ? 0 : franchise.getOverflowParts();
+        return parts.size() == expected;
+    }
+
+    /**
+     * Moves the branches of the overflow items back into the franchise item, at their original
+     * positions. Both must be in the nested map form.
+     */
+    public static FranchiseEntity merge(FranchiseEntity franchise, List<FranchiseEntity> parts) {
+        if (franchise.getOverflowParts() == null || franchise.getOverflowParts() == 0) {
+            return franchise;
+        }
+        if (parts.size() != franchise.getOverflowParts()) {
+            throw new IllegalStateException("Franchise " + franchise.getId() + " has " + parts.size()
+                + " of its " + franchise.getOverflowParts() + " overflow items");
+        }
+        List<int[]> order = new ArrayList<>();
+        for (int p = 0; p < parts.size(); p++) {
+            List<Integer> positions = parts.get(p).getBranchPositions();
+            for (int b = 0; b < positions.size(); b++) {
+                order.add(new int[] {positions.get(b), p, b});
+            }
+        }
+        order.sort(Comparator.comparingInt(entry -> entry[0]));
+
+        List<BranchEntity> branches = new ArrayList<>(franchise.getBranches() == null ? List.of() : franchise.getBranches());
+        for (int[] entry : order) {
+            branches.add(entry[0], parts.get(entry[1]).getBranches().get(entry[2]));
+        }
+        franchise.setBranches(branches);
+        return franchise;
+    }
+
+    private static FranchiseEntity part(FranchiseEntity franchise, String token, int index,
+                                        List<BranchEntity> branches, List<Integer> positions) {
+        return FranchiseEntity.builder()
+                .id(partId(franchise.getId(), token, index))
+                .overflowOf(franchise.getId())
+                .version(franchise.getVersion())
+                .branches(branches)
+                .branchPositions(positions)
+                .build();
+    }
+}
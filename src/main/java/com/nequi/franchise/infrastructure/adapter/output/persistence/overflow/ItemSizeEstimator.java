@@ -0,0 +1,123 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.overflow;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+
+import java.util.List;
+
+/**
+ * Estimates the stored size of franchise items from the entities themselves, following DynamoDB's
+ * item size rules: UTF-8 names and strings, numbers at one byte per two significant digits plus one,
+ * and three bytes plus one per element for lists and maps. Nothing is marshalled, so it is cheap
+ * enough to run before every write. Null top-level attributes are skipped as the put drops them,
+ * while null nested attributes count as the {@code NULL} values they are written as.
+ */
+public final class ItemSizeEstimator {
+
+    /** DynamoDB's hard limit for a single item. */
+    public static final long MAX_ITEM_SIZE = 400 * 1024;
+
+    private ItemSizeEstimator() {
+    }
+
+    public static long estimate(FranchiseEntity entity) {
+        long size = 0;
+        size += stringAttribute("id", entity.getId());
+        size += stringAttribute("name", entity.getName());
+        if (entity.getBranches() != null) {
+            size += attributeName("branches") + branchesSize(entity.getBranches());
+        }
+        if (entity.getBranchesBin() != null) {
+            size += attributeName("branchesBin") + entity.getBranchesBin().asByteArrayUnsafe().length;
+        }
+        size += numberAttribute("version", entity.getVersion());
+        size += stringAttribute("listBucket", entity.getListBucket());
+        size += stringAttribute("listSortKey", entity.getListSortKey());
+        size += numberAttribute("branchCount", entity.getBranchCount());
+        size += numberAttribute("productCount", entity.getProductCount());
+        size += stringAttribute("overflowToken", entity.getOverflowToken());
+        size += numberAttribute("overflowParts", entity.getOverflowParts());
+        size += stringAttribute("overflowOf", entity.getOverflowOf());
+        if (entity.getBranchPositions() != null) {
+            size += attributeName("branchPositions") + 3;
+            for (Integer position : entity.getBranchPositions()) {
+                size += 1 + numberSize(position);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Size one branch adds to the {@code branches} list, including its element overhead.
+     */
+    public static long estimate(BranchEntity branch) {
+        long size = 1 + 3;
+        size += nestedString("id", branch.getId());
+        size += nestedString("name", branch.getName());
+        size += 1 + attributeName("products");
+        if (branch.getProducts() == null) {
+            return size + 1;
+        }
+        size += 3;
+        for (ProductEntity product : branch.getProducts()) {
+            size += 1 + 3;
+            size += nestedString("id", product.getId());
+            size += nestedString("name", product.getName());
+            size += 1 + attributeName("stock") + (product.getStock() == null ? 1 : numberSize(product.getStock()));
+        }
+        return size;
+    }
+
+    private static long branchesSize(List<BranchEntity> branches) {
+        long size = 3;
+        for (BranchEntity branch : branches) {
+            size += estimate(branch);
+        }
+        return size;
+    }
+
+    private static long stringAttribute(String name, String value) {
+        return value == null ? 0 : attributeName(name) + utf8Length(value);
+    }
+
+    private static long numberAttribute(String name, Number value) {
+        return value == null ? 0 : attributeName(name) + numberSize(value.longValue());
+    }
+
+    private static long nestedString(String name, String value) {
+        return 1 + attributeName(name) + (value == null ? 1 : utf8Length(value));
+    }
+
+    private static long attributeName(String name) {
+        return name.length();
+    }
+
+    private static long numberSize(long value) {
+        long magnitude = Math.abs(value);
+        int digits = 1;
+        while (magnitude >= 10) {
+            magnitude /= 10;
+            digits++;
+        }
+        return (digits + 1) / 2 + 1;
+    }
+
+    static long utf8Length(String value) {
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,183 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.overflow;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.ConditionalWrites;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.batch.BatchReader;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.batch.BatchWriter;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.capacity.CapacityAttribution;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.codec.BranchesCodec;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes the overflow items of {@link FranchiseOverflow} through the table's batch reader
+ * and writer. Every method is a no-op for franchises without overflow items.
+ *
+ * <p>Parts are read with eventually consistent reads, so a reader can hold a franchise item whose
+ * parts have not replicated yet. Parts a write replaces are therefore not deleted but retired: they
+ * get an {@code expiresAt} time {@link #RETIRED_PART_GRACE} ahead and the table's TTL removes them,
+ * so a reader still holding the previous franchise item finds them. When parts are missing anyway,
+ * the franchise item and its parts are read again with strongly consistent reads.
+ */
+public class OverflowStore {
+
+    static final Duration RETIRED_PART_GRACE = Duration.ofMinutes(15);
+    static final int MAX_CONSISTENT_READS = 3;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OverflowStore.class);
+    private static final int READ_CONCURRENCY = 2;
+    private static final int RETIRE_CONCURRENCY = 4;
+    private static final Duration CONSISTENT_READ_BACKOFF = Duration.ofMillis(50);
+    private static final Expression PART_EXISTS = Expression.builder()
+            .expression("attribute_exists(#id)")
+            .expressionNames(Map.of("#id", "id"))
+            .build();
+
+    private final DynamoDbAsyncTable<FranchiseEntity> table;
+    private final BatchReader<FranchiseEntity> batchReader;
+    private final BatchWriter<FranchiseEntity> batchWriter;
+
+    public OverflowStore(DynamoDbAsyncTable<FranchiseEntity> table, BatchReader<FranchiseEntity> batchReader,
+                         BatchWriter<FranchiseEntity> batchWriter) {
+        this.table = table;
+        this.batchReader = batchReader;
+        this.batchWriter = batchWriter;
+    }
+
+    /**
+     * Unpacks a franchise item and merges its overflow items back into it. Completes empty when the
+     * parts were missing and the franchise turned out to be deleted on the consistent re-read.
+     */
+    public Mono<FranchiseEntity> assemble(FranchiseEntity franchise) {
+        return readParts(franchise, false)
+                .flatMap(parts -> FranchiseOverflow.isComplete(franchise, parts)
+                        ? Mono.just(FranchiseOverflow.merge(franchise, parts))
+                        : assembleConsistently(franchise.getId(), 1))
+                .contextWrite(CapacityAttribution.franchise(franchise.getId()));
+    }
+
+    private Mono<FranchiseEntity> assembleConsistently(String franchiseId, int attempt) {
+        LOGGER.debug("Overflow items of franchise {} missing, consistent read attempt {}", franchiseId, attempt);
+        GetItemEnhancedRequest request = GetItemEnhancedRequest.builder()
+                .key(key(franchiseId))
+                .consistentRead(true)
+                .build();
+        return CapacityAttribution.call(franchiseId, () -> table.getItem(request))
+                .flatMap(franchise -> readParts(franchise, true)
+                        .flatMap(parts -> {
+                            if (FranchiseOverflow.isComplete(franchise, parts) || attempt >= MAX_CONSISTENT_READS) {
+                                return Mono.fromCallable(() -> FranchiseOverflow.merge(franchise, parts));
+                            }
+                            return Mono.delay(CONSISTENT_READ_BACKOFF)
+                                    .then(Mono.defer(() -> assembleConsistently(franchiseId, attempt + 1)));
+                        }));
+    }
+
+    private Mono<List<FranchiseEntity>> readParts(FranchiseEntity franchise, boolean consistentRead) {
+        BranchesCodec.unpack(franchise);
+        List<Key> keys = keys(FranchiseOverflow.partIds(franchise));
+        if (keys.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return batchReader.getAll(keys, READ_CONCURRENCY, consistentRead)
+                .map(BranchesCodec::unpack)
+                .collectList();
+    }
+
+    public Mono<Void> write(List<FranchiseEntity> parts) {
+        if (parts.isEmpty()) {
+            return Mono.empty();
+        }
+        return batchWriter.putAll(parts)
+                .then()
+                .contextWrite(CapacityAttribution.franchise(parts.get(0).getOverflowOf()));
+    }
+
+    /**
+     * Marks the overflow items a replaced or deleted franchise item points to for expiry, leaving them
+     * readable for {@link #RETIRED_PART_GRACE}. A failure is only logged: the items are no longer
+     * referenced, so at worst they take up space.
+     */
+    public Mono<Void> retireReferencedBy(FranchiseEntity franchise) {
+        if (franchise == null) {
+            return Mono.empty();
+        }
+        List<String> partIds = FranchiseOverflow.partIds(franchise);
+        if (partIds.isEmpty()) {
+            return Mono.empty();
+        }
+        long expiresAt = Instant.now().plus(RETIRED_PART_GRACE).getEpochSecond();
+        return Flux.fromIterable(partIds)
+                .flatMap(partId -> retire(franchise.getId(), partId, expiresAt), RETIRE_CONCURRENCY)
+                .then()
+                .contextWrite(CapacityAttribution.franchise(franchise.getId()))
+                .onErrorResume(error -> {
+                    LOGGER.warn("Failed to retire {} overflow items of franchise {}: {}",
+                        partIds.size(), franchise.getId(), error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Deletes overflow items no franchise item ever pointed to, such as the parts of a write that lost
+     * its conditional put.
+     */
+    public Mono<Void> delete(List<FranchiseEntity> parts) {
+        if (parts.isEmpty()) {
+            return Mono.empty();
+        }
+        return delete(parts.get(0).getOverflowOf(), parts.stream().map(FranchiseEntity::getId).toList());
+    }
+
+    private Mono<Void> delete(String franchiseId, List<String> partIds) {
+        if (partIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return batchWriter.deleteAll(keys(partIds))
+                .then()
+                .contextWrite(CapacityAttribution.franchise(franchiseId))
+                .onErrorResume(error -> {
+                    LOGGER.warn("Failed to delete {} overflow items of franchise {}: {}",
+                        partIds.size(), franchiseId, error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> retire(String franchiseId, String partId, long expiresAt) {
+        FranchiseEntity marker = FranchiseEntity.builder()
+                .id(partId)
+                .branches(null)
+                .expiresAt(expiresAt)
+                .build();
+        UpdateItemEnhancedRequest<FranchiseEntity> request = UpdateItemEnhancedRequest.builder(FranchiseEntity.class)
+                .item(marker)
+                .ignoreNulls(true)
+                .conditionExpression(PART_EXISTS)
+                .build();
+        return CapacityAttribution.call(franchiseId, () -> table.updateItem(request))
+                .onErrorResume(ConditionalWrites::isConditionFailure, error -> Mono.empty())
+                .then();
+    }
+
+    private static List<Key> keys(List<String> ids) {
+        return ids.stream()
+                .map(OverflowStore::key)
+                .toList();
+    }
+
+    private static Key key(String id) {
+        return Key.builder().partitionValue(id).build();
+    }
+}
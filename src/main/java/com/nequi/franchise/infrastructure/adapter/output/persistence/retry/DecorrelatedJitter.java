@@ -0,0 +1,28 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decorrelated jitter backoff: each delay is drawn uniformly between the base delay and three times the
+ * previous delay, capped. Unlike exponential backoff with a fixed schedule, clients that failed together
+ * spread out instead of retrying in lockstep.
+ */
+public record DecorrelatedJitter(Duration base, Duration cap) {
+
+    public DecorrelatedJitter {
+        if (base.isNegative() || base.isZero() || cap.compareTo(base) < 0) {
+            throw new IllegalArgumentException("Backoff base must be positive and not greater than the cap");
+        }
+    }
+
+    /**
+     * @param previous the delay used before the last attempt, or {@code null} before the first retry
+     */
+    public Duration next(Duration previous) {
+        long baseNanos = base.toNanos();
+        long previousNanos = previous == null ? baseNanos : Math.max(baseNanos, previous.toNanos());
+        long upperNanos = Math.min(cap.toNanos(), previousNanos * 3);
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(baseNanos, upperNanos + 1));
+    }
+}
@@ -0,0 +1,225 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.retry;
+
+import com.nequi.franchise.domain.exception.OptimisticLockException;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.ConditionalWrites;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.core.retry.conditions.TokenBucketExceptionCostFunction;
+import software.amazon.awssdk.core.retry.conditions.TokenBucketRetryCondition;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionConflictException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Retry rules shared by every DynamoDB call. Throttling and transient failures are retried inside the
+ * SDK client ({@link #sdkRetryPolicy()}), with decorrelated jitter and a token bucket budget: each retry
+ * spends tokens and each success returns them, so during an outage retries stop once the bucket is empty
+ * instead of multiplying the load. Version conflicts are retried around the whole load-modify-write by
+ * {@link #onConflict(String)}, because the item has to be read again before the next attempt.
+ */
+@Component
+public class DynamoDBRetryPolicy {
+
+    public enum Reason { CONFLICT, THROTTLED, TRANSIENT, NOT_RETRYABLE }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DynamoDBRetryPolicy.class);
+    private static final ExecutionAttribute<Duration> PREVIOUS_DELAY = new ExecutionAttribute<>("DynamoDBRetryPreviousDelay");
+    private static final ExecutionAttribute<Boolean> BUDGET_DENIED = new ExecutionAttribute<>("DynamoDBRetryBudgetDenied");
+    private static final Set<String> RETRYABLE_CANCELLATION_CODES =
+            Set.of("ThrottlingError", "ProvisionedThroughputExceeded", "TransactionConflict");
+    private static final String CONFLICT_OPERATION = "UpdateFranchise";
+
+    private final DynamoDBMetrics metrics;
+    private final int maxAttempts;
+    private final DecorrelatedJitter backoff;
+    private final DecorrelatedJitter throttlingBackoff;
+    private final TokenBucketRetryCondition budget;
+
+    public DynamoDBRetryPolicy(
+            DynamoDBMetrics metrics,
+            @Value("${aws.dynamodb.retry.max-attempts:3}") int maxAttempts,
+            @Value("${aws.dynamodb.retry.base-delay:25ms}") Duration baseDelay,
+            @Value("${aws.dynamodb.retry.throttling-base-delay:100ms}") Duration throttlingBaseDelay,
+            @Value("${aws.dynamodb.retry.max-delay:2s}") Duration maxDelay,
+            @Value("${aws.dynamodb.retry.budget-tokens:500}") int budgetTokens) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Retry max attempts must be positive");
+        }
+        this.metrics = metrics;
+        this.maxAttempts = maxAttempts;
+        this.backoff = new DecorrelatedJitter(baseDelay, maxDelay);
+        this.throttlingBackoff = new DecorrelatedJitter(throttlingBaseDelay, maxDelay);
+        this.budget = TokenBucketRetryCondition.builder()
+                .tokenBucketSize(budgetTokens)
+                .exceptionCostFunction(TokenBucketExceptionCostFunction.builder()
+                        .throttlingExceptionCost(5)
+                        .defaultExceptionCost(5)
+                        .build())
+                .build();
+        metrics.registerRetryBudget(budget::tokensAvailable);
+    }
+
+    public static Reason classify(Throwable error) {
+        if (ConditionalWrites.isConditionFailure(error)) {
+            return Reason.CONFLICT;
+        }
+        if (error instanceof ProvisionedThroughputExceededException || error instanceof RequestLimitExceededException) {
+            return Reason.THROTTLED;
+        }
+        if (error instanceof SdkException sdkException && RetryUtils.isThrottlingException(sdkException)) {
+            return Reason.THROTTLED;
+        }
+        if (error instanceof TransactionConflictException) {
+            return Reason.TRANSIENT;
+        }
+        if (error instanceof TransactionCanceledException canceled && canceled.hasCancellationReasons()) {
+            return canceled.cancellationReasons().stream()
+                    .anyMatch(reason -> RETRYABLE_CANCELLATION_CODES.contains(reason.code()))
+                    ? Reason.TRANSIENT : Reason.NOT_RETRYABLE;
+        }
+        if (error instanceof SdkServiceException serviceException && serviceException.statusCode() >= 500) {
+            return Reason.TRANSIENT;
+        }
+        if (error instanceof SdkClientException clientException && isTransientClientFailure(clientException)) {
+            return Reason.TRANSIENT;
+        }
+        return Reason.NOT_RETRYABLE;
+    }
+
+    private static boolean isTransientClientFailure(SdkClientException exception) {
+        if (exception.retryable() || exception instanceof ApiCallAttemptTimeoutException) {
+            return true;
+        }
+        for (Throwable cause = exception.getCause(); cause != null && cause != cause.getCause(); cause = cause.getCause()) {
+            if (cause instanceof IOException || cause instanceof UncheckedIOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Policy for the SDK client. The SDK's own list of retryable errors is switched off so that
+     * {@link #classify(Throwable)} is the single source of truth.
+     */
+    public RetryPolicy sdkRetryPolicy() {
+        return RetryPolicy.builder(RetryMode.STANDARD)
+                .numRetries(maxAttempts - 1)
+                .additionalRetryConditionsAllowed(false)
+                .retryCondition(new ClassifyingRetryCondition())
+                .retryCapacityCondition(new BudgetRetryCondition())
+                .backoffStrategy(context -> sdkDelay(context, backoff))
+                .throttlingBackoffStrategy(context -> sdkDelay(context, throttlingBackoff))
+                .build();
+    }
+
+    /**
+     * Retries an optimistic-lock conflict by resubscribing, so the source must load the item again on
+     * every subscription. Gives up with {@link OptimisticLockException} after the configured attempts.
+     */
+    public Retry onConflict(String franchiseId) {
+        return Retry.from(signals -> {
+            Duration[] previous = {null};
+            return signals.concatMap(signal -> {
+                if (classify(signal.failure()) != Reason.CONFLICT) {
+                    return Mono.error(signal.failure());
+                }
+                if (signal.totalRetries() + 1 >= maxAttempts) {
+                    LOGGER.error("Max retry attempts reached for franchise: {}", franchiseId);
+                    metrics.recordRetryOutcome(CONFLICT_OPERATION, "exhausted");
+                    return Mono.error(new OptimisticLockException(
+                        "Failed to save franchise after " + maxAttempts + " attempts due to concurrent modifications"
+                    ));
+                }
+
+                LOGGER.warn("Optimistic lock conflict detected for franchise: {}, attempt: {}",
+                    franchiseId, signal.totalRetries() + 1);
+                metrics.recordRetry(CONFLICT_OPERATION, Reason.CONFLICT);
+                previous[0] = backoff.next(previous[0]);
+                return Mono.delay(previous[0]);
+            });
+        });
+    }
+
+    private Duration sdkDelay(RetryPolicyContext context, DecorrelatedJitter jitter) {
+        // The backoff is only consulted once a retry has been granted, so this is where attempts are counted.
+        metrics.recordRetry(operation(context), classify(context.exception()));
+        Duration delay = jitter.next(context.executionAttributes().getAttribute(PREVIOUS_DELAY));
+        context.executionAttributes().putAttribute(PREVIOUS_DELAY, delay);
+        return delay;
+    }
+
+    private static String operation(RetryPolicyContext context) {
+        String request = context.originalRequest() == null ? "Unknown" : context.originalRequest().getClass().getSimpleName();
+        return request.endsWith("Request") ? request.substring(0, request.length() - "Request".length()) : request;
+    }
+
+    private final class ClassifyingRetryCondition implements RetryCondition {
+
+        @Override
+        public boolean shouldRetry(RetryPolicyContext context) {
+            Reason reason = classify(context.exception());
+            return reason == Reason.THROTTLED || reason == Reason.TRANSIENT;
+        }
+
+        @Override
+        public void requestWillNotBeRetried(RetryPolicyContext context) {
+            boolean budgetDenied = Boolean.TRUE.equals(context.executionAttributes().getAttribute(BUDGET_DENIED));
+            if (!budgetDenied && shouldRetry(context)) {
+                metrics.recordRetryOutcome(operation(context), "exhausted");
+            }
+        }
+
+        @Override
+        public void requestSucceeded(RetryPolicyContext context) {
+            if (context.retriesAttempted() > 0) {
+                metrics.recordRetryOutcome(operation(context), "recovered");
+            }
+        }
+    }
+
+    private final class BudgetRetryCondition implements RetryCondition {
+
+        @Override
+        public boolean shouldRetry(RetryPolicyContext context) {
+            boolean granted = budget.shouldRetry(context);
+            if (!granted) {
+                LOGGER.warn("DynamoDB retry budget exhausted, not retrying {}", operation(context));
+                context.executionAttributes().putAttribute(BUDGET_DENIED, true);
+                metrics.recordRetryOutcome(operation(context), "budget_exhausted");
+            }
+            return granted;
+        }
+
+        @Override
+        public void requestWillNotBeRetried(RetryPolicyContext context) {
+            budget.requestWillNotBeRetried(context);
+        }
+
+        @Override
+        public void requestSucceeded(RetryPolicyContext context) {
+            budget.requestSucceeded(context);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.scan;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.capacity.CapacityAttribution;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+
+import java.util.function.Function;
+
+/**
+ * Full-table scan split into {@code TotalSegments} parallel segments. At most {@code parallelism}
+ * segments are read at the same time and pages are only requested as downstream demand allows.
+ * Items of one partition key always land in the same segment, in sort key order.
+ */
+public class ParallelScanner<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelScanner.class);
+    private static final int SEGMENT_PREFETCH = 64;
+
+    private final DynamoDbAsyncTable<T> table;
+    private final DynamoDBMetrics metrics;
+    private final ScanSettings settings;
+
+    public ParallelScanner(DynamoDbAsyncTable<T> table, DynamoDBMetrics metrics, ScanSettings settings) {
+        this.table = table;
+        this.metrics = metrics;
+        this.settings = settings;
+    }
+
+    public Flux<T> scan() {
+        return scan(null);
+    }
+
+    public Flux<T> scan(Expression filter) {
+        return scanSegments(filter, Function.identity());
+    }
+
+    /**
+     * Applies {@code perSegment} to each segment's items on its own, for callers that rely on the rows
+     * of a partition arriving together (e.g. grouping item-per-entity rows back into aggregates).
+     */
+    public <R> Flux<R> scanSegments(Expression filter, Function<Flux<T>, Flux<R>> perSegment) {
+        return Flux.defer(() -> {
+            int totalSegments = settings.getTotalSegments();
+            ReadCapacityThrottle throttle = new ReadCapacityThrottle(settings.getMaxReadCapacityPerSecond());
+            LOGGER.debug("Scanning table {} with {} segments, parallelism {}",
+                table.tableName(), totalSegments, settings.getParallelism());
+
+            return Flux.range(0, totalSegments)
+                    .flatMap(segment -> perSegment.apply(scanSegment(segment, totalSegments, filter, throttle)),
+                        settings.getParallelism(), SEGMENT_PREFETCH);
+        });
+    }
+
+    private Flux<T> scanSegment(int segment, int totalSegments, Expression filter, ReadCapacityThrottle throttle) {
+        ScanEnhancedRequest.Builder request = ScanEnhancedRequest.builder()
+                .segment(segment)
+                .totalSegments(totalSegments)
+                .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+        if (filter != null) {
+            request.filterExpression(filter);
+        }
+
+        ScanEnhancedRequest scan = request.build();
+        return CapacityAttribution.pages(null, () -> table.scan(scan))
+                .concatMap(page -> {
+                    double units = consumedUnits(page);
+                    metrics.recordScanPage(table.tableName(), page.items().size(), units);
+                    return throttle.consume(units).thenMany(Flux.fromIterable(page.items()));
+                }, 1)
+                .doOnComplete(() -> LOGGER.debug("Finished scan segment {}/{} of table {}",
+                    segment + 1, totalSegments, table.tableName()));
+    }
+
+    private double consumedUnits(Page<T> page) {
+        if (page.consumedCapacity() == null || page.consumedCapacity().capacityUnits() == null) {
+            return 0;
+        }
+        return page.consumedCapacity().capacityUnits();
+    }
+}
@@ -0,0 +1,36 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.scan;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Spreads consumed read capacity over time for every segment of one scan. DynamoDB only reports
+ * the cost of a page after it was read, so each page pushes back the point at which the next
+ * page of any segment may be requested.
+ */
+class ReadCapacityThrottle {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double unitsPerSecond;
+    private long nextAvailableNanos;
+
+    ReadCapacityThrottle(double unitsPerSecond) {
+        this.unitsPerSecond = unitsPerSecond;
+        this.nextAvailableNanos = System.nanoTime();
+    }
+
+    Mono<Void> consume(double units) {
+        if (unitsPerSecond <= 0 || units <= 0) {
+            return Mono.empty();
+        }
+        long waitNanos = reserve(units, System.nanoTime());
+        return waitNanos <= 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+    }
+
+    synchronized long reserve(double units, long now) {
+        nextAvailableNanos = Math.max(now, nextAvailableNanos) + (long) (units / unitsPerSecond * NANOS_PER_SECOND);
+        return nextAvailableNanos - now;
+    }
+}
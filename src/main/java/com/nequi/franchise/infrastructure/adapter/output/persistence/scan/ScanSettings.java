@@ -0,0 +1,29 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.scan;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class ScanSettings {
+
+    private final int totalSegments;
+    private final int parallelism;
+    private final double maxReadCapacityPerSecond;
+
+    public ScanSettings(
+            @Value("${aws.dynamodb.scan.total-segments:8}") int totalSegments,
+            @Value("${aws.dynamodb.scan.parallelism:4}") int parallelism,
+            @Value("${aws.dynamodb.scan.max-read-capacity:0}") double maxReadCapacityPerSecond) {
+        if (totalSegments < 1 || totalSegments > 1_000_000) {
+            throw new IllegalArgumentException("Scan total segments must be between 1 and 1000000");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Scan parallelism must be positive");
+        }
+        this.totalSegments = totalSegments;
+        this.parallelism = parallelism;
+        this.maxReadCapacityPerSecond = maxReadCapacityPerSecond;
+    }
+}
@@ -1,6 +1,9 @@
 package com.nequi.franchise.infrastructure.config;
 
+import com.nequi.franchise.infrastructure.adapter.output.cache.NearCache;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
@@ -15,9 +18,16 @@ public class CacheMetrics {
     private final Counter cacheSetFailure;
     private final Counter cacheDeleteSuccess;
     private final Counter cacheDeleteFailure;
+    private final Counter nearCacheHits;
+    private final Counter nearCacheMisses;
+    private final Counter franchiseHits;
+    private final Counter franchiseMisses;
     private final Timer cacheGetTimer;
     private final Timer cacheSetTimer;
     private final Timer cacheDeleteTimer;
+    private final Counter invalidationKeysScanned;
+    private final Counter invalidationKeysUnlinked;
+    private final Timer invalidationTimer;
 
     public CacheMetrics(MeterRegistry meterRegistry) {
         this.cacheHits = Counter.builder("cache.hits")
@@ -55,6 +65,31 @@ public class CacheMetrics {
                 .tag("cache", "redis")
                 .register(meterRegistry);
 
+        this.nearCacheHits = Counter.builder("cache.hits")
+                .description("Number of cache hits")
+                .tag("cache", "near")
+                .register(meterRegistry);
+
+        this.nearCacheMisses = Counter.builder("cache.misses")
+                .description("Number of cache misses")
+                .tag("cache", "near")
+                .register(meterRegistry);
+
+        hitRatio(meterRegistry, "near", nearCacheHits, nearCacheMisses);
+        hitRatio(meterRegistry, "redis", cacheHits, cacheMisses);
+
+        this.franchiseHits = Counter.builder("cache.franchise.requests")
+                .description("Franchise lookups by id served by the read-through cache")
+                .tag("cache", "redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+
+        this.franchiseMisses = Counter.builder("cache.franchise.requests")
+                .description("Franchise lookups by id served by the read-through cache")
+                .tag("cache", "redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
         this.cacheGetTimer = Timer.builder("cache.get.duration")
                 .description("Time taken to get from cache")
                 .tag("cache", "redis")
@@ -69,6 +104,23 @@ public class CacheMetrics {
                 .description("Time taken to delete from cache")
                 .tag("cache", "redis")
                 .register(meterRegistry);
+
+        this.invalidationKeysScanned = Counter.builder("cache.invalidation.keys")
+                .description("Keys matched by pattern invalidations")
+                .tag("cache", "redis")
+                .tag("stage", "scanned")
+                .register(meterRegistry);
+
+        this.invalidationKeysUnlinked = Counter.builder("cache.invalidation.keys")
+                .description("Keys removed by pattern invalidations")
+                .tag("cache", "redis")
+                .tag("stage", "unlinked")
+                .register(meterRegistry);
+
+        this.invalidationTimer = Timer.builder("cache.invalidation.duration")
+                .description("Time taken to scan and unlink every key matching a pattern")
+                .tag("cache", "redis")
+                .register(meterRegistry);
     }
 
     public void recordCacheHit() {
@@ -79,6 +131,38 @@ public class CacheMetrics {
         cacheMisses.increment();
     }
 
+    public void recordNearCacheHit() {
+        nearCacheHits.increment();
+    }
+
+    public void recordNearCacheMiss() {
+        nearCacheMisses.increment();
+    }
+
+    public void recordNearCacheLookups(int hits, int misses) {
+        nearCacheHits.increment(hits);
+        nearCacheMisses.increment(misses);
+    }
+
+    /**
+     * Registers the near cache's size, weight and eviction count.
+     */
+    public void bindNearCache(MeterRegistry meterRegistry, NearCache nearCache) {
+        Gauge.builder("cache.size", nearCache, NearCache::size)
+                .description("Number of entries in the cache")
+                .tag("cache", "near")
+                .register(meterRegistry);
+        Gauge.builder("cache.weight", nearCache, NearCache::weight)
+                .description("Total weight of the entries in the cache, in encoded bytes")
+                .tag("cache", "near")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", nearCache, NearCache::evictionCount)
+                .description("Number of entries evicted to stay within the cache bounds")
+                .tag("cache", "near")
+                .register(meterRegistry);
+    }
+
     public void recordCacheError() {
         cacheErrors.increment();
     }
@@ -99,6 +183,28 @@ public class CacheMetrics {
         cacheDeleteFailure.increment();
     }
 
+    public void recordFranchiseLookup(boolean hit) {
+        (hit ? franchiseHits : franchiseMisses).increment();
+    }
+
+    public void recordFranchiseLookups(int hits, int misses) {
+        franchiseHits.increment(hits);
+        franchiseMisses.increment(misses);
+    }
+
+    /**
+     * Share of lookups served by one tier; the Redis tier only sees lookups the near cache missed.
+     */
+    private static void hitRatio(MeterRegistry meterRegistry, String cache, Counter hits, Counter misses) {
+        Gauge.builder("cache.hit.ratio", () -> {
+                    double total = hits.count() + misses.count();
+                    return total == 0 ? 0.0 : hits.count() / total;
+                })
+                .description("Share of cache lookups that were hits since startup")
+                .tag("cache", cache)
+                .register(meterRegistry);
+    }
+
     public Timer.Sample startTimer() {
         return Timer.start();
     }
@@ -114,4 +220,16 @@ public class CacheMetrics {
     public void recordDeleteDuration(Timer.Sample sample) {
         sample.stop(cacheDeleteTimer);
     }
+
+    public void recordInvalidationKeysScanned(int keys) {
+        invalidationKeysScanned.increment(keys);
+    }
+
+    public void recordInvalidationKeysUnlinked(long keys) {
+        invalidationKeysUnlinked.increment(keys);
+    }
+
+    public void recordInvalidationDuration(Timer.Sample sample) {
+        sample.stop(invalidationTimer);
+    }
 }
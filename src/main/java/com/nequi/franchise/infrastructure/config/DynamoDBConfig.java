@@ -1,20 +1,36 @@
 package com.nequi.franchise.infrastructure.config;
 
+import com.nequi.franchise.infrastructure.adapter.output.persistence.capacity.ConsumedCapacityInterceptor;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.retry.DynamoDBRetryPolicy;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClientBuilder;
 
 import java.net.URI;
+import java.time.Duration;
 
 @Configuration
 public class DynamoDBConfig {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DynamoDBConfig.class);
+
     @Value("${aws.dynamodb.endpoint:}")
     private String endpoint;
 
@@ -27,12 +43,73 @@ public class DynamoDBConfig {
     @Value("${aws.dynamodb.secret-key}")
     private String secretKey;
 
+    @Value("${aws.dynamodb.http.max-concurrency:100}")
+    private int maxConcurrency;
+
+    @Value("${aws.dynamodb.http.max-pending-acquires:10000}")
+    private int maxPendingAcquires;
+
+    @Value("${aws.dynamodb.http.acquisition-timeout:5s}")
+    private Duration acquisitionTimeout;
+
+    @Value("${aws.dynamodb.http.connection-ttl:5m}")
+    private Duration connectionTtl;
+
+    @Value("${aws.dynamodb.http.connection-max-idle-time:30s}")
+    private Duration connectionMaxIdleTime;
+
+    @Value("${aws.dynamodb.http.native-transport:true}")
+    private boolean nativeTransport;
+
+    private EventLoopGroup nativeEventLoopGroup;
+
+    @Bean(destroyMethod = "close")
+    public SdkAsyncHttpClient dynamoDbHttpClient() {
+        NettyNioAsyncHttpClient.Builder builder = NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(maxConcurrency)
+                .maxPendingConnectionAcquires(maxPendingAcquires)
+                .connectionAcquisitionTimeout(acquisitionTimeout)
+                .connectionTimeToLive(connectionTtl)
+                .connectionMaxIdleTime(connectionMaxIdleTime)
+                .useIdleConnectionReaper(true)
+                .tcpKeepAlive(true);
+
+        if (nativeTransport && Epoll.isAvailable()) {
+            // The SDK does not shut down event loops it was handed, see shutdownNativeEventLoop().
+            nativeEventLoopGroup = new EpollEventLoopGroup();
+            builder.eventLoopGroup(SdkEventLoopGroup.create(nativeEventLoopGroup, EpollSocketChannel::new));
+        }
+
+        LOGGER.info("DynamoDB HTTP client: maxConcurrency={}, maxPendingAcquires={}, acquisitionTimeout={}, "
+                + "connectionTtl={}, maxIdleTime={}, epoll={}", maxConcurrency, maxPendingAcquires, acquisitionTimeout,
+            connectionTtl, connectionMaxIdleTime, nativeEventLoopGroup != null);
+        return builder.build();
+    }
+
+    @PreDestroy
+    public void shutdownNativeEventLoop() {
+        if (nativeEventLoopGroup != null) {
+            nativeEventLoopGroup.shutdownGracefully();
+        }
+    }
+
     @Bean
-    public DynamoDbAsyncClient dynamoDbAsyncClient() {
+    public DynamoDbAsyncClient dynamoDbAsyncClient(SdkAsyncHttpClient dynamoDbHttpClient,
+                                                   DynamoDBConnectionPoolMetrics connectionPoolMetrics,
+                                                   DynamoDBSdkMetrics sdkMetrics,
+                                                   DynamoDBRetryPolicy retryPolicy,
+                                                   ConsumedCapacityInterceptor consumedCapacityInterceptor) {
         DynamoDbAsyncClientBuilder builder = DynamoDbAsyncClient.builder()
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(
-                        AwsBasicCredentials.create(accessKey, secretKey)));
+                        AwsBasicCredentials.create(accessKey, secretKey)))
+                .httpClient(dynamoDbHttpClient)
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .addMetricPublisher(connectionPoolMetrics)
+                        .addMetricPublisher(sdkMetrics)
+                        .retryPolicy(retryPolicy.sdkRetryPolicy())
+                        .addExecutionInterceptor(consumedCapacityInterceptor)
+                        .build());
         
         if (endpoint != null && !endpoint.isEmpty()) {
             builder.endpointOverride(URI.create(endpoint));
@@ -0,0 +1,56 @@
+package com.nequi.franchise.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exposes the Netty connection pool of the DynamoDB client as gauges. The SDK only reports pool
+ * occupancy as a snapshot taken when each request acquires a connection, so every gauge shows the
+ * value seen by the most recent request.
+ */
+@Component
+public class DynamoDBConnectionPoolMetrics implements MetricPublisher {
+
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger available = new AtomicInteger();
+    private final AtomicInteger max = new AtomicInteger();
+
+    public DynamoDBConnectionPoolMetrics(MeterRegistry meterRegistry) {
+        register(meterRegistry, "dynamodb.http.connections.leased", "Connections in use by in-flight requests", leased);
+        register(meterRegistry, "dynamodb.http.connections.pending", "Requests waiting to acquire a connection", pending);
+        register(meterRegistry, "dynamodb.http.connections.available", "Idle connections ready for reuse", available);
+        register(meterRegistry, "dynamodb.http.connections.max", "Configured maximum concurrency", max);
+    }
+
+    private static void register(MeterRegistry meterRegistry, String name, String description, AtomicInteger value) {
+        Gauge.builder(name, value, AtomicInteger::get)
+                .description(description)
+                .tag("client", "dynamodb")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(MetricCollection metrics) {
+        record(metrics, HttpMetric.LEASED_CONCURRENCY, leased);
+        record(metrics, HttpMetric.PENDING_CONCURRENCY_ACQUIRES, pending);
+        record(metrics, HttpMetric.AVAILABLE_CONCURRENCY, available);
+        record(metrics, HttpMetric.MAX_CONCURRENCY, max);
+        metrics.children().forEach(this::publish);
+    }
+
+    private static void record(MetricCollection metrics, SdkMetric<Integer> metric, AtomicInteger target) {
+        metrics.metricValues(metric).forEach(target::set);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,125 @@
+package com.nequi.franchise.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+@Component
+public class DynamoDBMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public DynamoDBMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordBatchWriteItems(String tableName, long items) {
+        Counter.builder("dynamodb.batch.write.items")
+                .description("Number of items sent through BatchWriteItem")
+                .tag("table", tableName)
+                .register(meterRegistry)
+                .increment(items);
+    }
+
+    public void recordBatchWriteRetries(String tableName, long unprocessedItems) {
+        Counter.builder("dynamodb.batch.write.retries")
+                .description("Number of unprocessed BatchWriteItem items that had to be resent")
+                .tag("table", tableName)
+                .register(meterRegistry)
+                .increment(unprocessedItems);
+    }
+
+    public void recordBatchGetRetries(String tableName, long unprocessedKeys) {
+        Counter.builder("dynamodb.batch.get.retries")
+                .description("Number of unprocessed BatchGetItem keys that had to be requested again")
+                .tag("table", tableName)
+                .register(meterRegistry)
+                .increment(unprocessedKeys);
+    }
+
+    public void recordScanPage(String tableName, int items, double consumedCapacity) {
+        Counter.builder("dynamodb.scan.items")
+                .description("Number of items returned by segmented scans")
+                .tag("table", tableName)
+                .register(meterRegistry)
+                .increment(items);
+        Counter.builder("dynamodb.scan.consumed.capacity")
+                .description("Read capacity units consumed by segmented scans")
+                .tag("table", tableName)
+                .register(meterRegistry)
+                .increment(consumedCapacity);
+    }
+
+    public void recordConsumedCapacity(String tableName, String operation, String useCase, boolean read, double units) {
+        Counter.builder("dynamodb.consumed.capacity")
+                .description("Capacity units consumed by DynamoDB calls, by the use case that issued them")
+                .tag("table", tableName)
+                .tag("operation", operation)
+                .tag("use.case", useCase)
+                .tag("type", read ? "read" : "write")
+                .register(meterRegistry)
+                .increment(units);
+    }
+
+    public void recordItemSize(String tableName, long bytes) {
+        DistributionSummary.builder("dynamodb.item.size")
+                .description("Estimated size of franchise items before they are written")
+                .baseUnit("bytes")
+                .tag("table", tableName)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    public void recordOverflowParts(String tableName, int parts) {
+        Counter.builder("dynamodb.item.overflow.parts")
+                .description("Overflow items written for franchises too large for a single item")
+                .tag("table", tableName)
+                .register(meterRegistry)
+                .increment(parts);
+    }
+
+    public void recordFindById(boolean coalesced) {
+        Counter.builder("franchise.find.requests")
+                .description("findById calls, tagged by whether they joined a load already in flight")
+                .tag("coalesced", String.valueOf(coalesced))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordGroupCommit(int mutations) {
+        DistributionSummary.builder("franchise.group.commit.mutations")
+                .description("Mutations persisted by each grouped franchise write")
+                .register(meterRegistry)
+                .record(mutations);
+    }
+
+    public void recordRetry(String operation, Enum<?> reason) {
+        Counter.builder("dynamodb.retry.attempts")
+                .description("DynamoDB calls retried, by operation and failure classification")
+                .tag("operation", operation)
+                .tag("reason", reason.name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordRetryOutcome(String operation, String outcome) {
+        Counter.builder("dynamodb.retry.outcomes")
+                .description("Final outcome of DynamoDB calls that were retried or denied a retry")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void registerRetryBudget(Supplier<Number> tokensAvailable) {
+        Gauge.builder("dynamodb.retry.budget.tokens", tokensAvailable)
+                .description("Tokens left in the DynamoDB retry budget")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,104 @@
+package com.nequi.franchise.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Bridges the metrics the AWS SDK collects for each DynamoDB call into Micrometer, tagged by operation.
+ * The SDK reports one collection per API call, with a child per attempt and, below each attempt, the
+ * HTTP client's metrics. Call-level timings answer where the latency goes overall; attempt-level timings
+ * split it into service time, backoff and waiting for a pooled connection.
+ */
+@Component
+public class DynamoDBSdkMetrics implements MetricPublisher {
+
+    private static final String API_CALL_ATTEMPT = "ApiCallAttempt";
+    private static final String HTTP_CLIENT = "HttpClient";
+
+    private final MeterRegistry meterRegistry;
+
+    public DynamoDBSdkMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void publish(MetricCollection apiCall) {
+        String operation = first(apiCall, CoreMetric.OPERATION_NAME, "Unknown");
+        String outcome = Boolean.TRUE.equals(first(apiCall, CoreMetric.API_CALL_SUCCESSFUL, false)) ? "success" : "failure";
+
+        record(apiCall, CoreMetric.API_CALL_DURATION, "dynamodb.sdk.api.call.duration",
+                "End-to-end duration of a DynamoDB call including retries", operation, outcome);
+        record(apiCall, CoreMetric.MARSHALLING_DURATION, "dynamodb.sdk.marshalling.duration",
+                "Time spent serializing DynamoDB requests", operation, null);
+        record(apiCall, CoreMetric.CREDENTIALS_FETCH_DURATION, "dynamodb.sdk.credentials.fetch.duration",
+                "Time spent resolving credentials for DynamoDB calls", operation, null);
+
+        Integer retries = first(apiCall, CoreMetric.RETRY_COUNT, 0);
+        if (retries > 0) {
+            Counter.builder("dynamodb.sdk.retries")
+                    .description("Attempts the SDK retried after a failed DynamoDB call")
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .increment(retries);
+        }
+
+        apiCall.childrenWithName(API_CALL_ATTEMPT).forEach(attempt -> publishAttempt(operation, attempt));
+    }
+
+    private void publishAttempt(String operation, MetricCollection attempt) {
+        record(attempt, CoreMetric.SERVICE_CALL_DURATION, "dynamodb.sdk.service.call.duration",
+                "Time from sending a DynamoDB request to receiving the response, per attempt", operation, null);
+        record(attempt, CoreMetric.UNMARSHALLING_DURATION, "dynamodb.sdk.unmarshalling.duration",
+                "Time spent deserializing DynamoDB responses", operation, null);
+        record(attempt, CoreMetric.BACKOFF_DELAY_DURATION, "dynamodb.sdk.backoff.duration",
+                "Delay waited before a retried DynamoDB attempt", operation, null);
+
+        for (String errorType : attempt.metricValues(CoreMetric.ERROR_TYPE)) {
+            Counter.builder("dynamodb.sdk.attempt.errors")
+                    .description("Failed DynamoDB attempts by error type")
+                    .tag("operation", operation)
+                    .tag("error.type", errorType)
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+        attempt.childrenWithName(HTTP_CLIENT).forEach(http ->
+                record(http, HttpMetric.CONCURRENCY_ACQUIRE_DURATION, "dynamodb.sdk.connection.acquire.duration",
+                        "Time waited to lease a pooled HTTP connection", operation, null));
+    }
+
+    private void record(MetricCollection metrics, SdkMetric<Duration> metric, String name, String description,
+                        String operation, String outcome) {
+        List<Duration> values = metrics.metricValues(metric);
+        if (values.isEmpty()) {
+            return;
+        }
+        Timer.Builder builder = Timer.builder(name)
+                .description(description)
+                .tag("operation", operation);
+        if (outcome != null) {
+            builder.tag("outcome", outcome);
+        }
+        Timer timer = builder.register(meterRegistry);
+        values.forEach(timer::record);
+    }
+
+    private static <T> T first(MetricCollection metrics, SdkMetric<T> metric, T fallback) {
+        List<T> values = metrics.metricValues(metric);
+        return values.isEmpty() ? fallback : values.get(0);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -1,26 +1,50 @@
 package com.nequi.franchise.infrastructure.config;
 
+import com.nequi.franchise.domain.port.output.CachePort;
+import com.nequi.franchise.infrastructure.adapter.output.cache.NearCache;
+import com.nequi.franchise.infrastructure.adapter.output.cache.RedisCacheAdapter;
+import com.nequi.franchise.infrastructure.adapter.output.cache.TieredCacheAdapter;
+import com.nequi.franchise.infrastructure.adapter.output.cache.codec.CacheCodecRegistry;
+import com.nequi.franchise.infrastructure.adapter.output.cache.codec.CacheValueSerializer;
+import io.lettuce.core.event.connection.ConnectionActivatedEvent;
+import io.lettuce.core.event.connection.ConnectionDeactivatedEvent;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
 
 @Configuration
 public class RedisConfig {
 
+    @Value("${cache.near.enabled:true}")
+    private boolean nearCacheEnabled;
+
+    @Value("${cache.near.maximum-weight-bytes:67108864}")
+    private long nearCacheMaximumWeight;
+
+    @Value("${cache.near.ttl:30s}")
+    private Duration nearCacheTtl;
+
+    @Value("${cache.near.invalidation-channel:cache:invalidations}")
+    private String invalidationChannel;
+
     @Bean
     public ReactiveRedisTemplate<String, Object> reactiveRedisTemplate(
-            ReactiveRedisConnectionFactory connectionFactory) {
-        
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
+            ReactiveRedisConnectionFactory connectionFactory,
+            CacheCodecRegistry cacheCodecRegistry) {
         
-        Jackson2JsonRedisSerializer<Object> serializer = new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
+        CacheValueSerializer serializer = new CacheValueSerializer(cacheCodecRegistry);
         
         RedisSerializationContext<String, Object> serializationContext = RedisSerializationContext
                 .<String, Object>newSerializationContext(new StringRedisSerializer())
@@ -31,4 +55,35 @@ public class RedisConfig {
 
         return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
     }
+
+    /**
+     * Puts the near cache in front of the Redis adapter. Entries are weighed by their encoded size,
+     * the same bytes Redis stores, and the near cache is cleared whenever Lettuce reports a connection
+     * going down or coming back, since invalidations published in between are lost.
+     */
+    @Bean
+    @Primary
+    public CachePort cachePort(RedisCacheAdapter redisCacheAdapter,
+                               ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+                               CacheCodecRegistry cacheCodecRegistry,
+                               CacheMetrics cacheMetrics,
+                               MeterRegistry meterRegistry,
+                               ObjectProvider<ClientResources> clientResources) {
+        if (!nearCacheEnabled) {
+            return redisCacheAdapter;
+        }
+        NearCache nearCache = new NearCache(nearCacheMaximumWeight, nearCacheTtl);
+        cacheMetrics.bindNearCache(meterRegistry, nearCache);
+        return new TieredCacheAdapter(redisCacheAdapter, nearCache, cacheCodecRegistry, reactiveStringRedisTemplate,
+                connectionEvents(clientResources.getIfAvailable()), invalidationChannel, cacheMetrics);
+    }
+
+    private static Flux<?> connectionEvents(ClientResources clientResources) {
+        if (clientResources == null) {
+            return Flux.never();
+        }
+        return clientResources.eventBus().get()
+                .filter(event -> event instanceof ConnectionActivatedEvent
+                        || event instanceof ConnectionDeactivatedEvent);
+    }
 }
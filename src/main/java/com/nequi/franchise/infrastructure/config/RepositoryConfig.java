@@ -0,0 +1,62 @@
+package com.nequi.franchise.infrastructure.config;
+
+import com.nequi.franchise.domain.port.output.CachePort;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.CachingFranchiseRepository;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.GroupCommitFranchiseRepository;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.SingleFlightFranchiseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Wraps the active layout adapter in the repository decorators. The adapter parameter resolves to
+ * the layout adapter because Spring skips the bean being created when matching its own dependencies.
+ */
+@Configuration
+public class RepositoryConfig {
+
+    @Value("${aws.dynamodb.single-flight.enabled:true}")
+    private boolean singleFlightEnabled;
+
+    @Value("${aws.dynamodb.group-commit.enabled:true}")
+    private boolean groupCommitEnabled;
+
+    @Value("${aws.dynamodb.group-commit.max-batch-size:25}")
+    private int groupCommitMaxBatchSize;
+
+    @Value("${cache.franchise.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${cache.franchise.ttl:30m}")
+    private Duration cacheTtl;
+
+    @Value("${aws.dynamodb.layout:aggregate}")
+    private String layout;
+
+    @Bean
+    @Primary
+    public FranchiseRepositoryPort franchiseRepository(FranchiseRepositoryPort franchiseRepositoryAdapter,
+                                                       DynamoDBMetrics dynamoDBMetrics,
+                                                       CachePort cachePort,
+                                                       CacheMetrics cacheMetrics) {
+        FranchiseRepositoryPort repository = franchiseRepositoryAdapter;
+        if (groupCommitEnabled) {
+            // The single-table layout updates stock with a one-row write that has nothing to group.
+            boolean groupStockUpdates = !"single-table".equals(layout);
+            repository = new GroupCommitFranchiseRepository(repository, dynamoDBMetrics, groupCommitMaxBatchSize,
+                    groupStockUpdates);
+        }
+        if (cacheEnabled) {
+            // Inside single-flight, so concurrent misses for one franchise share a single load and fill.
+            repository = new CachingFranchiseRepository(repository, cachePort, cacheMetrics, cacheTtl);
+        }
+        if (singleFlightEnabled) {
+            repository = new SingleFlightFranchiseRepository(repository, dynamoDBMetrics);
+        }
+        return repository;
+    }
+}
@@ -1,10 +1,13 @@
 package com.nequi.franchise.infrastructure.observability;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 @Component
 public class ApplicationMetrics {
 
@@ -16,10 +19,15 @@ public class ApplicationMetrics {
     private final Counter nameUpdated;
     private final Counter businessRuleViolations;
     private final Counter optimisticLockFailures;
+    private final Counter franchisesImported;
+    private final Counter franchiseImportFailures;
+    private final Counter importRows;
+    private final AtomicLong importRowsPerSecond = new AtomicLong();
     
     private final Timer franchiseOperationTimer;
     private final Timer branchOperationTimer;
     private final Timer productOperationTimer;
+    private final Timer importTimer;
 
     public ApplicationMetrics(MeterRegistry meterRegistry) {
         this.franchiseCreated = Counter.builder("franchise.created")
@@ -62,6 +70,24 @@ public class ApplicationMetrics {
                 .tag("type", "concurrency")
                 .register(meterRegistry);
 
+        this.franchisesImported = Counter.builder("franchise.import.records")
+                .description("Number of franchises written by bulk imports")
+                .tag("status", "imported")
+                .register(meterRegistry);
+
+        this.franchiseImportFailures = Counter.builder("franchise.import.records")
+                .description("Number of franchises rejected by bulk imports")
+                .tag("status", "failed")
+                .register(meterRegistry);
+
+        this.importRows = Counter.builder("franchise.import.rows")
+                .description("Number of input rows consumed by bulk imports")
+                .register(meterRegistry);
+
+        Gauge.builder("franchise.import.rows.per.second", importRowsPerSecond, AtomicLong::get)
+                .description("Throughput of the last completed bulk import")
+                .register(meterRegistry);
+
         this.franchiseOperationTimer = Timer.builder("franchise.operation.duration")
                 .description("Time taken for franchise operations")
                 .register(meterRegistry);
@@ -73,6 +99,10 @@ public class ApplicationMetrics {
         this.productOperationTimer = Timer.builder("product.operation.duration")
                 .description("Time taken for product operations")
                 .register(meterRegistry);
+
+        this.importTimer = Timer.builder("franchise.import.duration")
+                .description("Time taken for bulk imports")
+                .register(meterRegistry);
     }
 
     public void recordFranchiseCreated() {
@@ -130,4 +160,23 @@ public class ApplicationMetrics {
     public void recordProductOperation(Timer.Sample sample) {
         sample.stop(productOperationTimer);
     }
+
+    public void recordFranchiseImported(int rows) {
+        franchisesImported.increment();
+        importRows.increment(rows);
+    }
+
+    public void recordFranchiseImportFailed(int rows) {
+        franchiseImportFailures.increment();
+        importRows.increment(rows);
+    }
+
+    public Timer.Sample startImportTimer() {
+        return Timer.start();
+    }
+
+    public void recordImportCompleted(Timer.Sample sample, long rows) {
+        long nanos = Math.max(sample.stop(importTimer), 1);
+        importRowsPerSecond.set(rows * 1_000_000_000L / nanos);
+    }
 }
@@ -3,6 +3,7 @@ package com.nequi.franchise.infrastructure.observability;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
@@ -11,6 +12,7 @@ import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import java.time.Duration;
 
 @Component("dynamodb")
+@Profile("!in-memory")
 public class DynamoDBHealthIndicator implements ReactiveHealthIndicator {
 
     private final DynamoDbAsyncClient dynamoDbClient;
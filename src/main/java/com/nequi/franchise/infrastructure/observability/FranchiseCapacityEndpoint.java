@@ -0,0 +1,34 @@
+package com.nequi.franchise.infrastructure.observability;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.capacity.FranchiseCapacity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.capacity.FranchiseCapacityRanking;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Lists the franchises whose DynamoDB calls consumed the most capacity since startup, at
+ * {@code /actuator/franchisecapacity?limit=N}.
+ */
+@Component
+@Endpoint(id = "franchisecapacity")
+public class FranchiseCapacityEndpoint {
+
+    private final FranchiseCapacityRanking ranking;
+    private final int defaultLimit;
+
+    public FranchiseCapacityEndpoint(FranchiseCapacityRanking ranking,
+                                     @Value("${aws.dynamodb.capacity.top-franchises:10}") int defaultLimit) {
+        this.ranking = ranking;
+        this.defaultLimit = defaultLimit;
+    }
+
+    @ReadOperation
+    public List<FranchiseCapacity> topFranchises(@Nullable Integer limit) {
+        return ranking.top(limit == null || limit < 1 ? defaultLimit : limit);
+    }
+}
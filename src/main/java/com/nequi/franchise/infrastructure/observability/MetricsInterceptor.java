@@ -2,12 +2,16 @@ package com.nequi.franchise.infrastructure.observability;
 
 import com.nequi.franchise.domain.exception.InvalidDomainException;
 import com.nequi.franchise.domain.exception.OptimisticLockException;
+import com.nequi.franchise.domain.model.ImportResult;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 @Aspect
 @Component
 public class MetricsInterceptor {
@@ -121,6 +125,32 @@ public class MetricsInterceptor {
         return result;
     }
 
+    @Around("execution(* com.nequi.franchise.application.service.ImportFranchisesService.execute(..))")
+    public Object trackFranchiseImport(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = joinPoint.proceed();
+        
+        if (result instanceof Flux) {
+            return Flux.defer(() -> {
+                io.micrometer.core.instrument.Timer.Sample sample = applicationMetrics.startImportTimer();
+                AtomicLong rows = new AtomicLong();
+                return ((Flux<?>) result)
+                    .doOnNext(value -> {
+                        if (value instanceof ImportResult importResult) {
+                            rows.addAndGet(importResult.getRows());
+                            if (importResult.getStatus() == ImportResult.Status.IMPORTED) {
+                                applicationMetrics.recordFranchiseImported(importResult.getRows());
+                            } else {
+                                applicationMetrics.recordFranchiseImportFailed(importResult.getRows());
+                            }
+                        }
+                    })
+                    .doOnComplete(() -> applicationMetrics.recordImportCompleted(sample, rows.get()));
+            });
+        }
+        
+        return result;
+    }
+
     private void handleError(Throwable error) {
         if (error instanceof InvalidDomainException) {
             applicationMetrics.recordBusinessRuleViolation();
@@ -0,0 +1,20 @@
+package com.nequi.franchise.infrastructure.observability;
+
+import reactor.util.context.ContextView;
+
+/**
+ * Reactor context entry naming the use case a reactive chain runs for. {@link UseCaseContextAspect}
+ * writes it around every service, so anything subscribed below a service can attribute its work.
+ */
+public final class UseCaseContext {
+
+    public static final String KEY = "franchise.useCase";
+    public static final String UNATTRIBUTED = "unattributed";
+
+    private UseCaseContext() {
+    }
+
+    public static String current(ContextView context) {
+        return context.getOrDefault(KEY, UNATTRIBUTED);
+    }
+}
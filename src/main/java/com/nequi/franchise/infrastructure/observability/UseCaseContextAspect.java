@@ -0,0 +1,39 @@
+package com.nequi.franchise.infrastructure.observability;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Aspect
+@Component
+public class UseCaseContextAspect {
+
+    private static final String SERVICE_SUFFIX = "Service";
+
+    @Around("execution(* com.nequi.franchise.application.service.*Service.execute(..))")
+    public Object writeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        String useCase = useCaseName(ClassUtils.getUserClass(joinPoint.getTarget()));
+
+        Object result = joinPoint.proceed();
+
+        // A service called from another service keeps the caller's name, the use case the request asked for.
+        if (result instanceof Mono<?> mono) {
+            return mono.contextWrite(context -> context.hasKey(UseCaseContext.KEY)
+                    ? context : context.put(UseCaseContext.KEY, useCase));
+        }
+        if (result instanceof Flux<?> flux) {
+            return flux.contextWrite(context -> context.hasKey(UseCaseContext.KEY)
+                    ? context : context.put(UseCaseContext.KEY, useCase));
+        }
+        return result;
+    }
+
+    static String useCaseName(Class<?> serviceClass) {
+        String name = serviceClass.getSimpleName();
+        return name.endsWith(SERVICE_SUFFIX) ? name.substring(0, name.length() - SERVICE_SUFFIX.length()) : name;
+    }
+}
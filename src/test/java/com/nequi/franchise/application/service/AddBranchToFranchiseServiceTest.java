@@ -3,7 +3,7 @@ package com.nequi.franchise.application.service;
 import com.nequi.franchise.domain.exception.FranchiseNotFoundException;
 import com.nequi.franchise.domain.model.Branch;
 import com.nequi.franchise.domain.model.Franchise;
-import com.nequi.franchise.domain.port.output.CachePort;
+import com.nequi.franchise.domain.model.FranchiseProjection;
 import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,9 +14,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.time.Duration;
 import java.util.ArrayList;
 
+import static com.nequi.franchise.application.service.FranchiseRepositoryStubs.stubUpdate;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -26,9 +26,6 @@ class AddBranchToFranchiseServiceTest {
     @Mock
     private FranchiseRepositoryPort franchiseRepository;
 
-    @Mock
-    private CachePort cachePort;
-
     @InjectMocks
     private AddBranchToFranchiseService addBranchToFranchiseService;
 
@@ -45,93 +42,47 @@ class AddBranchToFranchiseServiceTest {
 
     @Test
     void execute_ShouldAddBranchSuccessfully() {
-        Franchise updatedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>())
-                .build();
-        updatedFranchise.getBranches().add(Branch.builder()
-                .id("branch-id")
-                .name("Test Branch")
-                .products(new ArrayList<>())
-                .build());
+        stubUpdate(franchiseRepository, "franchise-id", existingFranchise);
 
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class))).thenReturn(Mono.just(updatedFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class))).thenReturn(Mono.just(true));
-
-        Mono<Franchise> result = addBranchToFranchiseService.execute("franchise-id", "Test Branch");
+        Mono<Branch> result = addBranchToFranchiseService.execute("franchise-id", "Test Branch");
 
         StepVerifier.create(result)
-                .expectNextMatches(franchise ->
-                        franchise.getBranches().size() == 1 &&
-                        franchise.getBranches().get(0).getName().equals("Test Branch"))
+                .expectNextMatches(branch ->
+                        branch.getName().equals("Test Branch") &&
+                        existingFranchise.getBranches().size() == 1 &&
+                        existingFranchise.getBranches().get(0).getId().equals(branch.getId()))
                 .verifyComplete();
 
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
-        verify(cachePort, times(1)).set(anyString(), any(Franchise.class), any(Duration.class));
+        verify(franchiseRepository, times(1)).update(eq("franchise-id"), any(FranchiseProjection.class), any());
+        verify(franchiseRepository, never()).findById(anyString());
     }
 
     @Test
     void execute_ShouldThrowExceptionWhenFranchiseNotFound() {
-        when(franchiseRepository.findById("non-existent-id")).thenReturn(Mono.empty());
+        when(franchiseRepository.update(eq("non-existent-id"), any(FranchiseProjection.class), any())).thenReturn(Mono.empty());
 
-        Mono<Franchise> result = addBranchToFranchiseService.execute("non-existent-id", "Test Branch");
+        Mono<Branch> result = addBranchToFranchiseService.execute("non-existent-id", "Test Branch");
 
         StepVerifier.create(result)
                 .expectError(FranchiseNotFoundException.class)
                 .verify();
 
-        verify(franchiseRepository, times(1)).findById("non-existent-id");
+        verify(franchiseRepository, times(1)).update(eq("non-existent-id"), any(FranchiseProjection.class), any());
         verify(franchiseRepository, never()).save(any(Franchise.class));
-        verify(cachePort, never()).set(anyString(), any(Franchise.class), any(Duration.class));
     }
 
     @Test
     void execute_ShouldHandleRepositorySaveError() {
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class)))
+        when(franchiseRepository.update(eq("franchise-id"), any(FranchiseProjection.class), any()))
                 .thenReturn(Mono.error(new RuntimeException("Database error")));
 
-        Mono<Franchise> result = addBranchToFranchiseService.execute("franchise-id", "Test Branch");
+        Mono<Branch> result = addBranchToFranchiseService.execute("franchise-id", "Test Branch");
 
         StepVerifier.create(result)
                 .expectError(RuntimeException.class)
                 .verify();
 
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
-        verify(cachePort, never()).set(anyString(), any(Franchise.class), any(Duration.class));
-    }
-
-    @Test
-    void execute_ShouldContinueWhenCacheFails() {
-        Franchise updatedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>())
-                .build();
-        updatedFranchise.getBranches().add(Branch.builder()
-                .id("branch-id")
-                .name("Test Branch")
-                .products(new ArrayList<>())
-                .build());
-
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class))).thenReturn(Mono.just(updatedFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class)))
-                .thenReturn(Mono.just(false));
-
-        Mono<Franchise> result = addBranchToFranchiseService.execute("franchise-id", "Test Branch");
-
-        StepVerifier.create(result)
-                .expectNextMatches(franchise -> franchise.getBranches().size() == 1)
-                .verifyComplete();
-
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
-        verify(cachePort, times(1)).set(anyString(), any(Franchise.class), any(Duration.class));
+        verify(franchiseRepository, times(1)).update(eq("franchise-id"), any(FranchiseProjection.class), any());
     }
 
     @Test
@@ -141,31 +92,16 @@ class AddBranchToFranchiseServiceTest {
                 .name("Existing Branch")
                 .products(new ArrayList<>())
                 .build();
-        existingFranchise.getBranches().add(existingBranch);
-
-        Franchise updatedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>())
-                .build();
-        updatedFranchise.getBranches().add(existingBranch);
-        updatedFranchise.getBranches().add(Branch.builder()
-                .id("new-branch-id")
-                .name("New Branch")
-                .products(new ArrayList<>())
-                .build());
+        existingFranchise.addBranch(existingBranch);
 
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class))).thenReturn(Mono.just(updatedFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class))).thenReturn(Mono.just(true));
+        stubUpdate(franchiseRepository, "franchise-id", existingFranchise);
 
-        Mono<Franchise> result = addBranchToFranchiseService.execute("franchise-id", "New Branch");
+        Mono<Branch> result = addBranchToFranchiseService.execute("franchise-id", "New Branch");
 
         StepVerifier.create(result)
-                .expectNextMatches(franchise -> franchise.getBranches().size() == 2)
+                .expectNextMatches(branch -> branch.getName().equals("New Branch") && existingFranchise.getBranches().size() == 2)
                 .verifyComplete();
 
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
+        verify(franchiseRepository, times(1)).update(eq("franchise-id"), any(FranchiseProjection.class), any());
     }
 }
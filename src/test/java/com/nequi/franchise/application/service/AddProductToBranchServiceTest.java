@@ -4,8 +4,8 @@ import com.nequi.franchise.domain.exception.BranchNotFoundException;
 import com.nequi.franchise.domain.exception.FranchiseNotFoundException;
 import com.nequi.franchise.domain.model.Branch;
 import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
 import com.nequi.franchise.domain.model.Product;
-import com.nequi.franchise.domain.port.output.CachePort;
 import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,10 +16,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.nequi.franchise.application.service.FranchiseRepositoryStubs.stubUpdate;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -29,9 +29,6 @@ class AddProductToBranchServiceTest {
     @Mock
     private FranchiseRepositoryPort franchiseRepository;
 
-    @Mock
-    private CachePort cachePort;
-
     @InjectMocks
     private AddProductToBranchService addProductToBranchService;
 
@@ -55,123 +52,60 @@ class AddProductToBranchServiceTest {
 
     @Test
     void execute_ShouldAddProductSuccessfully() {
-        Product newProduct = Product.builder()
-                .id("product-id")
-                .name("Test Product")
-                .stock(100)
-                .build();
-
-        Franchise updatedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>())
-                .build();
-        Branch branchWithProduct = Branch.builder()
-                .id("branch-id")
-                .name("Test Branch")
-                .products(new ArrayList<>(List.of(newProduct)))
-                .build();
-        updatedFranchise.getBranches().add(branchWithProduct);
-
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class))).thenReturn(Mono.just(updatedFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class))).thenReturn(Mono.just(true));
+        stubUpdate(franchiseRepository, "franchise-id", existingFranchise);
 
-        Mono<Franchise> result = addProductToBranchService.execute("franchise-id", "branch-id", "Test Product", 100);
+        Mono<Branch> result = addProductToBranchService.execute("franchise-id", "branch-id", "Test Product", 100);
 
         StepVerifier.create(result)
-                .expectNextMatches(franchise ->
-                        franchise.getBranches().get(0).getProducts().size() == 1 &&
-                        franchise.getBranches().get(0).getProducts().get(0).getName().equals("Test Product") &&
-                        franchise.getBranches().get(0).getProducts().get(0).getStock().equals(100))
+                .expectNextMatches(branch ->
+                        branch.getProducts().size() == 1 &&
+                        branch.getProducts().get(0).getName().equals("Test Product") &&
+                        branch.getProducts().get(0).getStock().equals(100))
                 .verifyComplete();
 
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
-        verify(cachePort, times(1)).set(anyString(), any(Franchise.class), any(Duration.class));
+        verify(franchiseRepository, times(1)).update(eq("franchise-id"), any(FranchiseProjection.class), any());
     }
 
     @Test
     void execute_ShouldThrowExceptionWhenFranchiseNotFound() {
-        when(franchiseRepository.findById("non-existent-id")).thenReturn(Mono.empty());
+        when(franchiseRepository.update(eq("non-existent-id"), any(FranchiseProjection.class), any())).thenReturn(Mono.empty());
 
-        Mono<Franchise> result = addProductToBranchService.execute("non-existent-id", "branch-id", "Test Product", 100);
+        Mono<Branch> result = addProductToBranchService.execute("non-existent-id", "branch-id", "Test Product", 100);
 
         StepVerifier.create(result)
                 .expectError(FranchiseNotFoundException.class)
                 .verify();
 
-        verify(franchiseRepository, times(1)).findById("non-existent-id");
+        verify(franchiseRepository, times(1)).update(eq("non-existent-id"), any(FranchiseProjection.class), any());
         verify(franchiseRepository, never()).save(any(Franchise.class));
-        verify(cachePort, never()).set(anyString(), any(Franchise.class), any(Duration.class));
     }
 
     @Test
     void execute_ShouldThrowExceptionWhenBranchNotFound() {
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
+        stubUpdate(franchiseRepository, "franchise-id", existingFranchise);
 
-        Mono<Franchise> result = addProductToBranchService.execute("franchise-id", "non-existent-branch", "Test Product", 100);
+        Mono<Branch> result = addProductToBranchService.execute("franchise-id", "non-existent-branch", "Test Product", 100);
 
         StepVerifier.create(result)
                 .expectError(BranchNotFoundException.class)
                 .verify();
 
-        verify(franchiseRepository, times(1)).findById("franchise-id");
+        verify(franchiseRepository, times(1)).update(eq("franchise-id"), any(FranchiseProjection.class), any());
         verify(franchiseRepository, never()).save(any(Franchise.class));
-        verify(cachePort, never()).set(anyString(), any(Franchise.class), any(Duration.class));
     }
 
     @Test
     void execute_ShouldHandleRepositorySaveError() {
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class)))
+        when(franchiseRepository.update(eq("franchise-id"), any(FranchiseProjection.class), any()))
                 .thenReturn(Mono.error(new RuntimeException("Database error")));
 
-        Mono<Franchise> result = addProductToBranchService.execute("franchise-id", "branch-id", "Test Product", 100);
+        Mono<Branch> result = addProductToBranchService.execute("franchise-id", "branch-id", "Test Product", 100);
 
         StepVerifier.create(result)
                 .expectError(RuntimeException.class)
                 .verify();
 
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
-        verify(cachePort, never()).set(anyString(), any(Franchise.class), any(Duration.class));
-    }
-
-    @Test
-    void execute_ShouldContinueWhenCacheFails() {
-        Product newProduct = Product.builder()
-                .id("product-id")
-                .name("Test Product")
-                .stock(100)
-                .build();
-
-        Franchise updatedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>())
-                .build();
-        Branch branchWithProduct = Branch.builder()
-                .id("branch-id")
-                .name("Test Branch")
-                .products(new ArrayList<>(List.of(newProduct)))
-                .build();
-        updatedFranchise.getBranches().add(branchWithProduct);
-
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class))).thenReturn(Mono.just(updatedFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class)))
-                .thenReturn(Mono.just(false));
-
-        Mono<Franchise> result = addProductToBranchService.execute("franchise-id", "branch-id", "Test Product", 100);
-
-        StepVerifier.create(result)
-                .expectNextMatches(franchise -> franchise.getBranches().get(0).getProducts().size() == 1)
-                .verifyComplete();
-
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
-        verify(cachePort, times(1)).set(anyString(), any(Franchise.class), any(Duration.class));
+        verify(franchiseRepository, times(1)).update(eq("franchise-id"), any(FranchiseProjection.class), any());
     }
 
     @Test
@@ -181,72 +115,30 @@ class AddProductToBranchServiceTest {
                 .name("Existing Product")
                 .stock(50)
                 .build();
-        existingBranch.getProducts().add(existingProduct);
+        existingBranch.addProduct(existingProduct);
 
-        Product newProduct = Product.builder()
-                .id("new-product-id")
-                .name("New Product")
-                .stock(100)
-                .build();
+        stubUpdate(franchiseRepository, "franchise-id", existingFranchise);
 
-        Franchise updatedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>())
-                .build();
-        Branch branchWithProducts = Branch.builder()
-                .id("branch-id")
-                .name("Test Branch")
-                .products(new ArrayList<>(List.of(existingProduct, newProduct)))
-                .build();
-        updatedFranchise.getBranches().add(branchWithProducts);
-
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class))).thenReturn(Mono.just(updatedFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class))).thenReturn(Mono.just(true));
-
-        Mono<Franchise> result = addProductToBranchService.execute("franchise-id", "branch-id", "New Product", 100);
+        Mono<Branch> result = addProductToBranchService.execute("franchise-id", "branch-id", "New Product", 100);
 
         StepVerifier.create(result)
-                .expectNextMatches(franchise -> franchise.getBranches().get(0).getProducts().size() == 2)
+                .expectNextMatches(branch -> branch.getProducts().size() == 2)
                 .verifyComplete();
 
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
+        verify(franchiseRepository, times(1)).update(eq("franchise-id"), any(FranchiseProjection.class), any());
     }
 
     @Test
     void execute_ShouldAddProductWithZeroStock() {
-        Product newProduct = Product.builder()
-                .id("product-id")
-                .name("Test Product")
-                .stock(0)
-                .build();
-
-        Franchise updatedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>())
-                .build();
-        Branch branchWithProduct = Branch.builder()
-                .id("branch-id")
-                .name("Test Branch")
-                .products(new ArrayList<>(List.of(newProduct)))
-                .build();
-        updatedFranchise.getBranches().add(branchWithProduct);
-
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class))).thenReturn(Mono.just(updatedFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class))).thenReturn(Mono.just(true));
+        stubUpdate(franchiseRepository, "franchise-id", existingFranchise);
 
-        Mono<Franchise> result = addProductToBranchService.execute("franchise-id", "branch-id", "Test Product", 0);
+        Mono<Branch> result = addProductToBranchService.execute("franchise-id", "branch-id", "Test Product", 0);
 
         StepVerifier.create(result)
-                .expectNextMatches(franchise ->
-                        franchise.getBranches().get(0).getProducts().get(0).getStock().equals(0))
+                .expectNextMatches(branch ->
+                        branch.getProducts().get(0).getStock().equals(0))
                 .verifyComplete();
 
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
+        verify(franchiseRepository, times(1)).update(eq("franchise-id"), any(FranchiseProjection.class), any());
     }
 }
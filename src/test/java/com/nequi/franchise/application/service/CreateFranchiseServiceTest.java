@@ -1,7 +1,6 @@
 package com.nequi.franchise.application.service;
 
 import com.nequi.franchise.domain.model.Franchise;
-import com.nequi.franchise.domain.port.output.CachePort;
 import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,7 +11,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.time.Duration;
 import java.util.ArrayList;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -24,9 +22,6 @@ class CreateFranchiseServiceTest {
     @Mock
     private FranchiseRepositoryPort franchiseRepository;
 
-    @Mock
-    private CachePort cachePort;
-
     @InjectMocks
     private CreateFranchiseService createFranchiseService;
 
@@ -44,7 +39,6 @@ class CreateFranchiseServiceTest {
     @Test
     void execute_ShouldCreateFranchiseSuccessfully() {
         when(franchiseRepository.save(any(Franchise.class))).thenReturn(Mono.just(expectedFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class))).thenReturn(Mono.just(true));
 
         Mono<Franchise> result = createFranchiseService.execute("Test Franchise");
 
@@ -55,7 +49,6 @@ class CreateFranchiseServiceTest {
                 .verifyComplete();
 
         verify(franchiseRepository, times(1)).save(any(Franchise.class));
-        verify(cachePort, times(1)).set(anyString(), any(Franchise.class), any(Duration.class));
     }
 
     @Test
@@ -70,22 +63,5 @@ class CreateFranchiseServiceTest {
                 .verify();
 
         verify(franchiseRepository, times(1)).save(any(Franchise.class));
-        verify(cachePort, never()).set(anyString(), any(Franchise.class), any(Duration.class));
-    }
-
-    @Test
-    void execute_ShouldContinueWhenCacheFails() {
-        when(franchiseRepository.save(any(Franchise.class))).thenReturn(Mono.just(expectedFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class)))
-                .thenReturn(Mono.just(false));
-
-        Mono<Franchise> result = createFranchiseService.execute("Test Franchise");
-
-        StepVerifier.create(result)
-                .expectNextMatches(franchise -> franchise.getName().equals("Test Franchise"))
-                .verifyComplete();
-
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
-        verify(cachePort, times(1)).set(anyString(), any(Franchise.class), any(Duration.class));
     }
 }
@@ -0,0 +1,76 @@
+package com.nequi.franchise.application.service;
+
+import com.nequi.franchise.domain.exception.FranchiseNotFoundException;
+import com.nequi.franchise.domain.exception.OptimisticLockException;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteFranchiseServiceTest {
+
+    @Mock
+    private FranchiseRepositoryPort franchiseRepository;
+
+    @InjectMocks
+    private DeleteFranchiseService deleteFranchiseService;
+
+    private Franchise existingFranchise;
+
+    @BeforeEach
+    void setUp() {
+        existingFranchise = Franchise.builder()
+                .id("franchise-id")
+                .name("Franchise")
+                .branches(new ArrayList<>())
+                .version(4L)
+                .build();
+    }
+
+    @Test
+    void execute_ShouldDeleteAtCurrentVersion() {
+        when(franchiseRepository.findById("franchise-id", FranchiseProjection.header())).thenReturn(Mono.just(existingFranchise));
+        when(franchiseRepository.delete("franchise-id", 4L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(deleteFranchiseService.execute("franchise-id", null))
+                .verifyComplete();
+
+        verify(franchiseRepository, times(1)).delete("franchise-id", 4L);
+    }
+
+    @Test
+    void execute_ShouldRejectStaleExpectedVersion() {
+        when(franchiseRepository.findById("franchise-id", FranchiseProjection.header())).thenReturn(Mono.just(existingFranchise));
+
+        StepVerifier.create(deleteFranchiseService.execute("franchise-id", 3L))
+                .expectError(OptimisticLockException.class)
+                .verify();
+
+        verify(franchiseRepository, never()).delete(anyString(), anyLong());
+    }
+
+    @Test
+    void execute_ShouldThrowWhenFranchiseNotFound() {
+        when(franchiseRepository.findById("missing", FranchiseProjection.header())).thenReturn(Mono.empty());
+
+        StepVerifier.create(deleteFranchiseService.execute("missing", null))
+                .expectError(FranchiseNotFoundException.class)
+                .verify();
+
+        verify(franchiseRepository, never()).delete(anyString(), anyLong());
+    }
+}
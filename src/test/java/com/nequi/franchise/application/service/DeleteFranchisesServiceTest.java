@@ -0,0 +1,69 @@
+package com.nequi.franchise.application.service;
+
+import com.nequi.franchise.application.job.DeletionJobTracker;
+import com.nequi.franchise.domain.exception.OptimisticLockException;
+import com.nequi.franchise.domain.model.DeletionJob;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteFranchisesServiceTest {
+
+    @Mock
+    private FranchiseRepositoryPort franchiseRepository;
+
+    private DeletionJobTracker jobTracker;
+    private DeleteFranchisesService deleteFranchisesService;
+
+    @BeforeEach
+    void setUp() {
+        jobTracker = new DeletionJobTracker();
+        deleteFranchisesService = new DeleteFranchisesService(franchiseRepository, jobTracker);
+    }
+
+    @Test
+    void execute_ShouldCountEachOutcome() {
+        when(franchiseRepository.findById("a", FranchiseProjection.header())).thenReturn(Mono.just(franchise("a", 1L)));
+        when(franchiseRepository.findById("b", FranchiseProjection.header())).thenReturn(Mono.just(franchise("b", 2L)));
+        when(franchiseRepository.findById("c", FranchiseProjection.header())).thenReturn(Mono.empty());
+        when(franchiseRepository.findById("d", FranchiseProjection.header())).thenReturn(Mono.just(franchise("d", 5L)));
+        when(franchiseRepository.delete("a", 1L)).thenReturn(Mono.empty());
+        when(franchiseRepository.delete("b", 2L)).thenReturn(Mono.empty());
+        when(franchiseRepository.delete("d", 5L)).thenReturn(Mono.error(new OptimisticLockException("conflict")));
+
+        DeletionJob started = deleteFranchisesService.execute(List.of("a", "b", "c", "d", "a")).block();
+
+        assertNotNull(started);
+        assertEquals(4, started.getTotal());
+        DeletionJob finished = jobTracker.find(started.getId()).orElseThrow();
+        assertEquals(DeletionJob.Status.COMPLETED, finished.getStatus());
+        assertEquals(2, finished.getDeleted());
+        assertEquals(1, finished.getNotFound());
+        assertEquals(1, finished.getFailed());
+        assertEquals(4, finished.getProcessed());
+        assertNotNull(finished.getFinishedAt());
+    }
+
+    private static Franchise franchise(String id, long version) {
+        return Franchise.builder()
+                .id(id)
+                .name("Franchise " + id)
+                .branches(new ArrayList<>())
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.nequi.franchise.application.service;
+
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportFranchisesServiceTest {
+
+    @Mock
+    private FranchiseRepositoryPort franchiseRepository;
+
+    @InjectMocks
+    private ExportFranchisesService exportFranchisesService;
+
+    @Test
+    void execute_ShouldStreamEveryStoredFranchise() {
+        Franchise first = Franchise.builder().id("first").name("First").build();
+        Franchise second = Franchise.builder().id("second").name("Second").build();
+        when(franchiseRepository.streamAll()).thenReturn(Flux.just(first, second));
+
+        StepVerifier.create(exportFranchisesService.execute())
+                .expectNext(first, second)
+                .verifyComplete();
+    }
+
+    @Test
+    void execute_ShouldNotTouchRepositoryUntilSubscribed() {
+        exportFranchisesService.execute();
+
+        verify(franchiseRepository, never()).streamAll();
+    }
+}
@@ -0,0 +1,34 @@
+package com.nequi.franchise.application.service;
+
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Stubs shared by the service tests that go through {@link FranchiseRepositoryPort#update}.
+ */
+final class FranchiseRepositoryStubs {
+
+    private FranchiseRepositoryStubs() {
+    }
+
+    /**
+     * Makes {@code update} apply the service's mutation to {@code current} and return it.
+     */
+    static void stubUpdate(FranchiseRepositoryPort franchiseRepository, String franchiseId, Franchise current) {
+        when(franchiseRepository.update(eq(franchiseId), any(FranchiseProjection.class), any())).thenAnswer(invocation -> {
+            Consumer<Franchise> mutation = invocation.getArgument(2);
+            return Mono.fromCallable(() -> {
+                mutation.accept(current);
+                return current;
+            });
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package com.nequi.franchise.application.service;
+
+import com.nequi.franchise.application.job.DeletionJobTracker;
+import com.nequi.franchise.domain.exception.DeletionJobNotFoundException;
+import com.nequi.franchise.domain.model.DeletionJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GetDeletionJobServiceTest {
+
+    private DeletionJobTracker jobTracker;
+    private GetDeletionJobService getDeletionJobService;
+
+    @BeforeEach
+    void setUp() {
+        jobTracker = new DeletionJobTracker();
+        getDeletionJobService = new GetDeletionJobService(jobTracker);
+    }
+
+    @Test
+    void execute_ShouldReturnCurrentProgress() {
+        DeletionJobTracker.Progress progress = jobTracker.start(3);
+        progress.recordDeleted();
+        progress.recordNotFound();
+
+        StepVerifier.create(getDeletionJobService.execute(progress.getId()))
+                .assertNext(job -> {
+                    assertEquals(DeletionJob.Status.RUNNING, job.getStatus());
+                    assertEquals(3, job.getTotal());
+                    assertEquals(2, job.getProcessed());
+                    assertNull(job.getFinishedAt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void execute_ShouldThrowWhenJobIsUnknown() {
+        StepVerifier.create(getDeletionJobService.execute("missing"))
+                .expectError(DeletionJobNotFoundException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,72 @@
+package com.nequi.franchise.application.service;
+
+import com.nequi.franchise.domain.exception.InvalidDomainException;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetFranchisesByIdsServiceTest {
+
+    @Mock
+    private FranchiseRepositoryPort franchiseRepository;
+
+    @InjectMocks
+    private GetFranchisesByIdsService getFranchisesByIdsService;
+
+    private Franchise storedFranchise;
+
+    @BeforeEach
+    void setUp() {
+        storedFranchise = Franchise.builder()
+                .id("stored-id")
+                .name("Stored Franchise")
+                .branches(new ArrayList<>())
+                .build();
+    }
+
+    @Test
+    void execute_ShouldTrimAndDeduplicateIdsBeforeReadingThem() {
+        when(franchiseRepository.findAllByIds(anyCollection())).thenReturn(Flux.just(storedFranchise));
+
+        StepVerifier.create(getFranchisesByIdsService.execute(List.of(" stored-id ", "stored-id", "missing-id", " ")))
+                .expectNext(storedFranchise)
+                .verifyComplete();
+
+        verify(franchiseRepository, times(1)).findAllByIds(argThat(ids -> List.copyOf(ids).equals(List.of("stored-id", "missing-id"))));
+    }
+
+    @Test
+    void execute_ShouldRejectEmptyIdList() {
+        StepVerifier.create(getFranchisesByIdsService.execute(List.of()))
+                .expectError(InvalidDomainException.class)
+                .verify();
+
+        verifyNoInteractions(franchiseRepository);
+    }
+
+    @Test
+    void execute_ShouldRejectTooManyIds() {
+        List<String> ids = IntStream.range(0, 501).mapToObj(i -> "id-" + i).toList();
+
+        StepVerifier.create(getFranchisesByIdsService.execute(ids))
+                .expectError(InvalidDomainException.class)
+                .verify();
+
+        verifyNoInteractions(franchiseRepository);
+    }
+}
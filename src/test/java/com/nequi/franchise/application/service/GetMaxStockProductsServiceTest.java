@@ -4,7 +4,6 @@ import com.nequi.franchise.domain.exception.FranchiseNotFoundException;
 import com.nequi.franchise.domain.model.Branch;
 import com.nequi.franchise.domain.model.Franchise;
 import com.nequi.franchise.domain.model.Product;
-import com.nequi.franchise.domain.port.output.CachePort;
 import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,7 +14,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,9 +26,6 @@ class GetMaxStockProductsServiceTest {
     @Mock
     private FranchiseRepositoryPort franchiseRepository;
 
-    @Mock
-    private CachePort cachePort;
-
     @InjectMocks
     private GetMaxStockProductsService getMaxStockProductsService;
 
@@ -77,9 +72,7 @@ class GetMaxStockProductsServiceTest {
 
     @Test
     void execute_ShouldReturnMaxStockProductsPerBranch() {
-        when(cachePort.get(anyString(), eq(Franchise.class))).thenReturn(Mono.empty());
         when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(franchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class))).thenReturn(Mono.just(true));
 
         Mono<Franchise> result = getMaxStockProductsService.execute("franchise-id");
 
@@ -97,35 +90,11 @@ class GetMaxStockProductsServiceTest {
                 })
                 .verifyComplete();
 
-        verify(cachePort, times(1)).get(anyString(), eq(Franchise.class));
         verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(cachePort, times(1)).set(anyString(), any(Franchise.class), any(Duration.class));
-    }
-
-    @Test
-    void execute_ShouldReturnFromCacheWhenAvailable() {
-        Franchise cachedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("Cached Franchise")
-                .branches(new ArrayList<>())
-                .build();
-
-        when(cachePort.get(anyString(), eq(Franchise.class))).thenReturn(Mono.just(cachedFranchise));
-
-        Mono<Franchise> result = getMaxStockProductsService.execute("franchise-id");
-
-        StepVerifier.create(result)
-                .expectNext(cachedFranchise)
-                .verifyComplete();
-
-        verify(cachePort, times(1)).get(anyString(), eq(Franchise.class));
-        verify(franchiseRepository, never()).findById(anyString());
-        verify(cachePort, never()).set(anyString(), any(Franchise.class), any(Duration.class));
     }
 
     @Test
     void execute_ShouldThrowExceptionWhenFranchiseNotFound() {
-        when(cachePort.get(anyString(), eq(Franchise.class))).thenReturn(Mono.empty());
         when(franchiseRepository.findById("non-existent-id")).thenReturn(Mono.empty());
 
         Mono<Franchise> result = getMaxStockProductsService.execute("non-existent-id");
@@ -134,9 +103,7 @@ class GetMaxStockProductsServiceTest {
                 .expectError(FranchiseNotFoundException.class)
                 .verify();
 
-        verify(cachePort, times(1)).get(anyString(), eq(Franchise.class));
         verify(franchiseRepository, times(1)).findById("non-existent-id");
-        verify(cachePort, never()).set(anyString(), any(Franchise.class), any(Duration.class));
     }
 
     @Test
@@ -149,9 +116,7 @@ class GetMaxStockProductsServiceTest {
 
         franchise.getBranches().add(emptyBranch);
 
-        when(cachePort.get(anyString(), eq(Franchise.class))).thenReturn(Mono.empty());
         when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(franchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class))).thenReturn(Mono.just(true));
 
         Mono<Franchise> result = getMaxStockProductsService.execute("franchise-id");
 
@@ -182,9 +147,7 @@ class GetMaxStockProductsServiceTest {
                 .branches(new ArrayList<>(List.of(singleProductBranch)))
                 .build();
 
-        when(cachePort.get(anyString(), eq(Franchise.class))).thenReturn(Mono.empty());
         when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(singleBranchFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class))).thenReturn(Mono.just(true));
 
         Mono<Franchise> result = getMaxStockProductsService.execute("franchise-id");
 
@@ -197,23 +160,6 @@ class GetMaxStockProductsServiceTest {
         verify(franchiseRepository, times(1)).findById("franchise-id");
     }
 
-    @Test
-    void execute_ShouldContinueWhenCacheSetFails() {
-        when(cachePort.get(anyString(), eq(Franchise.class))).thenReturn(Mono.empty());
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(franchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class)))
-                .thenReturn(Mono.just(false));
-
-        Mono<Franchise> result = getMaxStockProductsService.execute("franchise-id");
-
-        StepVerifier.create(result)
-                .expectNextMatches(f -> f.getBranches().size() == 2)
-                .verifyComplete();
-
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(cachePort, times(1)).set(anyString(), any(Franchise.class), any(Duration.class));
-    }
-
     @Test
     void execute_ShouldHandleMultipleProductsWithSameMaxStock() {
         Product product1 = Product.builder()
@@ -240,9 +186,7 @@ class GetMaxStockProductsServiceTest {
                 .branches(new ArrayList<>(List.of(branch)))
                 .build();
 
-        when(cachePort.get(anyString(), eq(Franchise.class))).thenReturn(Mono.empty());
         when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(testFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class))).thenReturn(Mono.just(true));
 
         Mono<Franchise> result = getMaxStockProductsService.execute("franchise-id");
 
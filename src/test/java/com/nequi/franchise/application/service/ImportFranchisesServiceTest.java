@@ -0,0 +1,105 @@
+package com.nequi.franchise.application.service;
+
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseImportRecord;
+import com.nequi.franchise.domain.model.FranchiseImportRecord.ImportedBranch;
+import com.nequi.franchise.domain.model.FranchiseImportRecord.ImportedProduct;
+import com.nequi.franchise.domain.model.ImportResult;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportFranchisesServiceTest {
+
+    @Mock
+    private FranchiseRepositoryPort franchiseRepository;
+
+    @InjectMocks
+    private ImportFranchisesService importFranchisesService;
+
+    @Test
+    void execute_ShouldWriteValidRecordsInBatchesAndKeepInputOrder() {
+        List<FranchiseImportRecord> records = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            records.add(record(i, "Franchise " + i));
+        }
+        when(franchiseRepository.saveAll(anyList())).thenReturn(Mono.empty());
+
+        StepVerifier.create(importFranchisesService.execute(Flux.fromIterable(records)).map(ImportResult::getRecordNumber))
+                .expectNextSequence(records.stream().map(FranchiseImportRecord::getRecordNumber).toList())
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Franchise>> captor = ArgumentCaptor.forClass(List.class);
+        verify(franchiseRepository, times(2)).saveAll(captor.capture());
+        assertEquals(25, captor.getAllValues().get(0).size());
+        assertEquals(5, captor.getAllValues().get(1).size());
+    }
+
+    @Test
+    void execute_ShouldReportInvalidRecordsWithoutWritingThem() {
+        FranchiseImportRecord duplicateBranches = FranchiseImportRecord.builder()
+                .recordNumber(2)
+                .rows(1)
+                .name("Duplicated")
+                .branches(List.of(
+                        new ImportedBranch("Downtown", List.of()),
+                        new ImportedBranch("Downtown", List.of())))
+                .build();
+        FranchiseImportRecord malformed = FranchiseImportRecord.rejected(3, 1, "Line 3: malformed JSON");
+        when(franchiseRepository.saveAll(anyList())).thenReturn(Mono.empty());
+
+        StepVerifier.create(importFranchisesService.execute(Flux.just(record(1, "Valid"), duplicateBranches, malformed)))
+                .expectNextMatches(result -> result.getStatus() == ImportResult.Status.IMPORTED
+                        && result.getBranchCount() == 1
+                        && result.getProductCount() == 2)
+                .expectNextMatches(result -> result.getStatus() == ImportResult.Status.FAILED
+                        && result.getError().contains("Downtown"))
+                .expectNextMatches(result -> result.getStatus() == ImportResult.Status.FAILED
+                        && result.getError().equals("Line 3: malformed JSON"))
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Franchise>> captor = ArgumentCaptor.forClass(List.class);
+        verify(franchiseRepository).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+    }
+
+    @Test
+    void execute_ShouldFailWholeBatchWhenWriteFails() {
+        when(franchiseRepository.saveAll(anyList()))
+                .thenReturn(Mono.error(new IllegalStateException("3 items still unprocessed")));
+
+        StepVerifier.create(importFranchisesService.execute(Flux.just(record(1, "First"), record(2, "Second"))))
+                .expectNextMatches(result -> result.getStatus() == ImportResult.Status.FAILED
+                        && result.getError().contains("unprocessed"))
+                .expectNextMatches(result -> result.getStatus() == ImportResult.Status.FAILED)
+                .verifyComplete();
+    }
+
+    private FranchiseImportRecord record(long recordNumber, String name) {
+        return FranchiseImportRecord.builder()
+                .recordNumber(recordNumber)
+                .rows(1)
+                .name(name)
+                .branches(List.of(new ImportedBranch("Downtown", List.of(
+                        new ImportedProduct("Burger", 10),
+                        new ImportedProduct("Fries", 20)))))
+                .build();
+    }
+}
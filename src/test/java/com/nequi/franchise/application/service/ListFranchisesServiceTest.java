@@ -1,6 +1,6 @@
 package com.nequi.franchise.application.service;
 
-import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseSummary;
 import com.nequi.franchise.domain.model.Page;
 import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,20 +31,20 @@ class ListFranchisesServiceTest {
     }
 
     @Test
-    void execute_ShouldReturnPageOfFranchises_WhenFranchisesExist() {
-        Franchise franchise1 = Franchise.builder()
+    void execute_ShouldReturnPageOfSummaries_WhenFranchisesExist() {
+        FranchiseSummary franchise1 = FranchiseSummary.builder()
                 .id("franchise-1")
                 .name("Franchise 1")
                 .build();
 
-        Franchise franchise2 = Franchise.builder()
+        FranchiseSummary franchise2 = FranchiseSummary.builder()
                 .id("franchise-2")
                 .name("Franchise 2")
                 .build();
 
-        Page<Franchise> page = Page.of(List.of(franchise1, franchise2), "next-cursor", 20);
+        Page<FranchiseSummary> page = Page.of(List.of(franchise1, franchise2), "next-cursor", 20);
 
-        when(franchiseRepository.findAll(20, null)).thenReturn(Mono.just(page));
+        when(franchiseRepository.findSummaries(20, null)).thenReturn(Mono.just(page));
 
         var result = listFranchisesService.execute(20, null);
 
@@ -57,12 +57,12 @@ class ListFranchisesServiceTest {
                 )
                 .verifyComplete();
 
-        verify(franchiseRepository, times(1)).findAll(20, null);
+        verify(franchiseRepository, times(1)).findSummaries(20, null);
     }
 
     @Test
     void execute_ShouldReturnEmptyPage_WhenNoFranchisesExist() {
-        when(franchiseRepository.findAll(20, null)).thenReturn(Mono.just(Page.empty()));
+        when(franchiseRepository.findSummaries(20, null)).thenReturn(Mono.just(Page.empty()));
 
         var result = listFranchisesService.execute(20, null);
 
@@ -78,8 +78,8 @@ class ListFranchisesServiceTest {
 
     @Test
     void execute_ShouldUseDefaultPageSize_WhenPageSizeIsNull() {
-        Page<Franchise> page = Page.empty();
-        when(franchiseRepository.findAll(20, null)).thenReturn(Mono.just(page));
+        Page<FranchiseSummary> page = Page.empty();
+        when(franchiseRepository.findSummaries(20, null)).thenReturn(Mono.just(page));
 
         var result = listFranchisesService.execute(null, null);
 
@@ -87,13 +87,13 @@ class ListFranchisesServiceTest {
                 .expectNextCount(1)
                 .verifyComplete();
 
-        verify(franchiseRepository, times(1)).findAll(20, null);
+        verify(franchiseRepository, times(1)).findSummaries(20, null);
     }
 
     @Test
     void execute_ShouldLimitPageSize_WhenPageSizeExceedsMaximum() {
-        Page<Franchise> page = Page.empty();
-        when(franchiseRepository.findAll(100, null)).thenReturn(Mono.just(page));
+        Page<FranchiseSummary> page = Page.empty();
+        when(franchiseRepository.findSummaries(100, null)).thenReturn(Mono.just(page));
 
         var result = listFranchisesService.execute(200, null);
 
@@ -101,13 +101,13 @@ class ListFranchisesServiceTest {
                 .expectNextCount(1)
                 .verifyComplete();
 
-        verify(franchiseRepository, times(1)).findAll(100, null);
+        verify(franchiseRepository, times(1)).findSummaries(100, null);
     }
 
     @Test
     void execute_ShouldUseCursor_WhenCursorProvided() {
-        Page<Franchise> page = Page.empty();
-        when(franchiseRepository.findAll(20, "cursor-123")).thenReturn(Mono.just(page));
+        Page<FranchiseSummary> page = Page.empty();
+        when(franchiseRepository.findSummaries(20, "cursor-123")).thenReturn(Mono.just(page));
 
         var result = listFranchisesService.execute(20, "cursor-123");
 
@@ -115,12 +115,12 @@ class ListFranchisesServiceTest {
                 .expectNextCount(1)
                 .verifyComplete();
 
-        verify(franchiseRepository, times(1)).findAll(20, "cursor-123");
+        verify(franchiseRepository, times(1)).findSummaries(20, "cursor-123");
     }
 
     @Test
     void execute_ShouldPropagateError_WhenRepositoryFails() {
-        when(franchiseRepository.findAll(anyInt(), anyString()))
+        when(franchiseRepository.findSummaries(anyInt(), anyString()))
                 .thenReturn(Mono.error(new RuntimeException("Database error")));
 
         var result = listFranchisesService.execute(20, null);
@@ -135,14 +135,14 @@ class ListFranchisesServiceTest {
 
     @Test
     void execute_ShouldReturnLastPage_WhenNoNextCursor() {
-        Franchise franchise = Franchise.builder()
+        FranchiseSummary franchise = FranchiseSummary.builder()
                 .id("franchise-1")
                 .name("Last Franchise")
                 .build();
 
-        Page<Franchise> page = Page.of(List.of(franchise), null, 20);
+        Page<FranchiseSummary> page = Page.of(List.of(franchise), null, 20);
 
-        when(franchiseRepository.findAll(20, null)).thenReturn(Mono.just(page));
+        when(franchiseRepository.findSummaries(20, null)).thenReturn(Mono.just(page));
 
         var result = listFranchisesService.execute(20, null);
 
@@ -4,8 +4,8 @@ import com.nequi.franchise.domain.exception.BranchNotFoundException;
 import com.nequi.franchise.domain.exception.FranchiseNotFoundException;
 import com.nequi.franchise.domain.model.Branch;
 import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
 import com.nequi.franchise.domain.model.Product;
-import com.nequi.franchise.domain.port.output.CachePort;
 import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,10 +16,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.nequi.franchise.application.service.FranchiseRepositoryStubs.stubUpdate;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -29,9 +29,6 @@ class UpdateBranchNameServiceTest {
     @Mock
     private FranchiseRepositoryPort franchiseRepository;
 
-    @Mock
-    private CachePort cachePort;
-
     @InjectMocks
     private UpdateBranchNameService updateBranchNameService;
 
@@ -55,110 +52,61 @@ class UpdateBranchNameServiceTest {
 
     @Test
     void execute_ShouldUpdateNameSuccessfully() {
-        Branch updatedBranch = Branch.builder()
-                .id("branch-id")
-                .name("New Branch Name")
-                .products(new ArrayList<>())
-                .build();
-
-        Franchise updatedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>(List.of(updatedBranch)))
-                .build();
+        stubUpdate(franchiseRepository, "franchise-id", existingFranchise);
 
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class))).thenReturn(Mono.just(updatedFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class))).thenReturn(Mono.just(true));
-
-        Mono<Franchise> result = updateBranchNameService.execute("franchise-id", "branch-id", "New Branch Name");
+        Mono<Branch> result = updateBranchNameService.execute("franchise-id", "branch-id", "New Branch Name");
 
         StepVerifier.create(result)
-                .expectNextMatches(franchise ->
-                        franchise.getBranches().get(0).getName().equals("New Branch Name"))
+                .expectNextMatches(branch ->
+                        branch.getName().equals("New Branch Name"))
                 .verifyComplete();
 
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
-        verify(cachePort, times(1)).set(anyString(), any(Franchise.class), any(Duration.class));
+        verify(franchiseRepository, times(1)).update(eq("franchise-id"),
+                argThat(projection -> projection.getScope() == FranchiseProjection.Scope.BRANCH
+                        && "branch-id".equals(projection.getBranchId())),
+                any());
     }
 
     @Test
     void execute_ShouldThrowExceptionWhenFranchiseNotFound() {
-        when(franchiseRepository.findById("non-existent-id")).thenReturn(Mono.empty());
+        when(franchiseRepository.update(eq("non-existent-id"), any(FranchiseProjection.class), any())).thenReturn(Mono.empty());
 
-        Mono<Franchise> result = updateBranchNameService.execute("non-existent-id", "branch-id", "New Name");
+        Mono<Branch> result = updateBranchNameService.execute("non-existent-id", "branch-id", "New Name");
 
         StepVerifier.create(result)
                 .expectError(FranchiseNotFoundException.class)
                 .verify();
 
-        verify(franchiseRepository, times(1)).findById("non-existent-id");
+        verify(franchiseRepository, times(1)).update(eq("non-existent-id"), any(FranchiseProjection.class), any());
         verify(franchiseRepository, never()).save(any(Franchise.class));
-        verify(cachePort, never()).set(anyString(), any(Franchise.class), any(Duration.class));
     }
 
     @Test
     void execute_ShouldThrowExceptionWhenBranchNotFound() {
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
+        stubUpdate(franchiseRepository, "franchise-id", existingFranchise);
 
-        Mono<Franchise> result = updateBranchNameService.execute("franchise-id", "non-existent-branch", "New Name");
+        Mono<Branch> result = updateBranchNameService.execute("franchise-id", "non-existent-branch", "New Name");
 
         StepVerifier.create(result)
                 .expectError(BranchNotFoundException.class)
                 .verify();
 
-        verify(franchiseRepository, times(1)).findById("franchise-id");
+        verify(franchiseRepository, times(1)).update(eq("franchise-id"), any(FranchiseProjection.class), any());
         verify(franchiseRepository, never()).save(any(Franchise.class));
-        verify(cachePort, never()).set(anyString(), any(Franchise.class), any(Duration.class));
     }
 
     @Test
     void execute_ShouldHandleRepositorySaveError() {
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class)))
+        when(franchiseRepository.update(eq("franchise-id"), any(FranchiseProjection.class), any()))
                 .thenReturn(Mono.error(new RuntimeException("Database error")));
 
-        Mono<Franchise> result = updateBranchNameService.execute("franchise-id", "branch-id", "New Name");
+        Mono<Branch> result = updateBranchNameService.execute("franchise-id", "branch-id", "New Name");
 
         StepVerifier.create(result)
                 .expectError(RuntimeException.class)
                 .verify();
 
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
-        verify(cachePort, never()).set(anyString(), any(Franchise.class), any(Duration.class));
-    }
-
-    @Test
-    void execute_ShouldContinueWhenCacheFails() {
-        Branch updatedBranch = Branch.builder()
-                .id("branch-id")
-                .name("New Branch Name")
-                .products(new ArrayList<>())
-                .build();
-
-        Franchise updatedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>(List.of(updatedBranch)))
-                .build();
-
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class))).thenReturn(Mono.just(updatedFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class)))
-                .thenReturn(Mono.just(false));
-
-        Mono<Franchise> result = updateBranchNameService.execute("franchise-id", "branch-id", "New Branch Name");
-
-        StepVerifier.create(result)
-                .expectNextMatches(franchise ->
-                        franchise.getBranches().get(0).getName().equals("New Branch Name"))
-                .verifyComplete();
-
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
-        verify(cachePort, times(1)).set(anyString(), any(Franchise.class), any(Duration.class));
+        verify(franchiseRepository, times(1)).update(eq("franchise-id"), any(FranchiseProjection.class), any());
     }
 
     @Test
@@ -168,33 +116,18 @@ class UpdateBranchNameServiceTest {
                 .name("Test Product")
                 .stock(100)
                 .build();
-        existingBranch.getProducts().add(product);
-
-        Branch updatedBranch = Branch.builder()
-                .id("branch-id")
-                .name("Updated Branch Name")
-                .products(new ArrayList<>(List.of(product)))
-                .build();
-
-        Franchise updatedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>(List.of(updatedBranch)))
-                .build();
+        existingBranch.addProduct(product);
 
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class))).thenReturn(Mono.just(updatedFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class))).thenReturn(Mono.just(true));
+        stubUpdate(franchiseRepository, "franchise-id", existingFranchise);
 
-        Mono<Franchise> result = updateBranchNameService.execute("franchise-id", "branch-id", "Updated Branch Name");
+        Mono<Branch> result = updateBranchNameService.execute("franchise-id", "branch-id", "Updated Branch Name");
 
         StepVerifier.create(result)
-                .expectNextMatches(franchise ->
-                        franchise.getBranches().get(0).getName().equals("Updated Branch Name") &&
-                        franchise.getBranches().get(0).getProducts().size() == 1)
+                .expectNextMatches(branch ->
+                        branch.getName().equals("Updated Branch Name") &&
+                        branch.getProducts().size() == 1)
                 .verifyComplete();
 
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
+        verify(franchiseRepository, times(1)).update(eq("franchise-id"), any(FranchiseProjection.class), any());
     }
 }
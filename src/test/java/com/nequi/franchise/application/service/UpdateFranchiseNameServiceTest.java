@@ -3,7 +3,7 @@ package com.nequi.franchise.application.service;
 import com.nequi.franchise.domain.exception.FranchiseNotFoundException;
 import com.nequi.franchise.domain.model.Branch;
 import com.nequi.franchise.domain.model.Franchise;
-import com.nequi.franchise.domain.port.output.CachePort;
+import com.nequi.franchise.domain.model.FranchiseProjection;
 import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,9 +14,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.time.Duration;
 import java.util.ArrayList;
 
+import static com.nequi.franchise.application.service.FranchiseRepositoryStubs.stubUpdate;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -26,9 +26,6 @@ class UpdateFranchiseNameServiceTest {
     @Mock
     private FranchiseRepositoryPort franchiseRepository;
 
-    @Mock
-    private CachePort cachePort;
-
     @InjectMocks
     private UpdateFranchiseNameService updateFranchiseNameService;
 
@@ -45,15 +42,7 @@ class UpdateFranchiseNameServiceTest {
 
     @Test
     void execute_ShouldUpdateNameSuccessfully() {
-        Franchise updatedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("New Franchise Name")
-                .branches(new ArrayList<>())
-                .build();
-
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class))).thenReturn(Mono.just(updatedFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class))).thenReturn(Mono.just(true));
+        stubUpdate(franchiseRepository, "franchise-id", existingFranchise);
 
         Mono<Franchise> result = updateFranchiseNameService.execute("franchise-id", "New Franchise Name");
 
@@ -61,14 +50,12 @@ class UpdateFranchiseNameServiceTest {
                 .expectNextMatches(franchise -> franchise.getName().equals("New Franchise Name"))
                 .verifyComplete();
 
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
-        verify(cachePort, times(1)).set(anyString(), any(Franchise.class), any(Duration.class));
+        verify(franchiseRepository, times(1)).update(eq("franchise-id"), eq(FranchiseProjection.header()), any());
     }
 
     @Test
     void execute_ShouldThrowExceptionWhenFranchiseNotFound() {
-        when(franchiseRepository.findById("non-existent-id")).thenReturn(Mono.empty());
+        when(franchiseRepository.update(eq("non-existent-id"), any(FranchiseProjection.class), any())).thenReturn(Mono.empty());
 
         Mono<Franchise> result = updateFranchiseNameService.execute("non-existent-id", "New Name");
 
@@ -76,15 +63,13 @@ class UpdateFranchiseNameServiceTest {
                 .expectError(FranchiseNotFoundException.class)
                 .verify();
 
-        verify(franchiseRepository, times(1)).findById("non-existent-id");
+        verify(franchiseRepository, times(1)).update(eq("non-existent-id"), any(FranchiseProjection.class), any());
         verify(franchiseRepository, never()).save(any(Franchise.class));
-        verify(cachePort, never()).set(anyString(), any(Franchise.class), any(Duration.class));
     }
 
     @Test
     void execute_ShouldHandleRepositorySaveError() {
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class)))
+        when(franchiseRepository.update(eq("franchise-id"), any(FranchiseProjection.class), any()))
                 .thenReturn(Mono.error(new RuntimeException("Database error")));
 
         Mono<Franchise> result = updateFranchiseNameService.execute("franchise-id", "New Name");
@@ -93,33 +78,7 @@ class UpdateFranchiseNameServiceTest {
                 .expectError(RuntimeException.class)
                 .verify();
 
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
-        verify(cachePort, never()).set(anyString(), any(Franchise.class), any(Duration.class));
-    }
-
-    @Test
-    void execute_ShouldContinueWhenCacheFails() {
-        Franchise updatedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("New Franchise Name")
-                .branches(new ArrayList<>())
-                .build();
-
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class))).thenReturn(Mono.just(updatedFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class)))
-                .thenReturn(Mono.just(false));
-
-        Mono<Franchise> result = updateFranchiseNameService.execute("franchise-id", "New Franchise Name");
-
-        StepVerifier.create(result)
-                .expectNextMatches(franchise -> franchise.getName().equals("New Franchise Name"))
-                .verifyComplete();
-
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
-        verify(cachePort, times(1)).set(anyString(), any(Franchise.class), any(Duration.class));
+        verify(franchiseRepository, times(1)).update(eq("franchise-id"), any(FranchiseProjection.class), any());
     }
 
     @Test
@@ -129,18 +88,9 @@ class UpdateFranchiseNameServiceTest {
                 .name("Test Branch")
                 .products(new ArrayList<>())
                 .build();
-        existingFranchise.getBranches().add(branch);
+        existingFranchise.addBranch(branch);
 
-        Franchise updatedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("Updated Name")
-                .branches(new ArrayList<>())
-                .build();
-        updatedFranchise.getBranches().add(branch);
-
-        when(franchiseRepository.findById("franchise-id")).thenReturn(Mono.just(existingFranchise));
-        when(franchiseRepository.save(any(Franchise.class))).thenReturn(Mono.just(updatedFranchise));
-        when(cachePort.set(anyString(), any(Franchise.class), any(Duration.class))).thenReturn(Mono.just(true));
+        stubUpdate(franchiseRepository, "franchise-id", existingFranchise);
 
         Mono<Franchise> result = updateFranchiseNameService.execute("franchise-id", "Updated Name");
 
@@ -150,7 +100,18 @@ class UpdateFranchiseNameServiceTest {
                         franchise.getBranches().size() == 1)
                 .verifyComplete();
 
-        verify(franchiseRepository, times(1)).findById("franchise-id");
-        verify(franchiseRepository, times(1)).save(any(Franchise.class));
+        verify(franchiseRepository, times(1)).update(eq("franchise-id"), any(FranchiseProjection.class), any());
+    }
+
+    @Test
+    void execute_ShouldRespondWithTheProjectedHeaderWithoutReReading() {
+        stubUpdate(franchiseRepository, "franchise-id", existingFranchise);
+
+        StepVerifier.create(updateFranchiseNameService.execute("franchise-id", "New Franchise Name"))
+                .expectNext(existingFranchise)
+                .verifyComplete();
+
+        verify(franchiseRepository).update(eq("franchise-id"), eq(FranchiseProjection.header()), any());
+        verify(franchiseRepository, never()).findById(anyString());
     }
 }
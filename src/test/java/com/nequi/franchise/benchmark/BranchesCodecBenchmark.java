@@ -0,0 +1,133 @@
+package com.nequi.franchise.benchmark;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.codec.BranchesCodec;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the nested map form of the branches attribute with {@link BranchesCodec}: stored bytes per
+ * product and encode/decode time, at 10, 100 and 1000 products per branch. Sizes follow DynamoDB's item
+ * size rules. Pure CPU, so it needs no endpoint:
+ *
+ * <pre>
+ * mvn test -Dtest=BranchesCodecBenchmark -Dbenchmark.codec=true
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark.codec", matches = "true")
+class BranchesCodecBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(BranchesCodecBenchmark.class);
+    private static final int BRANCHES = 5;
+    private static final int WARMUP_ROUNDS = Integer.getInteger("benchmark.warmup-rounds", 200);
+    private static final int MEASURED_ROUNDS = Integer.getInteger("benchmark.measured-rounds", 500);
+    private static final TableSchema<FranchiseEntity> SCHEMA = TableSchema.fromBean(FranchiseEntity.class);
+
+    @Test
+    void encodedSizeAndSpeedPerBranchSize() {
+        for (int productsPerBranch : new int[] {10, 100, 1000}) {
+            List<BranchEntity> branches = branches(productsPerBranch);
+            int products = BRANCHES * productsPerBranch;
+
+            FranchiseEntity mapForm = FranchiseEntity.builder().id("franchise").branches(branches).build();
+            long mapBytes = attributeSize("branches", SCHEMA.itemToMap(mapForm, true).get("branches"));
+
+            byte[] encoded = BranchesCodec.encode(branches);
+            long binaryBytes = "branchesBin".length() + encoded.length;
+            assertEquals(branches, BranchesCodec.decode(encoded));
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                BranchesCodec.decode(BranchesCodec.encode(branches));
+            }
+            long encodeNanos = 0;
+            long decodeNanos = 0;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                byte[] bytes = BranchesCodec.encode(branches);
+                long afterEncode = System.nanoTime();
+                BranchesCodec.decode(bytes);
+                decodeNanos += System.nanoTime() - afterEncode;
+                encodeNanos += afterEncode - start;
+            }
+
+            logger.info("productsPerBranch={} mapBytes/product={} binaryBytes/product={} ratio={} encode={} us decode={} us",
+                    productsPerBranch,
+                    String.format("%.1f", (double) mapBytes / products),
+                    String.format("%.1f", (double) binaryBytes / products),
+                    String.format("%.2f", (double) binaryBytes / mapBytes),
+                    String.format("%.1f", encodeNanos / 1_000.0 / MEASURED_ROUNDS),
+                    String.format("%.1f", decodeNanos / 1_000.0 / MEASURED_ROUNDS));
+        }
+    }
+
+    private static List<BranchEntity> branches(int productsPerBranch) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<BranchEntity> branches = new ArrayList<>();
+        for (int b = 0; b < BRANCHES; b++) {
+            List<ProductEntity> products = new ArrayList<>();
+            for (int p = 0; p < productsPerBranch; p++) {
+                products.add(ProductEntity.builder()
+                        .id(UUID.randomUUID().toString())
+                        .name("Product " + p)
+                        .stock(random.nextInt(0, 10_000))
+                        .build());
+            }
+            branches.add(BranchEntity.builder()
+                    .id(UUID.randomUUID().toString())
+                    .name("Branch " + b)
+                    .products(products)
+                    .build());
+        }
+        return branches;
+    }
+
+    private static long attributeSize(String name, AttributeValue value) {
+        return utf8Length(name) + valueSize(value);
+    }
+
+    private static long valueSize(AttributeValue value) {
+        if (value.s() != null) {
+            return utf8Length(value.s());
+        }
+        if (value.n() != null) {
+            return value.n().length() / 2 + 1;
+        }
+        if (value.b() != null) {
+            return value.b().asByteArrayUnsafe().length;
+        }
+        if (value.hasM()) {
+            long size = 3;
+            for (Map.Entry<String, AttributeValue> entry : value.m().entrySet()) {
+                size += 1 + attributeSize(entry.getKey(), entry.getValue());
+            }
+            return size;
+        }
+        if (value.hasL()) {
+            long size = 3;
+            for (AttributeValue element : value.l()) {
+                size += 1 + valueSize(element);
+            }
+            return size;
+        }
+        return 1;
+    }
+
+    private static long utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
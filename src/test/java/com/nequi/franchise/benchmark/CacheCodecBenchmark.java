@@ -0,0 +1,106 @@
+package com.nequi.franchise.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nequi.franchise.infrastructure.adapter.output.cache.CachedFranchise;
+import com.nequi.franchise.infrastructure.adapter.output.cache.CachedFranchise.CachedBranch;
+import com.nequi.franchise.infrastructure.adapter.output.cache.CachedFranchise.CachedProduct;
+import com.nequi.franchise.infrastructure.adapter.output.cache.codec.CacheCodecRegistry;
+import com.nequi.franchise.infrastructure.adapter.output.cache.codec.CachedFranchiseCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the untyped JSON the cache used to store with the {@link CacheCodecRegistry} envelope:
+ * bytes per cached franchise and encode/decode time, with 5 branches of 10, 100 and 1000 products.
+ * The JSON decode includes the map-to-record conversion the cache adapter had to do on every hit.
+ * Pure CPU, so it needs no Redis:
+ *
+ * <pre>
+ * mvn test -Dtest=CacheCodecBenchmark -Dbenchmark.cache-codec=true
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark.cache-codec", matches = "true")
+class CacheCodecBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheCodecBenchmark.class);
+    private static final int BRANCHES = 5;
+    private static final int WARMUP_ROUNDS = Integer.getInteger("benchmark.warmup-rounds", 200);
+    private static final int MEASURED_ROUNDS = Integer.getInteger("benchmark.measured-rounds", 500);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final CacheCodecRegistry registry = new CacheCodecRegistry(List.of(new CachedFranchiseCodec()));
+
+    @Test
+    void encodedSizeAndSpeedPerFranchiseSize() throws Exception {
+        for (int productsPerBranch : new int[] {10, 100, 1000}) {
+            CachedFranchise franchise = franchise(productsPerBranch);
+
+            byte[] json = objectMapper.writeValueAsBytes(franchise);
+            byte[] binary = registry.encode(franchise);
+            assertEquals(franchise, registry.decode(binary));
+            assertEquals(franchise, fromJson(json));
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                fromJson(objectMapper.writeValueAsBytes(franchise));
+                registry.decode(registry.encode(franchise));
+            }
+            long[] jsonNanos = new long[2];
+            long[] binaryNanos = new long[2];
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                byte[] jsonBytes = objectMapper.writeValueAsBytes(franchise);
+                long afterEncode = System.nanoTime();
+                fromJson(jsonBytes);
+                jsonNanos[1] += System.nanoTime() - afterEncode;
+                jsonNanos[0] += afterEncode - start;
+
+                start = System.nanoTime();
+                byte[] binaryBytes = registry.encode(franchise);
+                afterEncode = System.nanoTime();
+                registry.decode(binaryBytes);
+                binaryNanos[1] += System.nanoTime() - afterEncode;
+                binaryNanos[0] += afterEncode - start;
+            }
+
+            logger.info("productsPerBranch={} jsonBytes/franchise={} binaryBytes/franchise={} ratio={} "
+                            + "json encode={} ns decode={} ns binary encode={} ns decode={} ns",
+                    productsPerBranch,
+                    json.length,
+                    binary.length,
+                    String.format("%.2f", (double) binary.length / json.length),
+                    jsonNanos[0] / MEASURED_ROUNDS,
+                    jsonNanos[1] / MEASURED_ROUNDS,
+                    binaryNanos[0] / MEASURED_ROUNDS,
+                    binaryNanos[1] / MEASURED_ROUNDS);
+        }
+    }
+
+    private CachedFranchise fromJson(byte[] json) throws Exception {
+        return objectMapper.convertValue(objectMapper.readValue(json, Map.class), CachedFranchise.class);
+    }
+
+    private static CachedFranchise franchise(int productsPerBranch) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<CachedBranch> branches = new ArrayList<>();
+        for (int b = 0; b < BRANCHES; b++) {
+            List<CachedProduct> products = new ArrayList<>();
+            for (int p = 0; p < productsPerBranch; p++) {
+                products.add(new CachedProduct(UUID.randomUUID().toString(), "Product " + p,
+                        random.nextInt(0, 10_000)));
+            }
+            branches.add(new CachedBranch(UUID.randomUUID().toString(), "Branch " + b, products));
+        }
+        return new CachedFranchise(UUID.randomUUID().toString(), "Franchise", 42L, branches);
+    }
+}
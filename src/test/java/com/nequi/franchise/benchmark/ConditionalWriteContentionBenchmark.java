@@ -0,0 +1,147 @@
+package com.nequi.franchise.benchmark;
+
+import com.nequi.franchise.domain.exception.OptimisticLockException;
+import com.nequi.franchise.domain.model.Branch;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.Product;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.DynamoDBFranchiseAdapter;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.mapper.BranchMapperImpl;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.mapper.FranchiseMapperImpl;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.mapper.ProductMapperImpl;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.retry.DynamoDBRetryPolicy;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.scan.ScanSettings;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.BillingMode;
+import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Hammers a single franchise with concurrent read-modify-write stock increments and reports
+ * throughput and lost updates. Runs only against a real endpoint, e.g. the DynamoDB Local
+ * container from docker-compose:
+ *
+ * <pre>
+ * mvn test -Dtest=ConditionalWriteContentionBenchmark -Dbenchmark.dynamodb.endpoint=http://localhost:8005
+ * </pre>
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark.dynamodb.endpoint", matches = ".+")
+class ConditionalWriteContentionBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConditionalWriteContentionBenchmark.class);
+    private static final int WRITERS = Integer.getInteger("benchmark.writers", 64);
+    private static final int WRITES_PER_WRITER = Integer.getInteger("benchmark.writes-per-writer", 20);
+
+    private DynamoDbAsyncClient dynamoDbClient;
+    private DynamoDBFranchiseAdapter adapter;
+    private String tableName;
+
+    @BeforeAll
+    void setUp() {
+        dynamoDbClient = DynamoDbAsyncClient.builder()
+                .endpointOverride(URI.create(System.getProperty("benchmark.dynamodb.endpoint")))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("local", "local")))
+                .build();
+
+        tableName = "franchises-contention-" + UUID.randomUUID();
+        dynamoDbClient.createTable(CreateTableRequest.builder()
+                .tableName(tableName)
+                .attributeDefinitions(AttributeDefinition.builder()
+                        .attributeName("id")
+                        .attributeType(ScalarAttributeType.S)
+                        .build())
+                .keySchema(KeySchemaElement.builder()
+                        .attributeName("id")
+                        .keyType(KeyType.HASH)
+                        .build())
+                .billingMode(BillingMode.PAY_PER_REQUEST)
+                .build()).join();
+
+        FranchiseMapperImpl franchiseMapper = new FranchiseMapperImpl();
+        BranchMapperImpl branchMapper = new BranchMapperImpl();
+        ReflectionTestUtils.setField(branchMapper, "productMapper", new ProductMapperImpl());
+        ReflectionTestUtils.setField(franchiseMapper, "branchMapper", branchMapper);
+
+        DynamoDbEnhancedAsyncClient enhancedClient = DynamoDbEnhancedAsyncClient.builder()
+                .dynamoDbClient(dynamoDbClient)
+                .build();
+        adapter = new DynamoDBFranchiseAdapter(dynamoDbClient, enhancedClient, franchiseMapper,
+                new DynamoDBMetrics(new SimpleMeterRegistry()), new ScanSettings(8, 4, 0),
+                new DynamoDBRetryPolicy(new DynamoDBMetrics(new SimpleMeterRegistry()), 3, Duration.ofMillis(25),
+                        Duration.ofMillis(100), Duration.ofSeconds(2), 500), tableName, false, true, 358400);
+    }
+
+    @AfterAll
+    void tearDown() {
+        dynamoDbClient.deleteTable(DeleteTableRequest.builder().tableName(tableName).build()).join();
+        dynamoDbClient.close();
+    }
+
+    @Test
+    void concurrentStockIncrementsOnOneFranchise() {
+        Product product = Product.builder().id("product-id").name("Hot Product").stock(0).build();
+        Branch branch = Branch.builder().id("branch-id").name("Hot Branch")
+                .products(new ArrayList<>(List.of(product))).build();
+        Franchise franchise = Franchise.builder().id(UUID.randomUUID().toString()).name("Contended Franchise")
+                .branches(new ArrayList<>(List.of(branch))).build();
+        adapter.save(franchise).block();
+
+        AtomicLong committed = new AtomicLong();
+        AtomicLong exhausted = new AtomicLong();
+        long start = System.nanoTime();
+
+        Flux.range(0, WRITERS)
+                .flatMap(writer -> Flux.range(0, WRITES_PER_WRITER)
+                        .concatMap(write -> adapter.update(franchise.getId(), current -> {
+                                    Product target = current.findBranch("branch-id").findProduct("product-id");
+                                    target.updateStock(target.getStock() + 1);
+                                })
+                                .doOnNext(saved -> committed.incrementAndGet())
+                                .onErrorResume(OptimisticLockException.class, error -> {
+                                    exhausted.incrementAndGet();
+                                    return Mono.empty();
+                                })), WRITERS)
+                .blockLast();
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        int finalStock = adapter.findById(franchise.getId()).block()
+                .findBranch("branch-id").findProduct("product-id").getStock();
+        long lostUpdates = committed.get() - finalStock;
+
+        logger.info("writers={} attempted={} committed={} exhaustedRetries={} lostUpdates={} throughput={} writes/s",
+                WRITERS, WRITERS * WRITES_PER_WRITER, committed.get(), exhausted.get(), lostUpdates,
+                String.format("%.1f", committed.get() / elapsedSeconds));
+
+        assertEquals(0L, lostUpdates);
+    }
+}
@@ -0,0 +1,108 @@
+package com.nequi.franchise.benchmark;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.EntitySchemas;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares {@code TableSchema.fromBean} with {@link EntitySchemas#FRANCHISE}: time to build the schema
+ * on first use, and marshal/unmarshal time for a franchise of 500 branches stored in the nested map
+ * form. Build times are measured once per JVM, so run it in a fresh fork for cold-start numbers:
+ *
+ * <pre>
+ * mvn test -Dtest=TableSchemaBenchmark -Dbenchmark.schema=true
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark.schema", matches = "true")
+class TableSchemaBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(TableSchemaBenchmark.class);
+    private static final int BRANCHES = 500;
+    private static final int PRODUCTS_PER_BRANCH = Integer.getInteger("benchmark.products-per-branch", 10);
+    private static final int WARMUP_ROUNDS = Integer.getInteger("benchmark.warmup-rounds", 200);
+    private static final int MEASURED_ROUNDS = Integer.getInteger("benchmark.measured-rounds", 500);
+
+    @Test
+    void buildAndMarshalTimePerSchema() {
+        // The static schema goes first, so it also pays for loading the classes both schemas share.
+        long start = System.nanoTime();
+        TableSchema<FranchiseEntity> staticSchema = EntitySchemas.FRANCHISE;
+        long staticBuildNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        TableSchema<FranchiseEntity> beanSchema = TableSchema.fromBean(FranchiseEntity.class);
+        long beanBuildNanos = System.nanoTime() - start;
+
+        FranchiseEntity franchise = franchise();
+        assertEquals(beanSchema.itemToMap(franchise, true), staticSchema.itemToMap(franchise, true));
+
+        logger.info("schema build: bean={} ms static={} ms",
+                String.format("%.1f", beanBuildNanos / 1_000_000.0),
+                String.format("%.1f", staticBuildNanos / 1_000_000.0));
+        measure("bean", beanSchema, franchise);
+        measure("static", staticSchema, franchise);
+    }
+
+    private static void measure(String label, TableSchema<FranchiseEntity> schema, FranchiseEntity franchise) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            schema.mapToItem(schema.itemToMap(franchise, true));
+        }
+        long marshalNanos = 0;
+        long unmarshalNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            Map<String, AttributeValue> item = schema.itemToMap(franchise, true);
+            long afterMarshal = System.nanoTime();
+            schema.mapToItem(item);
+            unmarshalNanos += System.nanoTime() - afterMarshal;
+            marshalNanos += afterMarshal - start;
+        }
+
+        logger.info("schema={} branches={} productsPerBranch={} marshal={} us unmarshal={} us items/s={}",
+                label, BRANCHES, PRODUCTS_PER_BRANCH,
+                String.format("%.1f", marshalNanos / 1_000.0 / MEASURED_ROUNDS),
+                String.format("%.1f", unmarshalNanos / 1_000.0 / MEASURED_ROUNDS),
+                Math.round(MEASURED_ROUNDS / ((marshalNanos + unmarshalNanos) / 1_000_000_000.0)));
+    }
+
+    private static FranchiseEntity franchise() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<BranchEntity> branches = new ArrayList<>();
+        for (int b = 0; b < BRANCHES; b++) {
+            List<ProductEntity> products = new ArrayList<>();
+            for (int p = 0; p < PRODUCTS_PER_BRANCH; p++) {
+                products.add(ProductEntity.builder()
+                        .id(UUID.randomUUID().toString())
+                        .name("Product " + p)
+                        .stock(random.nextInt(0, 10_000))
+                        .build());
+            }
+            branches.add(BranchEntity.builder()
+                    .id(UUID.randomUUID().toString())
+                    .name("Branch " + b)
+                    .products(products)
+                    .build());
+        }
+        return FranchiseEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .name("Franchise")
+                .branches(branches)
+                .version(1L)
+                .build();
+    }
+}
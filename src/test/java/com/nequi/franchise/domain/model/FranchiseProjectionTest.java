@@ -0,0 +1,29 @@
+package com.nequi.franchise.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FranchiseProjectionTest {
+
+    @Test
+    void union_ShouldKeepSameProjection() {
+        assertEquals(FranchiseProjection.branch("branch-1"),
+                FranchiseProjection.branch("branch-1").union(FranchiseProjection.branch("branch-1")));
+    }
+
+    @Test
+    void union_ShouldAbsorbHeader() {
+        assertEquals(FranchiseProjection.branch("branch-1"),
+                FranchiseProjection.header().union(FranchiseProjection.branch("branch-1")));
+        assertEquals(FranchiseProjection.branchHeaders(),
+                FranchiseProjection.branchHeaders().union(FranchiseProjection.header()));
+    }
+
+    @Test
+    void union_ShouldWidenToFull_WhenScopesDiffer() {
+        assertTrue(FranchiseProjection.branch("branch-1").union(FranchiseProjection.branch("branch-2")).isFull());
+        assertTrue(FranchiseProjection.branch("branch-1").union(FranchiseProjection.branchHeaders()).isFull());
+        assertTrue(FranchiseProjection.full().union(FranchiseProjection.header()).isFull());
+    }
+}
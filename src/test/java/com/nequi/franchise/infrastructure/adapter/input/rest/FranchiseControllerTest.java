@@ -1,33 +1,56 @@
 package com.nequi.franchise.infrastructure.adapter.input.rest;
 
+import com.nequi.franchise.application.dto.BranchResponse;
 import com.nequi.franchise.application.dto.CreateBranchRequest;
 import com.nequi.franchise.application.dto.CreateFranchiseRequest;
 import com.nequi.franchise.application.dto.CreateProductRequest;
+import com.nequi.franchise.application.dto.DeleteFranchisesRequest;
+import com.nequi.franchise.application.dto.DeletionJobResponse;
 import com.nequi.franchise.application.dto.FranchiseResponse;
+import com.nequi.franchise.application.dto.ImportResultResponse;
+import com.nequi.franchise.application.dto.StockUpdateResponse;
 import com.nequi.franchise.application.dto.UpdateNameRequest;
 import com.nequi.franchise.application.dto.UpdateStockRequest;
+import com.nequi.franchise.application.mapper.BranchResponseMapper;
+import com.nequi.franchise.application.mapper.DeletionJobResponseMapper;
 import com.nequi.franchise.application.mapper.FranchiseResponseMapper;
+import com.nequi.franchise.application.mapper.ImportResultResponseMapper;
+import com.nequi.franchise.application.mapper.StockUpdateResponseMapper;
 import com.nequi.franchise.domain.exception.BranchNotFoundException;
 import com.nequi.franchise.domain.exception.FranchiseNotFoundException;
+import com.nequi.franchise.domain.exception.OptimisticLockException;
 import com.nequi.franchise.domain.exception.ProductNotFoundException;
 import com.nequi.franchise.domain.model.Branch;
+import com.nequi.franchise.domain.model.DeletionJob;
 import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseImportRecord;
+import com.nequi.franchise.domain.model.ImportResult;
 import com.nequi.franchise.domain.model.Product;
+import com.nequi.franchise.domain.model.StockUpdate;
 import com.nequi.franchise.domain.port.input.AddBranchToFranchiseUseCase;
 import com.nequi.franchise.domain.port.input.AddProductToBranchUseCase;
 import com.nequi.franchise.domain.port.input.CreateFranchiseUseCase;
+import com.nequi.franchise.domain.port.input.DeleteFranchiseUseCase;
+import com.nequi.franchise.domain.port.input.DeleteFranchisesUseCase;
 import com.nequi.franchise.domain.port.input.DeleteProductFromBranchUseCase;
+import com.nequi.franchise.domain.port.input.ExportFranchisesUseCase;
+import com.nequi.franchise.domain.port.input.GetFranchisesByIdsUseCase;
 import com.nequi.franchise.domain.port.input.GetMaxStockProductsUseCase;
+import com.nequi.franchise.domain.port.input.ImportFranchisesUseCase;
 import com.nequi.franchise.domain.port.input.UpdateBranchNameUseCase;
 import com.nequi.franchise.domain.port.input.UpdateFranchiseNameUseCase;
 import com.nequi.franchise.domain.port.input.UpdateProductNameUseCase;
 import com.nequi.franchise.domain.port.input.UpdateProductStockUseCase;
+import com.nequi.franchise.infrastructure.adapter.input.rest.imports.FranchiseImportParser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -58,6 +81,9 @@ class FranchiseControllerTest {
     @Mock
     private GetMaxStockProductsUseCase getMaxStockProductsUseCase;
 
+    @Mock
+    private GetFranchisesByIdsUseCase getFranchisesByIdsUseCase;
+
     @Mock
     private UpdateFranchiseNameUseCase updateFranchiseNameUseCase;
 
@@ -67,9 +93,36 @@ class FranchiseControllerTest {
     @Mock
     private UpdateProductNameUseCase updateProductNameUseCase;
 
+    @Mock
+    private ImportFranchisesUseCase importFranchisesUseCase;
+
+    @Mock
+    private ExportFranchisesUseCase exportFranchisesUseCase;
+
+    @Mock
+    private DeleteFranchiseUseCase deleteFranchiseUseCase;
+
+    @Mock
+    private DeleteFranchisesUseCase deleteFranchisesUseCase;
+
+    @Mock
+    private FranchiseImportParser franchiseImportParser;
+
     @Mock
     private FranchiseResponseMapper franchiseResponseMapper;
 
+    @Mock
+    private BranchResponseMapper branchResponseMapper;
+
+    @Mock
+    private StockUpdateResponseMapper stockUpdateResponseMapper;
+
+    @Mock
+    private ImportResultResponseMapper importResultResponseMapper;
+
+    @Mock
+    private DeletionJobResponseMapper deletionJobResponseMapper;
+
     @InjectMocks
     private FranchiseController franchiseController;
 
@@ -96,6 +149,65 @@ class FranchiseControllerTest {
                 .build();
     }
 
+    @Test
+    void getFranchisesByIds_ShouldStreamMappedFranchises() {
+        Franchise other = Franchise.builder()
+                .id("other-id")
+                .name("Other Franchise")
+                .branches(new ArrayList<>())
+                .build();
+        FranchiseResponse otherResponse = FranchiseResponse.builder()
+                .id("other-id")
+                .name("Other Franchise")
+                .branches(new ArrayList<>())
+                .build();
+
+        when(getFranchisesByIdsUseCase.execute(List.of("test-id", "other-id")))
+                .thenReturn(Flux.just(franchise, other));
+        when(franchiseResponseMapper.toResponse(franchise)).thenReturn(franchiseResponse);
+        when(franchiseResponseMapper.toResponse(other)).thenReturn(otherResponse);
+
+        var result = franchiseController.getFranchisesByIds(List.of("test-id", "other-id"));
+
+        StepVerifier.create(result)
+                .expectNext(franchiseResponse)
+                .expectNext(otherResponse)
+                .verifyComplete();
+
+        verify(getFranchisesByIdsUseCase, times(1)).execute(List.of("test-id", "other-id"));
+    }
+
+    @Test
+    void exportFranchises_ShouldStreamMappedFranchises() {
+        when(exportFranchisesUseCase.execute()).thenReturn(Flux.just(franchise));
+        when(franchiseResponseMapper.toResponse(franchise)).thenReturn(franchiseResponse);
+
+        StepVerifier.create(franchiseController.exportFranchises())
+                .expectNext(franchiseResponse)
+                .verifyComplete();
+    }
+
+    @Test
+    void importFranchises_ShouldStreamOneResultPerRecord() {
+        Flux<DataBuffer> body = Flux.empty();
+        FranchiseImportRecord record = FranchiseImportRecord.builder().recordNumber(1).rows(1).name("Imported").build();
+        Flux<FranchiseImportRecord> records = Flux.just(record);
+        ImportResult imported = ImportResult.builder().recordNumber(1).franchiseId("new-id")
+                .status(ImportResult.Status.IMPORTED).build();
+        ImportResultResponse importedResponse = ImportResultResponse.builder().recordNumber(1L).franchiseId("new-id")
+                .status("IMPORTED").build();
+
+        when(franchiseImportParser.parse(body, MediaType.APPLICATION_NDJSON)).thenReturn(records);
+        when(importFranchisesUseCase.execute(records)).thenReturn(Flux.just(imported));
+        when(importResultResponseMapper.toResponse(imported)).thenReturn(importedResponse);
+
+        var result = franchiseController.importFranchises(MediaType.APPLICATION_NDJSON, body);
+
+        StepVerifier.create(result)
+                .expectNext(importedResponse)
+                .verifyComplete();
+    }
+
     @Test
     void createFranchise_ShouldReturnCreatedResponse() {
         when(createFranchiseUseCase.execute(anyString())).thenReturn(Mono.just(franchise));
@@ -137,38 +249,33 @@ class FranchiseControllerTest {
                 .products(new ArrayList<>())
                 .build();
 
-        Franchise franchiseWithBranch = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(List.of(branch))
-                .build();
-
-        FranchiseResponse responseWithBranch = FranchiseResponse.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>())
-                .build();
-
         CreateBranchRequest branchRequest = CreateBranchRequest.builder()
                 .franchiseId("franchise-id")
                 .name("Test Branch")
                 .build();
 
+        BranchResponse response = BranchResponse.builder()
+                .id("branch-id")
+                .name("Test Branch")
+                .products(new ArrayList<>())
+                .build();
+
         when(addBranchToFranchiseUseCase.execute("franchise-id", "Test Branch"))
-                .thenReturn(Mono.just(franchiseWithBranch));
-        when(franchiseResponseMapper.toResponse(any(Franchise.class))).thenReturn(responseWithBranch);
+                .thenReturn(Mono.just(branch));
+        when(branchResponseMapper.toResponse(any(Branch.class))).thenReturn(response);
 
         var result = franchiseController.addBranchToFranchise(branchRequest);
 
         StepVerifier.create(result)
-                .expectNextMatches(response ->
-                        response.getStatusCode().equals(201) &&
-                        response.getMessage().equals("Branch added successfully to franchise") &&
-                        response.getData().getId().equals("franchise-id"))
+                .expectNextMatches(r ->
+                        r.getStatusCode().equals(201) &&
+                        r.getMessage().equals("Branch added successfully to franchise") &&
+                        r.getData().getId().equals("branch-id"))
                 .verifyComplete();
 
         verify(addBranchToFranchiseUseCase, times(1)).execute("franchise-id", "Test Branch");
-        verify(franchiseResponseMapper, times(1)).toResponse(franchiseWithBranch);
+        verify(branchResponseMapper, times(1)).toResponse(branch);
+        verify(franchiseResponseMapper, never()).toResponse(any());
     }
 
     @Test
@@ -188,7 +295,7 @@ class FranchiseControllerTest {
                 .verify();
 
         verify(addBranchToFranchiseUseCase, times(1)).execute("non-existent-id", "Test Branch");
-        verify(franchiseResponseMapper, never()).toResponse(any());
+        verify(branchResponseMapper, never()).toResponse(any());
     }
 
     @Test
@@ -205,18 +312,6 @@ class FranchiseControllerTest {
                 .products(List.of(product))
                 .build();
 
-        Franchise franchiseWithProduct = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(List.of(branch))
-                .build();
-
-        FranchiseResponse responseWithProduct = FranchiseResponse.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>())
-                .build();
-
         CreateProductRequest productRequest = CreateProductRequest.builder()
                 .franchiseId("franchise-id")
                 .branchId("branch-id")
@@ -224,21 +319,28 @@ class FranchiseControllerTest {
                 .stock(100)
                 .build();
 
+        BranchResponse response = BranchResponse.builder()
+                .id("branch-id")
+                .name("Test Branch")
+                .products(new ArrayList<>())
+                .build();
+
         when(addProductToBranchUseCase.execute("franchise-id", "branch-id", "Test Product", 100))
-                .thenReturn(Mono.just(franchiseWithProduct));
-        when(franchiseResponseMapper.toResponse(any(Franchise.class))).thenReturn(responseWithProduct);
+                .thenReturn(Mono.just(branch));
+        when(branchResponseMapper.toResponse(any(Branch.class))).thenReturn(response);
 
         var result = franchiseController.addProductToBranch(productRequest);
 
         StepVerifier.create(result)
-                .expectNextMatches(response ->
-                        response.getStatusCode().equals(201) &&
-                        response.getMessage().equals("Product added successfully to branch") &&
-                        response.getData().getId().equals("franchise-id"))
+                .expectNextMatches(r ->
+                        r.getStatusCode().equals(201) &&
+                        r.getMessage().equals("Product added successfully to branch") &&
+                        r.getData().getId().equals("branch-id"))
                 .verifyComplete();
 
         verify(addProductToBranchUseCase, times(1)).execute("franchise-id", "branch-id", "Test Product", 100);
-        verify(franchiseResponseMapper, times(1)).toResponse(franchiseWithProduct);
+        verify(branchResponseMapper, times(1)).toResponse(branch);
+        verify(franchiseResponseMapper, never()).toResponse(any());
     }
 
     @Test
@@ -260,7 +362,7 @@ class FranchiseControllerTest {
                 .verify();
 
         verify(addProductToBranchUseCase, times(1)).execute("non-existent-id", "branch-id", "Test Product", 100);
-        verify(franchiseResponseMapper, never()).toResponse(any());
+        verify(branchResponseMapper, never()).toResponse(any());
     }
 
     @Test
@@ -282,7 +384,7 @@ class FranchiseControllerTest {
                 .verify();
 
         verify(addProductToBranchUseCase, times(1)).execute("franchise-id", "non-existent-branch", "Test Product", 100);
-        verify(franchiseResponseMapper, never()).toResponse(any());
+        verify(branchResponseMapper, never()).toResponse(any());
     }
 
     @Test
@@ -293,33 +395,28 @@ class FranchiseControllerTest {
                 .products(new ArrayList<>())
                 .build();
 
-        Franchise franchiseWithoutProduct = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(List.of(branch))
-                .build();
-
-        FranchiseResponse responseWithoutProduct = FranchiseResponse.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>())
+        BranchResponse response = BranchResponse.builder()
+                .id("branch-id")
+                .name("Test Branch")
+                .products(new ArrayList<>())
                 .build();
 
         when(deleteProductFromBranchUseCase.execute("franchise-id", "branch-id", "product-id"))
-                .thenReturn(Mono.just(franchiseWithoutProduct));
-        when(franchiseResponseMapper.toResponse(any(Franchise.class))).thenReturn(responseWithoutProduct);
+                .thenReturn(Mono.just(branch));
+        when(branchResponseMapper.toResponse(any(Branch.class))).thenReturn(response);
 
         var result = franchiseController.deleteProductFromBranch("franchise-id", "branch-id", "product-id");
 
         StepVerifier.create(result)
-                .expectNextMatches(response ->
-                        response.getStatusCode().equals(200) &&
-                        response.getMessage().equals("Product deleted successfully from branch") &&
-                        response.getData().getId().equals("franchise-id"))
+                .expectNextMatches(r ->
+                        r.getStatusCode().equals(200) &&
+                        r.getMessage().equals("Product deleted successfully from branch") &&
+                        r.getData().getId().equals("branch-id"))
                 .verifyComplete();
 
         verify(deleteProductFromBranchUseCase, times(1)).execute("franchise-id", "branch-id", "product-id");
-        verify(franchiseResponseMapper, times(1)).toResponse(franchiseWithoutProduct);
+        verify(branchResponseMapper, times(1)).toResponse(branch);
+        verify(franchiseResponseMapper, never()).toResponse(any());
     }
 
     @Test
@@ -334,7 +431,7 @@ class FranchiseControllerTest {
                 .verify();
 
         verify(deleteProductFromBranchUseCase, times(1)).execute("non-existent-id", "branch-id", "product-id");
-        verify(franchiseResponseMapper, never()).toResponse(any());
+        verify(branchResponseMapper, never()).toResponse(any());
     }
 
     @Test
@@ -349,7 +446,7 @@ class FranchiseControllerTest {
                 .verify();
 
         verify(deleteProductFromBranchUseCase, times(1)).execute("franchise-id", "non-existent-branch", "product-id");
-        verify(franchiseResponseMapper, never()).toResponse(any());
+        verify(branchResponseMapper, never()).toResponse(any());
     }
 
     @Test
@@ -364,33 +461,25 @@ class FranchiseControllerTest {
                 .verify();
 
         verify(deleteProductFromBranchUseCase, times(1)).execute("franchise-id", "branch-id", "non-existent-product");
-        verify(franchiseResponseMapper, never()).toResponse(any());
+        verify(branchResponseMapper, never()).toResponse(any());
     }
 
     @Test
     void updateProductStock_ShouldReturnSuccessResponse() {
-        Product product = Product.builder()
-                .id("product-id")
-                .name("Test Product")
+        StockUpdate stockUpdate = StockUpdate.builder()
+                .franchiseId("franchise-id")
+                .branchId("branch-id")
+                .productId("product-id")
                 .stock(200)
+                .version(4L)
                 .build();
 
-        Branch branch = Branch.builder()
-                .id("branch-id")
-                .name("Test Branch")
-                .products(List.of(product))
-                .build();
-
-        Franchise franchiseWithUpdatedStock = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(List.of(branch))
-                .build();
-
-        FranchiseResponse responseWithUpdatedStock = FranchiseResponse.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>())
+        StockUpdateResponse stockUpdateResponse = StockUpdateResponse.builder()
+                .franchiseId("franchise-id")
+                .branchId("branch-id")
+                .productId("product-id")
+                .stock(200)
+                .version(4L)
                 .build();
 
         UpdateStockRequest stockRequest = UpdateStockRequest.builder()
@@ -398,8 +487,8 @@ class FranchiseControllerTest {
                 .build();
 
         when(updateProductStockUseCase.execute("franchise-id", "branch-id", "product-id", 200))
-                .thenReturn(Mono.just(franchiseWithUpdatedStock));
-        when(franchiseResponseMapper.toResponse(any(Franchise.class))).thenReturn(responseWithUpdatedStock);
+                .thenReturn(Mono.just(stockUpdate));
+        when(stockUpdateResponseMapper.toResponse(stockUpdate)).thenReturn(stockUpdateResponse);
 
         var result = franchiseController.updateProductStock("franchise-id", "branch-id", "product-id", stockRequest);
 
@@ -407,11 +496,12 @@ class FranchiseControllerTest {
                 .expectNextMatches(response ->
                         response.getStatusCode().equals(200) &&
                         response.getMessage().equals("Product stock updated successfully") &&
-                        response.getData().getId().equals("franchise-id"))
+                        response.getData().getStock().equals(200) &&
+                        response.getData().getVersion().equals(4L))
                 .verifyComplete();
 
         verify(updateProductStockUseCase, times(1)).execute("franchise-id", "branch-id", "product-id", 200);
-        verify(franchiseResponseMapper, times(1)).toResponse(franchiseWithUpdatedStock);
+        verify(stockUpdateResponseMapper, times(1)).toResponse(stockUpdate);
     }
 
     @Test
@@ -430,7 +520,7 @@ class FranchiseControllerTest {
                 .verify();
 
         verify(updateProductStockUseCase, times(1)).execute("non-existent-id", "branch-id", "product-id", 200);
-        verify(franchiseResponseMapper, never()).toResponse(any());
+        verify(stockUpdateResponseMapper, never()).toResponse(any());
     }
 
     @Test
@@ -449,7 +539,7 @@ class FranchiseControllerTest {
                 .verify();
 
         verify(updateProductStockUseCase, times(1)).execute("franchise-id", "non-existent-branch", "product-id", 200);
-        verify(franchiseResponseMapper, never()).toResponse(any());
+        verify(stockUpdateResponseMapper, never()).toResponse(any());
     }
 
     @Test
@@ -468,7 +558,7 @@ class FranchiseControllerTest {
                 .verify();
 
         verify(updateProductStockUseCase, times(1)).execute("franchise-id", "branch-id", "non-existent-product", 200);
-        verify(franchiseResponseMapper, never()).toResponse(any());
+        verify(stockUpdateResponseMapper, never()).toResponse(any());
     }
 
     @Test
@@ -552,7 +642,6 @@ class FranchiseControllerTest {
         FranchiseResponse response = FranchiseResponse.builder()
                 .id("franchise-id")
                 .name("Updated Franchise Name")
-                .branches(new ArrayList<>())
                 .build();
 
         UpdateNameRequest nameRequest = UpdateNameRequest.builder()
@@ -561,7 +650,7 @@ class FranchiseControllerTest {
 
         when(updateFranchiseNameUseCase.execute("franchise-id", "Updated Franchise Name"))
                 .thenReturn(Mono.just(updatedFranchise));
-        when(franchiseResponseMapper.toResponse(any(Franchise.class))).thenReturn(response);
+        when(franchiseResponseMapper.toHeaderResponse(any(Franchise.class))).thenReturn(response);
 
         var result = franchiseController.updateFranchiseName("franchise-id", nameRequest);
 
@@ -569,11 +658,13 @@ class FranchiseControllerTest {
                 .expectNextMatches(r ->
                         r.getStatusCode().equals(200) &&
                         r.getMessage().equals("Franchise name updated successfully") &&
-                        r.getData().getName().equals("Updated Franchise Name"))
+                        r.getData().getName().equals("Updated Franchise Name") &&
+                        r.getData().getBranches() == null)
                 .verifyComplete();
 
         verify(updateFranchiseNameUseCase, times(1)).execute("franchise-id", "Updated Franchise Name");
-        verify(franchiseResponseMapper, times(1)).toResponse(updatedFranchise);
+        verify(franchiseResponseMapper, times(1)).toHeaderResponse(updatedFranchise);
+        verify(franchiseResponseMapper, never()).toResponse(any());
     }
 
     @Test
@@ -592,36 +683,30 @@ class FranchiseControllerTest {
                 .verify();
 
         verify(updateFranchiseNameUseCase, times(1)).execute("non-existent-id", "New Name");
-        verify(franchiseResponseMapper, never()).toResponse(any());
+        verify(franchiseResponseMapper, never()).toHeaderResponse(any());
     }
 
     @Test
     void updateBranchName_ShouldReturnSuccessResponse() {
-        Branch updatedBranch = Branch.builder()
+        Branch branch = Branch.builder()
                 .id("branch-id")
                 .name("Updated Branch Name")
                 .products(new ArrayList<>())
                 .build();
 
-        Franchise updatedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(List.of(updatedBranch))
-                .build();
-
-        FranchiseResponse response = FranchiseResponse.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>())
+        UpdateNameRequest nameRequest = UpdateNameRequest.builder()
+                .name("Updated Branch Name")
                 .build();
 
-        UpdateNameRequest nameRequest = UpdateNameRequest.builder()
+        BranchResponse response = BranchResponse.builder()
+                .id("branch-id")
                 .name("Updated Branch Name")
+                .products(new ArrayList<>())
                 .build();
 
         when(updateBranchNameUseCase.execute("franchise-id", "branch-id", "Updated Branch Name"))
-                .thenReturn(Mono.just(updatedFranchise));
-        when(franchiseResponseMapper.toResponse(any(Franchise.class))).thenReturn(response);
+                .thenReturn(Mono.just(branch));
+        when(branchResponseMapper.toResponse(any(Branch.class))).thenReturn(response);
 
         var result = franchiseController.updateBranchName("franchise-id", "branch-id", nameRequest);
 
@@ -629,11 +714,12 @@ class FranchiseControllerTest {
                 .expectNextMatches(r ->
                         r.getStatusCode().equals(200) &&
                         r.getMessage().equals("Branch name updated successfully") &&
-                        r.getData().getId().equals("franchise-id"))
+                        r.getData().getName().equals("Updated Branch Name"))
                 .verifyComplete();
 
         verify(updateBranchNameUseCase, times(1)).execute("franchise-id", "branch-id", "Updated Branch Name");
-        verify(franchiseResponseMapper, times(1)).toResponse(updatedFranchise);
+        verify(branchResponseMapper, times(1)).toResponse(branch);
+        verify(franchiseResponseMapper, never()).toResponse(any());
     }
 
     @Test
@@ -652,12 +738,12 @@ class FranchiseControllerTest {
                 .verify();
 
         verify(updateBranchNameUseCase, times(1)).execute("franchise-id", "non-existent-branch", "New Name");
-        verify(franchiseResponseMapper, never()).toResponse(any());
+        verify(branchResponseMapper, never()).toResponse(any());
     }
 
     @Test
     void updateProductName_ShouldReturnSuccessResponse() {
-        Product updatedProduct = Product.builder()
+        Product product = Product.builder()
                 .id("product-id")
                 .name("Updated Product Name")
                 .stock(100)
@@ -666,28 +752,22 @@ class FranchiseControllerTest {
         Branch branch = Branch.builder()
                 .id("branch-id")
                 .name("Test Branch")
-                .products(List.of(updatedProduct))
-                .build();
-
-        Franchise updatedFranchise = Franchise.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(List.of(branch))
-                .build();
-
-        FranchiseResponse response = FranchiseResponse.builder()
-                .id("franchise-id")
-                .name("Test Franchise")
-                .branches(new ArrayList<>())
+                .products(List.of(product))
                 .build();
 
         UpdateNameRequest nameRequest = UpdateNameRequest.builder()
                 .name("Updated Product Name")
                 .build();
 
+        BranchResponse response = BranchResponse.builder()
+                .id("branch-id")
+                .name("Test Branch")
+                .products(new ArrayList<>())
+                .build();
+
         when(updateProductNameUseCase.execute("franchise-id", "branch-id", "product-id", "Updated Product Name"))
-                .thenReturn(Mono.just(updatedFranchise));
-        when(franchiseResponseMapper.toResponse(any(Franchise.class))).thenReturn(response);
+                .thenReturn(Mono.just(branch));
+        when(branchResponseMapper.toResponse(any(Branch.class))).thenReturn(response);
 
         var result = franchiseController.updateProductName("franchise-id", "branch-id", "product-id", nameRequest);
 
@@ -695,11 +775,12 @@ class FranchiseControllerTest {
                 .expectNextMatches(r ->
                         r.getStatusCode().equals(200) &&
                         r.getMessage().equals("Product name updated successfully") &&
-                        r.getData().getId().equals("franchise-id"))
+                        r.getData().getId().equals("branch-id"))
                 .verifyComplete();
 
         verify(updateProductNameUseCase, times(1)).execute("franchise-id", "branch-id", "product-id", "Updated Product Name");
-        verify(franchiseResponseMapper, times(1)).toResponse(updatedFranchise);
+        verify(branchResponseMapper, times(1)).toResponse(branch);
+        verify(franchiseResponseMapper, never()).toResponse(any());
     }
 
     @Test
@@ -718,6 +799,62 @@ class FranchiseControllerTest {
                 .verify();
 
         verify(updateProductNameUseCase, times(1)).execute("franchise-id", "branch-id", "non-existent-product", "New Name");
-        verify(franchiseResponseMapper, never()).toResponse(any());
+        verify(branchResponseMapper, never()).toResponse(any());
+    }
+
+    @Test
+    void deleteFranchise_ShouldReturnSuccessResponse() {
+        when(deleteFranchiseUseCase.execute("franchise-id", 3L)).thenReturn(Mono.empty());
+
+        var result = franchiseController.deleteFranchise("franchise-id", 3L);
+
+        StepVerifier.create(result)
+                .expectNextMatches(r ->
+                        r.getStatusCode().equals(200) &&
+                        r.getMessage().equals("Franchise deleted successfully") &&
+                        r.getData() == null)
+                .verifyComplete();
+
+        verify(deleteFranchiseUseCase, times(1)).execute("franchise-id", 3L);
+    }
+
+    @Test
+    void deleteFranchise_ShouldPropagateVersionConflict() {
+        when(deleteFranchiseUseCase.execute("franchise-id", 2L))
+                .thenReturn(Mono.error(new OptimisticLockException("Franchise franchise-id was modified by another request")));
+
+        var result = franchiseController.deleteFranchise("franchise-id", 2L);
+
+        StepVerifier.create(result)
+                .expectError(OptimisticLockException.class)
+                .verify();
+    }
+
+    @Test
+    void deleteFranchises_ShouldReturnAcceptedJob() {
+        DeleteFranchisesRequest deleteRequest = DeleteFranchisesRequest.builder()
+                .franchiseIds(List.of("a", "b"))
+                .build();
+        DeletionJob job = DeletionJob.builder()
+                .id("job-id")
+                .status(DeletionJob.Status.RUNNING)
+                .total(2)
+                .build();
+        DeletionJobResponse jobResponse = DeletionJobResponse.builder()
+                .id("job-id")
+                .status("RUNNING")
+                .total(2L)
+                .build();
+
+        when(deleteFranchisesUseCase.execute(List.of("a", "b"))).thenReturn(Mono.just(job));
+        when(deletionJobResponseMapper.toResponse(job)).thenReturn(jobResponse);
+
+        var result = franchiseController.deleteFranchises(deleteRequest);
+
+        StepVerifier.create(result)
+                .expectNextMatches(r ->
+                        r.getStatusCode().equals(202) &&
+                        r.getData().getId().equals("job-id"))
+                .verifyComplete();
     }
 }
@@ -0,0 +1,73 @@
+package com.nequi.franchise.infrastructure.adapter.input.rest.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nequi.franchise.domain.exception.InvalidDomainException;
+import com.nequi.franchise.domain.model.FranchiseImportRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+
+class FranchiseImportParserTest {
+
+    private final FranchiseImportParser parser = new FranchiseImportParser(new ObjectMapper());
+
+    @Test
+    void parse_ShouldReadNdjsonLinesSplitAcrossBuffers() {
+        Flux<DataBuffer> body = chunks(
+                "{\"name\":\"First\",\"branches\":[{\"name\":\"Down",
+                "town\",\"products\":[{\"name\":\"Burger\",\"stock\":10}]}]}\n{\"name\":\"Sec",
+                "ond\"}\nnot json\n");
+
+        StepVerifier.create(parser.parse(body, MediaType.APPLICATION_NDJSON))
+                .expectNextMatches(record -> record.getName().equals("First")
+                        && record.getBranches().get(0).getName().equals("Downtown")
+                        && record.getBranches().get(0).getProducts().get(0).getStock() == 10)
+                .expectNextMatches(record -> record.getName().equals("Second") && record.getBranches().isEmpty())
+                .expectNextMatches(record -> record.isRejected() && record.getRecordNumber() == 3)
+                .verifyComplete();
+    }
+
+    @Test
+    void parse_ShouldGroupContiguousCsvRowsByFranchise() {
+        Flux<DataBuffer> body = chunks(
+                "franchise,branch,product,stock\r\n",
+                "Burgers,Downtown,Classic,10\r\nBurgers,Downtown,\"Cheese, double\",5\r\n",
+                "Burgers,Airport,,\r\nPizza,Center,Margherita,7\r\n");
+
+        StepVerifier.create(parser.parse(body, FranchiseImportParser.TEXT_CSV))
+                .expectNextMatches(record -> record.getName().equals("Burgers")
+                        && record.getRows() == 3
+                        && record.getBranches().size() == 2
+                        && record.getBranches().get(0).getProducts().get(1).getName().equals("Cheese, double")
+                        && record.getBranches().get(1).getProducts().isEmpty())
+                .expectNextMatches(record -> record.getName().equals("Pizza") && record.getRecordNumber() == 5)
+                .verifyComplete();
+    }
+
+    @Test
+    void parse_ShouldRejectCsvFranchiseWithInvalidStock() {
+        Flux<DataBuffer> body = chunks("Burgers,Downtown,Classic,ten\nPizza,Center,Margherita,7\n");
+
+        StepVerifier.create(parser.parse(body, FranchiseImportParser.TEXT_CSV))
+                .expectNextMatches(FranchiseImportRecord::isRejected)
+                .expectNextMatches(record -> !record.isRejected())
+                .verifyComplete();
+    }
+
+    @Test
+    void parse_ShouldRejectUnsupportedContentType() {
+        StepVerifier.create(parser.parse(chunks("{}"), MediaType.APPLICATION_JSON))
+                .expectError(InvalidDomainException.class)
+                .verify();
+    }
+
+    private Flux<DataBuffer> chunks(String... parts) {
+        return Flux.fromArray(parts)
+                .map(part -> DefaultDataBufferFactory.sharedInstance.wrap(part.getBytes(StandardCharsets.UTF_8)));
+    }
+}
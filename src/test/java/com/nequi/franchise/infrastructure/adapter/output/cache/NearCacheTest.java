@@ -0,0 +1,102 @@
+package com.nequi.franchise.infrastructure.adapter.output.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NearCacheTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    @Test
+    void get_ShouldReturnStoredValueUntilItExpires() {
+        NearCache cache = cache(1_000, Duration.ofSeconds(30));
+
+        assertTrue(cache.putIfNotInvalidatedSince("key", "value", 1, cache.stamp()));
+        assertEquals("value", cache.get("key"));
+
+        ticker.addAndGet(Duration.ofSeconds(31).toNanos());
+        cache.cleanUp();
+
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void replace_ShouldNotStoreValuesTheSlowerTierKeepsForLess() {
+        NearCache cache = cache(1_000, Duration.ofSeconds(30));
+        cache.putIfNotInvalidatedSince("key", "old", 1, cache.stamp());
+
+        cache.replace("key", "value", 1, Duration.ofSeconds(5));
+
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    void putIfNotInvalidatedSince_ShouldRefuseFillsThatRacedAnInvalidation() {
+        NearCache cache = cache(1_000, Duration.ofSeconds(30));
+        long stamp = cache.stamp();
+
+        cache.invalidate("key");
+
+        assertFalse(cache.putIfNotInvalidatedSince("key", "stale", 1, stamp));
+        assertTrue(cache.putIfNotInvalidatedSince("other", "value", 1, stamp));
+        assertNull(cache.get("key"));
+        assertTrue(cache.putIfNotInvalidatedSince("key", "fresh", 1, cache.stamp()));
+    }
+
+    @Test
+    void putIfNotInvalidatedSince_ShouldRefuseEveryFillStampedBeforeInvalidateAll() {
+        NearCache cache = cache(1_000, Duration.ofSeconds(30));
+        cache.replace("key", "value", 1, Duration.ofMinutes(1));
+        long stamp = cache.stamp();
+
+        cache.invalidateAll();
+
+        assertNull(cache.get("key"));
+        assertFalse(cache.putIfNotInvalidatedSince("other", "value", 1, stamp));
+    }
+
+    @Test
+    void putIfNotInvalidatedSince_ShouldRefuseFillsOlderThanAForgottenInvalidation() {
+        NearCache cache = cache(1_000, Duration.ofSeconds(30));
+        long stamp = cache.stamp();
+        cache.invalidate("key");
+
+        ticker.addAndGet(Duration.ofSeconds(31).toNanos());
+        cache.cleanUp();
+
+        assertFalse(cache.putIfNotInvalidatedSince("other", "value", 1, stamp));
+        assertTrue(cache.putIfNotInvalidatedSince("other", "value", 1, cache.stamp()));
+    }
+
+    @Test
+    void store_ShouldStayWithinMaximumWeight() {
+        NearCache cache = cache(1_000, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 50; i++) {
+            cache.putIfNotInvalidatedSince("key-" + i, i, 300, cache.stamp());
+            cache.cleanUp();
+            assertTrue(cache.weight() <= 1_000);
+        }
+        assertTrue(cache.evictionCount() > 0);
+    }
+
+    @Test
+    void store_ShouldNotKeepValuesHeavierThanTheCache() {
+        NearCache cache = cache(1_000, Duration.ofMinutes(1));
+
+        cache.putIfNotInvalidatedSince("key", "value", 5_000, cache.stamp());
+        cache.cleanUp();
+
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.size());
+    }
+
+    private NearCache cache(long maximumWeight, Duration ttl) {
+        return new NearCache(maximumWeight, ttl, ticker::get, Runnable::run);
+    }
+}
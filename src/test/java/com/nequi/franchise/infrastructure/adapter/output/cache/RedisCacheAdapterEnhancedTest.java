@@ -9,6 +9,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.ScanOptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -41,7 +42,7 @@ class RedisCacheAdapterEnhancedTest {
         when(circuitBreaker.decorateSupplier(any())).thenAnswer(invocation -> invocation.getArgument(0));
         when(cacheMetrics.startTimer()).thenReturn(mock(io.micrometer.core.instrument.Timer.Sample.class));
         
-        cacheAdapter = new RedisCacheAdapter(redisTemplate, circuitBreaker, cacheMetrics);
+        cacheAdapter = new RedisCacheAdapter(redisTemplate, circuitBreaker, cacheMetrics, 1000, 2, 4);
     }
 
     @Test
@@ -146,8 +147,8 @@ class RedisCacheAdapterEnhancedTest {
 
     @Test
     void deleteByPattern_ShouldRecordSuccess_WhenKeysAreDeleted() {
-        when(redisTemplate.keys(anyString())).thenReturn(Flux.just("key1", "key2"));
-        when(redisTemplate.delete(anyString())).thenReturn(Mono.just(1L));
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(Flux.just("key1", "key2"));
+        when(redisTemplate.unlink("key1", "key2")).thenReturn(Mono.just(2L));
 
         var result = cacheAdapter.deleteByPattern("franchise:*");
 
@@ -156,22 +157,24 @@ class RedisCacheAdapterEnhancedTest {
                 .verifyComplete();
 
         verify(cacheMetrics, times(1)).recordCacheDeleteSuccess();
-        verify(cacheMetrics, times(1)).recordDeleteDuration(any());
+        verify(cacheMetrics, times(1)).recordInvalidationKeysScanned(2);
+        verify(cacheMetrics, times(1)).recordInvalidationKeysUnlinked(2L);
+        verify(cacheMetrics, times(1)).recordInvalidationDuration(any());
     }
 
     @Test
     void deleteByPattern_ShouldHandlePartialFailures() {
-        when(redisTemplate.keys(anyString())).thenReturn(Flux.just("key1", "key2", "key3"));
-        when(redisTemplate.delete("key1")).thenReturn(Mono.just(1L));
-        when(redisTemplate.delete("key2")).thenReturn(Mono.error(new RuntimeException("Error")));
-        when(redisTemplate.delete("key3")).thenReturn(Mono.just(1L));
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(Flux.just("key1", "key2", "key3"));
+        when(redisTemplate.unlink("key1", "key2")).thenReturn(Mono.error(new RuntimeException("Error")));
+        when(redisTemplate.unlink("key3")).thenReturn(Mono.just(1L));
 
         var result = cacheAdapter.deleteByPattern("franchise:*");
 
         StepVerifier.create(result)
-                .expectNext(2L)
+                .expectNext(1L)
                 .verifyComplete();
 
-        verify(cacheMetrics, times(1)).recordDeleteDuration(any());
+        verify(cacheMetrics, times(1)).recordCacheDeleteFailure();
+        verify(cacheMetrics, times(1)).recordInvalidationDuration(any());
     }
 }
@@ -1,5 +1,6 @@
 package com.nequi.franchise.infrastructure.adapter.output.cache;
 
+import com.nequi.franchise.infrastructure.adapter.output.cache.codec.EncodedValue;
 import com.nequi.franchise.infrastructure.config.CacheMetrics;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
@@ -7,15 +8,25 @@ import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -43,7 +54,7 @@ class RedisCacheAdapterTest {
         circuitBreaker = CircuitBreaker.of("testCircuitBreaker", CircuitBreakerConfig.ofDefaults());
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(cacheMetrics.startTimer()).thenReturn(timerSample);
-        cacheAdapter = new RedisCacheAdapter(redisTemplate, circuitBreaker, cacheMetrics);
+        cacheAdapter = new RedisCacheAdapter(redisTemplate, circuitBreaker, cacheMetrics, 1000, 2, 4);
     }
 
     @Test
@@ -60,6 +71,34 @@ class RedisCacheAdapterTest {
         verify(valueOperations, times(1)).get("test-key");
     }
 
+    @Test
+    void get_ShouldConvertJsonMapToRequestedType() {
+        Map<String, Object> stored = Map.of(
+                "id", "franchise-id",
+                "name", "Burgers",
+                "version", 3,
+                "branches", List.of(Map.of("id", "branch-id", "name", "Downtown",
+                        "products", List.of(Map.of("id", "product-id", "name", "Classic", "stock", 10)))));
+        when(valueOperations.get(anyString())).thenReturn(Mono.just(stored));
+
+        var result = cacheAdapter.get("franchise:franchise-id", CachedFranchise.class);
+
+        StepVerifier.create(result)
+                .expectNext(new CachedFranchise("franchise-id", "Burgers", 3L, List.of(
+                        new CachedFranchise.CachedBranch("branch-id", "Downtown", List.of(
+                                new CachedFranchise.CachedProduct("product-id", "Classic", 10))))))
+                .verifyComplete();
+    }
+
+    @Test
+    void getEntry_ShouldWeighCountersByTheirDigits() {
+        when(valueOperations.get("franchise:franchise-id:generation")).thenReturn(Mono.just(1700000000001L));
+
+        StepVerifier.create(cacheAdapter.getEntry("franchise:franchise-id:generation", Long.class))
+                .expectNext(new CacheEntry<>(1700000000001L, 13))
+                .verifyComplete();
+    }
+
     @Test
     void get_ShouldReturnEmptyWhenNotExists() {
         when(valueOperations.get(anyString())).thenReturn(Mono.empty());
@@ -84,6 +123,32 @@ class RedisCacheAdapterTest {
         verify(valueOperations, times(1)).get("test-key");
     }
 
+    @Test
+    void getAll_ShouldReturnOnlyHitsKeyedByRequestedKey() {
+        when(valueOperations.multiGet(anyList())).thenReturn(Mono.just(Arrays.asList("value-a", null, "value-c")));
+
+        var result = cacheAdapter.getAll(List.of("key-a", "key-b", "key-c"), String.class);
+
+        StepVerifier.create(result)
+                .expectNext(Map.of("key-a", "value-a", "key-c", "value-c"))
+                .verifyComplete();
+
+        verify(valueOperations, times(1)).multiGet(List.of("key-a", "key-b", "key-c"));
+        verify(cacheMetrics, times(2)).recordCacheHit();
+        verify(cacheMetrics, times(1)).recordCacheMiss();
+    }
+
+    @Test
+    void getAll_ShouldReturnEmptyMapOnError() {
+        when(valueOperations.multiGet(anyList())).thenReturn(Mono.error(new RuntimeException("Redis error")));
+
+        var result = cacheAdapter.getAll(List.of("key-a"), String.class);
+
+        StepVerifier.create(result)
+                .expectNext(Map.of())
+                .verifyComplete();
+    }
+
     @Test
     void set_ShouldReturnTrueWhenSuccessful() {
         when(valueOperations.set(anyString(), any(), any(Duration.class))).thenReturn(Mono.just(true));
@@ -139,8 +204,9 @@ class RedisCacheAdapterTest {
 
     @Test
     void deleteByPattern_ShouldReturnCountOfDeletedKeys() {
-        when(redisTemplate.keys(anyString())).thenReturn(reactor.core.publisher.Flux.just("key1", "key2", "key3"));
-        when(redisTemplate.delete(anyString())).thenReturn(Mono.just(1L));
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(Flux.just("key1", "key2", "key3"));
+        when(redisTemplate.unlink("key1", "key2")).thenReturn(Mono.just(2L));
+        when(redisTemplate.unlink("key3")).thenReturn(Mono.just(1L));
 
         var result = cacheAdapter.deleteByPattern("franchise:*");
 
@@ -148,13 +214,27 @@ class RedisCacheAdapterTest {
                 .expectNext(3L)
                 .verifyComplete();
 
-        verify(redisTemplate, times(1)).keys("franchise:*");
-        verify(redisTemplate, times(3)).delete(anyString());
+        verify(redisTemplate, never()).keys(anyString());
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    void deleteByPattern_ShouldScanWithPatternAndConfiguredCount() {
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(Flux.empty());
+
+        StepVerifier.create(cacheAdapter.deleteByPattern("franchise:*"))
+                .expectNext(0L)
+                .verifyComplete();
+
+        ArgumentCaptor<ScanOptions> captor = ArgumentCaptor.forClass(ScanOptions.class);
+        verify(redisTemplate).scan(captor.capture());
+        assertEquals("franchise:*", captor.getValue().getPattern());
+        assertEquals(1000L, captor.getValue().getCount());
     }
 
     @Test
     void deleteByPattern_ShouldReturnZeroWhenNoKeysFound() {
-        when(redisTemplate.keys(anyString())).thenReturn(reactor.core.publisher.Flux.empty());
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(Flux.empty());
 
         var result = cacheAdapter.deleteByPattern("franchise:*");
 
@@ -162,20 +242,65 @@ class RedisCacheAdapterTest {
                 .expectNext(0L)
                 .verifyComplete();
 
-        verify(redisTemplate, times(1)).keys("franchise:*");
-        verify(redisTemplate, never()).delete(anyString());
+        verify(redisTemplate, never()).unlink(any(String[].class));
     }
 
     @Test
     void deleteByPattern_ShouldReturnZeroOnError() {
-        when(redisTemplate.keys(anyString())).thenReturn(reactor.core.publisher.Flux.error(new RuntimeException("Redis error")));
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(Flux.error(new RuntimeException("Redis error")));
 
         var result = cacheAdapter.deleteByPattern("franchise:*");
 
         StepVerifier.create(result)
                 .expectNext(0L)
                 .verifyComplete();
+    }
+
+    @Test
+    void increment_ShouldRefreshExpirationAndReturnNewValue() {
+        when(valueOperations.setIfAbsent(eq("franchise:franchise-id:generation"), any(), eq(Duration.ofHours(1))))
+                .thenReturn(Mono.just(false));
+        when(valueOperations.increment("franchise:franchise-id:generation")).thenReturn(Mono.just(4L));
+        when(redisTemplate.expire("franchise:franchise-id:generation", Duration.ofHours(1))).thenReturn(Mono.just(true));
+
+        var result = cacheAdapter.increment("franchise:franchise-id:generation", Duration.ofHours(1));
 
-        verify(redisTemplate, times(1)).keys("franchise:*");
+        StepVerifier.create(result)
+                .expectNext(4L)
+                .verifyComplete();
+    }
+
+    @Test
+    void increment_ShouldSeedMissingCounterWithCurrentTimeAsDigits() {
+        long before = System.currentTimeMillis();
+        when(valueOperations.setIfAbsent(eq("franchise:franchise-id:generation"), any(), eq(Duration.ofHours(1))))
+                .thenReturn(Mono.just(true));
+        when(valueOperations.increment("franchise:franchise-id:generation")).thenAnswer(invocation -> Mono.just(before + 1));
+        when(redisTemplate.expire("franchise:franchise-id:generation", Duration.ofHours(1))).thenReturn(Mono.just(true));
+
+        StepVerifier.create(cacheAdapter.increment("franchise:franchise-id:generation", Duration.ofHours(1)))
+                .expectNext(before + 1)
+                .verifyComplete();
+
+        ArgumentCaptor<Object> seed = ArgumentCaptor.forClass(Object.class);
+        InOrder inOrder = inOrder(valueOperations);
+        inOrder.verify(valueOperations).setIfAbsent(eq("franchise:franchise-id:generation"), seed.capture(), eq(Duration.ofHours(1)));
+        inOrder.verify(valueOperations).increment("franchise:franchise-id:generation");
+        EncodedValue encoded = (EncodedValue) seed.getValue();
+        long seeded = Long.parseLong(new String(encoded.bytes(), StandardCharsets.US_ASCII));
+        assertEquals(seeded, encoded.value());
+        assertTrue(seeded >= before && seeded <= System.currentTimeMillis());
+    }
+
+    @Test
+    void increment_ShouldPropagateErrors() {
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(Mono.just(false));
+        when(valueOperations.increment(anyString())).thenReturn(Mono.error(new RuntimeException("Redis error")));
+
+        var result = cacheAdapter.increment("franchise:franchise-id:generation", Duration.ofHours(1));
+
+        StepVerifier.create(result)
+                .expectError(RuntimeException.class)
+                .verify();
     }
 }
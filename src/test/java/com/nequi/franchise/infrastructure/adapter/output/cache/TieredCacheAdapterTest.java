@@ -0,0 +1,218 @@
+package com.nequi.franchise.infrastructure.adapter.output.cache;
+
+import com.nequi.franchise.infrastructure.adapter.output.cache.codec.CacheCodecRegistry;
+import com.nequi.franchise.infrastructure.adapter.output.cache.codec.EncodedValue;
+import com.nequi.franchise.infrastructure.config.CacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TieredCacheAdapterTest {
+
+    private static final String CHANNEL = "cache:invalidations";
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    @Mock
+    private RedisCacheAdapter delegate;
+
+    @Mock
+    private ReactiveStringRedisTemplate pubSubTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Sinks.Many<Object> connectionEvents;
+    private TieredCacheAdapter cacheAdapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        connectionEvents = Sinks.many().multicast().directBestEffort();
+        NearCache nearCache = new NearCache(10_000, Duration.ofSeconds(30));
+        cacheAdapter = new TieredCacheAdapter(delegate, nearCache, new CacheCodecRegistry(List.of()), pubSubTemplate,
+                connectionEvents.asFlux(), CHANNEL, new CacheMetrics(meterRegistry));
+    }
+
+    @Test
+    void get_ShouldServeRepeatedReadsFromNearCache() {
+        when(delegate.getEntry("key", String.class)).thenReturn(entry("value"));
+
+        StepVerifier.create(cacheAdapter.get("key", String.class)).expectNext("value").verifyComplete();
+        StepVerifier.create(cacheAdapter.get("key", String.class)).expectNext("value").verifyComplete();
+
+        verify(delegate, times(1)).getEntry("key", String.class);
+        assertEquals(0.5, hitRatio("near"));
+    }
+
+    @Test
+    void get_ShouldNotKeepValuesOfUnknownSizeLocally() {
+        when(delegate.getEntry("key", String.class)).thenReturn(Mono.just(new CacheEntry<>("value", -1)));
+
+        StepVerifier.create(cacheAdapter.get("key", String.class)).expectNext("value").verifyComplete();
+        StepVerifier.create(cacheAdapter.get("key", String.class)).expectNext("value").verifyComplete();
+
+        verify(delegate, times(2)).getEntry("key", String.class);
+    }
+
+    @Test
+    void getAll_ShouldOnlyReadNearCacheMissesFromRedis() {
+        when(delegate.getEntry("a", String.class)).thenReturn(entry("value-a"));
+        when(delegate.getEntries(List.of("b", "c"), String.class))
+                .thenReturn(Mono.just(Map.of("b", new CacheEntry<>("value-b", 7))));
+
+        StepVerifier.create(cacheAdapter.get("a", String.class)).expectNext("value-a").verifyComplete();
+        StepVerifier.create(cacheAdapter.getAll(List.of("a", "b", "c"), String.class))
+                .assertNext(values -> {
+                    assertEquals(Map.of("a", "value-a", "b", "value-b"), values);
+                    assertEquals(List.of("a", "b"), List.copyOf(values.keySet()));
+                })
+                .verifyComplete();
+        StepVerifier.create(cacheAdapter.get("b", String.class)).expectNext("value-b").verifyComplete();
+
+        verify(delegate, never()).getEntry("b", String.class);
+    }
+
+    @Test
+    void set_ShouldKeepWrittenValueLocallyAndPublishInvalidation() {
+        when(delegate.set(eq("key"), any(EncodedValue.class), eq(TTL))).thenReturn(Mono.just(true));
+        when(pubSubTemplate.convertAndSend(eq(CHANNEL), anyString())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(cacheAdapter.set("key", "value", TTL)).expectNext(true).verifyComplete();
+        StepVerifier.create(cacheAdapter.get("key", String.class)).expectNext("value").verifyComplete();
+
+        CacheInvalidation published = publishedInvalidation();
+        assertEquals(List.of("key"), published.keys());
+        verify(delegate, never()).getEntry(anyString(), any());
+
+        // The instance's own message comes back through the channel and must not drop its fresh entry.
+        cacheAdapter.apply(published);
+        StepVerifier.create(cacheAdapter.get("key", String.class)).expectNext("value").verifyComplete();
+    }
+
+    @Test
+    void set_ShouldEncodeTheValueOnceForRedis() {
+        when(delegate.set(eq("key"), any(EncodedValue.class), eq(TTL))).thenReturn(Mono.just(true));
+        when(pubSubTemplate.convertAndSend(eq(CHANNEL), anyString())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(cacheAdapter.set("key", "value", TTL)).expectNext(true).verifyComplete();
+
+        ArgumentCaptor<EncodedValue> written = ArgumentCaptor.forClass(EncodedValue.class);
+        verify(delegate).set(eq("key"), written.capture(), eq(TTL));
+        assertEquals("value", written.getValue().value());
+        assertArrayEquals(new CacheCodecRegistry(List.of()).encode("value"), written.getValue().bytes());
+    }
+
+    @Test
+    void set_ShouldSucceedWhenPublishingFails() {
+        when(delegate.set(eq("key"), any(EncodedValue.class), eq(TTL))).thenReturn(Mono.just(true));
+        when(pubSubTemplate.convertAndSend(eq(CHANNEL), anyString()))
+                .thenReturn(Mono.error(new RuntimeException("Redis down")));
+
+        StepVerifier.create(cacheAdapter.set("key", "value", TTL)).expectNext(true).verifyComplete();
+    }
+
+    @Test
+    void apply_ShouldDropKeysInvalidatedByAnotherInstance() {
+        when(delegate.getEntry("key", String.class)).thenReturn(entry("old"), entry("new"));
+
+        StepVerifier.create(cacheAdapter.get("key", String.class)).expectNext("old").verifyComplete();
+        cacheAdapter.apply(new CacheInvalidation("other-instance", List.of("key")));
+        StepVerifier.create(cacheAdapter.get("key", String.class)).expectNext("new").verifyComplete();
+
+        verify(delegate, times(2)).getEntry("key", String.class);
+    }
+
+    @Test
+    void connectionEvent_ShouldClearNearCache() {
+        when(pubSubTemplate.listenToChannel(CHANNEL)).thenReturn(Flux.never());
+        when(delegate.getEntry("key", String.class)).thenReturn(entry("old"), entry("new"));
+        cacheAdapter.afterPropertiesSet();
+
+        StepVerifier.create(cacheAdapter.get("key", String.class)).expectNext("old").verifyComplete();
+        connectionEvents.tryEmitNext(new Object());
+        StepVerifier.create(cacheAdapter.get("key", String.class)).expectNext("new").verifyComplete();
+
+        cacheAdapter.destroy();
+        verify(delegate, times(2)).getEntry("key", String.class);
+    }
+
+    @Test
+    void deleteAll_ShouldInvalidateLocallyAndPublishKeys() {
+        when(delegate.getEntry("key", String.class)).thenReturn(entry("value"), Mono.empty());
+        when(delegate.deleteAll(List.of("key"))).thenReturn(Mono.just(1L));
+        when(pubSubTemplate.convertAndSend(eq(CHANNEL), anyString())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(cacheAdapter.get("key", String.class)).expectNext("value").verifyComplete();
+        StepVerifier.create(cacheAdapter.deleteAll(List.of("key"))).expectNext(1L).verifyComplete();
+        StepVerifier.create(cacheAdapter.get("key", String.class)).verifyComplete();
+
+        assertEquals(List.of("key"), publishedInvalidation().keys());
+    }
+
+    @Test
+    void get_ShouldServeGenerationCountersFromNearCache() {
+        when(delegate.getEntry("franchise:franchise-id:generation", Long.class))
+                .thenReturn(Mono.just(new CacheEntry<>(1700000000001L, 13)));
+
+        StepVerifier.create(cacheAdapter.get("franchise:franchise-id:generation", Long.class))
+                .expectNext(1700000000001L)
+                .verifyComplete();
+        StepVerifier.create(cacheAdapter.get("franchise:franchise-id:generation", Long.class))
+                .expectNext(1700000000001L)
+                .verifyComplete();
+
+        verify(delegate, times(1)).getEntry("franchise:franchise-id:generation", Long.class);
+    }
+
+    @Test
+    void increment_ShouldDropLocalCounterAndPublishIt() {
+        when(delegate.getEntry("counter", Long.class)).thenReturn(entry(1L), entry(2L));
+        when(delegate.increment("counter", TTL)).thenReturn(Mono.just(2L));
+        when(pubSubTemplate.convertAndSend(eq(CHANNEL), anyString())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(cacheAdapter.get("counter", Long.class)).expectNext(1L).verifyComplete();
+        StepVerifier.create(cacheAdapter.increment("counter", TTL)).expectNext(2L).verifyComplete();
+        StepVerifier.create(cacheAdapter.get("counter", Long.class)).expectNext(2L).verifyComplete();
+
+        assertEquals(List.of("counter"), publishedInvalidation().keys());
+    }
+
+    @Test
+    void parse_ShouldRoundTripInvalidationMessages() {
+        CacheInvalidation keys = new CacheInvalidation("origin", List.of("franchise:a", "franchise:b"));
+
+        assertEquals(keys, CacheInvalidation.parse(keys.encode()));
+        assertEquals(CacheInvalidation.all("origin"), CacheInvalidation.parse(CacheInvalidation.all("origin").encode()));
+    }
+
+    private static <T> Mono<CacheEntry<T>> entry(T value) {
+        return Mono.just(new CacheEntry<>(value, 16));
+    }
+
+    private CacheInvalidation publishedInvalidation() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(pubSubTemplate).convertAndSend(eq(CHANNEL), captor.capture());
+        return CacheInvalidation.parse(captor.getValue());
+    }
+
+    private double hitRatio(String cache) {
+        return meterRegistry.get("cache.hit.ratio").tag("cache", cache).gauge().value();
+    }
+}
@@ -0,0 +1,135 @@
+package com.nequi.franchise.infrastructure.adapter.output.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nequi.franchise.infrastructure.adapter.output.cache.CachedFranchise;
+import com.nequi.franchise.infrastructure.adapter.output.cache.CachedFranchise.CachedBranch;
+import com.nequi.franchise.infrastructure.adapter.output.cache.CachedFranchise.CachedProduct;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheCodecRegistryTest {
+
+    private final CacheCodecRegistry registry = new CacheCodecRegistry(List.of(new CachedFranchiseCodec()));
+
+    private final CachedFranchise franchise = new CachedFranchise(
+            "0f8fad5b-d9cb-469f-a165-70867728950e",
+            "Test Franchise",
+            3L,
+            List.of(
+                    new CachedBranch("branch-id", "Downtown", List.of(
+                            new CachedProduct("7c9e6679-7425-40de-944b-e07fc1f90ae7", "Classic", 10),
+                            new CachedProduct("product-2", "Downtown", null))),
+                    new CachedBranch("9a3c4b1e-0000-4000-8000-000000000001", "Uptown", List.of())));
+
+    @Test
+    void encode_ShouldRoundTripCachedFranchiseWithTypeIdAndSchemaVersion() {
+        byte[] encoded = registry.encode(franchise);
+
+        assertEquals(CacheCodecRegistry.MAGIC, encoded[0]);
+        assertEquals(CachedFranchiseCodec.TYPE_ID, encoded[1]);
+        assertEquals(CachedFranchiseCodec.SCHEMA_VERSION, encoded[2]);
+        assertEquals(franchise, registry.decode(encoded));
+    }
+
+    @Test
+    void encode_ShouldKeepMissingVersionAndEmptyBranches() {
+        CachedFranchise unsaved = new CachedFranchise("franchise-id", "New", null, List.of());
+
+        assertEquals(unsaved, registry.decode(registry.encode(unsaved)));
+    }
+
+    @Test
+    void encode_ShouldKeepStockAtTheEdgesOfTheIntRange() {
+        CachedFranchise edges = new CachedFranchise("franchise-id", "Edges", 1L, List.of(
+                new CachedBranch("branch-id", "Downtown", List.of(
+                        new CachedProduct("product-1", "Max", Integer.MAX_VALUE),
+                        new CachedProduct("product-2", "Zero", 0)))));
+
+        assertEquals(edges, registry.decode(registry.encode(edges)));
+    }
+
+    @Test
+    void encode_ShouldBeSmallerThanJson() throws Exception {
+        byte[] json = new ObjectMapper().writeValueAsBytes(franchise);
+
+        assertTrue(registry.encode(franchise).length < json.length / 2);
+    }
+
+    @Test
+    void encode_ShouldFallBackToJsonForTypesWithoutCodec() {
+        byte[] encoded = registry.encode(Map.of("name", "value"));
+
+        assertEquals(CacheCodecRegistry.JSON_TYPE_ID, encoded[1]);
+        assertEquals(Map.of("name", "value"), registry.decode(encoded));
+    }
+
+    @Test
+    void decode_ShouldReadValuesWrittenBeforeTheEnvelope() {
+        byte[] legacy = "{\"id\":\"franchise-id\",\"name\":\"Old\"}".getBytes();
+
+        assertEquals(Map.of("id", "franchise-id", "name", "Old"), registry.decode(legacy));
+    }
+
+    @Test
+    void decode_ShouldRejectUnknownSchemaVersion() {
+        byte[] encoded = registry.encode(franchise);
+        encoded[2] = (byte) (CachedFranchiseCodec.SCHEMA_VERSION + 1);
+
+        assertThrows(IllegalStateException.class, () -> registry.decode(encoded));
+    }
+
+    @Test
+    void decode_ShouldRejectUnknownTypeId() {
+        byte[] encoded = registry.encode(franchise);
+        encoded[1] = 99;
+
+        assertThrows(IllegalStateException.class, () -> registry.decode(encoded));
+    }
+
+    @Test
+    void decode_ShouldRejectTruncatedPayload() {
+        byte[] encoded = registry.encode(franchise);
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 5);
+
+        assertThrows(IllegalStateException.class, () -> registry.decode(truncated));
+    }
+
+    @Test
+    void constructor_ShouldRejectDuplicateTypeIds() {
+        CacheCodec<String> clashing = new CacheCodec<>() {
+            @Override
+            public Class<String> type() {
+                return String.class;
+            }
+
+            @Override
+            public byte typeId() {
+                return CachedFranchiseCodec.TYPE_ID;
+            }
+
+            @Override
+            public byte schemaVersion() {
+                return 1;
+            }
+
+            @Override
+            public byte[] encode(String value) {
+                return value.getBytes();
+            }
+
+            @Override
+            public String decode(ByteBuffer payload, byte schemaVersion) {
+                return "";
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new CacheCodecRegistry(List.of(new CachedFranchiseCodec(), clashing)));
+    }
+}
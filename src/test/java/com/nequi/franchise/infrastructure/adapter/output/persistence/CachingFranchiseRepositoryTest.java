@@ -0,0 +1,250 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence;
+
+import com.nequi.franchise.domain.model.Branch;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.domain.model.Product;
+import com.nequi.franchise.domain.model.StockUpdate;
+import com.nequi.franchise.domain.port.output.CachePort;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import com.nequi.franchise.infrastructure.adapter.output.cache.CachedFranchise;
+import com.nequi.franchise.infrastructure.config.CacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingFranchiseRepositoryTest {
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+    private static final Duration GENERATION_TTL = Duration.ofMinutes(60);
+    private static final String GENERATION_KEY = "franchise:franchise-id:generation";
+
+    @Mock
+    private FranchiseRepositoryPort delegate;
+
+    @Mock
+    private CachePort cachePort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingFranchiseRepository repository;
+    private Franchise franchise;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingFranchiseRepository(delegate, cachePort, new CacheMetrics(meterRegistry), TTL);
+        Branch branch = Branch.builder()
+                .id("branch-id")
+                .name("Downtown")
+                .products(new ArrayList<>(List.of(Product.builder().id("product-id").name("Classic").stock(10).build())))
+                .build();
+        franchise = Franchise.builder()
+                .id("franchise-id")
+                .name("Test Franchise")
+                .branches(new ArrayList<>(List.of(branch)))
+                .version(3L)
+                .build();
+    }
+
+    @Test
+    void findById_ShouldServeHitAtCurrentGenerationWithoutTouchingTheDelegate() {
+        when(cachePort.get(GENERATION_KEY, Long.class)).thenReturn(Mono.just(7L));
+        when(cachePort.get("franchise:franchise-id:g7", CachedFranchise.class))
+                .thenReturn(Mono.just(CachedFranchise.of(franchise)));
+
+        StepVerifier.create(repository.findById("franchise-id"))
+                .assertNext(found -> {
+                    assertEquals(3L, found.getVersion());
+                    assertEquals("Classic", found.findBranch("branch-id").findProduct("product-id").getName());
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(delegate);
+        assertEquals(1.0, requests("hit"));
+    }
+
+    @Test
+    void findById_ShouldFillCacheOnMissUnderTheGenerationReadBeforeLoading() {
+        when(cachePort.get(GENERATION_KEY, Long.class)).thenReturn(Mono.just(7L));
+        when(cachePort.get("franchise:franchise-id:g7", CachedFranchise.class)).thenReturn(Mono.empty());
+        when(delegate.findById("franchise-id")).thenReturn(Mono.just(franchise));
+        when(cachePort.set(eq("franchise:franchise-id:g7"), any(CachedFranchise.class), eq(TTL)))
+                .thenReturn(Mono.just(true));
+
+        StepVerifier.create(repository.findById("franchise-id"))
+                .expectNext(franchise)
+                .verifyComplete();
+
+        assertEquals(CachedFranchise.of(franchise), cachedValue("franchise:franchise-id:g7"));
+        assertEquals(1.0, requests("miss"));
+        verify(cachePort, never()).increment(anyString(), any(Duration.class));
+    }
+
+    @Test
+    void findById_ShouldCreateGenerationWhenThereIsNone() {
+        when(cachePort.get(GENERATION_KEY, Long.class)).thenReturn(Mono.empty());
+        when(cachePort.increment(GENERATION_KEY, GENERATION_TTL)).thenReturn(Mono.just(1L));
+        when(cachePort.get("franchise:franchise-id:g1", CachedFranchise.class)).thenReturn(Mono.empty());
+        when(delegate.findById("franchise-id")).thenReturn(Mono.just(franchise));
+        when(cachePort.set(eq("franchise:franchise-id:g1"), any(CachedFranchise.class), eq(TTL)))
+                .thenReturn(Mono.just(true));
+
+        StepVerifier.create(repository.findById("franchise-id"))
+                .expectNext(franchise)
+                .verifyComplete();
+    }
+
+    @Test
+    void findById_ShouldBypassCacheWhenNoGenerationCanBeObtained() {
+        when(cachePort.get(GENERATION_KEY, Long.class)).thenReturn(Mono.error(new RuntimeException("Redis down")));
+        when(cachePort.increment(GENERATION_KEY, GENERATION_TTL)).thenReturn(Mono.error(new RuntimeException("Redis down")));
+        when(delegate.findById("franchise-id")).thenReturn(Mono.just(franchise));
+
+        StepVerifier.create(repository.findById("franchise-id"))
+                .expectNext(franchise)
+                .verifyComplete();
+
+        verify(cachePort, never()).set(anyString(), any(), any(Duration.class));
+        verify(delegate, times(1)).findById("franchise-id");
+    }
+
+    @Test
+    void findById_ShouldFallBackToDelegateWhenCacheFails() {
+        when(cachePort.get(GENERATION_KEY, Long.class)).thenReturn(Mono.just(7L));
+        when(cachePort.get("franchise:franchise-id:g7", CachedFranchise.class))
+                .thenReturn(Mono.error(new RuntimeException("Redis down")));
+        when(delegate.findById("franchise-id")).thenReturn(Mono.just(franchise));
+        when(cachePort.set(anyString(), any(), any(Duration.class))).thenReturn(Mono.error(new RuntimeException("Redis down")));
+
+        StepVerifier.create(repository.findById("franchise-id"))
+                .expectNext(franchise)
+                .verifyComplete();
+    }
+
+    @Test
+    void findAllByIds_ShouldOnlyLoadMisses() {
+        Franchise stored = Franchise.builder().id("stored-id").name("Stored").branches(new ArrayList<>()).version(1L).build();
+        when(cachePort.getAll(List.of(GENERATION_KEY, "franchise:stored-id:generation"), Long.class))
+                .thenReturn(Mono.just(Map.of(GENERATION_KEY, 7L, "franchise:stored-id:generation", 2L)));
+        when(cachePort.getAll(anyList(), eq(CachedFranchise.class)))
+                .thenReturn(Mono.just(Map.of("franchise:franchise-id:g7", CachedFranchise.of(franchise))));
+        when(delegate.findAllByIds(List.of("stored-id"))).thenReturn(Flux.just(stored));
+        when(cachePort.set(eq("franchise:stored-id:g2"), any(CachedFranchise.class), eq(TTL))).thenReturn(Mono.just(true));
+
+        StepVerifier.create(repository.findAllByIds(List.of("franchise-id", "stored-id", "franchise-id")))
+                .expectNextMatches(found -> found.getId().equals("franchise-id"))
+                .expectNext(stored)
+                .verifyComplete();
+
+        assertEquals(1.0, requests("hit"));
+        assertEquals(1.0, requests("miss"));
+    }
+
+    @Test
+    void update_ShouldOnlyBumpGenerationAfterFullWrite() {
+        when(delegate.update(eq("franchise-id"), any())).thenReturn(Mono.just(franchise));
+        when(cachePort.increment(GENERATION_KEY, GENERATION_TTL)).thenReturn(Mono.just(8L));
+
+        StepVerifier.create(repository.update("franchise-id", FranchiseProjection.full(), f -> { }))
+                .expectNext(franchise)
+                .verifyComplete();
+
+        verify(cachePort, never()).set(anyString(), any(), any(Duration.class));
+        verify(cachePort, never()).deleteAll(anyList());
+    }
+
+    @Test
+    void update_ShouldServeLatestCommitWhenWritersBumpOutOfCommitOrder() {
+        Franchise older = franchise.toBuilder().version(4L).build();
+        Franchise newer = franchise.toBuilder().version(5L).build();
+        when(delegate.update(eq("franchise-id"), any())).thenReturn(Mono.just(older), Mono.just(newer));
+        // The writer that committed version 4 reaches Redis last and gets the newest generation.
+        when(cachePort.increment(GENERATION_KEY, GENERATION_TTL)).thenReturn(Mono.just(9L), Mono.just(8L));
+        when(cachePort.get(GENERATION_KEY, Long.class)).thenReturn(Mono.just(9L));
+        when(cachePort.get("franchise:franchise-id:g9", CachedFranchise.class)).thenReturn(Mono.empty());
+        when(delegate.findById("franchise-id")).thenReturn(Mono.just(newer));
+        when(cachePort.set(eq("franchise:franchise-id:g9"), any(CachedFranchise.class), eq(TTL)))
+                .thenReturn(Mono.just(true));
+
+        StepVerifier.create(repository.update("franchise-id", FranchiseProjection.full(), f -> { }))
+                .expectNext(older)
+                .verifyComplete();
+        StepVerifier.create(repository.update("franchise-id", FranchiseProjection.full(), f -> { }))
+                .expectNext(newer)
+                .verifyComplete();
+        StepVerifier.create(repository.findById("franchise-id"))
+                .assertNext(found -> assertEquals(5L, found.getVersion()))
+                .verifyComplete();
+
+        assertEquals(5L, cachedValue("franchise:franchise-id:g9").version());
+    }
+
+    @Test
+    void update_ShouldOnlyBumpGenerationWhenPartOfTheAggregateWasLoaded() {
+        when(delegate.update(eq("franchise-id"), eq(FranchiseProjection.header()), any())).thenReturn(Mono.just(franchise));
+        when(cachePort.increment(GENERATION_KEY, GENERATION_TTL)).thenReturn(Mono.just(8L));
+
+        StepVerifier.create(repository.update("franchise-id", FranchiseProjection.header(), f -> { }))
+                .expectNext(franchise)
+                .verifyComplete();
+
+        verify(cachePort, never()).set(anyString(), any(), any(Duration.class));
+        verify(cachePort, never()).deleteAll(anyList());
+    }
+
+    @Test
+    void updateProductStock_ShouldKeepResultWhenBumpFails() {
+        StockUpdate stockUpdate = StockUpdate.builder()
+                .franchiseId("franchise-id")
+                .branchId("branch-id")
+                .productId("product-id")
+                .stock(5)
+                .version(4L)
+                .build();
+        when(delegate.updateProductStock("franchise-id", "branch-id", "product-id", 5)).thenReturn(Mono.just(stockUpdate));
+        when(cachePort.increment(GENERATION_KEY, GENERATION_TTL)).thenReturn(Mono.error(new RuntimeException("Redis down")));
+
+        StepVerifier.create(repository.updateProductStock("franchise-id", "branch-id", "product-id", 5))
+                .expectNext(stockUpdate)
+                .verifyComplete();
+    }
+
+    @Test
+    void delete_ShouldBumpGenerationAfterDelegateDeletes() {
+        when(delegate.delete("franchise-id", 3L)).thenReturn(Mono.empty());
+        when(cachePort.increment(GENERATION_KEY, GENERATION_TTL)).thenReturn(Mono.just(8L));
+
+        StepVerifier.create(repository.delete("franchise-id", 3L))
+                .verifyComplete();
+
+        verify(cachePort, times(1)).increment(GENERATION_KEY, GENERATION_TTL);
+        verify(cachePort, never()).deleteAll(anyList());
+    }
+
+    private CachedFranchise cachedValue(String key) {
+        ArgumentCaptor<CachedFranchise> captor = ArgumentCaptor.forClass(CachedFranchise.class);
+        verify(cachePort).set(eq(key), captor.capture(), eq(TTL));
+        return captor.getValue();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("cache.franchise.requests").tag("result", result).counter().count();
+    }
+}
@@ -1,28 +1,59 @@
 package com.nequi.franchise.infrastructure.adapter.output.persistence;
 
+import com.nequi.franchise.domain.exception.OptimisticLockException;
+import com.nequi.franchise.domain.model.Branch;
 import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.codec.BranchesCodec;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
 import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
 import com.nequi.franchise.infrastructure.adapter.output.persistence.mapper.FranchiseMapper;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.retry.DynamoDBRetryPolicy;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.scan.ScanSettings;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class DynamoDBFranchiseAdapterTest {
 
+    @Mock
+    private DynamoDbAsyncClient dynamoDbAsyncClient;
+
     @Mock
     private DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient;
 
@@ -42,7 +73,8 @@ class DynamoDBFranchiseAdapterTest {
         when(dynamoDbEnhancedAsyncClient.table(anyString(), any(TableSchema.class)))
                 .thenReturn(franchiseTable);
 
-        adapter = new DynamoDBFranchiseAdapter(dynamoDbEnhancedAsyncClient, franchiseMapper, "test-table");
+        adapter = new DynamoDBFranchiseAdapter(dynamoDbAsyncClient, dynamoDbEnhancedAsyncClient, franchiseMapper,
+                new DynamoDBMetrics(new SimpleMeterRegistry()), new ScanSettings(8, 4, 0), retryPolicy(), "test-table", false, true, 358400);
 
         franchise = Franchise.builder()
                 .id("test-id")
@@ -60,18 +92,140 @@ class DynamoDBFranchiseAdapterTest {
     @Test
     void save_ShouldSaveFranchiseSuccessfully() {
         when(franchiseMapper.toEntity(any(Franchise.class))).thenReturn(franchiseEntity);
-        when(franchiseMapper.toDomain(any(FranchiseEntity.class))).thenReturn(franchise);
-        when(franchiseTable.putItem(any(FranchiseEntity.class)))
+        when(franchiseTable.putItem(any(PutItemEnhancedRequest.class)))
                 .thenReturn(CompletableFuture.completedFuture(null));
 
         var result = adapter.save(franchise);
 
         StepVerifier.create(result)
-                .expectNext(franchise)
+                .expectNextMatches(saved -> saved.getVersion() == 1L)
                 .verifyComplete();
 
         verify(franchiseMapper, times(1)).toEntity(franchise);
-        verify(franchiseTable, times(1)).putItem(franchiseEntity);
+        verify(franchiseTable, times(1)).putItem(any(PutItemEnhancedRequest.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void save_ShouldStoreBranchesInBinaryFormWhenCompressionEnabled() {
+        DynamoDBFranchiseAdapter compressing = new DynamoDBFranchiseAdapter(dynamoDbAsyncClient, dynamoDbEnhancedAsyncClient,
+                franchiseMapper, new DynamoDBMetrics(new SimpleMeterRegistry()), new ScanSettings(8, 4, 0), retryPolicy(), "test-table", true, true, 358400);
+        List<BranchEntity> branches = List.of(BranchEntity.builder().id("branch-1").name("Downtown").build());
+        franchiseEntity.setBranches(new ArrayList<>(branches));
+        when(franchiseMapper.toEntity(any(Franchise.class))).thenReturn(franchiseEntity);
+        when(franchiseTable.putItem(any(PutItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        StepVerifier.create(compressing.save(franchise))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        ArgumentCaptor<PutItemEnhancedRequest<FranchiseEntity>> captor = ArgumentCaptor.forClass(PutItemEnhancedRequest.class);
+        verify(franchiseTable).putItem(captor.capture());
+        FranchiseEntity stored = captor.getValue().item();
+        assertNull(stored.getBranches());
+        assertEquals(branches, BranchesCodec.decode(stored.getBranchesBin().asByteArray()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void save_ShouldSendVersionConditionAndBumpStoredVersion() {
+        Franchise persisted = Franchise.builder()
+                .id("test-id")
+                .name("Test Franchise")
+                .version(4L)
+                .build();
+        when(franchiseMapper.toEntity(any(Franchise.class))).thenReturn(franchiseEntity);
+        when(franchiseTable.putItem(any(PutItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        StepVerifier.create(adapter.save(persisted))
+                .expectNextMatches(saved -> saved.getVersion() == 5L)
+                .verifyComplete();
+
+        ArgumentCaptor<PutItemEnhancedRequest<FranchiseEntity>> captor = ArgumentCaptor.forClass(PutItemEnhancedRequest.class);
+        verify(franchiseTable).putItem(captor.capture());
+        PutItemEnhancedRequest<FranchiseEntity> request = captor.getValue();
+
+        assertEquals(5L, request.item().getVersion());
+        assertEquals("#version = :expectedVersion", request.conditionExpression().expression());
+        assertEquals("4", request.conditionExpression().expressionValues().get(":expectedVersion").n());
+    }
+
+    @Test
+    void save_ShouldFailWithOptimisticLockWhenVersionChanged() {
+        when(franchiseMapper.toEntity(any(Franchise.class))).thenReturn(franchiseEntity);
+        when(franchiseTable.putItem(any(PutItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(conditionalCheckFailed()));
+
+        StepVerifier.create(adapter.save(franchise))
+                .expectError(OptimisticLockException.class)
+                .verify();
+
+        assertEquals(0L, franchise.getVersion());
+    }
+
+    @Test
+    void update_ShouldReplayMutationOnFreshAggregateAfterConflict() {
+        Franchise stale = Franchise.builder()
+                .id("test-id")
+                .name("Test Franchise")
+                .version(1L)
+                .build();
+        Franchise fresh = Franchise.builder()
+                .id("test-id")
+                .name("Test Franchise")
+                .branches(new ArrayList<>(List.of(Branch.builder().id("concurrent-branch").name("Concurrent").build())))
+                .version(2L)
+                .build();
+
+        when(franchiseTable.getItem(any(Key.class)))
+                .thenReturn(CompletableFuture.completedFuture(franchiseEntity));
+        when(franchiseMapper.toDomain(any(FranchiseEntity.class))).thenReturn(stale, fresh);
+        when(franchiseMapper.toEntity(any(Franchise.class))).thenReturn(franchiseEntity);
+        when(franchiseTable.putItem(any(PutItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(conditionalCheckFailed()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        var result = adapter.update("test-id", franchise ->
+                franchise.addBranch(Branch.builder().id("new-branch").name("New Branch").build()));
+
+        StepVerifier.create(result)
+                .expectNextMatches(saved -> saved == fresh
+                        && saved.getBranchCount() == 2
+                        && saved.getVersion() == 3L)
+                .verifyComplete();
+
+        verify(franchiseTable, times(2)).getItem(any(Key.class));
+        verify(franchiseTable, times(2)).putItem(any(PutItemEnhancedRequest.class));
+    }
+
+    @Test
+    void update_ShouldGiveUpAfterMaxAttempts() {
+        when(franchiseTable.getItem(any(Key.class)))
+                .thenReturn(CompletableFuture.completedFuture(franchiseEntity));
+        when(franchiseMapper.toDomain(any(FranchiseEntity.class)))
+                .thenAnswer(invocation -> Franchise.builder().id("test-id").name("Test Franchise").build());
+        when(franchiseMapper.toEntity(any(Franchise.class))).thenReturn(franchiseEntity);
+        when(franchiseTable.putItem(any(PutItemEnhancedRequest.class)))
+                .thenAnswer(invocation -> CompletableFuture.failedFuture(conditionalCheckFailed()));
+
+        StepVerifier.create(adapter.update("test-id", franchise -> franchise.updateName("Renamed")))
+                .expectError(OptimisticLockException.class)
+                .verify();
+
+        verify(franchiseTable, times(3)).putItem(any(PutItemEnhancedRequest.class));
+    }
+
+    @Test
+    void update_ShouldReturnEmptyWhenFranchiseDoesNotExist() {
+        when(franchiseTable.getItem(any(Key.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        StepVerifier.create(adapter.update("missing-id", franchise -> franchise.updateName("Renamed")))
+                .verifyComplete();
+
+        verify(franchiseTable, never()).putItem(any(PutItemEnhancedRequest.class));
     }
 
     @Test
@@ -90,6 +244,66 @@ class DynamoDBFranchiseAdapterTest {
         verify(franchiseMapper, times(1)).toDomain(franchiseEntity);
     }
 
+    @Test
+    void findAllByIds_ShouldRetryUnprocessedKeys() {
+        FranchiseEntity otherEntity = FranchiseEntity.builder()
+                .id("other-id")
+                .name("Other Franchise")
+                .branches(new ArrayList<>())
+                .build();
+        Key otherKey = Key.builder().partitionValue("other-id").build();
+
+        BatchGetResultPage firstPage = mock(BatchGetResultPage.class);
+        when(firstPage.resultsForTable(franchiseTable)).thenReturn(List.of(franchiseEntity));
+        when(firstPage.unprocessedKeysForTable(franchiseTable)).thenReturn(List.of(otherKey));
+        BatchGetResultPage secondPage = mock(BatchGetResultPage.class);
+        when(secondPage.resultsForTable(franchiseTable)).thenReturn(List.of(otherEntity));
+        when(secondPage.unprocessedKeysForTable(franchiseTable)).thenReturn(List.of());
+
+        when(franchiseTable.tableName()).thenReturn("test-table");
+        when(dynamoDbEnhancedAsyncClient.batchGetItem(any(BatchGetItemEnhancedRequest.class)))
+                .thenReturn(BatchGetResultPagePublisher.create(SdkPublisher.adapt(Flux.just(firstPage))))
+                .thenReturn(BatchGetResultPagePublisher.create(SdkPublisher.adapt(Flux.just(secondPage))));
+        when(franchiseMapper.toDomain(any(FranchiseEntity.class)))
+                .thenAnswer(invocation -> {
+                    FranchiseEntity entity = invocation.getArgument(0);
+                    return Franchise.builder().id(entity.getId()).name(entity.getName()).build();
+                });
+
+        StepVerifier.create(adapter.findAllByIds(List.of("test-id", "other-id", "test-id")))
+                .expectNextMatches(found -> found.getId().equals("test-id"))
+                .expectNextMatches(found -> found.getId().equals("other-id"))
+                .verifyComplete();
+
+        verify(dynamoDbEnhancedAsyncClient, times(2)).batchGetItem(any(BatchGetItemEnhancedRequest.class));
+        verify(franchiseTable, never()).getItem(any(Key.class));
+    }
+
+    @Test
+    void saveAll_ShouldWriteInBatchesOfTwentyFiveWithoutConditions() {
+        List<Franchise> franchises = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            franchises.add(Franchise.builder().id("id-" + i).name("Franchise " + i).build());
+        }
+        BatchWriteResult result = mock(BatchWriteResult.class);
+        when(result.unprocessedPutItemsForTable(franchiseTable)).thenReturn(List.of());
+        when(result.unprocessedDeleteItemsForTable(franchiseTable)).thenReturn(List.of());
+        when(franchiseTable.tableName()).thenReturn("test-table");
+        when(franchiseMapper.toEntity(any(Franchise.class))).thenAnswer(invocation -> FranchiseEntity.builder()
+                .id(invocation.<Franchise>getArgument(0).getId())
+                .branches(new ArrayList<>())
+                .build());
+        when(dynamoDbEnhancedAsyncClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(result));
+
+        StepVerifier.create(adapter.saveAll(franchises))
+                .verifyComplete();
+
+        verify(dynamoDbEnhancedAsyncClient, times(2)).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+        verify(franchiseTable, never()).putItem(any(PutItemEnhancedRequest.class));
+        franchises.forEach(saved -> assertEquals(1L, saved.getVersion()));
+    }
+
     @Test
     void delete_ShouldDeleteFranchise() {
         when(franchiseTable.deleteItem(any(Key.class)))
@@ -102,4 +316,47 @@ class DynamoDBFranchiseAdapterTest {
 
         verify(franchiseTable, times(1)).deleteItem(any(Key.class));
     }
+
+    @Test
+    void updateWithHeaderProjection_ShouldProjectHeaderAndLeaveBranchesUntouched() {
+        @SuppressWarnings("unchecked")
+        PagePublisher<FranchiseEntity> headerResult = mock(PagePublisher.class);
+        FranchiseEntity header = FranchiseEntity.builder().id("test-id").name("Test Franchise").version(4L).build();
+        when(franchiseTable.query(any(QueryEnhancedRequest.class))).thenReturn(headerResult);
+        when(headerResult.items()).thenReturn(SdkPublisher.adapt(Flux.just(header)));
+        when(franchiseMapper.toDomain(header)).thenReturn(Franchise.builder()
+                .id("test-id")
+                .name("Test Franchise")
+                .version(4L)
+                .build());
+        when(dynamoDbAsyncClient.updateItem(any(UpdateItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(UpdateItemResponse.builder().build()));
+
+        StepVerifier.create(adapter.update("test-id", FranchiseProjection.header(), f -> f.updateName("Renamed")))
+                .expectNextMatches(updated -> updated.getVersion() == 5L && updated.getName().equals("Renamed"))
+                .verifyComplete();
+
+        ArgumentCaptor<QueryEnhancedRequest> queryCaptor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+        verify(franchiseTable).query(queryCaptor.capture());
+        assertEquals(List.of("id", "name", "version"), queryCaptor.getValue().attributesToProject());
+
+        ArgumentCaptor<UpdateItemRequest> updateCaptor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbAsyncClient).updateItem(updateCaptor.capture());
+        assertEquals("SET #name = :name, #listSortKey = :listSortKey, #version = :nextVersion",
+                updateCaptor.getValue().updateExpression());
+        assertEquals("4", updateCaptor.getValue().expressionAttributeValues().get(":expectedVersion").n());
+        verify(franchiseTable, never()).getItem(any(Key.class));
+        verify(franchiseTable, never()).putItem(any(PutItemEnhancedRequest.class));
+    }
+
+    private ConditionalCheckFailedException conditionalCheckFailed() {
+        return ConditionalCheckFailedException.builder()
+                .message("The conditional request failed")
+                .build();
+    }
+
+    private static DynamoDBRetryPolicy retryPolicy() {
+        return new DynamoDBRetryPolicy(new DynamoDBMetrics(new SimpleMeterRegistry()), 3, Duration.ofMillis(1),
+                Duration.ofMillis(1), Duration.ofMillis(10), 500);
+    }
 }
@@ -0,0 +1,239 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence;
+
+import com.nequi.franchise.domain.model.Product;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.codec.BranchesCodec;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEventEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.eventlog.FranchiseChanges;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.mapper.BranchMapperImpl;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.mapper.FranchiseMapperImpl;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.mapper.ProductMapperImpl;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.retry.DynamoDBRetryPolicy;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventSourcedFranchiseAdapterTest {
+
+    private static final String FRANCHISE_ID = "franchise-1";
+    private static final int SNAPSHOT_EVERY = 3;
+
+    @Mock
+    private DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient;
+
+    @Mock
+    private DynamoDbAsyncTable<FranchiseEventEntity> eventsTable;
+
+    @Mock
+    private PagePublisher<FranchiseEventEntity> queryResult;
+
+    private EventSourcedFranchiseAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        when(dynamoDbEnhancedAsyncClient.table(anyString(), any(TableSchema.class)))
+                .thenReturn(eventsTable);
+
+        FranchiseMapperImpl franchiseMapper = new FranchiseMapperImpl();
+        BranchMapperImpl branchMapper = new BranchMapperImpl();
+        ReflectionTestUtils.setField(branchMapper, "productMapper", new ProductMapperImpl());
+        ReflectionTestUtils.setField(franchiseMapper, "branchMapper", branchMapper);
+
+        adapter = new EventSourcedFranchiseAdapter(dynamoDbEnhancedAsyncClient, franchiseMapper,
+                new DynamoDBMetrics(new SimpleMeterRegistry()), retryPolicy(), "test-events", SNAPSHOT_EVERY);
+    }
+
+    @Test
+    void findById_ShouldReplayOnlyTheEventsAfterTheSnapshot() {
+        // Event 2 is covered by the snapshot; replaying it would rename the franchise.
+        stubQuery(List.of(
+                snapshot(2L, entity("Burgers", "Classic", 5)),
+                event(4L, entity("Burgers", "Double", 5), entity("Burgers", "Double", 9)),
+                event(3L, entity("Burgers", "Classic", 5), entity("Burgers", "Double", 5)),
+                event(2L, entity("Burgers", "Classic", 5), entity("Stale", "Classic", 5))));
+
+        StepVerifier.create(adapter.findById(FRANCHISE_ID))
+                .assertNext(franchise -> {
+                    assertEquals("Burgers", franchise.getName());
+                    assertEquals(4L, franchise.getVersion());
+                    Product product = franchise.findBranch("branch-1").findProduct("product-1");
+                    assertEquals("Double", product.getName());
+                    assertEquals(9, product.getStock());
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<QueryEnhancedRequest> captor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+        verify(eventsTable).query(captor.capture());
+        assertFalse(captor.getValue().scanIndexForward());
+        assertEquals(SNAPSHOT_EVERY + 2, captor.getValue().limit());
+    }
+
+    @Test
+    void update_ShouldReplaceSnapshotOnceTheTailReachesTheThreshold() {
+        stubQuery(List.of(
+                snapshot(2L, entity("Burgers", "Classic", 5)),
+                event(4L, entity("Burgers", "Double", 5), entity("Burgers", "Double", 9)),
+                event(3L, entity("Burgers", "Classic", 5), entity("Burgers", "Double", 5))));
+        when(eventsTable.putItem(any(PutItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        StepVerifier.create(adapter.update(FRANCHISE_ID,
+                        franchise -> franchise.findBranch("branch-1").findProduct("product-1").updateStock(12)))
+                .assertNext(franchise -> assertEquals(5L, franchise.getVersion()))
+                .verifyComplete();
+
+        List<PutItemEnhancedRequest<FranchiseEventEntity>> puts = capturePuts(2);
+        assertEquals(FranchiseEventEntity.eventSortKey(5L), puts.get(0).item().getSk());
+
+        FranchiseEventEntity snapshot = puts.get(1).item();
+        assertEquals(FranchiseEventEntity.SNAPSHOT_SORT_KEY, snapshot.getSk());
+        assertEquals(FranchiseEventEntity.TYPE_SNAPSHOT, snapshot.getType());
+        assertEquals(5L, snapshot.getVersion());
+        List<BranchEntity> branches = BranchesCodec.decode(snapshot.getBranchesBin().asByteArray());
+        assertEquals(12, branches.get(0).getProducts().get(0).getStock());
+        assertEquals("attribute_not_exists(#version) OR #version < :version",
+                puts.get(1).conditionExpression().expression());
+    }
+
+    @Test
+    void update_ShouldOnlyAppendBelowTheSnapshotThreshold() {
+        stubQuery(List.of(
+                snapshot(2L, entity("Burgers", "Classic", 5)),
+                event(3L, entity("Burgers", "Classic", 5), entity("Burgers", "Double", 5))));
+        when(eventsTable.putItem(any(PutItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        StepVerifier.create(adapter.update(FRANCHISE_ID,
+                        franchise -> franchise.findBranch("branch-1").findProduct("product-1").updateStock(12)))
+                .assertNext(franchise -> assertEquals(4L, franchise.getVersion()))
+                .verifyComplete();
+
+        List<PutItemEnhancedRequest<FranchiseEventEntity>> puts = capturePuts(1);
+        assertEquals(FranchiseEventEntity.eventSortKey(4L), puts.get(0).item().getSk());
+        assertEquals(FranchiseEventEntity.TYPE_EVENT, puts.get(0).item().getType());
+    }
+
+    @Test
+    void update_ShouldReloadAndRetryWhenAnotherWriterAppendedTheSameVersion() {
+        FranchiseEventEntity snapshot = snapshot(2L, entity("Burgers", "Classic", 5));
+        FranchiseEventEntity third = event(3L, entity("Burgers", "Classic", 5), entity("Burgers", "Double", 5));
+        FranchiseEventEntity concurrent = event(4L, entity("Burgers", "Double", 5), entity("Burgers", "Double", 9));
+        when(eventsTable.query(any(QueryEnhancedRequest.class))).thenReturn(queryResult);
+        when(queryResult.items())
+                .thenReturn(SdkPublisher.adapt(Flux.just(snapshot, third)))
+                .thenReturn(SdkPublisher.adapt(Flux.just(snapshot, concurrent, third)));
+        when(eventsTable.putItem(any(PutItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(conditionalCheckFailed()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        StepVerifier.create(adapter.update(FRANCHISE_ID,
+                        franchise -> franchise.findBranch("branch-1").findProduct("product-1").incrementStock(1)))
+                .assertNext(franchise -> {
+                    assertEquals(5L, franchise.getVersion());
+                    assertEquals(10, franchise.findBranch("branch-1").findProduct("product-1").getStock());
+                })
+                .verifyComplete();
+
+        // The retry crosses the snapshot threshold, so it appends and then snapshots.
+        List<PutItemEnhancedRequest<FranchiseEventEntity>> puts = capturePuts(3);
+        assertEquals(FranchiseEventEntity.eventSortKey(4L), puts.get(0).item().getSk());
+        assertEquals("attribute_not_exists(#sk)", puts.get(0).conditionExpression().expression());
+        assertEquals(FranchiseEventEntity.eventSortKey(5L), puts.get(1).item().getSk());
+        assertEquals("attribute_not_exists(#sk)", puts.get(1).conditionExpression().expression());
+        assertEquals(FranchiseEventEntity.SNAPSHOT_SORT_KEY, puts.get(2).item().getSk());
+        verify(eventsTable, times(2)).query(any(QueryEnhancedRequest.class));
+    }
+
+    private void stubQuery(List<FranchiseEventEntity> newestFirst) {
+        when(eventsTable.query(any(QueryEnhancedRequest.class))).thenReturn(queryResult);
+        when(queryResult.items()).thenReturn(SdkPublisher.adapt(Flux.fromIterable(newestFirst)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PutItemEnhancedRequest<FranchiseEventEntity>> capturePuts(int count) {
+        ArgumentCaptor<PutItemEnhancedRequest<FranchiseEventEntity>> captor =
+                ArgumentCaptor.forClass(PutItemEnhancedRequest.class);
+        verify(eventsTable, times(count)).putItem(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static FranchiseEventEntity snapshot(long version, FranchiseEntity state) {
+        return FranchiseEventEntity.builder()
+                .pk(FRANCHISE_ID)
+                .sk(FranchiseEventEntity.SNAPSHOT_SORT_KEY)
+                .type(FranchiseEventEntity.TYPE_SNAPSHOT)
+                .version(version)
+                .name(state.getName())
+                .branchesBin(SdkBytes.fromByteArray(BranchesCodec.encode(state.getBranches())))
+                .build();
+    }
+
+    private static FranchiseEventEntity event(long version, FranchiseEntity before, FranchiseEntity after) {
+        return FranchiseEventEntity.builder()
+                .pk(FRANCHISE_ID)
+                .sk(FranchiseEventEntity.eventSortKey(version))
+                .type(FranchiseEventEntity.TYPE_EVENT)
+                .version(version)
+                .changes(FranchiseChanges.diff(before, after))
+                .build();
+    }
+
+    private static FranchiseEntity entity(String name, String productName, int stock) {
+        ProductEntity product = ProductEntity.builder()
+                .id("product-1")
+                .name(productName)
+                .stock(stock)
+                .build();
+        BranchEntity branch = BranchEntity.builder()
+                .id("branch-1")
+                .name("Downtown")
+                .products(new ArrayList<>(List.of(product)))
+                .build();
+        return FranchiseEntity.builder()
+                .id(FRANCHISE_ID)
+                .name(name)
+                .branches(new ArrayList<>(List.of(branch)))
+                .build();
+    }
+
+    private static ConditionalCheckFailedException conditionalCheckFailed() {
+        return ConditionalCheckFailedException.builder()
+                .message("The conditional request failed")
+                .build();
+    }
+
+    private static DynamoDBRetryPolicy retryPolicy() {
+        return new DynamoDBRetryPolicy(new DynamoDBMetrics(new SimpleMeterRegistry()), 3, Duration.ofMillis(1),
+                Duration.ofMillis(1), Duration.ofMillis(10), 500);
+    }
+}
@@ -0,0 +1,144 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence;
+
+import com.nequi.franchise.domain.exception.BranchNotFoundException;
+import com.nequi.franchise.domain.exception.OptimisticLockException;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitFranchiseRepositoryTest {
+
+    @Mock
+    private FranchiseRepositoryPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GroupCommitFranchiseRepository repository;
+    private Franchise franchise;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new GroupCommitFranchiseRepository(delegate, new DynamoDBMetrics(meterRegistry), 25, true);
+        franchise = Franchise.builder()
+                .id("franchise-id")
+                .name("Test Franchise")
+                .branches(new ArrayList<>())
+                .build();
+    }
+
+    @Test
+    void update_ShouldCommitMutationsQueuedDuringAWriteTogether() {
+        Sinks.Empty<Void> firstWrite = Sinks.empty();
+        List<FranchiseProjection> projections = new ArrayList<>();
+        when(delegate.update(eq("franchise-id"), any(FranchiseProjection.class), any()))
+                .thenAnswer(invocation -> {
+                    projections.add(invocation.getArgument(1));
+                    Mono<Franchise> write = applyTo(invocation.getArgument(2));
+                    return projections.size() == 1 ? firstWrite.asMono().then(write) : write;
+                });
+
+        Mono<Franchise> first = repository.update("franchise-id", FranchiseProjection.header(), f -> f.updateName("First"));
+        Mono<Franchise> second = repository.update("franchise-id", FranchiseProjection.header(), f -> f.updateName("Second"));
+        Mono<Franchise> third = repository.update("franchise-id", FranchiseProjection.branch("branch-1"), f -> f.updateName("Third"));
+
+        StepVerifier.create(Mono.zip(first, second, third))
+                .then(firstWrite::tryEmitEmpty)
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(delegate, times(2)).update(eq("franchise-id"), any(FranchiseProjection.class), any());
+        assertEquals(List.of(FranchiseProjection.header(), FranchiseProjection.branch("branch-1")), projections);
+        assertEquals("Third", franchise.getName());
+        assertEquals(2L, meterRegistry.find("franchise.group.commit.mutations").summary().count());
+    }
+
+    @Test
+    void update_ShouldFailOnlyTheCallerWhoseMutationThrew() {
+        Sinks.Empty<Void> firstWrite = Sinks.empty();
+        when(delegate.update(eq("franchise-id"), any(FranchiseProjection.class), any()))
+                .thenAnswer(invocation -> firstWrite.asMono().then(applyTo(invocation.getArgument(2))))
+                .thenAnswer(invocation -> applyTo(invocation.getArgument(2)));
+
+        Mono<Franchise> blocker = repository.update("franchise-id", f -> f.updateName("Blocker"));
+        Mono<Franchise> failing = repository.update("franchise-id", f -> f.findBranch("missing-branch"));
+        Mono<Franchise> succeeding = repository.update("franchise-id", f -> f.updateName("Renamed"));
+
+        StepVerifier.create(Mono.zip(blocker, failing.materialize(), succeeding))
+                .then(firstWrite::tryEmitEmpty)
+                .assertNext(results -> {
+                    assertEquals(BranchNotFoundException.class, results.getT2().getThrowable().getClass());
+                    assertEquals("Renamed", results.getT3().getName());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void update_ShouldNotWrite_WhenEveryMutationOfTheGroupFailed() {
+        when(delegate.update(eq("franchise-id"), any(FranchiseProjection.class), any()))
+                .thenAnswer(invocation -> applyTo(invocation.getArgument(2)));
+
+        StepVerifier.create(repository.update("franchise-id", f -> f.findBranch("missing-branch")))
+                .expectError(BranchNotFoundException.class)
+                .verify();
+
+        assertEquals(0L, franchise.getVersion());
+    }
+
+    @Test
+    void update_ShouldPropagateWriteFailureToEveryCaller() {
+        when(delegate.update(eq("franchise-id"), any(FranchiseProjection.class), any()))
+                .thenReturn(Mono.error(new OptimisticLockException("conflict")));
+
+        StepVerifier.create(repository.update("franchise-id", f -> f.updateName("Renamed")))
+                .expectError(OptimisticLockException.class)
+                .verify();
+    }
+
+    @Test
+    void update_ShouldCompleteEmpty_WhenFranchiseDoesNotExist() {
+        when(delegate.update(eq("franchise-id"), any(FranchiseProjection.class), any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(repository.update("franchise-id", f -> f.updateName("Renamed")))
+                .verifyComplete();
+    }
+
+    @Test
+    void updateProductStock_ShouldUseDelegate_WhenStockUpdatesAreNotGrouped() {
+        GroupCommitFranchiseRepository ungrouped =
+                new GroupCommitFranchiseRepository(delegate, new DynamoDBMetrics(meterRegistry), 25, false);
+        when(delegate.updateProductStock("franchise-id", "branch-1", "product-1", 5)).thenReturn(Mono.empty());
+
+        StepVerifier.create(ungrouped.updateProductStock("franchise-id", "branch-1", "product-1", 5))
+                .verifyComplete();
+
+        verify(delegate, never()).update(any(), any(FranchiseProjection.class), any());
+    }
+
+    private Mono<Franchise> applyTo(Consumer<Franchise> mutation) {
+        return Mono.fromCallable(() -> {
+            mutation.accept(franchise);
+            franchise.incrementVersion();
+            return franchise;
+        });
+    }
+}
@@ -0,0 +1,137 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence;
+
+import com.nequi.franchise.domain.exception.InvalidDomainException;
+import com.nequi.franchise.domain.exception.OptimisticLockException;
+import com.nequi.franchise.domain.model.Branch;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseSummary;
+import com.nequi.franchise.domain.model.Page;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryFranchiseAdapterTest {
+
+    private InMemoryFranchiseAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new InMemoryFranchiseAdapter();
+    }
+
+    @Test
+    void save_ShouldStoreACopyAndIncrementVersion() {
+        Franchise franchise = franchise("franchise-id", "Test Franchise");
+
+        StepVerifier.create(adapter.save(franchise))
+                .assertNext(saved -> assertEquals(1L, saved.getVersion()))
+                .verifyComplete();
+
+        franchise.addBranch(Branch.builder().id("branch-id").name("Branch").build());
+
+        StepVerifier.create(adapter.findById("franchise-id"))
+                .assertNext(found -> {
+                    assertEquals(1L, found.getVersion());
+                    assertFalse(found.hasBranches());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void save_ShouldRejectStaleVersion() {
+        Franchise franchise = franchise("franchise-id", "Test Franchise");
+        adapter.save(franchise).block();
+
+        Franchise stale = franchise("franchise-id", "Stale");
+
+        StepVerifier.create(adapter.save(stale))
+                .expectError(OptimisticLockException.class)
+                .verify();
+    }
+
+    @Test
+    void update_ShouldApplyMutationAndIncrementVersion() {
+        adapter.save(franchise("franchise-id", "Test Franchise")).block();
+
+        StepVerifier.create(adapter.update("franchise-id", f -> f.updateName("Renamed")))
+                .assertNext(updated -> {
+                    assertEquals("Renamed", updated.getName());
+                    assertEquals(2L, updated.getVersion());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void update_ShouldLeaveFranchiseUntouchedWhenMutationFails() {
+        adapter.save(franchise("franchise-id", "Test Franchise")).block();
+
+        StepVerifier.create(adapter.update("franchise-id", f -> f.updateName("")))
+                .expectError(InvalidDomainException.class)
+                .verify();
+
+        StepVerifier.create(adapter.findById("franchise-id"))
+                .assertNext(found -> {
+                    assertEquals("Test Franchise", found.getName());
+                    assertEquals(1L, found.getVersion());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void update_ShouldCompleteEmptyWhenFranchiseDoesNotExist() {
+        StepVerifier.create(adapter.update("missing", f -> f.updateName("Renamed")))
+                .verifyComplete();
+    }
+
+    @Test
+    void findAll_ShouldPageByIdWithCursor() {
+        adapter.save(franchise("c", "Gamma")).block();
+        adapter.save(franchise("a", "Alpha")).block();
+        adapter.save(franchise("b", "Beta")).block();
+
+        Page<Franchise> first = adapter.findAll(2, null).block();
+        assertNotNull(first);
+        assertEquals(List.of("a", "b"), first.getItems().stream().map(Franchise::getId).toList());
+        assertTrue(first.getHasMore());
+
+        Page<Franchise> second = adapter.findAll(2, first.getNextCursor()).block();
+        assertNotNull(second);
+        assertEquals(List.of("c"), second.getItems().stream().map(Franchise::getId).toList());
+        assertFalse(second.getHasMore());
+    }
+
+    @Test
+    void findSummaries_ShouldFollowRenames() {
+        adapter.save(franchise("a", "Zeta")).block();
+        adapter.save(franchise("b", "Beta")).block();
+        adapter.update("a", f -> f.updateName("Alpha")).block();
+
+        Page<FranchiseSummary> page = adapter.findSummaries(10, null).block();
+
+        assertNotNull(page);
+        assertEquals(List.of("Alpha", "Beta"), page.getItems().stream().map(FranchiseSummary::getName).toList());
+    }
+
+    @Test
+    void delete_ShouldRemoveFranchiseFromListings() {
+        adapter.save(franchise("a", "Alpha")).block();
+        adapter.delete("a").block();
+
+        StepVerifier.create(adapter.findById("a")).verifyComplete();
+        assertTrue(adapter.findAll(10, null).block().getItems().isEmpty());
+        assertTrue(adapter.findSummaries(10, null).block().getItems().isEmpty());
+    }
+
+    private static Franchise franchise(String id, String name) {
+        return Franchise.builder()
+                .id(id)
+                .name(name)
+                .branches(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence;
+
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.domain.port.output.FranchiseRepositoryPort;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightFranchiseRepositoryTest {
+
+    @Mock
+    private FranchiseRepositoryPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlightFranchiseRepository repository;
+    private Franchise franchise;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new SingleFlightFranchiseRepository(delegate, new DynamoDBMetrics(meterRegistry));
+        franchise = Franchise.builder()
+                .id("franchise-id")
+                .name("Test Franchise")
+                .branches(new ArrayList<>())
+                .build();
+    }
+
+    @Test
+    void findById_ShouldShareOneLoadBetweenConcurrentCallers() {
+        Sinks.One<Franchise> pending = Sinks.one();
+        when(delegate.findById("franchise-id")).thenReturn(pending.asMono());
+
+        Mono<Franchise> first = repository.findById("franchise-id");
+        Mono<Franchise> second = repository.findById("franchise-id");
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> pending.tryEmitValue(franchise))
+                .assertNext(both -> {
+                    assertEquals(franchise, both.getT1());
+                    assertEquals(franchise, both.getT2());
+                })
+                .verifyComplete();
+
+        verify(delegate, times(1)).findById("franchise-id");
+        assertEquals(1.0, requests(false));
+        assertEquals(1.0, requests(true));
+    }
+
+    @Test
+    void findById_ShouldLoadAgainOnceThePreviousLoadCompleted() {
+        when(delegate.findById("franchise-id")).thenReturn(Mono.just(franchise));
+
+        StepVerifier.create(repository.findById("franchise-id")).expectNext(franchise).verifyComplete();
+        StepVerifier.create(repository.findById("franchise-id")).expectNext(franchise).verifyComplete();
+
+        verify(delegate, times(2)).findById("franchise-id");
+        assertEquals(2.0, requests(false));
+    }
+
+    @Test
+    void findById_ShouldPropagateErrorToEveryWaiterAndNotKeepIt() {
+        Sinks.One<Franchise> pending = Sinks.one();
+        when(delegate.findById("franchise-id"))
+                .thenReturn(pending.asMono())
+                .thenReturn(Mono.just(franchise));
+
+        Mono<Franchise> first = repository.findById("franchise-id");
+        Mono<Franchise> second = repository.findById("franchise-id");
+
+        StepVerifier.create(Mono.zipDelayError(first.materialize(), second.materialize()))
+                .then(() -> pending.tryEmitError(new RuntimeException("DynamoDB error")))
+                .assertNext(both -> {
+                    assertEquals("DynamoDB error", both.getT1().getThrowable().getMessage());
+                    assertEquals("DynamoDB error", both.getT2().getThrowable().getMessage());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(repository.findById("franchise-id")).expectNext(franchise).verifyComplete();
+        verify(delegate, times(2)).findById("franchise-id");
+    }
+
+    @Test
+    void findById_ShouldNotCoalesceDifferentIds() {
+        when(delegate.findById(anyString())).thenReturn(Mono.just(franchise));
+
+        StepVerifier.create(Mono.zip(repository.findById("a"), repository.findById("b")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(delegate).findById("a");
+        verify(delegate).findById("b");
+    }
+
+    @Test
+    void findByIdWithPartialProjection_ShouldGoStraightToDelegate() {
+        FranchiseProjection projection = FranchiseProjection.header();
+        when(delegate.findById("franchise-id", projection)).thenReturn(Mono.just(franchise));
+
+        StepVerifier.create(repository.findById("franchise-id", projection))
+                .expectNext(franchise)
+                .verifyComplete();
+
+        verify(delegate, never()).findById("franchise-id");
+        assertEquals(0.0, requests(false));
+    }
+
+    private double requests(boolean coalesced) {
+        var counter = meterRegistry.find("franchise.find.requests")
+                .tag("coalesced", String.valueOf(coalesced))
+                .counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+}
@@ -0,0 +1,350 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence;
+
+import com.nequi.franchise.domain.exception.FranchiseNotFoundException;
+import com.nequi.franchise.domain.exception.FranchiseTooLargeException;
+import com.nequi.franchise.domain.exception.OptimisticLockException;
+import com.nequi.franchise.domain.exception.ProductNotFoundException;
+import com.nequi.franchise.domain.model.Branch;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.FranchiseProjection;
+import com.nequi.franchise.domain.model.Product;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.EntitySchemas;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseItemEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.mapper.FranchiseItemMapper;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.retry.DynamoDBRetryPolicy;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.scan.ScanSettings;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncIndex;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SingleTableFranchiseAdapterTest {
+
+    @Mock
+    private DynamoDbAsyncClient dynamoDbAsyncClient;
+
+    @Mock
+    private DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient;
+
+    @Mock
+    private DynamoDbAsyncTable<FranchiseItemEntity> itemsTable;
+
+    @Mock
+    private PagePublisher<FranchiseItemEntity> queryResult;
+
+    private final FranchiseItemMapper itemMapper = new FranchiseItemMapper();
+
+    private SingleTableFranchiseAdapter adapter;
+
+    private Franchise stored;
+
+    @BeforeEach
+    void setUp() {
+        when(dynamoDbEnhancedAsyncClient.table(anyString(), any(TableSchema.class)))
+                .thenReturn(itemsTable);
+        lenient().when(itemsTable.tableSchema()).thenReturn(EntitySchemas.FRANCHISE_ITEM);
+        lenient().when(itemsTable.tableName()).thenReturn("test-items");
+
+        adapter = new SingleTableFranchiseAdapter(dynamoDbAsyncClient, dynamoDbEnhancedAsyncClient, itemMapper,
+                new DynamoDBMetrics(new SimpleMeterRegistry()), new ScanSettings(8, 4, 0), retryPolicy(), "test-items");
+
+        List<Branch> branches = new ArrayList<>();
+        for (int b = 0; b < 3; b++) {
+            List<Product> products = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                products.add(Product.builder().id("product-" + b + "-" + p).name("Product " + b + "-" + p).stock(10).build());
+            }
+            branches.add(Branch.builder().id("branch-" + b).name("Branch " + b).products(products).build());
+        }
+        stored = Franchise.builder()
+                .id("test-id")
+                .name("Test Franchise")
+                .branches(branches)
+                .version(2L)
+                .build();
+    }
+
+    @Test
+    void findById_ShouldAssembleAggregateFromQuery() {
+        stubQuery(itemMapper.toItems(stored));
+
+        StepVerifier.create(adapter.findById("test-id"))
+                .expectNextMatches(franchise -> franchise.getBranchCount() == 3
+                        && franchise.findBranch("branch-2").getProducts().size() == 4
+                        && franchise.getVersion() == 2L)
+                .verifyComplete();
+    }
+
+    @Test
+    void findById_ShouldReturnEmptyWhenNoRows() {
+        stubQuery(List.of());
+
+        StepVerifier.create(adapter.findById("test-id"))
+                .verifyComplete();
+    }
+
+    @Test
+    void update_ShouldOnlyWriteMetaAndChangedProductRow() {
+        stubQuery(itemMapper.toItems(stored));
+        when(dynamoDbEnhancedAsyncClient.transactWriteItems(any(TransactWriteItemsEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        var result = adapter.update("test-id", franchise ->
+                franchise.findBranch("branch-1").findProduct("product-1-2").updateStock(99));
+
+        StepVerifier.create(result)
+                .expectNextMatches(saved -> saved.getVersion() == 3L)
+                .verifyComplete();
+
+        ArgumentCaptor<TransactWriteItemsEnhancedRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsEnhancedRequest.class);
+        verify(dynamoDbEnhancedAsyncClient).transactWriteItems(captor.capture());
+        assertEquals(2, captor.getValue().transactWriteItems().size());
+    }
+
+    @Test
+    void update_ShouldDeleteRemovedProductRowWithoutRewritingSiblings() {
+        stubQuery(itemMapper.toItems(stored));
+        when(dynamoDbEnhancedAsyncClient.transactWriteItems(any(TransactWriteItemsEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        var result = adapter.update("test-id", franchise ->
+                franchise.findBranch("branch-0").removeProduct("product-0-0"));
+
+        StepVerifier.create(result)
+                .expectNextCount(1)
+                .verifyComplete();
+
+        ArgumentCaptor<TransactWriteItemsEnhancedRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsEnhancedRequest.class);
+        verify(dynamoDbEnhancedAsyncClient).transactWriteItems(captor.capture());
+        assertEquals(2, captor.getValue().transactWriteItems().size());
+        assertEquals(1, captor.getValue().transactWriteItems().stream()
+                .filter(item -> item.delete() != null)
+                .count());
+    }
+
+    @Test
+    void update_ShouldWriteChangeSetAtTheTransactionLimitInOneTransaction() {
+        stored.addBranch(bigBranch(98));
+        stubQuery(itemMapper.toItems(stored));
+        when(dynamoDbEnhancedAsyncClient.transactWriteItems(any(TransactWriteItemsEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        StepVerifier.create(adapter.update("test-id", franchise -> franchise.removeBranch("branch-big")))
+                .expectNextMatches(saved -> saved.getVersion() == 3L)
+                .verifyComplete();
+
+        ArgumentCaptor<TransactWriteItemsEnhancedRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsEnhancedRequest.class);
+        verify(dynamoDbEnhancedAsyncClient).transactWriteItems(captor.capture());
+        assertEquals(100, captor.getValue().transactWriteItems().size());
+        assertEquals("3", captor.getValue().transactWriteItems().get(0).put().item().get("version").n());
+    }
+
+    @Test
+    void update_ShouldRejectChangeSetsOverTheTransactionLimitBeforeWriting() {
+        stored.addBranch(bigBranch(150));
+        stubQuery(itemMapper.toItems(stored));
+
+        StepVerifier.create(adapter.update("test-id", franchise -> franchise.removeBranch("branch-big")))
+                .expectError(FranchiseTooLargeException.class)
+                .verify();
+
+        verify(dynamoDbEnhancedAsyncClient, never()).transactWriteItems(any(TransactWriteItemsEnhancedRequest.class));
+    }
+
+    @Test
+    void updateWithBranchProjection_ShouldLoadOneBranchAndAdjustMetaCounters() {
+        List<FranchiseItemEntity> branchRows = itemMapper.toItems(stored).stream()
+                .filter(item -> "branch-1".equals(item.getId()) || "branch-1".equals(item.getBranchId()))
+                .toList();
+        when(itemsTable.getItem(any(Key.class)))
+                .thenReturn(CompletableFuture.completedFuture(itemMapper.toMetaItem(stored)));
+        stubQuery(branchRows);
+        when(dynamoDbEnhancedAsyncClient.transactWriteItems(any(TransactWriteItemsEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        var result = adapter.update("test-id", FranchiseProjection.branch("branch-1"), franchise ->
+                franchise.findBranch("branch-1").addProduct(Product.builder().id("product-new").name("New").stock(1).build()));
+
+        StepVerifier.create(result)
+                .expectNextMatches(saved -> saved.getBranchCount() == 1 && saved.getVersion() == 3L)
+                .verifyComplete();
+
+        verify(itemsTable, times(1)).query(any(QueryEnhancedRequest.class));
+
+        ArgumentCaptor<TransactWriteItemsEnhancedRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsEnhancedRequest.class);
+        verify(dynamoDbEnhancedAsyncClient).transactWriteItems(captor.capture());
+        assertEquals(2, captor.getValue().transactWriteItems().size());
+        Map<String, AttributeValue> meta = captor.getValue().transactWriteItems().get(0).put().item();
+        assertEquals("3", meta.get("branchCount").n());
+        assertEquals("13", meta.get("productCount").n());
+    }
+
+    @Test
+    void update_ShouldGiveUpAfterRepeatedConditionFailures() {
+        stubQuery(itemMapper.toItems(stored));
+        when(dynamoDbEnhancedAsyncClient.transactWriteItems(any(TransactWriteItemsEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(TransactionCanceledException.builder()
+                        .cancellationReasons(CancellationReason.builder().code("ConditionalCheckFailed").build())
+                        .build()));
+
+        StepVerifier.create(adapter.update("test-id", franchise -> franchise.updateName("Renamed")))
+                .expectError(OptimisticLockException.class)
+                .verify();
+
+        verify(dynamoDbEnhancedAsyncClient, times(3)).transactWriteItems(any(TransactWriteItemsEnhancedRequest.class));
+    }
+
+    @Test
+    void updateProductStock_ShouldIssueSingleUpdateItemOnTheProductRow() {
+        when(dynamoDbAsyncClient.updateItem(any(UpdateItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(UpdateItemResponse.builder()
+                        .attributes(Map.of(
+                                "stock", AttributeValue.builder().n("250").build(),
+                                "version", AttributeValue.builder().n("4").build()))
+                        .build()));
+
+        StepVerifier.create(adapter.updateProductStock("test-id", "branch-1", "product-1-2", 250))
+                .expectNextMatches(update -> update.getStock() == 250 && update.getVersion() == 4L)
+                .verifyComplete();
+
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbAsyncClient).updateItem(captor.capture());
+        UpdateItemRequest request = captor.getValue();
+        assertEquals("FRANCHISE#test-id", request.key().get("pk").s());
+        assertEquals("BRANCH#branch-1#PRODUCT#product-1-2", request.key().get("sk").s());
+        assertEquals("SET #stock = :stock ADD #version :one", request.updateExpression());
+        assertEquals("attribute_exists(sk)", request.conditionExpression());
+        verify(itemsTable, never()).getItem(any(Key.class));
+        verify(dynamoDbAsyncClient, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+    }
+
+    @Test
+    void updateProductStock_ShouldReportMissingProductWhenConditionFails() {
+        when(dynamoDbAsyncClient.updateItem(any(UpdateItemRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(ConditionalCheckFailedException.builder().message("failed").build()));
+        stubQuery(itemMapper.toItems(stored));
+
+        StepVerifier.create(adapter.updateProductStock("test-id", "branch-1", "missing-product", 250))
+                .expectError(ProductNotFoundException.class)
+                .verify();
+
+        verify(dynamoDbAsyncClient, times(1)).updateItem(any(UpdateItemRequest.class));
+    }
+
+    @Test
+    void updateProductStock_ShouldReportMissingFranchiseWhenConditionFails() {
+        when(dynamoDbAsyncClient.updateItem(any(UpdateItemRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(ConditionalCheckFailedException.builder().message("failed").build()));
+        stubQuery(List.of());
+
+        StepVerifier.create(adapter.updateProductStock("test-id", "branch-1", "product-1-2", 250))
+                .expectError(FranchiseNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void streamAll_ShouldRegroupScannedRowsPerPartition() {
+        Franchise other = Franchise.builder()
+                .id("other-id")
+                .name("Other Franchise")
+                .version(1L)
+                .build();
+        List<FranchiseItemEntity> segmentRows = new ArrayList<>(itemMapper.toItems(stored));
+        segmentRows.addAll(itemMapper.toItems(other));
+        when(itemsTable.scan(any(ScanEnhancedRequest.class))).thenAnswer(invocation -> {
+            ScanEnhancedRequest request = invocation.getArgument(0);
+            List<FranchiseItemEntity> rows = request.segment() == 0 ? segmentRows : List.of();
+            return PagePublisher.create(SdkPublisher.adapt(Flux.just(Page.create(rows))));
+        });
+
+        StepVerifier.create(adapter.streamAll().collectList())
+                .assertNext(franchises -> {
+                    assertEquals(2, franchises.size());
+                    assertEquals(3, franchises.get(0).getBranchCount());
+                    assertEquals("other-id", franchises.get(1).getId());
+                })
+                .verifyComplete();
+
+        verify(itemsTable, never()).query(any(QueryEnhancedRequest.class));
+    }
+
+    @Test
+    void findSummaries_ShouldQueryListingIndexWithoutLoadingChildRows() {
+        @SuppressWarnings("unchecked")
+        DynamoDbAsyncIndex<FranchiseItemEntity> listingIndex = mock(DynamoDbAsyncIndex.class);
+        FranchiseItemEntity meta = itemMapper.toMetaItem(stored);
+        Map<String, AttributeValue> lastKey = Map.of(
+                "pk", AttributeValue.builder().s(meta.getPk()).build(),
+                "sk", AttributeValue.builder().s(meta.getSk()).build(),
+                "listBucket", AttributeValue.builder().s(meta.getListBucket()).build(),
+                "listSortKey", AttributeValue.builder().s(meta.getListSortKey()).build());
+        when(itemsTable.index(FranchiseListing.INDEX_NAME)).thenReturn(listingIndex);
+        when(listingIndex.query(any(QueryEnhancedRequest.class)))
+                .thenReturn(SdkPublisher.adapt(Flux.just(Page.create(List.of(meta), lastKey))));
+
+        StepVerifier.create(adapter.findSummaries(1, null))
+                .assertNext(page -> {
+                    assertEquals(1, page.getItems().size());
+                    assertEquals("test-id", page.getItems().get(0).getId());
+                    assertEquals(12, page.getItems().get(0).getProductCount());
+                    assertEquals(lastKey, FranchiseListing.decodeCursor(page.getNextCursor()));
+                })
+                .verifyComplete();
+
+        verify(itemsTable, never()).query(any(QueryEnhancedRequest.class));
+    }
+
+    private void stubQuery(List<FranchiseItemEntity> items) {
+        when(itemsTable.query(any(QueryEnhancedRequest.class))).thenReturn(queryResult);
+        when(queryResult.items()).thenAnswer(invocation -> SdkPublisher.adapt(Flux.fromIterable(items)));
+    }
+
+    private static DynamoDBRetryPolicy retryPolicy() {
+        return new DynamoDBRetryPolicy(new DynamoDBMetrics(new SimpleMeterRegistry()), 3, Duration.ofMillis(1),
+                Duration.ofMillis(1), Duration.ofMillis(10), 500);
+    }
+
+    private static Branch bigBranch(int productCount) {
+        List<Product> products = new ArrayList<>();
+        for (int p = 0; p < productCount; p++) {
+            products.add(Product.builder().id("product-big-" + p).name("Product big " + p).stock(1).build());
+        }
+        return Branch.builder().id("branch-big").name("Branch big").products(products).build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.capacity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FranchiseCapacityRankingTest {
+
+    @Test
+    void top_ShouldRankFranchisesByTotalCapacity() {
+        FranchiseCapacityRanking ranking = new FranchiseCapacityRanking(100);
+        ranking.record("cheap", 0.5, 0);
+        ranking.record("expensive", 2, 10);
+        ranking.record("expensive", 1, 0);
+        ranking.record("medium", 0, 4);
+
+        List<FranchiseCapacity> top = ranking.top(2);
+
+        assertEquals(2, top.size());
+        assertEquals("expensive", top.get(0).franchiseId());
+        assertEquals(3.0, top.get(0).readCapacityUnits());
+        assertEquals(10.0, top.get(0).writeCapacityUnits());
+        assertEquals(13.0, top.get(0).totalCapacityUnits());
+        assertEquals(2, top.get(0).calls());
+        assertEquals("medium", top.get(1).franchiseId());
+    }
+
+    @Test
+    void record_ShouldEvictCheapestFranchisesWhenFull() {
+        FranchiseCapacityRanking ranking = new FranchiseCapacityRanking(2);
+        ranking.record("a", 5, 0);
+        ranking.record("b", 1, 0);
+        ranking.record("c", 3, 0);
+
+        List<String> tracked = ranking.top(10).stream().map(FranchiseCapacity::franchiseId).toList();
+
+        assertEquals(List.of("a", "c"), tracked);
+    }
+
+    @Test
+    void constructor_ShouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new FranchiseCapacityRanking(0));
+    }
+}
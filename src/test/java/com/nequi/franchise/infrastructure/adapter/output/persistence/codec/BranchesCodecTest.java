@@ -0,0 +1,89 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.codec;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BranchesCodecTest {
+
+    @Test
+    void decode_ShouldRestoreEncodedBranches() {
+        List<BranchEntity> branches = List.of(
+                branch(UUID.randomUUID().toString(), "Downtown",
+                        product(UUID.randomUUID().toString(), "Classic", 10),
+                        product("legacy-id", "Ñandú ü", 0)),
+                branch("branch-2", "Airport",
+                        product(UUID.randomUUID().toString(), "Classic", 1_000_000),
+                        product(UUID.randomUUID().toString(), "No stock", null)),
+                branch(UUID.randomUUID().toString(), "Empty"));
+
+        byte[] encoded = BranchesCodec.encode(branches);
+
+        assertEquals(BranchesCodec.FORMAT_VERSION, encoded[0]);
+        assertEquals(branches, BranchesCodec.decode(encoded));
+    }
+
+    @Test
+    void decode_ShouldKeepStockAtTheEdgesOfTheIntRange() {
+        List<BranchEntity> branches = List.of(branch("branch-1", "Downtown",
+                product("product-1", "Max", Integer.MAX_VALUE),
+                product("product-2", "Zero", 0)));
+
+        assertEquals(branches, BranchesCodec.decode(BranchesCodec.encode(branches)));
+    }
+
+    @Test
+    void decode_ShouldRejectUnknownFormatVersion() {
+        byte[] encoded = BranchesCodec.encode(List.of(branch("branch-1", "Downtown")));
+        encoded[0] = 42;
+
+        assertThrows(IllegalStateException.class, () -> BranchesCodec.decode(encoded));
+    }
+
+    @Test
+    void packAndUnpack_ShouldMoveBranchesBetweenAttributes() {
+        List<BranchEntity> branches = List.of(branch("branch-1", "Downtown", product("product-1", "Classic", 5)));
+        FranchiseEntity entity = FranchiseEntity.builder()
+                .id("franchise-1")
+                .branches(new ArrayList<>(branches))
+                .build();
+
+        BranchesCodec.pack(entity);
+        assertNull(entity.getBranches());
+
+        BranchesCodec.unpack(entity);
+        assertNull(entity.getBranchesBin());
+        assertEquals(branches, entity.getBranches());
+    }
+
+    @Test
+    void unpack_ShouldLeaveLegacyItemsUntouched() {
+        List<BranchEntity> branches = new ArrayList<>(List.of(branch("branch-1", "Downtown")));
+        FranchiseEntity legacy = FranchiseEntity.builder()
+                .id("franchise-1")
+                .branches(branches)
+                .build();
+
+        BranchesCodec.unpack(legacy);
+
+        assertSame(branches, legacy.getBranches());
+    }
+
+    private static BranchEntity branch(String id, String name, ProductEntity... products) {
+        return BranchEntity.builder().id(id).name(name).products(new ArrayList<>(List.of(products))).build();
+    }
+
+    private static ProductEntity product(String id, String name, Integer stock) {
+        return ProductEntity.builder().id(id).name(name).stock(stock).build();
+    }
+}
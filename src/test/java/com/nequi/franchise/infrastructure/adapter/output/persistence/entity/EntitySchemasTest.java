@@ -0,0 +1,119 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.entity;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.FranchiseListing;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.IndexMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The hand-built schemas must write exactly what the annotated beans did, or items stored before the
+ * switch would no longer read back the same.
+ */
+class EntitySchemasTest {
+
+    @Test
+    void franchiseSchema_ShouldMatchBeanSchema() {
+        FranchiseEntity entity = FranchiseEntity.builder()
+                .id("franchise-id")
+                .name("Franchise")
+                .branches(List.of(BranchEntity.builder()
+                        .id("branch-id")
+                        .name("Branch")
+                        .products(new ArrayList<>(List.of(
+                                ProductEntity.builder().id("product-id").name("Product").stock(7).build(),
+                                ProductEntity.builder().id("no-stock").name("Pending").build())))
+                        .build()))
+                .version(3L)
+                .listBucket(FranchiseListing.BUCKET)
+                .listSortKey("franchise#franchise-id")
+                .branchCount(1)
+                .productCount(2)
+                .build();
+
+        assertSameItem(TableSchema.fromBean(FranchiseEntity.class), EntitySchemas.FRANCHISE, entity);
+        assertSameKeys(TableSchema.fromBean(FranchiseEntity.class).tableMetadata(), EntitySchemas.FRANCHISE.tableMetadata());
+    }
+
+    @Test
+    void franchiseSchema_ShouldRoundTripBinaryBranches() {
+        FranchiseEntity entity = FranchiseEntity.builder()
+                .id("franchise-id")
+                .branchesBin(SdkBytes.fromByteArray(new byte[] {1, 2, 3}))
+                .build();
+
+        Map<String, AttributeValue> item = EntitySchemas.FRANCHISE.itemToMap(entity, true);
+
+        assertEquals(entity, EntitySchemas.FRANCHISE.mapToItem(item));
+        assertSameItem(TableSchema.fromBean(FranchiseEntity.class), EntitySchemas.FRANCHISE, entity);
+    }
+
+    @Test
+    void franchiseItemSchema_ShouldMatchBeanSchema() {
+        FranchiseItemEntity entity = new FranchiseItemEntity();
+        entity.setPk("FRANCHISE#franchise-id");
+        entity.setSk("BRANCH#branch-id#PRODUCT#product-id");
+        entity.setType(FranchiseItemEntity.TYPE_PRODUCT);
+        entity.setId("product-id");
+        entity.setBranchId("branch-id");
+        entity.setName("Product");
+        entity.setStock(4);
+        entity.setPosition(0);
+        entity.setVersion(2L);
+
+        assertSameItem(TableSchema.fromBean(FranchiseItemEntity.class), EntitySchemas.FRANCHISE_ITEM, entity);
+        assertSameKeys(TableSchema.fromBean(FranchiseItemEntity.class).tableMetadata(), EntitySchemas.FRANCHISE_ITEM.tableMetadata());
+    }
+
+    @Test
+    void franchiseEventSchema_ShouldMatchBeanSchema() {
+        FranchiseEventEntity entity = FranchiseEventEntity.builder()
+                .pk("franchise-id")
+                .sk(FranchiseEventEntity.eventSortKey(5))
+                .type(FranchiseEventEntity.TYPE_EVENT)
+                .version(5L)
+                .changes(List.of(FranchiseChangeEntity.builder()
+                        .type("STOCK_CHANGED")
+                        .branchId("branch-id")
+                        .productId("product-id")
+                        .stock(12)
+                        .build()))
+                .recordedAt("2024-01-01T00:00:00Z")
+                .build();
+
+        assertSameItem(TableSchema.fromBean(FranchiseEventEntity.class), EntitySchemas.FRANCHISE_EVENT, entity);
+        assertSameKeys(TableSchema.fromBean(FranchiseEventEntity.class).tableMetadata(), EntitySchemas.FRANCHISE_EVENT.tableMetadata());
+    }
+
+    private static <T> void assertSameItem(TableSchema<T> beanSchema, TableSchema<T> staticSchema, T entity) {
+        Map<String, AttributeValue> expected = beanSchema.itemToMap(entity, true);
+        Map<String, AttributeValue> actual = staticSchema.itemToMap(entity, true);
+
+        assertEquals(expected, actual);
+        assertEquals(beanSchema.mapToItem(expected), staticSchema.mapToItem(actual));
+    }
+
+    private static void assertSameKeys(TableMetadata expected, TableMetadata actual) {
+        assertEquals(expected.primaryKeys(), actual.primaryKeys());
+        assertEquals(indexNames(expected), indexNames(actual));
+        for (String indexName : indexNames(expected)) {
+            assertEquals(expected.indexKeys(indexName), actual.indexKeys(indexName));
+        }
+    }
+
+    private static Set<String> indexNames(TableMetadata metadata) {
+        return metadata.indices().stream()
+                .map(IndexMetadata::name)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,101 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.eventlog;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseChangeEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FranchiseChangesTest {
+
+    @Test
+    void diff_ShouldRecordOnlyTheChangedStock() {
+        FranchiseEntity before = franchise("Franchise", branch("b1", "Branch", product("p1", "Product", 10)));
+        FranchiseEntity after = franchise("Franchise", branch("b1", "Branch", product("p1", "Product", 25)));
+
+        List<FranchiseChangeEntity> changes = FranchiseChanges.diff(before, after);
+
+        assertEquals(1, changes.size());
+        assertEquals(ChangeType.STOCK_CHANGED.name(), changes.get(0).getType());
+        assertEquals("b1", changes.get(0).getBranchId());
+        assertEquals("p1", changes.get(0).getProductId());
+        assertEquals(25, changes.get(0).getStock());
+    }
+
+    @Test
+    void diff_ShouldBeEmptyWhenNothingChanged() {
+        FranchiseEntity before = franchise("Franchise", branch("b1", "Branch", product("p1", "Product", 10)));
+        FranchiseEntity after = franchise("Franchise", branch("b1", "Branch", product("p1", "Product", 10)));
+
+        assertTrue(FranchiseChanges.diff(before, after).isEmpty());
+    }
+
+    @Test
+    void apply_ShouldRebuildTheLaterStateFromTheDiff() {
+        FranchiseEntity before = franchise("Franchise",
+                branch("b1", "Branch", product("p1", "Product", 10), product("p2", "Other", 3)),
+                branch("b2", "Closed"));
+        FranchiseEntity after = franchise("Renamed",
+                branch("b1", "Main", product("p2", "Other", 7), product("p3", "New", 1)),
+                branch("b3", "Opened", product("p4", "Fresh", 5)));
+
+        List<FranchiseChangeEntity> changes = FranchiseChanges.diff(before, after);
+        FranchiseEntity replayed = FranchiseChanges.apply(before, changes);
+
+        assertEquals(after, replayed);
+    }
+
+    @Test
+    void apply_ShouldBuildACreatedFranchiseFromEmpty() {
+        FranchiseEntity created = franchise("Franchise", branch("b1", "Branch", product("p1", "Product", 10)));
+        FranchiseEntity empty = FranchiseEntity.builder().id("franchise-id").branches(new ArrayList<>()).build();
+
+        FranchiseEntity replayed = FranchiseChanges.apply(empty, FranchiseChanges.diff(empty, created));
+
+        assertEquals(created, replayed);
+    }
+
+    @Test
+    void apply_ShouldIgnoreChangesToMissingEntities() {
+        FranchiseEntity state = franchise("Franchise", branch("b1", "Branch"));
+        FranchiseChangeEntity orphan = FranchiseChangeEntity.builder()
+                .type(ChangeType.STOCK_CHANGED.name())
+                .branchId("missing")
+                .productId("p1")
+                .stock(4)
+                .build();
+
+        FranchiseEntity replayed = FranchiseChanges.apply(state, List.of(orphan));
+
+        assertEquals(franchise("Franchise", branch("b1", "Branch")), replayed);
+    }
+
+    private static FranchiseEntity franchise(String name, BranchEntity... branches) {
+        return FranchiseEntity.builder()
+                .id("franchise-id")
+                .name(name)
+                .branches(new ArrayList<>(List.of(branches)))
+                .build();
+    }
+
+    private static BranchEntity branch(String id, String name, ProductEntity... products) {
+        return BranchEntity.builder()
+                .id(id)
+                .name(name)
+                .products(new ArrayList<>(List.of(products)))
+                .build();
+    }
+
+    private static ProductEntity product(String id, String name, int stock) {
+        return ProductEntity.builder()
+                .id(id)
+                .name(name)
+                .stock(stock)
+                .build();
+    }
+}
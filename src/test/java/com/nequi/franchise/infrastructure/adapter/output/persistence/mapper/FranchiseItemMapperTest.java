@@ -0,0 +1,108 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.mapper;
+
+import com.nequi.franchise.domain.model.Branch;
+import com.nequi.franchise.domain.model.Franchise;
+import com.nequi.franchise.domain.model.Product;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseItemEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FranchiseItemMapperTest {
+
+    private FranchiseItemMapper mapper;
+    private Franchise franchise;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new FranchiseItemMapper();
+
+        Branch first = Branch.builder()
+                .id("branch-b")
+                .name("First Branch")
+                .products(new ArrayList<>(List.of(
+                        Product.builder().id("product-z").name("Zeta").stock(5).build(),
+                        Product.builder().id("product-a").name("Alpha").stock(7).build())))
+                .build();
+        Branch second = Branch.builder()
+                .id("branch-a")
+                .name("Second Branch")
+                .build();
+
+        franchise = Franchise.builder()
+                .id("franchise-id")
+                .name("Test Franchise")
+                .branches(new ArrayList<>(List.of(first, second)))
+                .version(3L)
+                .build();
+    }
+
+    @Test
+    void toItems_ShouldEmitMetaBranchAndProductRowsUnderOnePartition() {
+        List<FranchiseItemEntity> items = mapper.toItems(franchise);
+
+        assertEquals(5, items.size());
+        items.forEach(item -> assertEquals("FRANCHISE#franchise-id", item.getPk()));
+        assertEquals("#META", items.get(0).getSk());
+        assertEquals(3L, items.get(0).getVersion());
+        assertEquals("BRANCH#branch-b", items.get(1).getSk());
+        assertEquals("BRANCH#branch-b#PRODUCT#product-z", items.get(2).getSk());
+        assertEquals("branch-b", items.get(2).getBranchId());
+        assertEquals(FranchiseItemEntity.TYPE_PRODUCT, items.get(2).getType());
+    }
+
+    @Test
+    void toDomain_ShouldRestoreInsertionOrderRegardlessOfSortKeyOrder() {
+        List<FranchiseItemEntity> items = new ArrayList<>(mapper.toItems(franchise));
+        Collections.reverse(items);
+
+        Franchise restored = mapper.toDomain(items);
+
+        assertEquals("Test Franchise", restored.getName());
+        assertEquals(3L, restored.getVersion());
+        assertEquals(List.of("branch-b", "branch-a"),
+                restored.getBranches().stream().map(Branch::getId).toList());
+        assertEquals(List.of("product-z", "product-a"),
+                restored.findBranch("branch-b").getProducts().stream().map(Product::getId).toList());
+        assertEquals(7, restored.findBranch("branch-b").findProduct("product-a").getStock());
+    }
+
+    @Test
+    void toDomain_ShouldReturnNullWithoutMetaRow() {
+        List<FranchiseItemEntity> items = mapper.toItems(franchise);
+
+        assertNull(mapper.toDomain(items.subList(1, items.size())));
+    }
+
+    @Test
+    void toItems_ShouldMarkOnlyTheMetaRowForTheListingIndex() {
+        List<FranchiseItemEntity> items = mapper.toItems(franchise);
+
+        FranchiseItemEntity meta = items.get(0);
+        assertEquals("FRANCHISE", meta.getListBucket());
+        assertEquals("test franchise#franchise-id", meta.getListSortKey());
+        assertEquals(2, meta.getBranchCount());
+        assertEquals(2, meta.getProductCount());
+        items.subList(1, items.size()).forEach(item -> assertNull(item.getListBucket()));
+    }
+
+    @Test
+    void toSummary_ShouldReadIdFromPartitionKey() {
+        FranchiseItemEntity projected = new FranchiseItemEntity();
+        projected.setPk("FRANCHISE#franchise-id");
+        projected.setName("Test Franchise");
+        projected.setBranchCount(2);
+        projected.setProductCount(2);
+
+        var summary = mapper.toSummary(projected);
+
+        assertEquals("franchise-id", summary.getId());
+        assertEquals(2, summary.getProductCount());
+    }
+}
@@ -0,0 +1,102 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.overflow;
+
+import com.nequi.franchise.domain.exception.FranchiseTooLargeException;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FranchiseOverflowTest {
+
+    private static final long THRESHOLD = 8 * 1024;
+
+    @Test
+    void split_ShouldLeaveSmallFranchiseUntouched() {
+        FranchiseEntity entity = franchise(List.of(branch("branch-1", 3), branch("branch-2", 3)));
+
+        FranchiseOverflow.Items items = FranchiseOverflow.split(entity, THRESHOLD);
+
+        assertTrue(items.parts().isEmpty());
+        assertEquals(2, items.franchise().getBranches().size());
+        assertNull(items.franchise().getOverflowToken());
+    }
+
+    @Test
+    void splitAndMerge_ShouldRestoreBranchesInOrder() {
+        List<BranchEntity> branches = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            branches.add(branch("branch-" + i, i % 7 == 0 ? 40 : 5));
+        }
+        FranchiseEntity entity = franchise(new ArrayList<>(branches));
+
+        FranchiseOverflow.Items items = FranchiseOverflow.split(entity, THRESHOLD);
+
+        assertTrue(items.parts().size() > 1);
+        assertTrue(ItemSizeEstimator.estimate(items.franchise()) <= THRESHOLD);
+        items.parts().forEach(part -> {
+            assertTrue(ItemSizeEstimator.estimate(part) <= THRESHOLD);
+            assertEquals("franchise-1", part.getOverflowOf());
+        });
+        assertEquals(FranchiseOverflow.partIds(items.franchise()),
+                items.parts().stream().map(FranchiseEntity::getId).toList());
+
+        List<FranchiseEntity> parts = new ArrayList<>(items.parts());
+        Collections.reverse(parts);
+        FranchiseEntity merged = FranchiseOverflow.merge(items.franchise(), parts);
+
+        assertEquals(branches, merged.getBranches());
+    }
+
+    @Test
+    void merge_ShouldRejectMissingParts() {
+        List<BranchEntity> branches = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            branches.add(branch("branch-" + i, 10));
+        }
+        FranchiseOverflow.Items items = FranchiseOverflow.split(franchise(branches), THRESHOLD);
+
+        assertThrows(IllegalStateException.class,
+                () -> FranchiseOverflow.merge(items.franchise(), items.parts().subList(1, items.parts().size())));
+    }
+
+    @Test
+    void split_ShouldRejectBranchLargerThanAnItem() {
+        FranchiseEntity entity = franchise(new ArrayList<>(List.of(branch("branch-1", 400))));
+
+        assertThrows(FranchiseTooLargeException.class, () -> FranchiseOverflow.split(entity, THRESHOLD));
+    }
+
+    private static FranchiseEntity franchise(List<BranchEntity> branches) {
+        return FranchiseEntity.builder()
+                .id("franchise-1")
+                .name("Burgers")
+                .version(3L)
+                .branches(branches)
+                .build();
+    }
+
+    private static BranchEntity branch(String id, int products) {
+        List<ProductEntity> items = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            items.add(ProductEntity.builder()
+                    .id(id + "-product-" + i)
+                    .name("Product " + i)
+                    .stock(i)
+                    .build());
+        }
+        return BranchEntity.builder()
+                .id(id)
+                .name("Branch " + id)
+                .products(items)
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.overflow;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.batch.BatchReader;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.batch.BatchWriter;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.BranchEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OverflowStoreTest {
+
+    private static final long THRESHOLD = 8 * 1024;
+
+    @Mock
+    private DynamoDbAsyncTable<FranchiseEntity> table;
+
+    @Mock
+    private BatchReader<FranchiseEntity> batchReader;
+
+    @Mock
+    private BatchWriter<FranchiseEntity> batchWriter;
+
+    private OverflowStore overflowStore;
+    private List<BranchEntity> branches;
+    private FranchiseOverflow.Items items;
+
+    @BeforeEach
+    void setUp() {
+        overflowStore = new OverflowStore(table, batchReader, batchWriter);
+        branches = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            branches.add(branch("branch-" + i, 10));
+        }
+        items = FranchiseOverflow.split(franchise(new ArrayList<>(branches)), THRESHOLD);
+    }
+
+    @Test
+    void assemble_ShouldReReadConsistentlyWhenPartsAreMissing() {
+        List<FranchiseEntity> replicated = items.parts().subList(1, items.parts().size());
+        when(batchReader.getAll(anyList(), anyInt(), eq(false))).thenReturn(Flux.fromIterable(replicated));
+        when(table.getItem(any(GetItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(items.franchise()));
+        when(batchReader.getAll(anyList(), anyInt(), eq(true))).thenReturn(Flux.fromIterable(items.parts()));
+
+        StepVerifier.create(overflowStore.assemble(items.franchise()))
+                .assertNext(assembled -> assertEquals(branches, assembled.getBranches()))
+                .verifyComplete();
+
+        ArgumentCaptor<GetItemEnhancedRequest> request = ArgumentCaptor.forClass(GetItemEnhancedRequest.class);
+        verify(table).getItem(request.capture());
+        assertTrue(request.getValue().consistentRead());
+    }
+
+    @Test
+    void assemble_ShouldFailWhenConsistentReadsStillMissParts() {
+        List<FranchiseEntity> replicated = items.parts().subList(1, items.parts().size());
+        when(batchReader.getAll(anyList(), anyInt(), anyBoolean())).thenReturn(Flux.fromIterable(replicated));
+        when(table.getItem(any(GetItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(items.franchise()));
+
+        StepVerifier.create(overflowStore.assemble(items.franchise()))
+                .verifyError(IllegalStateException.class);
+
+        verify(table, times(OverflowStore.MAX_CONSISTENT_READS)).getItem(any(GetItemEnhancedRequest.class));
+    }
+
+    @Test
+    void retireReferencedBy_ShouldMarkPartsForExpiryInsteadOfDeletingThem() {
+        when(table.updateItem(any(UpdateItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(CompletableFuture.failedFuture(ConditionalCheckFailedException.builder().build()));
+        long earliestExpiry = Instant.now().plus(OverflowStore.RETIRED_PART_GRACE).getEpochSecond();
+
+        StepVerifier.create(overflowStore.retireReferencedBy(items.franchise()))
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<UpdateItemEnhancedRequest<FranchiseEntity>> requests =
+                ArgumentCaptor.forClass(UpdateItemEnhancedRequest.class);
+        verify(table, times(items.parts().size())).updateItem(requests.capture());
+        assertEquals(FranchiseOverflow.partIds(items.franchise()).stream().sorted().toList(),
+                requests.getAllValues().stream().map(request -> request.item().getId()).sorted().toList());
+        requests.getAllValues().forEach(request -> {
+            assertTrue(request.ignoreNulls());
+            assertTrue(request.item().getExpiresAt() >= earliestExpiry);
+        });
+        verify(batchWriter, never()).deleteAll(anyList());
+    }
+
+    private static FranchiseEntity franchise(List<BranchEntity> branches) {
+        return FranchiseEntity.builder()
+                .id("franchise-1")
+                .name("Burgers")
+                .version(3L)
+                .branches(branches)
+                .build();
+    }
+
+    private static BranchEntity branch(String id, int products) {
+        List<ProductEntity> items = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            items.add(ProductEntity.builder()
+                    .id(id + "-product-" + i)
+                    .name("Product " + i)
+                    .stock(i)
+                    .build());
+        }
+        return BranchEntity.builder()
+                .id(id)
+                .name("Branch " + id)
+                .products(items)
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.retry;
+
+import com.nequi.franchise.domain.exception.OptimisticLockException;
+import com.nequi.franchise.infrastructure.adapter.output.persistence.retry.DynamoDBRetryPolicy.Reason;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamoDBRetryPolicyTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DynamoDBRetryPolicy retryPolicy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retryPolicy = new DynamoDBRetryPolicy(new DynamoDBMetrics(meterRegistry), 3, Duration.ofMillis(1),
+                Duration.ofMillis(1), Duration.ofMillis(10), 5);
+    }
+
+    @Test
+    void classify_ShouldSeparateConflictsThrottlingAndTransientFailures() {
+        assertEquals(Reason.CONFLICT, DynamoDBRetryPolicy.classify(ConditionalCheckFailedException.builder().message("x").build()));
+        assertEquals(Reason.THROTTLED, DynamoDBRetryPolicy.classify(ProvisionedThroughputExceededException.builder().message("x").build()));
+        assertEquals(Reason.TRANSIENT, DynamoDBRetryPolicy.classify(DynamoDbException.builder().statusCode(500).message("x").build()));
+        assertEquals(Reason.TRANSIENT, DynamoDBRetryPolicy.classify(SdkClientException.create("reset", new IOException("reset"))));
+        assertEquals(Reason.NOT_RETRYABLE, DynamoDBRetryPolicy.classify(DynamoDbException.builder().statusCode(400).message("x").build()));
+        assertEquals(Reason.NOT_RETRYABLE, DynamoDBRetryPolicy.classify(new IllegalStateException("bug")));
+    }
+
+    @Test
+    void onConflict_ShouldGiveUpWithOptimisticLockAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> alwaysConflicting = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(ConditionalCheckFailedException.builder().message("conflict").build());
+        });
+
+        StepVerifier.create(alwaysConflicting.retryWhen(retryPolicy.onConflict("franchise-id")))
+                .expectError(OptimisticLockException.class)
+                .verify();
+
+        assertEquals(3, attempts.get());
+        assertEquals(2.0, meterRegistry.get("dynamodb.retry.attempts").tag("reason", "conflict").counter().count());
+        assertEquals(1.0, meterRegistry.get("dynamodb.retry.outcomes").tag("outcome", "exhausted").counter().count());
+    }
+
+    @Test
+    void onConflict_ShouldNotRetryOtherFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> failing = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new IllegalStateException("boom"));
+        });
+
+        StepVerifier.create(failing.retryWhen(retryPolicy.onConflict("franchise-id")))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void sdkRetryPolicy_ShouldRetryThrottlingUntilTheBudgetIsSpent() {
+        RetryPolicy policy = retryPolicy.sdkRetryPolicy();
+        ProvisionedThroughputExceededException throttled = ProvisionedThroughputExceededException.builder().message("x").build();
+
+        RetryPolicyContext first = context(throttled);
+        assertTrue(policy.aggregateRetryCondition().shouldRetry(first));
+        Duration delay = policy.throttlingBackoffStrategy().computeDelayBeforeNextRetry(first);
+        assertFalse(delay.isNegative());
+
+        assertFalse(policy.aggregateRetryCondition().shouldRetry(context(throttled)));
+        assertEquals(1.0, meterRegistry.get("dynamodb.retry.outcomes")
+                .tag("operation", "GetItem")
+                .tag("outcome", "budget_exhausted")
+                .counter().count());
+        assertEquals(0.0, meterRegistry.get("dynamodb.retry.budget.tokens").gauge().value());
+    }
+
+    @Test
+    void sdkRetryPolicy_ShouldNotRetryClientErrors() {
+        RetryPolicy policy = retryPolicy.sdkRetryPolicy();
+
+        assertFalse(policy.aggregateRetryCondition().shouldRetry(
+                context(DynamoDbException.builder().statusCode(400).message("validation").build())));
+    }
+
+    @Test
+    void decorrelatedJitter_ShouldStayBetweenBaseAndCap() {
+        DecorrelatedJitter jitter = new DecorrelatedJitter(Duration.ofMillis(10), Duration.ofMillis(100));
+        Duration previous = null;
+        for (int i = 0; i < 50; i++) {
+            Duration next = jitter.next(previous);
+            assertTrue(next.compareTo(Duration.ofMillis(10)) >= 0);
+            assertTrue(next.compareTo(Duration.ofMillis(100)) <= 0);
+            previous = next;
+        }
+    }
+
+    private static RetryPolicyContext context(SdkException exception) {
+        return RetryPolicyContext.builder()
+                .originalRequest(GetItemRequest.builder().build())
+                .exception(exception)
+                .executionAttributes(new ExecutionAttributes())
+                .retriesAttempted(0)
+                .build();
+    }
+}
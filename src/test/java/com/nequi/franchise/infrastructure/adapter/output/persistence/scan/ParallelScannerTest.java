@@ -0,0 +1,108 @@
+package com.nequi.franchise.infrastructure.adapter.output.persistence.scan;
+
+import com.nequi.franchise.infrastructure.adapter.output.persistence.entity.FranchiseEntity;
+import com.nequi.franchise.infrastructure.config.DynamoDBMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelScannerTest {
+
+    @Mock
+    private DynamoDbAsyncTable<FranchiseEntity> table;
+
+    private final DynamoDBMetrics metrics = new DynamoDBMetrics(new SimpleMeterRegistry());
+
+    @Test
+    void scan_ShouldReadEverySegmentOnce() {
+        when(table.tableName()).thenReturn("test-table");
+        when(table.scan(any(ScanEnhancedRequest.class))).thenAnswer(invocation -> {
+            ScanEnhancedRequest request = invocation.getArgument(0);
+            return pages(entity("segment-" + request.segment()));
+        });
+        ParallelScanner<FranchiseEntity> scanner = new ParallelScanner<>(table, metrics, new ScanSettings(4, 2, 0));
+
+        StepVerifier.create(scanner.scan().map(FranchiseEntity::getId).collect(Collectors.toSet()))
+                .expectNext(Set.of("segment-0", "segment-1", "segment-2", "segment-3"))
+                .verifyComplete();
+
+        ArgumentCaptor<ScanEnhancedRequest> captor = ArgumentCaptor.forClass(ScanEnhancedRequest.class);
+        verify(table, times(4)).scan(captor.capture());
+        captor.getAllValues().forEach(request -> assertEquals(4, request.totalSegments()));
+    }
+
+    @Test
+    void scanSegments_ShouldKeepEachSegmentSeparate() {
+        when(table.tableName()).thenReturn("test-table");
+        when(table.scan(any(ScanEnhancedRequest.class))).thenAnswer(invocation -> {
+            ScanEnhancedRequest request = invocation.getArgument(0);
+            return pages(entity("a-" + request.segment()), entity("b-" + request.segment()));
+        });
+        ParallelScanner<FranchiseEntity> scanner = new ParallelScanner<>(table, metrics, new ScanSettings(3, 3, 0));
+
+        StepVerifier.create(scanner.scanSegments(null, Flux::collectList).collectList())
+                .assertNext(segments -> {
+                    assertEquals(3, segments.size());
+                    segments.forEach(segment -> assertEquals(2, segment.size()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void readCapacityThrottle_ShouldSpreadConsumptionAcrossSegments() {
+        ReadCapacityThrottle throttle = new ReadCapacityThrottle(100);
+        long now = System.nanoTime();
+
+        long first = throttle.reserve(50, now);
+        long second = throttle.reserve(50, now);
+
+        assertEquals(500_000_000L, first);
+        assertEquals(1_000_000_000L, second);
+    }
+
+    @Test
+    void readCapacityThrottle_ShouldNotWaitWhenUnlimited() {
+        StepVerifier.create(new ReadCapacityThrottle(0).consume(1_000))
+                .verifyComplete();
+    }
+
+    private PagePublisher<FranchiseEntity> pages(FranchiseEntity... entities) {
+        List<Page<FranchiseEntity>> pages = new ArrayList<>();
+        for (FranchiseEntity entity : entities) {
+            pages.add(Page.builder(FranchiseEntity.class)
+                    .items(List.of(entity))
+                    .consumedCapacity(ConsumedCapacity.builder().capacityUnits(0.5).build())
+                    .build());
+        }
+        return PagePublisher.create(SdkPublisher.adapt(Flux.fromIterable(pages)));
+    }
+
+    private FranchiseEntity entity(String id) {
+        return FranchiseEntity.builder()
+                .id(id)
+                .name(id)
+                .branches(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.nequi.franchise.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamoDBSdkMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DynamoDBSdkMetrics sdkMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sdkMetrics = new DynamoDBSdkMetrics(meterRegistry);
+    }
+
+    @Test
+    void publish_ShouldRecordCallAttemptAndConnectionTimingsByOperation() {
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, "GetItem");
+        apiCall.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, true);
+        apiCall.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(12));
+        apiCall.reportMetric(CoreMetric.RETRY_COUNT, 1);
+        MetricCollector attempt = apiCall.createChild("ApiCallAttempt");
+        attempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, Duration.ofMillis(8));
+        attempt.reportMetric(CoreMetric.ERROR_TYPE, "Throttling");
+        attempt.createChild("HttpClient").reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, Duration.ofMillis(2));
+
+        sdkMetrics.publish(apiCall.collect());
+
+        assertEquals(12.0, meterRegistry.get("dynamodb.sdk.api.call.duration")
+                .tag("operation", "GetItem")
+                .tag("outcome", "success")
+                .timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(8.0, meterRegistry.get("dynamodb.sdk.service.call.duration")
+                .tag("operation", "GetItem").timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(2.0, meterRegistry.get("dynamodb.sdk.connection.acquire.duration")
+                .tag("operation", "GetItem").timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1.0, meterRegistry.get("dynamodb.sdk.retries").tag("operation", "GetItem").counter().count());
+        assertEquals(1.0, meterRegistry.get("dynamodb.sdk.attempt.errors").tag("error.type", "Throttling").counter().count());
+    }
+
+    @Test
+    void publish_ShouldNotRegisterTimersForMetricsTheSdkDidNotReport() {
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, "PutItem");
+        apiCall.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, false);
+        apiCall.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(5));
+
+        sdkMetrics.publish(apiCall.collect());
+
+        assertEquals(1, meterRegistry.get("dynamodb.sdk.api.call.duration").tag("outcome", "failure").timer().count());
+        assertNull(meterRegistry.find("dynamodb.sdk.marshalling.duration").timer());
+        assertNull(meterRegistry.find("dynamodb.sdk.retries").counter());
+    }
+}
@@ -25,6 +25,25 @@ resource "aws_dynamodb_table" "franchises" {
     type = "S"
   }
 
+  attribute {
+    name = "listBucket"
+    type = "S"
+  }
+
+  attribute {
+    name = "listSortKey"
+    type = "S"
+  }
+
+  # Índice disperso para listar franquicias ordenadas por nombre sin leer sus sucursales
+  global_secondary_index {
+    name               = "franchise-listing-index"
+    hash_key           = "listBucket"
+    range_key          = "listSortKey"
+    projection_type    = "INCLUDE"
+    non_key_attributes = ["name", "branchCount", "productCount"]
+  }
+
   tags = {
     Name        = "Franchises Table"
     Environment = var.environment
@@ -37,6 +56,12 @@ resource "aws_dynamodb_table" "franchises" {
     enabled = true
   }
 
+  # Los ítems de desborde reemplazados se retiran con expiresAt en lugar de borrarse al instante
+  ttl {
+    attribute_name = "expiresAt"
+    enabled        = true
+  }
+
   # Habilitar encriptación en reposo
   server_side_encryption {
     enabled = true
@@ -46,6 +71,95 @@ resource "aws_dynamodb_table" "franchises" {
   deletion_protection_enabled = var.enable_deletion_protection
 }
 
+# Tabla con una fila por franquicia, sucursal y producto (aws.dynamodb.layout=single-table)
+resource "aws_dynamodb_table" "franchise_items" {
+  name           = var.items_table_name
+  billing_mode   = "PAY_PER_REQUEST"
+  hash_key       = "pk"
+  range_key      = "sk"
+
+  attribute {
+    name = "pk"
+    type = "S"
+  }
+
+  attribute {
+    name = "sk"
+    type = "S"
+  }
+
+  attribute {
+    name = "listBucket"
+    type = "S"
+  }
+
+  attribute {
+    name = "listSortKey"
+    type = "S"
+  }
+
+  # Índice disperso para listar franquicias ordenadas por nombre sin leer sus sucursales
+  global_secondary_index {
+    name               = "franchise-listing-index"
+    hash_key           = "listBucket"
+    range_key          = "listSortKey"
+    projection_type    = "INCLUDE"
+    non_key_attributes = ["name", "branchCount", "productCount"]
+  }
+
+  tags = {
+    Name        = "Franchise Items Table"
+    Environment = var.environment
+    Project     = "Franchise Management API"
+    ManagedBy   = "Terraform"
+  }
+
+  point_in_time_recovery {
+    enabled = true
+  }
+
+  server_side_encryption {
+    enabled = true
+  }
+
+  deletion_protection_enabled = var.enable_deletion_protection
+}
+
+# Tabla con un evento por cambio y un snapshot por franquicia (aws.dynamodb.layout=event-sourced)
+resource "aws_dynamodb_table" "franchise_events" {
+  name           = var.events_table_name
+  billing_mode   = "PAY_PER_REQUEST"
+  hash_key       = "pk"
+  range_key      = "sk"
+
+  attribute {
+    name = "pk"
+    type = "S"
+  }
+
+  attribute {
+    name = "sk"
+    type = "S"
+  }
+
+  tags = {
+    Name        = "Franchise Events Table"
+    Environment = var.environment
+    Project     = "Franchise Management API"
+    ManagedBy   = "Terraform"
+  }
+
+  point_in_time_recovery {
+    enabled = true
+  }
+
+  server_side_encryption {
+    enabled = true
+  }
+
+  deletion_protection_enabled = var.enable_deletion_protection
+}
+
 # Output de la tabla creada
 output "dynamodb_table_name" {
   description = "Nombre de la tabla de DynamoDB"
@@ -61,3 +175,13 @@ output "dynamodb_table_id" {
   description = "ID de la tabla de DynamoDB"
   value       = aws_dynamodb_table.franchises.id
 }
+
+output "dynamodb_items_table_name" {
+  description = "Nombre de la tabla de DynamoDB con el layout de una fila por entidad"
+  value       = aws_dynamodb_table.franchise_items.name
+}
+
+output "dynamodb_events_table_name" {
+  description = "Nombre de la tabla de DynamoDB con el layout de eventos"
+  value       = aws_dynamodb_table.franchise_events.name
+}
@@ -10,6 +10,18 @@ variable "table_name" {
   default     = "franchises"
 }
 
+variable "items_table_name" {
+  description = "Nombre de la tabla de DynamoDB con el layout de una fila por entidad"
+  type        = string
+  default     = "franchise-items"
+}
+
+variable "events_table_name" {
+  description = "Nombre de la tabla de DynamoDB con el layout de eventos"
+  type        = string
+  default     = "franchise-events"
+}
+
 variable "environment" {
   description = "Ambiente de despliegue (dev, staging, production)"
   type        = string